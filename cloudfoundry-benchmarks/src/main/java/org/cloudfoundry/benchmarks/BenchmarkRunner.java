@@ -0,0 +1,159 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled, writing the results as JSON.  When a baseline result file is given, the results are compared with it once the run completes.
+ * <pre>
+ * java -jar benchmarks.jar [--result &lt;file&gt;] [--baseline &lt;file&gt;] [pattern...]
+ * java -jar benchmarks.jar --compare &lt;baseline&gt; &lt;current&gt;
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private static final String DEFAULT_RESULT = "benchmark-results.json";
+
+    private static final String FORMAT = "%-100s %14s %14s %9s %14s %14s %n";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        List<String> includes = new ArrayList<>();
+        Path baseline = null;
+        Path result = Paths.get(DEFAULT_RESULT);
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--baseline":
+                    baseline = Paths.get(getArgument(args, ++i));
+                    break;
+                case "--compare":
+                    compare(Paths.get(getArgument(args, ++i)), Paths.get(getArgument(args, ++i)));
+                    return;
+                case "--result":
+                    result = Paths.get(getArgument(args, ++i));
+                    break;
+                default:
+                    includes.add(args[i]);
+            }
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+            .addProfiler(GCProfiler.class)
+            .result(result.toString())
+            .resultFormat(ResultFormatType.JSON);
+
+        includes.forEach(options::include);
+
+        new Runner(options.build()).run();
+
+        if (baseline != null) {
+            compare(baseline, result);
+        }
+    }
+
+    private static void compare(Path baseline, Path current) throws IOException {
+        Map<String, JsonNode> baselineResults = readResults(baseline);
+
+        System.out.printf(FORMAT, "Benchmark", "Baseline", "Current", "Change", "Baseline B/op", "Current B/op");
+
+        readResults(current).forEach((key, result) -> {
+            JsonNode previous = baselineResults.get(key);
+            double score = getScore(result);
+
+            if (previous == null) {
+                System.out.printf(FORMAT, key, "-", formatScore(result), "-", "-", formatAllocation(result));
+            } else {
+                double previousScore = getScore(previous);
+                String change = previousScore == 0 ? "-" : String.format("%+.1f%%", (score - previousScore) / previousScore * 100);
+
+                System.out.printf(FORMAT, key, formatScore(previous), formatScore(result), change, formatAllocation(previous), formatAllocation(result));
+            }
+        });
+    }
+
+    private static String formatAllocation(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+
+            if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                return String.format("%.1f", metric.getValue().path("score").asDouble());
+            }
+        }
+
+        return "-";
+    }
+
+    private static String formatScore(JsonNode result) {
+        return String.format("%.3f %s", getScore(result), result.path("primaryMetric").path("scoreUnit").asText());
+    }
+
+    private static String getArgument(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(String.format("Missing argument for %s", args[args.length - 1]));
+        }
+
+        return args[index];
+    }
+
+    private static String getKey(JsonNode result) {
+        StringJoiner params = new StringJoiner(", ", " {", "}").setEmptyValue("");
+        result.path("params").fields()
+            .forEachRemaining(param -> params.add(String.format("%s=%s", param.getKey(), param.getValue().asText())));
+
+        return String.format("%s:%s%s", result.path("benchmark").asText(), result.path("mode").asText(), params);
+    }
+
+    private static double getScore(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static Map<String, JsonNode> readResults(Path path) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        OBJECT_MAPPER.readTree(path.toFile())
+            .forEach(result -> results.put(getKey(result), result));
+
+        return results;
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Utilities for loading the recorded fixtures shared with the {@code cloudfoundry-client-reactor} tests
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Reads a fixture
+     *
+     * @param name the name of the fixture, relative to the {@code fixtures} directory
+     * @return the contents of the fixture
+     */
+    public static byte[] read(String name) {
+        try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(String.format("fixtures/%s", name))) {
+            if (in == null) {
+                throw new IllegalArgumentException(String.format("Fixture %s does not exist", name));
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                out.write(buffer, 0, length);
+            }
+
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
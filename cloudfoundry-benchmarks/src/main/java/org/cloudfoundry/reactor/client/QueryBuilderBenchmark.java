@@ -0,0 +1,62 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.client;
+
+import org.cloudfoundry.client.v2.OrderDirection;
+import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link QueryBuilder#augment(UriComponentsBuilder, Object)} with a paginated, filtered request
+ */
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class QueryBuilderBenchmark {
+
+    private static final ListApplicationsRequest REQUEST = ListApplicationsRequest.builder()
+        .name("test-name-1")
+        .name("test-name-2")
+        .orderDirection(OrderDirection.DESCENDING)
+        .organizationId("test-organization-id")
+        .page(2)
+        .resultsPerPage(100)
+        .spaceId("test-space-id")
+        .build();
+
+    @Benchmark
+    public UriComponentsBuilder augment() {
+        UriComponentsBuilder builder = UriComponentsBuilder.newInstance();
+        QueryBuilder.augment(builder, REQUEST);
+        return builder;
+    }
+
+}
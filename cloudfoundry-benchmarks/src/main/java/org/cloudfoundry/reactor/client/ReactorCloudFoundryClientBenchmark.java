@@ -0,0 +1,84 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.client;
+
+import org.cloudfoundry.client.v2.applications.ApplicationsV2;
+import org.cloudfoundry.reactor.DefaultConnectionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the construction of a {@link ReactorCloudFoundryClient}, alone and followed by the first use of a single endpoint.  The {@link Mode#SingleShotTime} results approximate a cold start;
+ * run with {@code -prof gc} to compare allocation.
+ */
+@BenchmarkMode({Mode.SampleTime, Mode.SingleShotTime})
+@Fork(3)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ReactorCloudFoundryClientBenchmark {
+
+    private static final Mono<String> ROOT = Mono.just("http://localhost");
+
+    private DefaultConnectionContext connectionContext;
+
+    @Benchmark
+    public ReactorCloudFoundryClient build() {
+        return client();
+    }
+
+    @Benchmark
+    public ApplicationsV2 buildAndUseOne() {
+        return client().applicationsV2();
+    }
+
+    @Setup
+    public void setUp() {
+        this.connectionContext = DefaultConnectionContext.builder()
+            .apiHost("localhost")
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.connectionContext.dispose();
+    }
+
+    private ReactorCloudFoundryClient client() {
+        return ReactorCloudFoundryClient.builder()
+            .compatibilityCheck(false)
+            .connectionContext(this.connectionContext)
+            .rootV2(ROOT)
+            .rootV3(ROOT)
+            .tokenProvider(connectionContext -> Mono.just("test-token"))
+            .build();
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.doppler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.cloudfoundry.benchmarks.Fixtures;
+import org.cloudfoundry.doppler.Envelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Envelope#from(org.cloudfoundry.dropsonde.events.Envelope)} against the envelopes recorded in the Doppler fixtures
+ */
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class EnvelopeBenchmark {
+
+    @Param({"doppler/apps/GET_{id}_containermetrics_response-large.bin", "doppler/apps/GET_{id}_recentlogs_response-large.bin"})
+    public String fixture;
+
+    private List<org.cloudfoundry.dropsonde.events.Envelope> envelopes;
+
+    @Benchmark
+    public void from(Blackhole blackhole) {
+        for (org.cloudfoundry.dropsonde.events.Envelope envelope : this.envelopes) {
+            blackhole.consume(Envelope.from(envelope));
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(MultipartCodec.createDecoder(MultipartCodecBenchmark.BOUNDARIES.get(this.fixture)));
+        channel.writeInbound(Unpooled.wrappedBuffer(Fixtures.read(this.fixture)));
+
+        this.envelopes = new ArrayList<>();
+
+        ByteBuf frame;
+        while ((frame = channel.readInbound()) != null) {
+            try (InputStream in = new ByteBufInputStream(frame, true)) {
+                if (frame.isReadable()) {
+                    this.envelopes.add(org.cloudfoundry.dropsonde.events.Envelope.ADAPTER.decode(in));
+                }
+            }
+        }
+
+        channel.finishAndReleaseAll();
+    }
+
+}
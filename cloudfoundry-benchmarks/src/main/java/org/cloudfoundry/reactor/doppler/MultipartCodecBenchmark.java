@@ -0,0 +1,98 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.doppler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.cloudfoundry.benchmarks.Fixtures;
+import org.cloudfoundry.doppler.Envelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the decoding of multipart Doppler responses: framing with the {@link MultipartCodec} decoder followed by conversion of each part to an {@link Envelope}
+ */
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class MultipartCodecBenchmark {
+
+    static final Map<String, String> BOUNDARIES = new HashMap<>();
+
+    static {
+        BOUNDARIES.put("doppler/apps/GET_{id}_containermetrics_response-large.bin", "d12911a0934bf75879de385a042c4037fa903841921ba84abb77cb73a444");
+        BOUNDARIES.put("doppler/apps/GET_{id}_containermetrics_response.bin", "30662872b152b6fbeb87658af504679def2b6680145265ad354761ea7acf");
+        BOUNDARIES.put("doppler/apps/GET_{id}_recentlogs_response-large.bin", "74684f6bed3ee99aa98a13c609c354cd849b01a6e6051226906140ad31b2");
+        BOUNDARIES.put("doppler/apps/GET_{id}_recentlogs_response.bin", "92d42123ec83c0af6a27ba0de34528b702a53e2e67ba99636286b6a4cafb");
+    }
+
+    @Param({"doppler/apps/GET_{id}_containermetrics_response-large.bin", "doppler/apps/GET_{id}_recentlogs_response.bin", "doppler/apps/GET_{id}_recentlogs_response-large.bin"})
+    public String fixture;
+
+    private String boundary;
+
+    private byte[] payload;
+
+    @Benchmark
+    public void decode(Blackhole blackhole) throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(MultipartCodec.createDecoder(this.boundary));
+        channel.writeInbound(Unpooled.wrappedBuffer(this.payload));
+
+        boolean preamble = true;
+
+        ByteBuf frame;
+        while ((frame = channel.readInbound()) != null) {
+            try (InputStream in = new ByteBufInputStream(frame, true)) {
+                if (preamble) {
+                    preamble = false;
+                } else {
+                    blackhole.consume(Envelope.from(org.cloudfoundry.dropsonde.events.Envelope.ADAPTER.decode(in)));
+                }
+            }
+        }
+
+        channel.finishAndReleaseAll();
+    }
+
+    @Setup
+    public void setUp() {
+        this.boundary = BOUNDARIES.get(this.fixture);
+        this.payload = Fixtures.read(this.fixture);
+    }
+
+}
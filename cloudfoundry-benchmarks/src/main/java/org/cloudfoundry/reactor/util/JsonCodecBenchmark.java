@@ -0,0 +1,118 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.cloudfoundry.benchmarks.Fixtures;
+import org.cloudfoundry.client.v2.applications.ListApplicationsResponse;
+import org.cloudfoundry.client.v2.applications.SummaryApplicationResponse;
+import org.cloudfoundry.reactor.DefaultConnectionContext;
+import org.cloudfoundry.uaa.users.ListUsersResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the response decoding performed by {@link JsonCodec#decode(ObjectMapper, Class)}: framing with the codec's decoder followed by deserialization with the default {@link ObjectMapper}, with and without accelerated JSON binding
+ */
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class JsonCodecBenchmark {
+
+    private static final Map<String, Class<?>> RESPONSE_TYPES = new HashMap<>();
+
+    static {
+        RESPONSE_TYPES.put("client/v2/apps/GET_apps_response.json", ListApplicationsResponse.class);
+        RESPONSE_TYPES.put("client/v2/apps/GET_{id}_summary_response.json", SummaryApplicationResponse.class);
+        RESPONSE_TYPES.put("client/v3/apps/GET_response.json", org.cloudfoundry.client.v3.applications.ListApplicationsResponse.class);
+        RESPONSE_TYPES.put("uaa/users/GET_response.json", ListUsersResponse.class);
+    }
+
+    @Param({"false", "true"})
+    public boolean acceleratedJsonBinding;
+
+    @Param({"client/v2/apps/GET_apps_response.json", "client/v2/apps/GET_{id}_summary_response.json", "client/v3/apps/GET_response.json", "uaa/users/GET_response.json"})
+    public String fixture;
+
+    private DefaultConnectionContext connectionContext;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] payload;
+
+    private Class<?> responseType;
+
+    @Benchmark
+    public void decode(Blackhole blackhole) throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(JsonCodec.createDecoder());
+        channel.writeInbound(Unpooled.wrappedBuffer(this.payload));
+
+        ByteBuf frame;
+        while ((frame = channel.readInbound()) != null) {
+            try {
+                byte[] bytes = new byte[frame.readableBytes()];
+                frame.readBytes(bytes);
+
+                blackhole.consume(this.objectMapper.readValue(bytes, this.responseType));
+            } finally {
+                frame.release();
+            }
+        }
+
+        channel.finishAndReleaseAll();
+    }
+
+    @Setup
+    public void setUp() {
+        this.connectionContext = DefaultConnectionContext.builder()
+            .acceleratedJsonBinding(this.acceleratedJsonBinding)
+            .apiHost("localhost")
+            .build();
+
+        this.objectMapper = this.connectionContext.getObjectMapper();
+        this.payload = Fixtures.read(this.fixture);
+        this.responseType = RESPONSE_TYPES.get(this.fixture);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.connectionContext.dispose();
+    }
+
+}
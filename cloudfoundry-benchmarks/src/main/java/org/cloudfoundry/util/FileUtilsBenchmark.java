@@ -0,0 +1,102 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks {@link FileUtils#hash(Path)} and {@link FileUtils#compress(Path)} against a generated application directory and the recorded application archive fixture
+ */
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class FileUtilsBenchmark {
+
+    private static final int FILE_SIZE = 16 * 1024;
+
+    @Param({"10", "100"})
+    public int fileCount;
+
+    private Path application;
+
+    private Path archive;
+
+    private Path root;
+
+    @Benchmark
+    public void compressArchive() throws IOException {
+        Files.delete(FileUtils.compress(this.archive).block());
+    }
+
+    @Benchmark
+    public void compressDirectory() throws IOException {
+        Files.delete(FileUtils.compress(this.application).block());
+    }
+
+    @Benchmark
+    public String hash() {
+        return FileUtils.hash(this.archive);
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        this.root = Files.createTempDirectory("file-utils-benchmark-");
+        this.application = Files.createDirectory(this.root.resolve("application"));
+        this.archive = Files.write(this.root.resolve("test-application.zip"), Fixtures.read("client/v2/apps/test-application.zip"));
+
+        Random random = new Random(0);
+        byte[] content = new byte[FILE_SIZE];
+
+        for (int i = 0; i < this.fileCount; i++) {
+            random.nextBytes(content);
+            Files.write(Files.createDirectories(this.application.resolve(String.format("directory-%d", i % 10))).resolve(String.format("file-%d", i)), content);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(this.root)) {
+            paths
+                .sorted(Comparator.reverseOrder())
+                .forEach(path -> path.toFile().delete());
+        }
+    }
+
+}
@@ -17,9 +17,11 @@
 package org.cloudfoundry.reactor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cloudfoundry.util.SnapshotStore;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,10 +35,13 @@ abstract class AbstractPayloadCachingRootProvider extends AbstractRootProvider {
 
     @Override
     protected final Mono<UriComponents> doGetRoot(String key, ConnectionContext connectionContext) {
-        return this.payloads.computeIfAbsent(connectionContext, this::getPayload)
+        Mono<Map<String, String>> cached = this.payloads.computeIfAbsent(connectionContext, this::getPayload);
+
+        return cached
+            .doOnError(t -> this.payloads.remove(connectionContext, cached))
             .map(payload -> {
                 if (!payload.containsKey(key)) {
-                    throw new IllegalArgumentException(String.format("Payload does not contain key '%s;", key));
+                    throw new IllegalArgumentException(String.format("Payload does not contain key '%s'", key));
                 }
 
                 return normalize(UriComponentsBuilder.fromUriString(payload.get(key)));
@@ -46,11 +51,26 @@ abstract class AbstractPayloadCachingRootProvider extends AbstractRootProvider {
     abstract ObjectMapper getObjectMapper();
 
     private Mono<Map<String, String>> getPayload(ConnectionContext connectionContext) {
-        Mono<Map<String, String>> cached = doGetPayload(connectionContext);
+        Mono<Map<String, String>> cached = connectionContext.getSnapshotStore()
+            .map(snapshots -> getSnapshotPayload(connectionContext, snapshots))
+            .orElseGet(() -> doGetPayload(connectionContext));
 
         return connectionContext.getCacheDuration()
             .map(cached::cache)
             .orElseGet(cached::cache);
     }
 
+    private Mono<Map<String, String>> getSnapshotPayload(ConnectionContext connectionContext, SnapshotStore snapshots) {
+        String key = String.format("root/%s/%s", getClass().getSimpleName(), getRoot().toUriString());
+
+        return Mono
+            .fromCallable(() -> snapshots.get(key))
+            .subscribeOn(Schedulers.elastic())
+            .flatMap(Mono::justOrEmpty)
+            .switchIfEmpty(doGetPayload(connectionContext)
+                .delayUntil(payload -> Mono
+                    .fromRunnable(() -> snapshots.put(key, payload))
+                    .subscribeOn(Schedulers.elastic())));
+    }
+
 }
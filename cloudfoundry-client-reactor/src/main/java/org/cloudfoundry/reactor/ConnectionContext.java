@@ -17,6 +17,7 @@
 package org.cloudfoundry.reactor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cloudfoundry.util.SnapshotStore;
 import reactor.core.publisher.Mono;
 import reactor.ipc.netty.http.client.HttpClient;
 
@@ -28,6 +29,16 @@ import java.util.Optional;
  */
 public interface ConnectionContext {
 
+    /**
+     * Whether the {@link ObjectMapper} of this context can serialize a type.  The default implementation asks the {@link ObjectMapper} on every call.
+     *
+     * @param type the type to serialize
+     * @return {@code true} if the type can be serialized
+     */
+    default boolean canSerialize(Class<?> type) {
+        return getObjectMapper().canSerialize(type);
+    }
+
     /**
      * The duration that stable responses like the payload of the API root should be cached
      */
@@ -38,16 +49,47 @@ public interface ConnectionContext {
      */
     HttpClient getHttpClient();
 
+    /**
+     * The {@link HttpClient} to use for requests of a given {@link TrafficClass}.  The default implementation returns {@link #getHttpClient()} for every class.
+     *
+     * @param trafficClass the {@link TrafficClass} of the request
+     * @return the {@link HttpClient} to use
+     */
+    default HttpClient getHttpClient(TrafficClass trafficClass) {
+        return getHttpClient();
+    }
+
     /**
      * The {@link ObjectMapper} to use
      */
     ObjectMapper getObjectMapper();
 
+    /**
+     * The maximum time to wait for a response to a request of a given {@link TrafficClass}, including its body for all but {@link TrafficClass#STREAM} requests.  The default implementation
+     * does not time out.
+     *
+     * @param trafficClass the {@link TrafficClass} of the request
+     * @return the response timeout, or empty if responses should not time out
+     */
+    default Optional<Duration> getResponseTimeout(TrafficClass trafficClass) {
+        return Optional.empty();
+    }
+
     /**
      * The {@link RootProvider} to use
      */
     RootProvider getRootProvider();
 
+    /**
+     * The {@link SnapshotStore} that stable responses like the payload of the API root and refresh tokens are persisted to, so that they can be restored by a new JVM.  The default
+     * implementation does not persist them.
+     *
+     * @return the snapshot store, or empty if stable responses should not be persisted
+     */
+    default Optional<SnapshotStore> getSnapshotStore() {
+        return Optional.empty();
+    }
+
     /**
      * Attempt to explicitly trust the TLS certificate of an endpoint.  Implementations can choose whether any actual trusting will happen.
      *
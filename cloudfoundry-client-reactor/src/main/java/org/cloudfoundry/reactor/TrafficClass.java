@@ -0,0 +1,39 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+/**
+ * The classes of traffic exchanged with a Cloud Foundry instance.  Connection behavior such as timeouts can be configured independently for each class.
+ */
+public enum TrafficClass {
+
+    /**
+     * Requests to, and responses from, JSON APIs
+     */
+    API,
+
+    /**
+     * Requests that upload, and responses that download, application bits, packages and droplets
+     */
+    BITS,
+
+    /**
+     * Long-lived streams such as the firehose and routing event streams
+     */
+    STREAM
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.cloudfoundry.reactor.util.ByteBufAllocatorMetricProviderWrapper;
+import org.immutables.value.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.ipc.netty.resources.LoopResources;
+import reactor.ipc.netty.resources.PoolResources;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resources shared by a group of {@link DefaultConnectionContext}s, typically one for each of many Cloud Foundry instances.  Members share a single set of event loops and a single
+ * {@code ByteBufAllocator} MBean.  Each member gets its own connection pool, named after its endpoint and sized by its own {@code connectionPoolSize}, from the group's registry.  A connection
+ * context built with {@code group(...)} joins the group when it first uses its connection pool and leaves it when it is disposed.  Members can join and leave at any time.  Members for the same endpoint share its
+ * connection pool, which is released when the last of them leaves.  A group owns its event loops, so it cannot be copied.
+ */
+@Value.Immutable(copy = false)
+abstract class _ConnectionContextGroup {
+
+    private final Logger logger = LoggerFactory.getLogger("cloudfoundry-client");
+
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Disposes the connection pools of all members and the shared event loops
+     */
+    @PreDestroy
+    public final void dispose() {
+        this.endpoints.values().forEach(endpoint -> endpoint.connectionPool.ifPresent(PoolResources::dispose));
+        this.endpoints.clear();
+        getThreadPool().dispose();
+
+        try {
+            ObjectName name = getByteBufAllocatorObjectName();
+
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            this.logger.error("Unable to unregister ByteBufAllocator MBean", e);
+        }
+    }
+
+    /**
+     * The endpoints of the current members of the group
+     */
+    public final Set<String> getEndpoints() {
+        return Collections.unmodifiableSet(this.endpoints.keySet());
+    }
+
+    /**
+     * The name of the group, used to name its threads, connection pools and MBean.  Defaults to {@code cloudfoundry-client}.
+     */
+    @Value.Default
+    public String getName() {
+        return "cloudfoundry-client";
+    }
+
+    /**
+     * The number of worker threads shared by all members of the group
+     */
+    @Value.Default
+    public Integer getThreadPoolSize() {
+        return LoopResources.DEFAULT_IO_WORKER_COUNT;
+    }
+
+    @Value.Lazy
+    LoopResources getThreadPool() {
+        return LoopResources.create(getName(), getThreadPoolSize(), true);
+    }
+
+    Optional<PoolResources> join(String endpoint, Integer connectionPoolSize) {
+        return this.endpoints.compute(endpoint, (key, existing) -> {
+            Endpoint joined = existing != null ? existing : new Endpoint(Optional.ofNullable(connectionPoolSize)
+                .map(size -> PoolResources.fixed(String.format("%s-%s", getName(), key), size)));
+
+            joined.members++;
+            return joined;
+        }).connectionPool;
+    }
+
+    void leave(String endpoint) {
+        this.endpoints.computeIfPresent(endpoint, (key, existing) -> {
+            if (--existing.members > 0) {
+                return existing;
+            }
+
+            existing.connectionPool.ifPresent(PoolResources::dispose);
+            return null;
+        });
+    }
+
+    @PostConstruct
+    void monitorByteBufAllocator() {
+        try {
+            ObjectName name = getByteBufAllocatorObjectName();
+
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                this.logger.warn("MBean '{}' is already registered and will be removed. You should only have a single ConnectionContextGroup with a given name.", name);
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new ByteBufAllocatorMetricProviderWrapper(PooledByteBufAllocator.DEFAULT), name);
+        } catch (JMException e) {
+            this.logger.error("Unable to register ByteBufAllocator MBean", e);
+        }
+    }
+
+    private ObjectName getByteBufAllocatorObjectName() throws MalformedObjectNameException {
+        return ObjectName.getInstance(String.format("org.cloudfoundry.reactor:type=ByteBufAllocator,group=%s", getName()));
+    }
+
+    private static final class Endpoint {
+
+        private final Optional<PoolResources> connectionPool;
+
+        private int members = 0;
+
+        private Endpoint(Optional<PoolResources> connectionPool) {
+            this.connectionPool = connectionPool;
+        }
+
+    }
+
+}
@@ -24,8 +24,10 @@ import io.netty.buffer.PooledByteBufAllocator;
 import org.cloudfoundry.Nullable;
 import org.cloudfoundry.reactor.util.ByteBufAllocatorMetricProviderWrapper;
 import org.cloudfoundry.reactor.util.DefaultSslCertificateTruster;
+import org.cloudfoundry.reactor.util.JsonBindingAcceleration;
 import org.cloudfoundry.reactor.util.SslCertificateTruster;
 import org.cloudfoundry.reactor.util.StaticTrustManagerFactory;
+import org.cloudfoundry.util.SnapshotStore;
 import org.immutables.value.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +45,9 @@ import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
@@ -59,17 +64,45 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
 
     private static final int DEFAULT_PORT = 443;
 
-    private static final int RECEIVE_BUFFER_SIZE = 10 * 1024 * 1024;
+    private static final int LARGE_SOCKET_BUFFER_SIZE = 10 * 1024 * 1024;
 
-    private static final int SEND_BUFFER_SIZE = 10 * 1024 * 1024;
+    private final AtomicBoolean joined = new AtomicBoolean();
 
     private final Logger logger = LoggerFactory.getLogger("cloudfoundry-client");
 
+    private final ConcurrentMap<Class<?>, Boolean> serializableTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the {@link ObjectMapper} of this context can serialize a type.  Answers are cached, and cached answers are returned without locking.
+     */
+    @Override
+    public final boolean canSerialize(Class<?> type) {
+        Boolean serializable = this.serializableTypes.get(type);
+
+        if (serializable == null) {
+            serializable = getObjectMapper().canSerialize(type);
+            this.serializableTypes.putIfAbsent(type, serializable);
+        }
+
+        return serializable;
+    }
+
     /**
      * Disposes resources created to service this connection context
      */
     @PreDestroy
     public final void dispose() {
+        getBitsConnectionPool().ifPresent(PoolResources::dispose);
+
+        Optional<ConnectionContextGroup> group = getGroup();
+        if (group.isPresent()) {
+            if (this.joined.getAndSet(false)) {
+                group.get().leave(getEndpoint());
+            }
+
+            return;
+        }
+
         getConnectionPool().ifPresent(PoolResources::dispose);
         getThreadPool().dispose();
 
@@ -88,7 +121,8 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
     public abstract Optional<Duration> getCacheDuration();
 
     /**
-     * The number of connections to use when processing requests and responses.  Setting this to `null` disables connection pooling.
+     * The number of connections to use when processing requests and responses.  Setting this to `null` disables connection pooling.  When this context is a member of a
+     * {@link ConnectionContextGroup}, the first member for an endpoint determines the size of the endpoint's pool.
      */
     @Nullable
     @Value.Default
@@ -96,27 +130,34 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
         return PoolResources.DEFAULT_POOL_MAX_CONNECTION;
     }
 
+    /**
+     * The {@link HttpClient} to use for API requests
+     */
     @Override
     @Value.Default
     public HttpClient getHttpClient() {
-        return HttpClient.create(options -> {
-            options
-                .compression(true)
-                .loopResources(getThreadPool())
-                .option(SO_SNDBUF, SEND_BUFFER_SIZE)
-                .option(SO_RCVBUF, RECEIVE_BUFFER_SIZE)
-                .disablePool();
+        return getApiHttpClient();
+    }
 
-            options.sslSupport(ssl -> getSslCertificateTruster().ifPresent(trustManager -> ssl.trustManager(new StaticTrustManagerFactory(trustManager))));
+    /**
+     * The {@link HttpClient} to use for requests of a given {@link TrafficClass}.  Each class has its own socket buffer size.  Because a connection pool keeps the options of the connections it
+     * creates, {@link TrafficClass#BITS} requests use a pool of their own, and {@link TrafficClass#STREAM} requests, which hold their connections for as long as the stream lasts, use connections
+     * that are not pooled.  If an {@link HttpClient} has been configured, it is used for every class.
+     */
+    @Override
+    public HttpClient getHttpClient(TrafficClass trafficClass) {
+        if (getHttpClient() != getApiHttpClient()) {
+            return getHttpClient();
+        }
 
-            getConnectionPool().ifPresent(options::poolResources);
-            getConnectTimeout().ifPresent(socketTimeout -> options.option(CONNECT_TIMEOUT_MILLIS, (int) socketTimeout.toMillis()));
-            getKeepAlive().ifPresent(keepAlive -> options.option(SO_KEEPALIVE, keepAlive));
-            getSslHandshakeTimeout().ifPresent(options::sslHandshakeTimeout);
-            getSslCloseNotifyFlushTimeout().ifPresent(options::sslCloseNotifyFlushTimeout);
-            getSslCloseNotifyReadTimeout().ifPresent(options::sslCloseNotifyReadTimeout);
-            getProxyConfiguration().ifPresent(c -> c.configure(options));
-        });
+        switch (trafficClass) {
+            case BITS:
+                return getBitsHttpClient();
+            case STREAM:
+                return getStreamHttpClient();
+            default:
+                return getHttpClient();
+        }
     }
 
     @Override
@@ -130,9 +171,25 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
 
         getProblemHandlers().forEach(objectMapper::addHandler);
 
+        if (getAcceleratedJsonBinding().orElse(false)) {
+            JsonBindingAcceleration.accelerate(objectMapper);
+        }
+
         return objectMapper;
     }
 
+    @Override
+    public Optional<Duration> getResponseTimeout(TrafficClass trafficClass) {
+        switch (trafficClass) {
+            case BITS:
+                return getBitsResponseTimeout();
+            case STREAM:
+                return getStreamResponseTimeout();
+            default:
+                return getApiResponseTimeout();
+        }
+    }
+
     @Override
     @Value.Default
     public RootProvider getRootProvider() {
@@ -144,8 +201,11 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
             .build();
     }
 
+    @Override
+    public abstract Optional<SnapshotStore> getSnapshotStore();
+
     /**
-     * The number of worker threads to use when processing requests and responses
+     * The number of worker threads to use when processing requests and responses.  Ignored when this context is a member of a {@link ConnectionContextGroup}.
      */
     @Value.Default
     public Integer getThreadPoolSize() {
@@ -159,22 +219,81 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
             .orElse(Mono.empty());
     }
 
+    /**
+     * Whether the default {@link ObjectMapper} should bind JSON with generated bytecode accessors rather than reflection.  Requires {@code com.fasterxml.jackson.module:jackson-module-afterburner}
+     * on the classpath.  Defaults to {@code false}.
+     */
+    abstract Optional<Boolean> getAcceleratedJsonBinding();
+
     /**
      * The hostname of the API root.  Typically something like {@code api.run.pivotal.io}.
      */
     abstract String getApiHost();
 
+    @Value.Lazy
+    HttpClient getApiHttpClient() {
+        return createHttpClient(getApiSocketBufferSize(), getConnectionPool());
+    }
+
+    /**
+     * The timeout for an API request, from sending the request until its response body has been received and decoded
+     */
+    abstract Optional<Duration> getApiResponseTimeout();
+
+    /**
+     * The {@code SO_SNDBUF} and {@code SO_RCVBUF} size for connections that carry API requests.  Defaults to the operating system's default, which lets the kernel size the buffers of these mostly
+     * small exchanges automatically.
+     */
+    abstract Optional<Integer> getApiSocketBufferSize();
+
+    @Value.Lazy
+    Optional<PoolResources> getBitsConnectionPool() {
+        String name = String.format("%s-bits-%s", getGroup().map(ConnectionContextGroup::getName).orElse("cloudfoundry-client"), getEndpoint());
+
+        return Optional.ofNullable(getConnectionPoolSize())
+            .map(connectionPoolSize -> PoolResources.fixed(name, connectionPoolSize));
+    }
+
+    @Value.Lazy
+    HttpClient getBitsHttpClient() {
+        return createHttpClient(Optional.of(getBitsSocketBufferSize().orElse(LARGE_SOCKET_BUFFER_SIZE)), getBitsConnectionPool());
+    }
+
+    /**
+     * The timeout for a request that uploads or downloads bits, from sending the request until its response body has been received
+     */
+    abstract Optional<Duration> getBitsResponseTimeout();
+
+    /**
+     * The {@code SO_SNDBUF} and {@code SO_RCVBUF} size for connections that upload or download bits.  Defaults to 10 MiB.
+     */
+    abstract Optional<Integer> getBitsSocketBufferSize();
+
     /**
      * The {@code CONNECT_TIMEOUT_MILLIS} value
      */
     abstract Optional<Duration> getConnectTimeout();
 
-    @Value.Derived
+    /**
+     * The connection pool for API requests.  Lazy rather than derived, so that only an instance that uses the pool joins its group, and copies made with {@code with*()} do not join again.
+     */
+    @Value.Lazy
     Optional<PoolResources> getConnectionPool() {
-        return Optional.ofNullable(getConnectionPoolSize())
-            .map(connectionPoolSize -> PoolResources.fixed("cloudfoundry-client", connectionPoolSize));
+        return getGroup()
+            .map(group -> {
+                Optional<PoolResources> connectionPool = group.join(getEndpoint(), getConnectionPoolSize());
+                this.joined.set(true);
+                return connectionPool;
+            })
+            .orElseGet(() -> Optional.ofNullable(getConnectionPoolSize())
+                .map(connectionPoolSize -> PoolResources.fixed("cloudfoundry-client", connectionPoolSize)));
     }
 
+    /**
+     * The group whose event loops and connection pool registry this context shares.  A context that is not a member of a group creates its own.
+     */
+    abstract Optional<ConnectionContextGroup> getGroup();
+
     /**
      * The {@code SO_KEEPALIVE} value
      */
@@ -229,13 +348,34 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
      */
     abstract Optional<Duration> getSslHandshakeTimeout();
 
+    @Value.Lazy
+    HttpClient getStreamHttpClient() {
+        return createHttpClient(Optional.of(getStreamSocketBufferSize().orElse(LARGE_SOCKET_BUFFER_SIZE)), Optional.empty());
+    }
+
+    /**
+     * The timeout for receiving the initial response to a streaming request
+     */
+    abstract Optional<Duration> getStreamResponseTimeout();
+
+    /**
+     * The {@code SO_SNDBUF} and {@code SO_RCVBUF} size for long-lived streaming connections such as the firehose.  Defaults to 10 MiB.
+     */
+    abstract Optional<Integer> getStreamSocketBufferSize();
+
     @Value.Derived
     LoopResources getThreadPool() {
-        return LoopResources.create("cloudfoundry-client", getThreadPoolSize(), true);
+        return getGroup()
+            .map(ConnectionContextGroup::getThreadPool)
+            .orElseGet(() -> LoopResources.create("cloudfoundry-client", getThreadPoolSize(), true));
     }
 
     @PostConstruct
     void monitorByteBufAllocator() {
+        if (getGroup().isPresent()) {
+            return;
+        }
+
         try {
             ObjectName name = getByteBufAllocatorObjectName();
 
@@ -250,8 +390,34 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
         }
     }
 
+    private HttpClient createHttpClient(Optional<Integer> socketBufferSize, Optional<PoolResources> connectionPool) {
+        return HttpClient.create(options -> {
+            options
+                .compression(true)
+                .loopResources(getThreadPool())
+                .disablePool();
+
+            options.sslSupport(ssl -> getSslCertificateTruster().ifPresent(trustManager -> ssl.trustManager(new StaticTrustManagerFactory(trustManager))));
+
+            socketBufferSize.ifPresent(size -> options
+                .option(SO_SNDBUF, size)
+                .option(SO_RCVBUF, size));
+            connectionPool.ifPresent(options::poolResources);
+            getConnectTimeout().ifPresent(socketTimeout -> options.option(CONNECT_TIMEOUT_MILLIS, (int) socketTimeout.toMillis()));
+            getKeepAlive().ifPresent(keepAlive -> options.option(SO_KEEPALIVE, keepAlive));
+            getSslHandshakeTimeout().ifPresent(options::sslHandshakeTimeout);
+            getSslCloseNotifyFlushTimeout().ifPresent(options::sslCloseNotifyFlushTimeout);
+            getSslCloseNotifyReadTimeout().ifPresent(options::sslCloseNotifyReadTimeout);
+            getProxyConfiguration().ifPresent(c -> c.configure(options));
+        });
+    }
+
     private ObjectName getByteBufAllocatorObjectName() throws MalformedObjectNameException {
         return ObjectName.getInstance(String.format("org.cloudfoundry.reactor:type=ByteBufAllocator,endpoint=%s/%d", getApiHost(), getPort().orElse(DEFAULT_PORT)));
     }
 
+    private String getEndpoint() {
+        return String.format("%s:%d", getApiHost(), getPort().orElse(DEFAULT_PORT));
+    }
+
 }
@@ -109,268 +109,279 @@ import reactor.core.publisher.Mono;
 import javax.annotation.PostConstruct;
 
 /**
- * The Reactor-based implementation of {@link CloudFoundryClient}
+ * The Reactor-based implementation of {@link CloudFoundryClient}.  Each endpoint client is created on first use.
  */
 @Value.Immutable
 abstract class _ReactorCloudFoundryClient implements CloudFoundryClient {
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public ApplicationUsageEvents applicationUsageEvents() {
         return new ReactorApplicationUsageEvents(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public ApplicationsV2 applicationsV2() {
         return new ReactorApplicationsV2(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public ApplicationsV3 applicationsV3() {
         return new ReactorApplicationsV3(getConnectionContext(), getRootV3(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Blobstores blobstores() {
         return new ReactorBlobstores(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Buildpacks buildpacks() {
         return new ReactorBuildpacks(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Builds builds() {
         return new ReactorBuilds(getConnectionContext(), getRootV3(), getTokenProvider());
     }
 
     @PostConstruct
     public void checkCompatibility() {
-        new CloudFoundryClientCompatibilityChecker(info()).check();
+        if (getCompatibilityCheck()) {
+            new CloudFoundryClientCompatibilityChecker(info()).check();
+        }
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Domains domains() {
         return new ReactorDomains(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Droplets droplets() {
         return new ReactorDroplets(getConnectionContext(), getRootV3(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public EnvironmentVariableGroups environmentVariableGroups() {
         return new ReactorEnvironmentVariableGroups(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Events events() {
         return new ReactorEvents(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public FeatureFlags featureFlags() {
         return new ReactorFeatureFlags(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Info info() {
         return new ReactorInfo(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public IsolationSegments isolationSegments() {
         return new ReactorIsolationSegments(getConnectionContext(), getRootV3(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Jobs jobs() {
         return new ReactorJobs(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public JobsV3 jobsV3() {
         return new ReactorJobsV3(getConnectionContext(), getRootV3(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public OrganizationQuotaDefinitions organizationQuotaDefinitions() {
         return new ReactorOrganizationQuotaDefinitions(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Organizations organizations() {
         return new ReactorOrganizations(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public OrganizationsV3 organizationsV3() {
         return new ReactorOrganizationsV3(getConnectionContext(), getRootV3(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Packages packages() {
         return new ReactorPackages(getConnectionContext(), getRootV3(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public PrivateDomains privateDomains() {
         return new ReactorPrivateDomains(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Processes processes() {
         return new ReactorProcesses(getConnectionContext(), getRootV3(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public ResourceMatch resourceMatch() {
         return new ReactorResourceMatch(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public RouteMappings routeMappings() {
         return new ReactorRouteMappings(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Routes routes() {
         return new ReactorRoutes(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public SecurityGroups securityGroups() {
         return new ReactorSecurityGroups(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public ServiceBindingsV2 serviceBindingsV2() {
         return new ReactorServiceBindingsV2(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public ServiceBindingsV3 serviceBindingsV3() {
         return new ReactorServiceBindingsV3(getConnectionContext(), getRootV3(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public ServiceBrokers serviceBrokers() {
         return new ReactorServiceBrokers(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public ServiceInstances serviceInstances() {
         return new ReactorServiceInstances(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public ServiceKeys serviceKeys() {
         return new ReactorServiceKeys(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public ServicePlanVisibilities servicePlanVisibilities() {
         return new ReactorServicePlanVisibilities(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public ServicePlans servicePlans() {
         return new ReactorServicePlans(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public ServiceUsageEvents serviceUsageEvents() {
         return new ReactorServiceUsageEvents(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Services services() {
         return new ReactorServices(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public SharedDomains sharedDomains() {
         return new ReactorSharedDomains(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public SpaceQuotaDefinitions spaceQuotaDefinitions() {
         return new ReactorSpaceQuotaDefinitions(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Spaces spaces() {
         return new ReactorSpaces(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public SpacesV3 spacesV3() {
         return new ReactorSpacesV3(getConnectionContext(), getRootV3(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Stacks stacks() {
         return new ReactorStacks(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Tasks tasks() {
         return new ReactorTasks(getConnectionContext(), getRootV3(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public UserProvidedServiceInstances userProvidedServiceInstances() {
         return new ReactorUserProvidedServiceInstances(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
     @Override
-    @Value.Derived
+    @Value.Lazy
     public Users users() {
         return new ReactorUsers(getConnectionContext(), getRootV2(), getTokenProvider());
     }
 
+    /**
+     * Whether to compare the server's API version with the version supported by the client when the client is initialized by a container that invokes {@link PostConstruct} methods.  Disabling
+     * this avoids a network request at startup.
+     */
+    @Value.Default
+    boolean getCompatibilityCheck() {
+        return true;
+    }
+
     /**
      * The connection context
      */
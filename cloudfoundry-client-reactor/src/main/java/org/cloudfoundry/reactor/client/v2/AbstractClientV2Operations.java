@@ -19,6 +19,7 @@ package org.cloudfoundry.reactor.client.v2;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.TrafficClass;
 import org.cloudfoundry.reactor.client.QueryBuilder;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
 import org.cloudfoundry.reactor.util.ErrorPayloadMapper;
@@ -59,7 +60,8 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
     protected final Mono<HttpClientResponse> get(Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
                                                  Function<Mono<HttpClientRequest>, Mono<HttpClientRequest>> requestTransformer) {
 
-        return doGet(queryTransformer(requestPayload)
+        return doGet(TrafficClass.BITS,
+            queryTransformer(requestPayload)
                 .andThen(uriTransformer),
             outbound -> outbound
                 .transform(requestTransformer),
@@ -76,7 +78,7 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
 
     protected final <T> Mono<T> post(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
                                      Function<Mono<MultipartHttpClientRequest>, Publisher<Void>> requestTransformer) {
-        return doPost(responseType,
+        return doPost(TrafficClass.BITS, responseType,
             queryTransformer(requestPayload)
                 .andThen(uriTransformer),
             outbound -> outbound
@@ -95,7 +97,7 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
 
     protected final <T> Mono<T> put(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
                                     Function<Mono<MultipartHttpClientRequest>, Publisher<Void>> requestTransformer) {
-        return doPut(responseType,
+        return doPut(TrafficClass.BITS, responseType,
             queryTransformer(requestPayload)
                 .andThen(uriTransformer),
             outbound -> outbound
@@ -57,7 +57,9 @@ import org.cloudfoundry.client.v2.applications.UploadApplicationRequest;
 import org.cloudfoundry.client.v2.applications.UploadApplicationResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.TrafficClass;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.ByteRanges;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.util.FileUtils;
 import reactor.core.Exceptions;
@@ -114,15 +116,23 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations impl
 
     @Override
     public Flux<byte[]> download(DownloadApplicationRequest request) {
-        return get(request, builder -> builder.pathSegment("apps", request.getApplicationId(), "download"), outbound -> outbound.map(HttpClientRequest::followRedirect))
-            .flatMapMany(response -> response.receive().asByteArray())
+        return get(request, builder -> builder.pathSegment("apps", request.getApplicationId(), "download"), outbound -> outbound
+            .map(HttpClientRequest::followRedirect)
+            .map(ByteRanges.addRange(request.getOffset())))
+            .flatMapMany(response -> ByteRanges.receive(response, request.getOffset()))
+            .transform(ByteRanges.completeWhenNotSatisfiable(request.getOffset()))
+            .transform(responseTimeout(TrafficClass.BITS))
             .checkpoint();
     }
 
     @Override
     public Flux<byte[]> downloadDroplet(DownloadApplicationDropletRequest request) {
-        return get(request, builder -> builder.pathSegment("apps", request.getApplicationId(), "droplet", "download"), outbound -> outbound.map(HttpClientRequest::followRedirect))
-            .flatMapMany(response -> response.receive().asByteArray())
+        return get(request, builder -> builder.pathSegment("apps", request.getApplicationId(), "droplet", "download"), outbound -> outbound
+            .map(HttpClientRequest::followRedirect)
+            .map(ByteRanges.addRange(request.getOffset())))
+            .flatMapMany(response -> ByteRanges.receive(response, request.getOffset()))
+            .transform(ByteRanges.completeWhenNotSatisfiable(request.getOffset()))
+            .transform(responseTimeout(TrafficClass.BITS))
             .checkpoint();
     }
 
@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.reactor.client.v2.routes;
 
+import org.cloudfoundry.UnknownCloudFoundryException;
 import org.cloudfoundry.client.v2.routes.AssociateRouteApplicationRequest;
 import org.cloudfoundry.client.v2.routes.AssociateRouteApplicationResponse;
 import org.cloudfoundry.client.v2.routes.CreateRouteRequest;
@@ -50,6 +51,8 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
 
     private static final int CF_NOT_FOUND = 10000;
 
+    private static final int NOT_FOUND = 404;
+
     /**
      * Creates an instance
      *
@@ -88,7 +91,7 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
                 return builder;
             })
             .defaultIfEmpty(true)
-            .onErrorResume(ExceptionUtils.statusCode(CF_NOT_FOUND), t -> Mono.just(false))
+            .onErrorResume(ReactorRoutes::isNotReserved, t -> Mono.just(false))
             .checkpoint();
     }
 
@@ -128,4 +131,9 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
             .checkpoint();
     }
 
+    private static boolean isNotReserved(Throwable t) {
+        return ExceptionUtils.statusCode(CF_NOT_FOUND).test(t) ||
+            (t instanceof UnknownCloudFoundryException && ((UnknownCloudFoundryException) t).getStatusCode() == NOT_FOUND && ((UnknownCloudFoundryException) t).getPayload() == null);
+    }
+
 }
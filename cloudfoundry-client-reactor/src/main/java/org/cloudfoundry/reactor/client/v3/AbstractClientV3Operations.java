@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.TrafficClass;
 import org.cloudfoundry.reactor.client.QueryBuilder;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
 import org.cloudfoundry.reactor.util.ErrorPayloadMapper;
@@ -68,9 +69,15 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
     }
 
     protected final Mono<HttpClientResponse> get(Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return doGet(queryTransformer(requestPayload)
+        return get(requestPayload, uriTransformer, outbound -> outbound);
+    }
+
+    protected final Mono<HttpClientResponse> get(Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+                                                 Function<Mono<HttpClientRequest>, Mono<HttpClientRequest>> requestTransformer) {
+        return doGet(TrafficClass.BITS,
+            queryTransformer(requestPayload)
                 .andThen(uriTransformer),
-            outbound -> outbound,
+            requestTransformer,
             ErrorPayloadMapper.clientV3(this.connectionContext.getObjectMapper()));
     }
 
@@ -92,7 +99,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
 
     protected final <T> Mono<T> post(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
                                      Function<Mono<MultipartHttpClientRequest>, Publisher<Void>> requestTransformer) {
-        return doPost(responseType,
+        return doPost(TrafficClass.BITS, responseType,
             queryTransformer(requestPayload)
                 .andThen(uriTransformer),
             outbound -> outbound
@@ -111,7 +118,7 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
 
     protected final <T> Mono<T> put(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
                                     Function<Mono<MultipartHttpClientRequest>, Publisher<Void>> requestTransformer) {
-        return doPut(responseType,
+        return doPut(TrafficClass.BITS, responseType,
             queryTransformer(requestPayload)
                 .andThen(uriTransformer),
             outbound -> outbound
@@ -33,7 +33,9 @@ import org.cloudfoundry.client.v3.packages.UploadPackageRequest;
 import org.cloudfoundry.client.v3.packages.UploadPackageResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.TrafficClass;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.ByteRanges;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.util.FileUtils;
 import reactor.core.Exceptions;
@@ -82,8 +84,11 @@ public final class ReactorPackages extends AbstractClientV3Operations implements
 
     @Override
     public Flux<byte[]> download(DownloadPackageRequest request) {
-        return get(request, builder -> builder.pathSegment("packages", request.getPackageId(), "download"))
-            .flatMapMany(response -> response.receive().aggregate().asByteArray())
+        return get(request, builder -> builder.pathSegment("packages", request.getPackageId(), "download"), outbound -> outbound
+            .map(ByteRanges.addRange(request.getOffset())))
+            .flatMapMany(response -> ByteRanges.receive(response, request.getOffset()))
+            .transform(ByteRanges.completeWhenNotSatisfiable(request.getOffset()))
+            .transform(responseTimeout(TrafficClass.BITS))
             .checkpoint();
     }
 
@@ -38,15 +38,13 @@ final class MultipartCodec {
 
     static Flux<InputStream> decode(HttpClientResponse response) {
         return response
-            .addHandler(createDecoder(response))
+            .addHandler(createDecoder(extractMultipartBoundary(response)))
             .receive()
             .asInputStream()
             .skip(1);
     }
 
-    private static DelimiterBasedFrameDecoder createDecoder(HttpClientResponse response) {
-        String boundary = extractMultipartBoundary(response);
-
+    static DelimiterBasedFrameDecoder createDecoder(String boundary) {
         return new DelimiterBasedFrameDecoder(MAX_PAYLOAD_SIZE,
             Unpooled.copiedBuffer(String.format("--%s\r\n\r\n", boundary), Charset.defaultCharset()),
             Unpooled.copiedBuffer(String.format("\r\n--%s\r\n\r\n", boundary), Charset.defaultCharset()),
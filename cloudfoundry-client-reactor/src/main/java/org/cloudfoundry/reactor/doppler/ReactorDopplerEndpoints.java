@@ -23,6 +23,7 @@ import org.cloudfoundry.doppler.RecentLogsRequest;
 import org.cloudfoundry.doppler.StreamRequest;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.TrafficClass;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -40,6 +41,7 @@ final class ReactorDopplerEndpoints extends AbstractDopplerOperations {
         return get(builder -> builder.pathSegment("apps", request.getApplicationId(), "containermetrics"))
             .flatMapMany(response -> MultipartCodec.decode(response)
                 .map(ReactorDopplerEndpoints::toEnvelope))
+            .transform(responseTimeout(TrafficClass.API))
             .checkpoint();
     }
 
@@ -54,6 +56,7 @@ final class ReactorDopplerEndpoints extends AbstractDopplerOperations {
         return get(builder -> builder.pathSegment("apps", request.getApplicationId(), "recentlogs"))
             .flatMapMany(response -> MultipartCodec.decode(response)
                 .map(ReactorDopplerEndpoints::toEnvelope))
+            .transform(responseTimeout(TrafficClass.API))
             .checkpoint();
     }
 
@@ -18,9 +18,11 @@ package org.cloudfoundry.reactor.routing.v1;
 
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.TrafficClass;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
+import reactor.ipc.netty.http.client.HttpClientRequest;
 import reactor.ipc.netty.http.client.HttpClientResponse;
 
 import java.util.function.Function;
@@ -36,7 +38,12 @@ public abstract class AbstractRoutingV1Operations extends AbstractReactorOperati
     }
 
     protected final Mono<HttpClientResponse> get(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return doGet(uriTransformer, outbound -> outbound, inbound -> inbound);
+        return get(uriTransformer, outbound -> outbound);
+    }
+
+    protected final Mono<HttpClientResponse> get(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+                                                 Function<Mono<HttpClientRequest>, Mono<HttpClientRequest>> requestTransformer) {
+        return doGet(TrafficClass.STREAM, uriTransformer, requestTransformer, inbound -> inbound);
     }
 
     protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
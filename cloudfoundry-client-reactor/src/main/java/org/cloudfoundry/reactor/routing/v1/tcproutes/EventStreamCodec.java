@@ -16,10 +16,12 @@
 
 package org.cloudfoundry.reactor.routing.v1.tcproutes;
 
-import io.netty.handler.codec.LineBasedFrameDecoder;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.ipc.netty.http.client.HttpClientResponse;
 
+import java.util.Collections;
+
 final class EventStreamCodec {
 
     private static final int MAX_PAYLOAD_SIZE = 1024 * 1024;
@@ -28,62 +30,16 @@ final class EventStreamCodec {
     }
 
     static Flux<ServerSentEvent> decode(HttpClientResponse response) {
-        return response.addHandler(createDecoder()).receive().asString()
-            .windowWhile(s -> !s.isEmpty())
-            .concatMap(window -> window
-                .reduce(ServerSentEvent.builder(), EventStreamCodec::parseLine))
-            .map(ServerSentEvent.Builder::build)
-            .filter(sse -> sse.getData() != null || sse.getEventType() != null || sse.getId() != null || sse.getRetry() != null);
-    }
-
-    private static LineBasedFrameDecoder createDecoder() {
-        return new LineBasedFrameDecoder(MAX_PAYLOAD_SIZE);
-    }
-
-    private static Field parseField(String line) {
-        String[] split = line.split("[ ]?:[ ]?", 2);
-
-        String key = split.length > 0 ? split[0] : "";
-        String value = split.length > 1 ? split[1] : "";
-
-        return new Field(key, value);
-    }
-
-    private static ServerSentEvent.Builder parseLine(ServerSentEvent.Builder builder, String line) {
-        Field field = parseField(line);
-
-        if ("data".equals(field.getKey())) {
-            builder.data(field.getValue());
-        } else if ("event".equals(field.getKey())) {
-            builder.eventType(field.getValue());
-        } else if ("id".equals(field.getKey())) {
-            builder.id(field.getValue());
-        } else if ("retry".equals(field.getKey())) {
-            builder.retry(Integer.parseInt(field.getValue()));
-        }
-
-        return builder;
-    }
-
-    private static final class Field {
-
-        private final String key;
-
-        private final String value;
-
-        private Field(String key, String value) {
-            this.key = key;
-            this.value = value;
-        }
-
-        private String getKey() {
-            return this.key;
-        }
-
-        private String getValue() {
-            return this.value;
-        }
-
+        return Flux.defer(() -> {
+            EventStreamParser parser = new EventStreamParser(MAX_PAYLOAD_SIZE);
+
+            // received buffers are released once onNext returns, so each chunk is parsed eagerly
+            return response.receive()
+                .map(parser::parse)
+                .concatWith(Mono.fromSupplier(parser::finish)
+                    .map(Collections::singletonList))
+                .flatMapIterable(events -> events);
+        });
     }
 
 }
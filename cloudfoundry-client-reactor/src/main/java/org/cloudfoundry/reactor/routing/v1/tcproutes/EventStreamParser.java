@@ -0,0 +1,224 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.routing.v1.tcproutes;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.TooLongFrameException;
+import io.netty.util.ByteProcessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An incremental parser for the {@code text/event-stream} format.  Lines are assembled directly from the received bytes, field names are matched without decoding them, and only the values of
+ * known fields are decoded.  A line that is not terminated by the end of the stream is discarded.
+ */
+final class EventStreamParser {
+
+    private static final byte[] DATA = "data".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] EVENT = "event".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] ID = "id".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int INITIAL_LINE_CAPACITY = 256;
+
+    private static final byte[] RETRY = "retry".getBytes(StandardCharsets.US_ASCII);
+
+    private final int maxLineLength;
+
+    private ServerSentEvent.Builder builder = ServerSentEvent.builder();
+
+    private boolean hasField = false;
+
+    private byte[] line = new byte[INITIAL_LINE_CAPACITY];
+
+    private int lineLength = 0;
+
+    private boolean skipLineFeed = false;
+
+    EventStreamParser(int maxLineLength) {
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Signals the end of the stream
+     *
+     * @return the event that was pending at the end of the stream, or {@code null} if there was none
+     */
+    ServerSentEvent finish() {
+        this.lineLength = 0;
+        return this.hasField ? dispatch() : null;
+    }
+
+    /**
+     * Parses a chunk of the stream.  The chunk is not retained, so it may be released as soon as this method returns.
+     *
+     * @param chunk the chunk to parse
+     * @return the events completed by the chunk
+     */
+    List<ServerSentEvent> parse(ByteBuf chunk) {
+        List<ServerSentEvent> events = new ArrayList<>(1);
+
+        int index = chunk.readerIndex();
+        int end = chunk.writerIndex();
+
+        while (index < end) {
+            if (this.skipLineFeed) {
+                this.skipLineFeed = false;
+
+                if (chunk.getByte(index) == '\n') {
+                    index++;
+                    continue;
+                }
+            }
+
+            int delimiter = chunk.forEachByte(index, end - index, ByteProcessor.FIND_CRLF);
+            if (delimiter == -1) {
+                append(chunk, index, end - index);
+                break;
+            }
+
+            append(chunk, index, delimiter - index);
+            this.skipLineFeed = chunk.getByte(delimiter) == '\r';
+            index = delimiter + 1;
+
+            onLine(events);
+        }
+
+        return events;
+    }
+
+    private void append(ByteBuf chunk, int index, int length) {
+        if (length == 0) {
+            return;
+        }
+
+        int required = this.lineLength + length;
+        if (required > this.maxLineLength) {
+            throw new TooLongFrameException(String.format("frame length (%d) exceeds the allowed maximum (%d)", required, this.maxLineLength));
+        }
+
+        if (required > this.line.length) {
+            this.line = Arrays.copyOf(this.line, Math.min(Math.max(required, this.line.length * 2), this.maxLineLength));
+        }
+
+        chunk.getBytes(index, this.line, this.lineLength, length);
+        this.lineLength = required;
+    }
+
+    private ServerSentEvent dispatch() {
+        ServerSentEvent event = this.builder.build();
+
+        this.builder = ServerSentEvent.builder();
+        this.hasField = false;
+
+        return event;
+    }
+
+    private int indexOfColon(int length) {
+        for (int i = 0; i < length; i++) {
+            if (this.line[i] == ':') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private boolean isField(byte[] name, int nameLength) {
+        if (name.length != nameLength) {
+            return false;
+        }
+
+        for (int i = 0; i < nameLength; i++) {
+            if (this.line[i] != name[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void onLine(List<ServerSentEvent> events) {
+        int length = this.lineLength;
+        this.lineLength = 0;
+
+        if (length == 0) {
+            if (this.hasField) {
+                events.add(dispatch());
+            }
+            return;
+        }
+
+        if (this.line[0] == ':') {
+            return;
+        }
+
+        int colon = indexOfColon(length);
+        int nameLength = colon == -1 ? length : colon;
+        int valueStart = colon == -1 ? length : colon + 1;
+
+        if (valueStart < length && this.line[valueStart] == ' ') {
+            valueStart++;
+        }
+
+        if (isField(DATA, nameLength)) {
+            this.builder.data(value(valueStart, length));
+            this.hasField = true;
+        } else if (isField(EVENT, nameLength)) {
+            this.builder.eventType(value(valueStart, length));
+            this.hasField = true;
+        } else if (isField(ID, nameLength)) {
+            this.builder.id(value(valueStart, length));
+            this.hasField = true;
+        } else if (isField(RETRY, nameLength)) {
+            Integer retry = retry(valueStart, length);
+
+            if (retry != null) {
+                this.builder.retry(retry);
+                this.hasField = true;
+            }
+        }
+    }
+
+    private Integer retry(int start, int end) {
+        if (start == end || end - start > 9) {
+            return null;
+        }
+
+        int retry = 0;
+        for (int i = start; i < end; i++) {
+            byte b = this.line[i];
+
+            if (b < '0' || b > '9') {
+                return null;
+            }
+
+            retry = retry * 10 + (b - '0');
+        }
+
+        return retry;
+    }
+
+    private String value(int start, int end) {
+        return new String(this.line, start, end - start, StandardCharsets.UTF_8);
+    }
+
+}
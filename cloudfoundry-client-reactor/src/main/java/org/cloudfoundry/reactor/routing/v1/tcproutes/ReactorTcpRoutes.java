@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.reactor.routing.v1.tcproutes;
 
+import org.cloudfoundry.AbstractCloudFoundryException;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.routing.v1.AbstractRoutingV1Operations;
@@ -31,14 +32,30 @@ import org.cloudfoundry.routing.v1.tcproutes.TcpRoutes;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.ipc.netty.http.client.HttpClientRequest;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_GATEWAY;
+import static io.netty.handler.codec.http.HttpResponseStatus.GATEWAY_TIMEOUT;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
 /**
  * The Reactor-based implementation of {@link TcpRoutes}
  */
 public class ReactorTcpRoutes extends AbstractRoutingV1Operations implements TcpRoutes {
 
+    private static final Duration DEFAULT_RECONNECT_DELAY = Duration.ofSeconds(3);
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private static final Duration MAXIMUM_RECONNECT_DELAY = Duration.ofSeconds(30);
+
+    private static final List<Integer> TRANSIENT_STATUS_CODES = Arrays.asList(BAD_GATEWAY.code(), SERVICE_UNAVAILABLE.code(), GATEWAY_TIMEOUT.code());
+
     private final ConnectionContext connectionContext;
 
     /**
@@ -67,8 +84,18 @@ public class ReactorTcpRoutes extends AbstractRoutingV1Operations implements Tcp
 
     @Override
     public Flux<TcpRouteEvent> events(EventsRequest request) {
-        return get(builder -> builder.pathSegment("v1", "tcp_routes", "events"))
-            .flatMapMany(EventStreamCodec::decode)
+        return Flux
+            .defer(() -> {
+                StreamPosition position = new StreamPosition();
+
+                return Flux
+                    .defer(() -> get(builder -> builder.pathSegment("v1", "tcp_routes", "events"), position::addLastEventId))
+                    .flatMap(EventStreamCodec::decode)
+                    .doOnNext(position::update)
+                    .repeatWhen(completions -> completions.concatMap(ignored -> position.delay()))
+                    .retryWhen(errors -> errors.concatMap(error -> isTransient(error) ? position.delay() : Mono.error(error)));
+            })
+            .filter(event -> event.getData() != null)
             .map(event -> {
                 try {
                     return this.connectionContext.getObjectMapper().readValue(event.getData(), TcpRouteEvent.Builder.class)
@@ -87,4 +114,45 @@ public class ReactorTcpRoutes extends AbstractRoutingV1Operations implements Tcp
             .checkpoint();
     }
 
+    private static boolean isTransient(Throwable t) {
+        return t instanceof IOException || (t instanceof AbstractCloudFoundryException && TRANSIENT_STATUS_CODES.contains(((AbstractCloudFoundryException) t).getStatusCode()));
+    }
+
+    private static final class StreamPosition {
+
+        private volatile int failedReconnects;
+
+        private volatile String lastEventId;
+
+        private volatile Duration reconnectDelay = DEFAULT_RECONNECT_DELAY;
+
+        private Mono<HttpClientRequest> addLastEventId(Mono<HttpClientRequest> outbound) {
+            String id = this.lastEventId;
+            return id == null ? outbound : outbound.map(request -> request.header(LAST_EVENT_ID, id));
+        }
+
+        private Mono<Long> delay() {
+            Duration delay = this.reconnectDelay.multipliedBy(1L << Math.min(this.failedReconnects++, 10));
+
+            if (delay.compareTo(MAXIMUM_RECONNECT_DELAY) > 0) {
+                delay = this.reconnectDelay.compareTo(MAXIMUM_RECONNECT_DELAY) > 0 ? this.reconnectDelay : MAXIMUM_RECONNECT_DELAY;
+            }
+
+            return Mono.delay(delay);
+        }
+
+        private void update(ServerSentEvent event) {
+            this.failedReconnects = 0;
+
+            if (event.getId() != null) {
+                this.lastEventId = event.getId().isEmpty() ? null : event.getId();
+            }
+
+            if (event.getRetry() != null) {
+                this.reconnectDelay = Duration.ofMillis(event.getRetry());
+            }
+        }
+
+    }
+
 }
@@ -0,0 +1,434 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.routing.v1.tcproutes;
+
+import org.cloudfoundry.routing.RoutingClient;
+import org.cloudfoundry.routing.v1.routergroups.ListRouterGroupsRequest;
+import org.cloudfoundry.routing.v1.routergroups.RouterGroup;
+import org.cloudfoundry.routing.v1.tcproutes.EventType;
+import org.cloudfoundry.routing.v1.tcproutes.EventsRequest;
+import org.cloudfoundry.routing.v1.tcproutes.ListTcpRoutesRequest;
+import org.cloudfoundry.routing.v1.tcproutes.TcpRoute;
+import org.cloudfoundry.routing.v1.tcproutes.TcpRouteEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static reactor.function.TupleUtils.consumer;
+
+/**
+ * A local copy of the TCP routing table and router groups.  The mirror loads the routes with {@link org.cloudfoundry.routing.v1.tcproutes.TcpRoutes#list(ListTcpRoutesRequest)}, applies
+ * {@link org.cloudfoundry.routing.v1.tcproutes.TcpRoutes#events(EventsRequest)} as they arrive, and periodically reloads everything to correct any drift.  Lookups are served from memory and
+ * never block.
+ */
+public final class TcpRouteMirror implements Disposable {
+
+    private static final Duration DEFAULT_RESYNC_INTERVAL = Duration.ofMinutes(5);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.routing");
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final DirectProcessor<TcpRouteChange> changes = DirectProcessor.create();
+
+    private final FluxSink<TcpRouteChange> changesSink = this.changes.sink();
+
+    private final MonoProcessor<Void> ready = MonoProcessor.create();
+
+    private final Duration resyncInterval;
+
+    private final RoutingClient routingClient;
+
+    private final Map<String, Map<Integer, Map<RouteKey, Entry>>> routes = new ConcurrentHashMap<>();
+
+    private final Map<RouteKey, Long> tombstones = new HashMap<>();
+
+    private boolean disposed;
+
+    private long generation;
+
+    private volatile Map<String, RouterGroup> routerGroups = Collections.emptyMap();
+
+    private Disposable subscription;
+
+    /**
+     * Creates an instance that reloads all routes every five minutes
+     *
+     * @param routingClient the {@link RoutingClient} to mirror
+     */
+    public TcpRouteMirror(RoutingClient routingClient) {
+        this(routingClient, DEFAULT_RESYNC_INTERVAL);
+    }
+
+    /**
+     * Creates an instance
+     *
+     * @param routingClient  the {@link RoutingClient} to mirror
+     * @param resyncInterval the interval between full reloads of the routes and router groups
+     */
+    public TcpRouteMirror(RoutingClient routingClient, Duration resyncInterval) {
+        this.resyncInterval = resyncInterval;
+        this.routingClient = routingClient;
+    }
+
+    /**
+     * Returns the changes applied to the mirror after subscription.  Changes that do not alter a route (e.g. a refresh of its modification tag) are not emitted.
+     *
+     * @return the changes applied to the mirror
+     */
+    public Flux<TcpRouteChange> changes() {
+        return this.changes
+            .onBackpressureBuffer();
+    }
+
+    @Override
+    public synchronized void dispose() {
+        if (this.disposed) {
+            return;
+        }
+
+        this.disposed = true;
+
+        if (this.subscription != null) {
+            this.subscription.dispose();
+        }
+
+        if (!this.ready.isTerminated()) {
+            this.ready.onError(new IllegalStateException("TCP route mirror disposed before the routes were loaded"));
+        }
+
+        this.changesSink.complete();
+    }
+
+    /**
+     * Returns a route
+     *
+     * @param routerGroupId the id of the router group
+     * @param port          the external port of the route
+     * @param backendIp     the IP address of the backend
+     * @param backendPort   the port of the backend
+     * @return the route, if it exists
+     */
+    public Optional<TcpRoute> getRoute(String routerGroupId, Integer port, String backendIp, Integer backendPort) {
+        return Optional.ofNullable(this.routes.get(routerGroupId))
+            .map(ports -> ports.get(port))
+            .map(backends -> backends.get(new RouteKey(backendIp, backendPort, port, routerGroupId)))
+            .map(entry -> entry.route);
+    }
+
+    /**
+     * Returns a router group
+     *
+     * @param routerGroupId the id of the router group
+     * @return the router group, if it exists
+     */
+    public Optional<RouterGroup> getRouterGroup(String routerGroupId) {
+        return Optional.ofNullable(this.routerGroups.get(routerGroupId));
+    }
+
+    /**
+     * Returns all router groups
+     *
+     * @return the router groups
+     */
+    public List<RouterGroup> getRouterGroups() {
+        return new ArrayList<>(this.routerGroups.values());
+    }
+
+    /**
+     * Returns the routes in a router group
+     *
+     * @param routerGroupId the id of the router group
+     * @return the routes in the router group
+     */
+    public List<TcpRoute> getRoutes(String routerGroupId) {
+        return Optional.ofNullable(this.routes.get(routerGroupId))
+            .map(ports -> ports.values().stream()
+                .flatMap(backends -> backends.values().stream())
+                .map(entry -> entry.route)
+                .collect(Collectors.toList()))
+            .orElse(Collections.emptyList());
+    }
+
+    /**
+     * Returns the routes for an external port in a router group
+     *
+     * @param routerGroupId the id of the router group
+     * @param port          the external port of the routes
+     * @return the routes for the port
+     */
+    public List<TcpRoute> getRoutes(String routerGroupId, Integer port) {
+        return Optional.ofNullable(this.routes.get(routerGroupId))
+            .map(ports -> ports.get(port))
+            .map(backends -> backends.values().stream()
+                .map(entry -> entry.route)
+                .collect(Collectors.toList()))
+            .orElse(Collections.emptyList());
+    }
+
+    @Override
+    public synchronized boolean isDisposed() {
+        return this.disposed;
+    }
+
+    /**
+     * Returns a {@link Mono} that completes once the routes and router groups have been loaded for the first time
+     *
+     * @return a {@link Mono} that completes when the mirror is ready
+     */
+    public Mono<Void> ready() {
+        return this.ready;
+    }
+
+    /**
+     * Starts mirroring.  Events are subscribed to before the routes are first loaded, and any change missed between the two is corrected by the next reload.  Failures are logged and mirroring is restarted after a delay.
+     *
+     * @throws IllegalStateException if the mirror has already been started or has been disposed
+     */
+    public synchronized void start() {
+        if (this.disposed || this.subscription != null) {
+            throw new IllegalStateException("TCP route mirror has already been started or has been disposed");
+        }
+
+        this.subscription = Mono
+            .when(
+                this.routingClient.tcpRoutes()
+                    .events(EventsRequest.builder()
+                        .build())
+                    .doOnNext(this::apply)
+                    .then(),
+                Flux.interval(Duration.ZERO, this.resyncInterval)
+                    .onBackpressureDrop()
+                    .concatMap(ignored -> resync())
+                    .then())
+            .retryWhen(errors -> errors
+                .doOnNext(t -> LOGGER.warn("TCP route mirror failed, restarting in {}", RETRY_DELAY, t))
+                .concatMap(ignored -> Mono.delay(RETRY_DELAY)))
+            .subscribe();
+    }
+
+    private static boolean isSameRoute(TcpRoute a, TcpRoute b) {
+        return Objects.equals(a.getIsolationSegment(), b.getIsolationSegment()) && Objects.equals(a.getTtl(), b.getTtl());
+    }
+
+    private static TcpRoute toTcpRoute(TcpRouteEvent event) {
+        return TcpRoute.builder()
+            .backendIp(event.getBackendIp())
+            .backendPort(event.getBackendPort())
+            .isolationSegment(event.getIsolationSegment())
+            .modificationTag(event.getModificationTag())
+            .port(event.getPort())
+            .routerGroupId(event.getRouterGroupId())
+            .ttl(event.getTtl())
+            .build();
+    }
+
+    private void apply(TcpRouteEvent event) {
+        TcpRoute route = toTcpRoute(event);
+
+        synchronized (this) {
+            if (EventType.DELETE == event.getEventType()) {
+                RouteKey key = RouteKey.of(route);
+
+                this.tombstones.put(key, this.generation);
+                remove(key);
+            } else {
+                this.tombstones.remove(RouteKey.of(route));
+                put(route, this.generation);
+            }
+        }
+    }
+
+    private synchronized long beginResync() {
+        return ++this.generation;
+    }
+
+    private synchronized void completeResync(long started, List<RouterGroup> routerGroups, List<TcpRoute> routes) {
+        this.routerGroups = Collections.unmodifiableMap(routerGroups.stream()
+            .collect(Collectors.toMap(RouterGroup::getRouterGroupId, routerGroup -> routerGroup, (a, b) -> b, HashMap::new)));
+
+        Set<RouteKey> listed = new HashSet<>(routes.size());
+
+        for (TcpRoute route : routes) {
+            RouteKey key = RouteKey.of(route);
+            listed.add(key);
+
+            Long deleted = this.tombstones.get(key);
+            Entry existing = getEntry(key);
+
+            if ((deleted == null || deleted < started) && (existing == null || existing.generation < started)) {
+                put(route, started - 1);
+            }
+        }
+
+        this.routes.values().stream()
+            .flatMap(ports -> ports.values().stream())
+            .flatMap(backends -> backends.values().stream())
+            .filter(entry -> entry.generation < started && !listed.contains(RouteKey.of(entry.route)))
+            .map(entry -> RouteKey.of(entry.route))
+            .collect(Collectors.toList())
+            .forEach(this::remove);
+
+        this.tombstones.values().removeIf(deleted -> deleted < started);
+    }
+
+    private void emit(EventType eventType, TcpRoute route) {
+        this.changesSink.next(TcpRouteChange.builder()
+            .eventType(eventType)
+            .route(route)
+            .build());
+    }
+
+    private Entry getEntry(RouteKey key) {
+        return Optional.ofNullable(this.routes.get(key.routerGroupId))
+            .map(ports -> ports.get(key.port))
+            .map(backends -> backends.get(key))
+            .orElse(null);
+    }
+
+    private void put(TcpRoute route, long generation) {
+        RouteKey key = RouteKey.of(route);
+
+        Entry previous = this.routes
+            .computeIfAbsent(key.routerGroupId, routerGroupId -> new ConcurrentHashMap<>())
+            .computeIfAbsent(key.port, port -> new ConcurrentHashMap<>())
+            .put(key, new Entry(generation, route));
+
+        if (previous == null || !isSameRoute(previous.route, route)) {
+            emit(EventType.UPSERT, route);
+        }
+    }
+
+    private void remove(RouteKey key) {
+        Map<Integer, Map<RouteKey, Entry>> ports = this.routes.get(key.routerGroupId);
+        if (ports == null) {
+            return;
+        }
+
+        Map<RouteKey, Entry> backends = ports.get(key.port);
+        if (backends == null) {
+            return;
+        }
+
+        Entry removed = backends.remove(key);
+        if (removed == null) {
+            return;
+        }
+
+        if (backends.isEmpty()) {
+            ports.remove(key.port, backends);
+
+            if (ports.isEmpty()) {
+                this.routes.remove(key.routerGroupId, ports);
+            }
+        }
+
+        emit(EventType.DELETE, removed.route);
+    }
+
+    private Mono<Void> resync() {
+        return Mono
+            .defer(() -> {
+                long started = beginResync();
+
+                return Mono
+                    .zip(
+                        this.routingClient.routerGroups()
+                            .list(ListRouterGroupsRequest.builder()
+                                .build()),
+                        this.routingClient.tcpRoutes()
+                            .list(ListTcpRoutesRequest.builder()
+                                .build()))
+                    .doOnNext(consumer((routerGroups, routes) -> completeResync(started, routerGroups.getRouterGroups(), routes.getTcpRoutes())));
+            })
+            .then()
+            .doOnSuccess(ignored -> this.ready.onComplete());
+    }
+
+    private static final class Entry {
+
+        private final long generation;
+
+        private final TcpRoute route;
+
+        private Entry(long generation, TcpRoute route) {
+            this.generation = generation;
+            this.route = route;
+        }
+
+    }
+
+    private static final class RouteKey {
+
+        private final String backendIp;
+
+        private final Integer backendPort;
+
+        private final Integer port;
+
+        private final String routerGroupId;
+
+        private RouteKey(String backendIp, Integer backendPort, Integer port, String routerGroupId) {
+            this.backendIp = backendIp;
+            this.backendPort = backendPort;
+            this.port = port;
+            this.routerGroupId = routerGroupId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            RouteKey that = (RouteKey) o;
+            return this.backendIp.equals(that.backendIp) && this.backendPort.equals(that.backendPort) && this.port.equals(that.port) && this.routerGroupId.equals(that.routerGroupId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.backendIp, this.backendPort, this.port, this.routerGroupId);
+        }
+
+        private static RouteKey of(TcpRoute route) {
+            return new RouteKey(route.getBackendIp(), route.getBackendPort(), route.getPort(), route.getRouterGroupId());
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.routing.v1.tcproutes;
+
+import org.cloudfoundry.routing.v1.tcproutes.EventType;
+import org.cloudfoundry.routing.v1.tcproutes.TcpRoute;
+import org.immutables.value.Value;
+
+/**
+ * A change applied to the routes held by a {@link TcpRouteMirror}
+ */
+@Value.Immutable
+abstract class _TcpRouteChange {
+
+    /**
+     * The type of change
+     */
+    abstract EventType getEventType();
+
+    /**
+     * The route that was added, updated, or removed
+     */
+    abstract TcpRoute getRoute();
+
+}
@@ -27,20 +27,27 @@ import org.cloudfoundry.reactor.util.JsonCodec;
 import org.cloudfoundry.reactor.util.NetworkLogging;
 import org.cloudfoundry.reactor.util.UserAgent;
 import org.cloudfoundry.uaa.UaaException;
+import org.cloudfoundry.util.SnapshotStore;
 import org.immutables.value.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ReplayProcessor;
 import reactor.ipc.netty.http.client.HttpClientRequest;
+import reactor.core.scheduler.Schedulers;
 import reactor.ipc.netty.http.client.HttpClientResponse;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
@@ -119,6 +126,23 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
     @Nullable
     abstract String getIdentityZoneSubdomain();
 
+    /**
+     * The credentials of the user that tokens are negotiated for.  A salted digest of them, and of the client secret, is part of the key of persisted refresh tokens, so that a refresh token is
+     * not restored once the credentials change.
+     */
+    String getSnapshotCredentials() {
+        return "";
+    }
+
+    /**
+     * The name of the user that tokens are negotiated for, used with the client id, identity zone and API root to identify persisted refresh tokens.  Providers that cannot name the user before
+     * negotiating return {@code null} and do not persist refresh tokens.
+     */
+    @Nullable
+    String getSnapshotUsername() {
+        return null;
+    }
+
     /**
      * Transforms a {@code Mono} in order to make a request to negotiate an access token
      *
@@ -157,6 +181,22 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
         return String.format("%s %s", payload.get(TOKEN_TYPE), accessToken);
     }
 
+    private static String getFingerprint(String salt, String... credentials) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt.getBytes(StandardCharsets.UTF_8));
+
+            for (String credential : credentials) {
+                digest.update((byte) 0);
+                digest.update(credential.getBytes(StandardCharsets.UTF_8));
+            }
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
     private static String getTokenUri(String root, String identityZoneId) {
         UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(root);
 
@@ -211,6 +251,7 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
             .transform(JsonCodec.decode(connectionContext.getObjectMapper(), Map.class))
             .map(payload -> (Map<String, String>) payload)
             .doOnNext(extractRefreshToken(connectionContext))
+            .delayUntil(payload -> saveRefreshToken(connectionContext, payload))
             .map(AbstractUaaTokenProvider::extractAccessToken);
     }
 
@@ -218,6 +259,13 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
         return this.refreshTokenStreams.computeIfAbsent(connectionContext, c -> new RefreshToken());
     }
 
+    private Mono<String> getSnapshotKey(ConnectionContext connectionContext) {
+        return Mono.justOrEmpty(getSnapshotUsername())
+            .flatMap(username -> connectionContext.getRootProvider().getRoot(connectionContext)
+                .map(root -> String.format("refresh-token/%s/%s/%s/%s", root, getClientId(), Optional.ofNullable(getIdentityZoneSubdomain()).orElse(""), username))
+                .map(identity -> String.format("%s/%s", identity, getFingerprint(identity, getClientSecret(), getSnapshotCredentials()))));
+    }
+
     private Mono<HttpClientResponse> primaryToken(ConnectionContext connectionContext) {
         return requestToken(connectionContext, this::tokenRequestTransformer);
     }
@@ -257,8 +305,43 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
             .transform(ErrorPayloadMapper.uaa(connectionContext.getObjectMapper()));
     }
 
+    private Mono<String> restoreRefreshToken(ConnectionContext connectionContext) {
+        return Mono
+            .justOrEmpty(connectionContext.getSnapshotStore())
+            .flatMap(snapshots -> getSnapshotKey(connectionContext)
+                .flatMap(key -> Mono
+                    .fromCallable(() -> snapshots.get(key))
+                    .subscribeOn(Schedulers.elastic())))
+            .flatMap(Mono::justOrEmpty)
+            .flatMap(snapshot -> Mono.justOrEmpty(snapshot.get(REFRESH_TOKEN)))
+            .doOnNext(refreshToken -> LOGGER.debug("Restored refresh token from snapshot"));
+    }
+
+    private Mono<Void> saveRefreshToken(ConnectionContext connectionContext, Map<String, String> payload) {
+        return Mono
+            .justOrEmpty(connectionContext.getSnapshotStore())
+            .flatMap(snapshots -> Mono.justOrEmpty(payload.get(REFRESH_TOKEN))
+                .flatMap(refreshToken -> getSnapshotKey(connectionContext)
+                    .flatMap(key -> Mono
+                        .fromRunnable(() -> saveRefreshToken(snapshots, key, refreshToken))
+                        .subscribeOn(Schedulers.elastic()))))
+            .then();
+    }
+
+    private void saveRefreshToken(SnapshotStore snapshots, String key, String refreshToken) {
+        Map<String, String> snapshot = Collections.singletonMap(REFRESH_TOKEN, refreshToken);
+        Optional<Date> expiration = parseToken(refreshToken)
+            .map(Claims::getExpiration);
+
+        if (expiration.isPresent()) {
+            snapshots.put(key, snapshot, expiration.get().toInstant());
+        } else {
+            snapshots.put(key, snapshot);
+        }
+    }
+
     private Mono<String> token(ConnectionContext connectionContext) {
-        Mono<String> cached = this.refreshTokens.getOrDefault(connectionContext, Mono.empty())
+        Mono<String> cached = this.refreshTokens.getOrDefault(connectionContext, restoreRefreshToken(connectionContext))
             .flatMap(refreshToken -> refreshToken(connectionContext, refreshToken)
                 .doOnSubscribe(s -> LOGGER.debug("Negotiating using refresh token")))
             .switchIfEmpty(primaryToken(connectionContext)
@@ -37,6 +37,16 @@ abstract class _PasswordGrantTokenProvider extends AbstractUaaTokenProvider {
      */
     abstract String getUsername();
 
+    @Override
+    String getSnapshotCredentials() {
+        return getPassword();
+    }
+
+    @Override
+    String getSnapshotUsername() {
+        return getUsername();
+    }
+
     @Override
     Mono<Void> tokenRequestTransformer(Mono<HttpClientRequest> outbound) {
         return outbound
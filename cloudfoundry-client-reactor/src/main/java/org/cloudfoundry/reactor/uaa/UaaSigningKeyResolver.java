@@ -16,39 +16,60 @@
 
 package org.cloudfoundry.reactor.uaa;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.SigningKeyResolver;
 import io.jsonwebtoken.impl.Base64Codec;
+import io.jsonwebtoken.impl.Base64UrlCodec;
 import org.cloudfoundry.uaa.tokens.ListTokenKeysRequest;
 import org.cloudfoundry.uaa.tokens.ListTokenKeysResponse;
 import org.cloudfoundry.uaa.tokens.TokenKey;
 import org.cloudfoundry.uaa.tokens.Tokens;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.security.Key;
 import java.security.KeyFactory;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.X509EncodedKeySpec;
 import java.time.Duration;
-import java.util.HashMap;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * A {@link SigningKeyResolver} backed by the UAA token keys.  Keys are held in an immutable map that is replaced, rather than mutated, when refreshed.  Refreshes triggered by unknown key
+ * ids are single-flight and rate-limited, and can be performed without blocking via {@link #resolveSigningKey(String)}.  The {@link SigningKeyResolver} methods block, for up to five minutes,
+ * when a key is not yet known, so callers on non-blocking threads should resolve keys with {@link #resolveSigningKey(String)} before verification.
+ */
 final class UaaSigningKeyResolver implements SigningKeyResolver {
 
     private static final Base64Codec BASE64 = new Base64Codec();
 
+    private static final Base64UrlCodec BASE64_URL = new Base64UrlCodec();
+
     private static final String BEGIN = "-----BEGIN PUBLIC KEY-----";
 
     private static final String END = "-----END PUBLIC KEY-----";
 
-    private final Object monitor = new Object();
+    private static final Duration MINIMUM_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    private final Map<String, Key> signingKeys = new HashMap<>();
+    private static final Duration REFRESH_TIMEOUT = Duration.ofMinutes(5);
+
+    private final AtomicReference<Mono<Map<String, Key>>> refresh = new AtomicReference<>();
 
     private final Tokens tokens;
 
+    private volatile Instant nextRefresh = Instant.MIN;
+
+    private volatile Map<String, Key> signingKeys = Collections.emptyMap();
+
     UaaSigningKeyResolver(Tokens tokens) {
         this.tokens = tokens;
     }
@@ -65,6 +86,18 @@ final class UaaSigningKeyResolver implements SigningKeyResolver {
         return getKey(header.getKeyId());
     }
 
+    /**
+     * Resolves the signing key for a token without blocking
+     *
+     * @param token the encoded token
+     * @return the signing key for the token
+     */
+    Mono<Key> resolveSigningKey(String token) {
+        return Mono
+            .fromCallable(() -> getKeyId(token))
+            .flatMap(this::resolveKey);
+    }
+
     private static byte[] decode(TokenKey tokenKey) {
         return BASE64.decode(tokenKey.getValue().replace(BEGIN, "").replace(END, "").trim());
     }
@@ -79,32 +112,69 @@ final class UaaSigningKeyResolver implements SigningKeyResolver {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static String getKeyId(String token) throws IOException {
+        int index = token.indexOf('.');
+        if (index < 0) {
+            throw new IllegalArgumentException("Token is not a JWT");
+        }
+
+        Map<String, Object> header = OBJECT_MAPPER.readValue(BASE64_URL.decode(token.substring(0, index)), Map.class);
+        return (String) header.get(JwsHeader.KEY_ID);
+    }
+
     private Key getKey(String keyId) {
-        synchronized (this.monitor) {
-            Key key = this.signingKeys.get(keyId);
-            if (key != null) {
-                return key;
-            }
+        Key key = this.signingKeys.get(keyId);
+        if (key != null) {
+            return key;
+        }
 
-            refreshKeys();
+        return resolveKey(keyId)
+            .block(REFRESH_TIMEOUT);
+    }
 
-            key = this.signingKeys.get(keyId);
-            if (key != null) {
-                return key;
-            }
+    private Mono<Map<String, Key>> refreshKeys() {
+        Mono<Map<String, Key>> inFlight = this.refresh.get();
+        if (inFlight != null) {
+            return inFlight;
+        }
 
-            throw new IllegalStateException(String.format("Unable to retrieve signing key %s", keyId));
+        if (Instant.now().isBefore(this.nextRefresh)) {
+            return Mono.just(this.signingKeys);
         }
-    }
 
-    private void refreshKeys() {
-        this.signingKeys.clear();
-        this.signingKeys.putAll(this.tokens
+        Mono<Map<String, Key>> candidate = this.tokens
             .listKeys(ListTokenKeysRequest.builder()
                 .build())
             .flatMapIterable(ListTokenKeysResponse::getKeys)
             .collectMap(TokenKey::getId, UaaSigningKeyResolver::generateKey)
-            .block(Duration.ofMinutes(5)));
+            .map(Collections::unmodifiableMap)
+            .doOnNext(signingKeys -> this.signingKeys = signingKeys)
+            .doFinally(signalType -> {
+                this.nextRefresh = Instant.now().plus(MINIMUM_REFRESH_INTERVAL);
+                this.refresh.set(null);
+            })
+            .cache();
+
+        if (this.refresh.compareAndSet(null, candidate)) {
+            return candidate;
+        }
+
+        return Mono.defer(() -> {
+            Mono<Map<String, Key>> current = this.refresh.get();
+            return current != null ? current : Mono.just(this.signingKeys);
+        });
+    }
+
+    private Mono<Key> resolveKey(String keyId) {
+        Key key = this.signingKeys.get(keyId);
+        if (key != null) {
+            return Mono.just(key);
+        }
+
+        return refreshKeys()
+            .flatMap(signingKeys -> Mono.justOrEmpty(signingKeys.get(keyId)))
+            .switchIfEmpty(Mono.defer(() -> Mono.error(new IllegalStateException(String.format("Unable to retrieve signing key %s", keyId)))));
     }
 
 }
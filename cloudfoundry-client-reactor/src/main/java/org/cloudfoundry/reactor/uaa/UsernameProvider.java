@@ -19,36 +19,62 @@ package org.cloudfoundry.reactor.uaa;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SigningKeyResolver;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.uaa.tokens.Tokens;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 final class UsernameProvider {
 
+    private static final int MAXIMUM_VERIFIED_TOKENS = 10_000;
+
+    private final Clock clock;
+
     private final ConnectionContext connectionContext;
 
-    private final SigningKeyResolver signingKeyResolver;
+    private final int maximumVerifiedTokens;
+
+    private final Function<String, Mono<Key>> signingKeys;
 
     private final TokenProvider tokenProvider;
 
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
     UsernameProvider(ConnectionContext connectionContext, TokenProvider tokenProvider, Tokens tokens) {
-        this(connectionContext, new UaaSigningKeyResolver(tokens), tokenProvider);
+        this(connectionContext, new UaaSigningKeyResolver(tokens)::resolveSigningKey, tokenProvider);
     }
 
-    UsernameProvider(ConnectionContext connectionContext, SigningKeyResolver signingKeyResolver, TokenProvider tokenProvider) {
+    UsernameProvider(ConnectionContext connectionContext, Function<String, Mono<Key>> signingKeys, TokenProvider tokenProvider) {
+        this(connectionContext, signingKeys, tokenProvider, Clock.systemUTC(), MAXIMUM_VERIFIED_TOKENS);
+    }
+
+    UsernameProvider(ConnectionContext connectionContext, Function<String, Mono<Key>> signingKeys, TokenProvider tokenProvider, Clock clock, int maximumVerifiedTokens) {
+        this.clock = clock;
         this.connectionContext = connectionContext;
+        this.maximumVerifiedTokens = maximumVerifiedTokens;
+        this.signingKeys = signingKeys;
         this.tokenProvider = tokenProvider;
-        this.signingKeyResolver = signingKeyResolver;
     }
 
     Mono<String> get() {
         return getToken(this.connectionContext, this.tokenProvider)
-            .map(this::getUsername)
+            .flatMap(this::getUsername)
             .retry(1, t -> {
                 if (t instanceof ExpiredJwtException) {
                     this.tokenProvider.invalidate(this.connectionContext);
@@ -59,20 +85,92 @@ final class UsernameProvider {
             });
     }
 
+    private static String getDigest(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
     private static Mono<String> getToken(ConnectionContext connectionContext, TokenProvider tokenProvider) {
         return Mono.defer(() -> tokenProvider
             .getToken(connectionContext))
             .map(s -> s.split(" ")[1]);
     }
 
-    private String getUsername(String token) {
-        Jws<Claims> jws = Jwts.parser()
-            .setSigningKeyResolver(this.signingKeyResolver)
-            .parseClaimsJws(token);
+    private void cache(String digest, String username, Date expiration) {
+        if (expiration == null) {
+            return;
+        }
+
+        if (this.verifiedTokens.size() >= this.maximumVerifiedTokens) {
+            Instant now = this.clock.instant();
+            this.verifiedTokens.values().removeIf(verifiedToken -> verifiedToken.isExpired(now));
+
+            if (this.verifiedTokens.size() >= this.maximumVerifiedTokens) {
+                this.verifiedTokens.clear();
+            }
+        }
+
+        this.verifiedTokens.put(digest, new VerifiedToken(username, expiration.toInstant()));
+    }
+
+    private Mono<String> getUsername(String token) {
+        String digest = getDigest(token);
+
+        VerifiedToken verifiedToken = this.verifiedTokens.get(digest);
+        if (verifiedToken != null) {
+            if (!verifiedToken.isExpired(this.clock.instant())) {
+                return Mono.just(verifiedToken.getUsername());
+            }
+
+            this.verifiedTokens.remove(digest);
+        }
 
-        return Optional
+        return getParser(token)
+            .map(parser -> verify(digest, parser, token));
+    }
+
+    private Mono<JwtParser> getParser(String token) {
+        // resolve the signing key ahead of verification so that a key that is not yet known never blocks the parser
+        return this.signingKeys.apply(token)
+            .map(key -> Jwts.parser()
+                .setClock(() -> Date.from(this.clock.instant()))
+                .setSigningKey(key));
+    }
+
+    private String verify(String digest, JwtParser parser, String token) {
+        Jws<Claims> jws = parser.parseClaimsJws(token);
+
+        String username = Optional
             .ofNullable(jws.getBody().get("user_name", String.class))
             .orElseThrow(() -> new IllegalStateException("Unable to retrieve username from token"));
+
+        cache(digest, username, jws.getBody().getExpiration());
+        return username;
+    }
+
+    private static final class VerifiedToken {
+
+        private final Instant expiration;
+
+        private final String username;
+
+        private VerifiedToken(String username, Instant expiration) {
+            this.expiration = expiration;
+            this.username = username;
+        }
+
+        private String getUsername() {
+            return this.username;
+        }
+
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(this.expiration);
+        }
+
     }
 
 }
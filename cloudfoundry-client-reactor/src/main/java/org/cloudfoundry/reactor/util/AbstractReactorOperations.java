@@ -21,12 +21,18 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.util.AsciiString;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.TrafficClass;
+import org.cloudfoundry.util.DeadlineUtils;
+import org.cloudfoundry.util.TraceContext;
+import org.cloudfoundry.util.TraceUtils;
 import org.reactivestreams.Publisher;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.ipc.netty.http.client.HttpClientRequest;
 import reactor.ipc.netty.http.client.HttpClientResponse;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.AUTHORIZATION;
@@ -36,12 +42,16 @@ public abstract class AbstractReactorOperations {
 
     protected static final AsciiString APPLICATION_ZIP = new AsciiString("application/zip");
 
+    private static final AsciiString TRACEPARENT = new AsciiString("traceparent");
+
     private final ConnectionContext connectionContext;
 
     private final Mono<String> root;
 
     private final TokenProvider tokenProvider;
 
+    private volatile RootUri rootUri;
+
     protected AbstractReactorOperations(ConnectionContext connectionContext, Mono<String> root, TokenProvider tokenProvider) {
         this.connectionContext = connectionContext;
         this.root = root;
@@ -53,29 +63,14 @@ public abstract class AbstractReactorOperations {
                                          Function<Mono<HttpClientRequest>, Mono<HttpClientRequest>> requestTransformer,
                                          Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer) {
 
-        return doDelete(requestPayload, uriTransformer, requestTransformer, responseTransformer)
-            .transform(deserializedResponse(responseType));
+        return delete(requestPayload, uriTransformer, requestTransformer, responseTransformer, deserializedResponse(responseType));
     }
 
     protected final Mono<HttpClientResponse> doDelete(Object requestPayload,
                                                       Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
                                                       Function<Mono<HttpClientRequest>, Mono<HttpClientRequest>> requestTransformer,
                                                       Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer) {
-        return this.root
-            .transform(transformUri(uriTransformer))
-            .flatMap(uri -> this.connectionContext.getHttpClient()
-                .delete(uri, request -> Mono.just(request)
-                    .map(AbstractReactorOperations::disableFailOnError)
-                    .transform(this::addAuthorization)
-                    .map(UserAgent::addUserAgent)
-                    .map(JsonCodec::addDecodeHeaders)
-                    .transform(requestTransformer)
-                    .transform(serializedRequest(requestPayload)))
-                .doOnSubscribe(NetworkLogging.delete(uri))
-                .transform(NetworkLogging.response(uri)))
-            .transform(this::invalidateToken)
-            .transform(responseTransformer)
-            .transform(ErrorPayloadMapper.fallback());
+        return delete(requestPayload, uriTransformer, requestTransformer, responseTransformer, inbound -> inbound);
     }
 
     protected final <T> Mono<T> doGet(Class<T> responseType,
@@ -83,32 +78,25 @@ public abstract class AbstractReactorOperations {
                                       Function<Mono<HttpClientRequest>, Mono<HttpClientRequest>> requestTransformer,
                                       Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer) {
 
-        return doGet(uriTransformer,
+        return get(TrafficClass.API, uriTransformer,
             outbound -> outbound
                 .map(JsonCodec::addDecodeHeaders)
                 .transform(requestTransformer),
-            inbound -> inbound
-                .transform(responseTransformer))
-            .transform(deserializedResponse(responseType));
+            responseTransformer,
+            deserializedResponse(responseType));
     }
 
     protected final Mono<HttpClientResponse> doGet(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
                                                    Function<Mono<HttpClientRequest>, Mono<HttpClientRequest>> requestTransformer,
                                                    Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer) {
-        return this.root
-            .transform(transformUri(uriTransformer))
-            .flatMap(uri -> this.connectionContext.getHttpClient()
-                .get(uri, request -> Mono.just(request)
-                    .map(AbstractReactorOperations::disableFailOnError)
-                    .transform(this::addAuthorization)
-                    .map(UserAgent::addUserAgent)
-                    .transform(requestTransformer)
-                    .flatMap(HttpClientRequest::send))
-                .doOnSubscribe(NetworkLogging.get(uri))
-                .transform(NetworkLogging.response(uri)))
-            .transform(this::invalidateToken)
-            .transform(responseTransformer)
-            .transform(ErrorPayloadMapper.fallback());
+        return doGet(TrafficClass.API, uriTransformer, requestTransformer, responseTransformer);
+    }
+
+    protected final Mono<HttpClientResponse> doGet(TrafficClass trafficClass,
+                                                   Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+                                                   Function<Mono<HttpClientRequest>, Mono<HttpClientRequest>> requestTransformer,
+                                                   Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer) {
+        return get(trafficClass, uriTransformer, requestTransformer, responseTransformer, inbound -> inbound);
     }
 
     protected final <T> Mono<T> doPatch(Object requestPayload, Class<T> responseType,
@@ -129,20 +117,18 @@ public abstract class AbstractReactorOperations {
                                         Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer) {
         return this.root
             .transform(transformUri(uriTransformer))
-            .flatMap(uri -> this.connectionContext.getHttpClient()
+            .flatMap(uri -> TraceUtils.trace("PATCH " + uri, traceContext -> this.connectionContext.getHttpClient(TrafficClass.API)
                 .patch(uri, request -> Mono.just(request)
                     .map(AbstractReactorOperations::disableChunkedTransfer)
                     .map(AbstractReactorOperations::disableFailOnError)
+                    .map(addTraceparent(traceContext))
                     .transform(this::addAuthorization)
                     .map(UserAgent::addUserAgent)
                     .map(JsonCodec::addDecodeHeaders)
                     .transform(requestTransformer))
                 .doOnSubscribe(NetworkLogging.patch(uri))
                 .transform(NetworkLogging.response(uri)))
-            .transform(this::invalidateToken)
-            .transform(responseTransformer)
-            .transform(ErrorPayloadMapper.fallback())
-            .transform(deserializedResponse(responseType));
+                .transform(exchange(TrafficClass.API, "PATCH " + uri, responseTransformer, deserializedResponse(responseType))));
     }
 
     protected final <T> Mono<T> doPost(Object requestPayload, Class<T> responseType,
@@ -161,22 +147,28 @@ public abstract class AbstractReactorOperations {
                                        Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
                                        Function<Mono<HttpClientRequest>, Publisher<Void>> requestTransformer,
                                        Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer) {
+        return doPost(TrafficClass.API, responseType, uriTransformer, requestTransformer, responseTransformer);
+    }
+
+    protected final <T> Mono<T> doPost(TrafficClass trafficClass,
+                                       Class<T> responseType,
+                                       Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+                                       Function<Mono<HttpClientRequest>, Publisher<Void>> requestTransformer,
+                                       Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer) {
         return this.root
             .transform(transformUri(uriTransformer))
-            .flatMap(uri -> this.connectionContext.getHttpClient()
+            .flatMap(uri -> TraceUtils.trace("POST " + uri, traceContext -> this.connectionContext.getHttpClient(trafficClass)
                 .post(uri, request -> Mono.just(request)
                     .map(AbstractReactorOperations::disableChunkedTransfer)
                     .map(AbstractReactorOperations::disableFailOnError)
+                    .map(addTraceparent(traceContext))
                     .transform(this::addAuthorization)
                     .map(UserAgent::addUserAgent)
                     .map(JsonCodec::addDecodeHeaders)
                     .transform(requestTransformer))
                 .doOnSubscribe(NetworkLogging.post(uri))
                 .transform(NetworkLogging.response(uri)))
-            .transform(this::invalidateToken)
-            .transform(responseTransformer)
-            .transform(ErrorPayloadMapper.fallback())
-            .transform(deserializedResponse(responseType));
+                .transform(exchange(trafficClass, "POST " + uri, responseTransformer, deserializedResponse(responseType))));
     }
 
     protected final <T> Mono<T> doPut(Object requestPayload, Class<T> responseType,
@@ -195,22 +187,28 @@ public abstract class AbstractReactorOperations {
                                       Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
                                       Function<Mono<HttpClientRequest>, Publisher<Void>> requestTransformer,
                                       Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer) {
+        return doPut(TrafficClass.API, responseType, uriTransformer, requestTransformer, responseTransformer);
+    }
+
+    protected final <T> Mono<T> doPut(TrafficClass trafficClass,
+                                      Class<T> responseType,
+                                      Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+                                      Function<Mono<HttpClientRequest>, Publisher<Void>> requestTransformer,
+                                      Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer) {
         return this.root
             .transform(transformUri(uriTransformer))
-            .flatMap(uri -> this.connectionContext.getHttpClient()
+            .flatMap(uri -> TraceUtils.trace("PUT " + uri, traceContext -> this.connectionContext.getHttpClient(trafficClass)
                 .put(uri, request -> Mono.just(request)
                     .map(AbstractReactorOperations::disableChunkedTransfer)
                     .map(AbstractReactorOperations::disableFailOnError)
+                    .map(addTraceparent(traceContext))
                     .transform(this::addAuthorization)
                     .map(UserAgent::addUserAgent)
                     .map(JsonCodec::addDecodeHeaders)
                     .transform(requestTransformer))
                 .doOnSubscribe(NetworkLogging.put(uri))
                 .transform(NetworkLogging.response(uri)))
-            .transform(this::invalidateToken)
-            .transform(responseTransformer)
-            .transform(ErrorPayloadMapper.fallback())
-            .transform(deserializedResponse(responseType));
+                .transform(exchange(trafficClass, "PUT " + uri, responseTransformer, deserializedResponse(responseType))));
     }
 
     protected final Mono<HttpClientResponse> doWs(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
@@ -218,18 +216,35 @@ public abstract class AbstractReactorOperations {
                                                   Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer) {
         return this.root
             .transform(transformUri(uriTransformer))
-            .flatMap(uri -> this.connectionContext.getHttpClient()
+            .flatMap(uri -> TraceUtils.trace("WS " + uri, traceContext -> this.connectionContext.getHttpClient(TrafficClass.STREAM)
                 .get(uri, request -> Mono.just(request)
                     .map(AbstractReactorOperations::disableFailOnError)
+                    .map(addTraceparent(traceContext))
                     .transform(this::addAuthorization)
                     .map(UserAgent::addUserAgent)
                     .transform(requestTransformer)
                     .flatMapMany(HttpClientRequest::sendWebsocket))
                 .doOnSubscribe(NetworkLogging.ws(uri))
                 .transform(NetworkLogging.response(uri)))
-            .transform(this::invalidateToken)
-            .transform(responseTransformer)
-            .transform(ErrorPayloadMapper.fallback());
+                .transform(exchange(TrafficClass.STREAM, "WS " + uri, responseTransformer, inbound -> inbound)));
+    }
+
+    /**
+     * Bounds an exchange whose response body is consumed by the caller, such as a download, by the response timeout of the {@link TrafficClass} of the request.  The timeout applies from
+     * subscription until the body is complete.  Typically used with {@code .transform()}.
+     *
+     * @param trafficClass the {@link TrafficClass} of the request
+     * @param <T>          the type of the elements of the body
+     * @return a transforming {@link Function} that bounds the exchange
+     */
+    protected final <T> Function<Flux<T>, Flux<T>> responseTimeout(TrafficClass trafficClass) {
+        return DeadlineUtils.timeoutMany(this.connectionContext.getResponseTimeout(trafficClass));
+    }
+
+    private static Function<HttpClientRequest, HttpClientRequest> addTraceparent(Optional<TraceContext> traceContext) {
+        return request -> traceContext
+            .map(t -> request.header(TRACEPARENT, t.getTraceparent()))
+            .orElse(request);
     }
 
     private static HttpClientRequest disableChunkedTransfer(HttpClientRequest request) {
@@ -246,19 +261,33 @@ public abstract class AbstractReactorOperations {
         return response.status() == HttpResponseStatus.UNAUTHORIZED;
     }
 
-    private static Function<Mono<String>, Mono<String>> transformUri(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return uri -> uri
-            .map(UriComponentsBuilder::fromUriString)
-            .map(uriTransformer)
-            .map(builder -> builder.build().encode().toUriString());
-    }
-
     private Mono<HttpClientRequest> addAuthorization(Mono<HttpClientRequest> outbound) {
         return Mono
             .zip(outbound, this.tokenProvider.getToken(this.connectionContext))
             .map(function((request, token) -> request.header(AUTHORIZATION, token)));
     }
 
+    private <T> Mono<T> delete(Object requestPayload,
+                               Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+                               Function<Mono<HttpClientRequest>, Mono<HttpClientRequest>> requestTransformer,
+                               Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer,
+                               Function<Mono<HttpClientResponse>, Mono<T>> bodyTransformer) {
+        return this.root
+            .transform(transformUri(uriTransformer))
+            .flatMap(uri -> TraceUtils.trace("DELETE " + uri, traceContext -> this.connectionContext.getHttpClient(TrafficClass.API)
+                .delete(uri, request -> Mono.just(request)
+                    .map(AbstractReactorOperations::disableFailOnError)
+                    .map(addTraceparent(traceContext))
+                    .transform(this::addAuthorization)
+                    .map(UserAgent::addUserAgent)
+                    .map(JsonCodec::addDecodeHeaders)
+                    .transform(requestTransformer)
+                    .transform(serializedRequest(requestPayload)))
+                .doOnSubscribe(NetworkLogging.delete(uri))
+                .transform(NetworkLogging.response(uri)))
+                .transform(exchange(TrafficClass.API, "DELETE " + uri, responseTransformer, bodyTransformer)));
+    }
+
     private <T> Function<Mono<HttpClientResponse>, Mono<T>> deserializedResponse(Class<T> responseType) {
         return inbound -> inbound
             .transform(JsonCodec.decode(this.connectionContext.getObjectMapper(), responseType))
@@ -266,6 +295,48 @@ public abstract class AbstractReactorOperations {
             .doOnError(JsonParsingException.class, e -> NetworkLogging.RESPONSE_LOGGER.error("{}\n{}", e.getCause().getMessage(), e.getPayload()));
     }
 
+    private <T> Function<Mono<HttpClientResponse>, Mono<T>> exchange(TrafficClass trafficClass, String description,
+                                                                     Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer,
+                                                                     Function<Mono<HttpClientResponse>, Mono<T>> bodyTransformer) {
+        return inbound -> inbound
+            .transform(this::invalidateToken)
+            .transform(responseTransformer)
+            .transform(ErrorPayloadMapper.fallback())
+            .transform(bodyTransformer)
+            .transform(DeadlineUtils.timeout(this.connectionContext.getResponseTimeout(trafficClass), description));
+    }
+
+    private <T> Mono<T> get(TrafficClass trafficClass,
+                            Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+                            Function<Mono<HttpClientRequest>, Mono<HttpClientRequest>> requestTransformer,
+                            Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> responseTransformer,
+                            Function<Mono<HttpClientResponse>, Mono<T>> bodyTransformer) {
+        return this.root
+            .transform(transformUri(uriTransformer))
+            .flatMap(uri -> TraceUtils.trace("GET " + uri, traceContext -> this.connectionContext.getHttpClient(trafficClass)
+                .get(uri, request -> Mono.just(request)
+                    .map(AbstractReactorOperations::disableFailOnError)
+                    .map(addTraceparent(traceContext))
+                    .transform(this::addAuthorization)
+                    .map(UserAgent::addUserAgent)
+                    .transform(requestTransformer)
+                    .flatMap(HttpClientRequest::send))
+                .doOnSubscribe(NetworkLogging.get(uri))
+                .transform(NetworkLogging.response(uri)))
+                .transform(exchange(trafficClass, "GET " + uri, responseTransformer, bodyTransformer)));
+    }
+
+    private RootUri getRootUri(String root) {
+        RootUri rootUri = this.rootUri;
+
+        if (rootUri == null || !rootUri.isFor(root)) {
+            rootUri = new RootUri(root);
+            this.rootUri = rootUri;
+        }
+
+        return rootUri;
+    }
+
     private Mono<HttpClientResponse> invalidateToken(Mono<HttpClientResponse> inbound) {
         return inbound
             .flatMap(response -> {
@@ -282,7 +353,12 @@ public abstract class AbstractReactorOperations {
     private Function<Mono<HttpClientRequest>, Publisher<Void>> serializedRequest(Object requestPayload) {
         return outbound -> outbound
             .doOnNext(request -> NetworkLogging.REQUEST_LOGGER.trace("       {}", requestPayload))
-            .transform(JsonCodec.encode(this.connectionContext.getObjectMapper(), requestPayload));
+            .transform(JsonCodec.encode(this.connectionContext, requestPayload));
+    }
+
+    private Function<Mono<String>, Mono<String>> transformUri(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return uri -> uri
+            .map(root -> getRootUri(root).transform(uriTransformer));
     }
 
 }
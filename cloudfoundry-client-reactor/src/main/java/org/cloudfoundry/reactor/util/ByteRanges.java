@@ -0,0 +1,98 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.cloudfoundry.AbstractCloudFoundryException;
+import reactor.core.publisher.Flux;
+import reactor.ipc.netty.http.client.HttpClientRequest;
+import reactor.ipc.netty.http.client.HttpClientResponse;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Utilities for downloading a body from an offset with a {@code Range} request
+ */
+public final class ByteRanges {
+
+    private ByteRanges() {
+    }
+
+    /**
+     * Adds a {@code Range} header requesting the body from an offset to a request.  Typically used with `.map`
+     *
+     * @param offset the offset of the first byte to request, or {@code null} to request the whole body
+     * @return a function that transforms the request
+     */
+    public static Function<HttpClientRequest, HttpClientRequest> addRange(Long offset) {
+        return request -> getOffset(offset) > 0 ? request.header(HttpHeaderNames.RANGE, String.format("bytes=%d-", offset)) : request;
+    }
+
+    /**
+     * Completes a download from an offset, rather than signalling an error, when the server responds with {@code 416 Range Not Satisfiable}.  An open-ended range is only unsatisfiable when its
+     * offset is at or beyond the end of the body, so there is nothing left to receive.  Typically used with `.transform`
+     *
+     * @param offset the offset of the first byte that was requested, or {@code null} if the whole body was requested
+     * @return a function that transforms the body
+     */
+    public static Function<Flux<byte[]>, Flux<byte[]>> completeWhenNotSatisfiable(Long offset) {
+        return body -> getOffset(offset) > 0 ? body.onErrorResume(ByteRanges::isNotSatisfiable, t -> Flux.empty()) : body;
+    }
+
+    /**
+     * Receives the body of a response to a request transformed with {@link #addRange(Long)}.  The body is emitted in chunks as it arrives and is never aggregated.  If the server ignored the
+     * {@code Range} header and sent the whole body, the bytes before the offset are discarded.
+     *
+     * @param response the response
+     * @param offset   the offset of the first byte that was requested, or {@code null} if the whole body was requested
+     * @return the body, from the offset
+     */
+    public static Flux<byte[]> receive(HttpClientResponse response, Long offset) {
+        if (getOffset(offset) == 0 || HttpResponseStatus.PARTIAL_CONTENT.equals(response.status())) {
+            return response.receive().asByteArray();
+        }
+
+        return Flux.defer(() -> {
+            long[] remaining = new long[]{offset};
+
+            return response.receive()
+                .map(buffer -> skip(buffer, remaining))
+                .filter(bytes -> bytes.length > 0);
+        });
+    }
+
+    private static long getOffset(Long offset) {
+        return Optional.ofNullable(offset).orElse(0L);
+    }
+
+    private static boolean isNotSatisfiable(Throwable t) {
+        return t instanceof AbstractCloudFoundryException && ((AbstractCloudFoundryException) t).getStatusCode() == HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE.code();
+    }
+
+    private static byte[] skip(ByteBuf buffer, long[] remaining) {
+        int skipped = (int) Math.min(remaining[0], buffer.readableBytes());
+        remaining[0] -= skipped;
+
+        byte[] bytes = new byte[buffer.readableBytes() - skipped];
+        buffer.getBytes(buffer.readerIndex() + skipped, bytes);
+        return bytes;
+    }
+
+}
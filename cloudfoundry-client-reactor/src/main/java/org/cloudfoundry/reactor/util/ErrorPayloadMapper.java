@@ -16,7 +16,11 @@
 
 package org.cloudfoundry.reactor.util;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.netty.handler.codec.http.HttpStatusClass;
 import org.cloudfoundry.UnknownCloudFoundryException;
 import org.cloudfoundry.client.v2.ClientV2Exception;
@@ -26,28 +30,62 @@ import org.cloudfoundry.uaa.UaaException;
 import reactor.core.publisher.Mono;
 import reactor.ipc.netty.http.client.HttpClientResponse;
 
-import java.util.Map;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 
 import static io.netty.handler.codec.http.HttpStatusClass.CLIENT_ERROR;
 import static io.netty.handler.codec.http.HttpStatusClass.SERVER_ERROR;
 
+/**
+ * Maps error responses to exceptions.  Successful responses are passed through without their payloads being read.  Error payloads are deserialized directly from the received buffer into small
+ * typed error representations, and only converted to a {@link String} when they cannot be deserialized.
+ */
 public final class ErrorPayloadMapper {
 
-    @SuppressWarnings("unchecked")
+    private static final Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> FALLBACK = inbound -> inbound
+        .flatMap(response -> {
+            if (!isError(response)) {
+                return Mono.just(response);
+            }
+
+            int statusCode = response.status().code();
+
+            return response.receive().aggregate().asString()
+                .switchIfEmpty(Mono.error(new UnknownCloudFoundryException(statusCode)))
+                .flatMap(payload -> Mono.error(new UnknownCloudFoundryException(statusCode, payload)));
+        });
+
+    private static final Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> CLIENT_V2_STATUS_ONLY = inbound -> inbound
+        .flatMap(response -> {
+            if (!isError(response)) {
+                return Mono.just(response);
+            }
+
+            return response.receive()
+                .then(Mono.error(new ClientV2Exception(response.status().code(), null, response.status().reasonPhrase(), null)));
+        });
+
     public static Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> clientV2(ObjectMapper objectMapper) {
         return inbound -> inbound
             .flatMap(mapToError((statusCode, payload) -> {
-                Map<String, Object> map = objectMapper.readValue(payload, Map.class);
-                Integer code = (Integer) map.get("code");
-                String description = (String) map.get("description");
-                String errorCode = (String) map.get("error_code");
-
-                return new ClientV2Exception(statusCode, code, description, errorCode);
+                ClientV2Error error = objectMapper.readValue(payload, ClientV2Error.class);
+                return new ClientV2Exception(statusCode, error.code, error.description, error.errorCode);
             }));
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Maps error responses to {@link ClientV2Exception}s carrying only the status code and its reason phrase.  The error payload is drained without being aggregated or decoded, which suits probes
+     * that only need to know whether a request failed, and how.  The exception type is the same as {@link #clientV2(ObjectMapper)} so that status code checks, such as treating a {@code 404} as
+     * done, behave identically.
+     *
+     * @return the mapping function
+     */
+    public static Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> clientV2StatusOnly() {
+        return CLIENT_V2_STATUS_ONLY;
+    }
+
     public static Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> clientV3(ObjectMapper objectMapper) {
         return inbound -> inbound
             .flatMap(mapToError((statusCode, payload) -> {
@@ -56,27 +94,20 @@ public final class ErrorPayloadMapper {
             }));
     }
 
+    /**
+     * Maps error responses to {@link UnknownCloudFoundryException}s carrying the status code and, if there is one, the error payload.  An error response without a payload is an error too.
+     *
+     * @return the mapping function
+     */
     public static Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> fallback() {
-        return inbound -> inbound
-            .flatMap(response -> {
-                if (!isError(response)) {
-                    return Mono.just(response);
-                }
-
-                return response.receive().aggregate().asString()
-                    .flatMap(payload -> Mono.error(new UnknownCloudFoundryException(response.status().code(), payload)));
-            });
+        return FALLBACK;
     }
 
-    @SuppressWarnings("unchecked")
     public static Function<Mono<HttpClientResponse>, Mono<HttpClientResponse>> uaa(ObjectMapper objectMapper) {
         return inbound -> inbound
             .flatMap(mapToError((statusCode, payload) -> {
-                Map<String, Object> map = objectMapper.readValue(payload, Map.class);
-                String error = (String) map.get("error");
-                String errorDescription = (String) map.get("error_description");
-
-                return new UaaException(statusCode, error, errorDescription);
+                UaaError error = objectMapper.readValue(payload, UaaError.class);
+                return new UaaException(statusCode, error.error, error.errorDescription);
             }));
     }
 
@@ -91,22 +122,51 @@ public final class ErrorPayloadMapper {
                 return Mono.just(response);
             }
 
-            return response.receive().aggregate().asString()
-                .switchIfEmpty(Mono.error(new UnknownCloudFoundryException(response.status().code())))
-                .flatMap(payload -> {
-                    try {
-                        return Mono.error(exceptionGenerator.apply(response.status().code(), payload));
-                    } catch (Exception e) {
-                        return Mono.error(new UnknownCloudFoundryException(response.status().code(), payload));
-                    }
-                });
+            int statusCode = response.status().code();
+
+            return response.receive().aggregate()
+                .switchIfEmpty(Mono.error(new UnknownCloudFoundryException(statusCode)))
+                .flatMap(payload -> Mono.error(toException(exceptionGenerator, statusCode, payload)));
         };
     }
 
+    private static RuntimeException toException(ExceptionGenerator exceptionGenerator, int statusCode, ByteBuf payload) {
+        try (InputStream in = new ByteBufInputStream(payload.duplicate())) {
+            return exceptionGenerator.apply(statusCode, in);
+        } catch (Exception e) {
+            return new UnknownCloudFoundryException(statusCode, payload.toString(StandardCharsets.UTF_8));
+        }
+    }
+
     @FunctionalInterface
     private interface ExceptionGenerator {
 
-        RuntimeException apply(Integer statusCode, String payload) throws Exception;
+        RuntimeException apply(Integer statusCode, InputStream payload) throws IOException;
+
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static final class ClientV2Error {
+
+        @JsonProperty("code")
+        private Integer code;
+
+        @JsonProperty("description")
+        private String description;
+
+        @JsonProperty("error_code")
+        private String errorCode;
+
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static final class UaaError {
+
+        @JsonProperty("error")
+        private String error;
+
+        @JsonProperty("error_description")
+        private String errorDescription;
 
     }
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Utilities for accelerating JSON binding.  Acceleration replaces the reflective property access of Jackson's bean deserializers and serializers, including those for the Immutables builders that
+ * back the client, UAA, routing, and networking models, with generated bytecode accessors from the Jackson Afterburner module.  The module is an optional dependency and must be on the classpath
+ * for acceleration to be enabled.
+ */
+public final class JsonBindingAcceleration {
+
+    private static final boolean AVAILABLE = ClassUtils.isPresent("com.fasterxml.jackson.module.afterburner.AfterburnerModule", JsonBindingAcceleration.class.getClassLoader());
+
+    private JsonBindingAcceleration() {
+    }
+
+    /**
+     * Registers the accelerating module with an {@link ObjectMapper}
+     *
+     * @param objectMapper the {@link ObjectMapper} to accelerate
+     * @return the {@link ObjectMapper}
+     * @throws IllegalStateException if the accelerating module is not on the classpath
+     */
+    public static ObjectMapper accelerate(ObjectMapper objectMapper) {
+        if (!AVAILABLE) {
+            throw new IllegalStateException("Accelerated JSON binding requires com.fasterxml.jackson.module:jackson-module-afterburner on the classpath");
+        }
+
+        return objectMapper.registerModule(Afterburner.create());
+    }
+
+    /**
+     * Returns whether the accelerating module is on the classpath
+     *
+     * @return {@code true} if the accelerating module is on the classpath, {@code false} otherwise
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Isolates references to the optional module so that they are only resolved once it is known to be on the classpath
+     */
+    private static final class Afterburner {
+
+        private Afterburner() {
+        }
+
+        private static Module create() {
+            return new AfterburnerModule();
+        }
+
+    }
+
+}
@@ -16,11 +16,13 @@
 
 package org.cloudfoundry.reactor.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.json.JsonObjectDecoder;
+import org.cloudfoundry.reactor.ConnectionContext;
 import org.reactivestreams.Publisher;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
@@ -28,6 +30,7 @@ import reactor.core.publisher.Mono;
 import reactor.ipc.netty.http.client.HttpClientRequest;
 import reactor.ipc.netty.http.client.HttpClientResponse;
 
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.function.Function;
 
@@ -42,7 +45,7 @@ public final class JsonCodec {
 
     public static <T> Function<Mono<HttpClientResponse>, Flux<T>> decode(ObjectMapper objectMapper, Class<T> responseType) {
         return inbound -> inbound
-            .flatMapMany(response -> response.addHandler(new JsonObjectDecoder(MAX_PAYLOAD_SIZE)).receive().asByteArray()
+            .flatMapMany(response -> response.addHandler(createDecoder()).receive().asByteArray()
                 .map(payload -> {
                     try {
                         return objectMapper.readValue(payload, responseType);
@@ -52,25 +55,35 @@ public final class JsonCodec {
                 }));
     }
 
-    static Function<Mono<HttpClientRequest>, Publisher<Void>> encode(ObjectMapper objectMapper, Object requestPayload) {
-        if (!objectMapper.canSerialize(requestPayload.getClass())) {
+    static JsonObjectDecoder createDecoder() {
+        return new JsonObjectDecoder(MAX_PAYLOAD_SIZE);
+    }
+
+    static Function<Mono<HttpClientRequest>, Publisher<Void>> encode(ConnectionContext connectionContext, Object requestPayload) {
+        if (!connectionContext.canSerialize(requestPayload.getClass())) {
             return outbound -> outbound
                 .flatMap(HttpClientRequest::send);
         }
 
         return outbound -> outbound
-            .flatMapMany(request -> {
-                try {
-                    byte[] bytes = objectMapper.writeValueAsBytes(requestPayload);
+            .flatMap(request -> Mono.using(
+                () -> serialize(connectionContext.getObjectMapper(), requestPayload, request.alloc().buffer()),
+                byteBuf -> request
+                    .header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+                    .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(byteBuf.readableBytes()))
+                    .send(Mono.fromCallable(byteBuf::retain))
+                    .then(),
+                ByteBuf::release));
+    }
 
-                    return request
-                        .header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
-                        .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(bytes.length))
-                        .sendByteArray(Mono.just(bytes));
-                } catch (JsonProcessingException e) {
-                    throw Exceptions.propagate(e);
-                }
-            });
+    private static ByteBuf serialize(ObjectMapper objectMapper, Object requestPayload, ByteBuf byteBuf) {
+        try (OutputStream out = new ByteBufOutputStream(byteBuf)) {
+            objectMapper.writeValue(out, requestPayload);
+            return byteBuf;
+        } catch (Throwable t) {
+            byteBuf.release();
+            throw Exceptions.propagate(t);
+        }
     }
 
 }
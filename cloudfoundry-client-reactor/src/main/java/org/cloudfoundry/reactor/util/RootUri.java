@@ -0,0 +1,117 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A pre-parsed, immutable, root URI.  Request URIs are created by applying a transformer to a builder copied from the parsed root, which saves re-parsing the root for each request, and are
+ * only percent-encoded when they contain characters that require it.  Each request still builds its own {@link UriComponents} and renders it to a string, since transformers are written
+ * against {@link UriComponentsBuilder}; this saves the parse and the encoding pass, not those allocations.
+ */
+final class RootUri {
+
+    private final UriComponents components;
+
+    private final String root;
+
+    RootUri(String root) {
+        this.components = UriComponentsBuilder.fromUriString(root).build();
+        this.root = root;
+    }
+
+    boolean isFor(String root) {
+        return this.root == root || this.root.equals(root);
+    }
+
+    String transform(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        UriComponents uriComponents = uriTransformer.apply(UriComponentsBuilder.newInstance().uriComponents(this.components)).build();
+
+        if (requiresEncoding(uriComponents)) {
+            uriComponents = uriComponents.encode();
+        }
+
+        return uriComponents.toUriString();
+    }
+
+    private static boolean isSafe(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static boolean isSafe(String s) {
+        if (s == null) {
+            return true;
+        }
+
+        for (int i = 0; i < s.length(); i++) {
+            if (!isSafe(s.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isSafeQueryValue(String s) {
+        if (s == null) {
+            return true;
+        }
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!isSafe(c) && c != ':' && c != ',') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean requiresEncoding(UriComponents uriComponents) {
+        if (uriComponents.getFragment() != null || uriComponents.getUserInfo() != null) {
+            return true;
+        }
+
+        for (String segment : uriComponents.getPathSegments()) {
+            if (!isSafe(segment)) {
+                return true;
+            }
+        }
+
+        MultiValueMap<String, String> queryParams = uriComponents.getQueryParams();
+        for (Map.Entry<String, List<String>> entry : queryParams.entrySet()) {
+            if (!isSafe(entry.getKey())) {
+                return true;
+            }
+
+            for (String value : entry.getValue()) {
+                if (!isSafeQueryValue(value)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+}
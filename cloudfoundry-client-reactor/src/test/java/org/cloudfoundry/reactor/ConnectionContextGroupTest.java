@@ -0,0 +1,141 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import org.junit.After;
+import org.junit.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class ConnectionContextGroupTest extends AbstractRestTest {
+
+    private final ConnectionContextGroup group = ConnectionContextGroup.builder()
+        .name("test-group")
+        .threadPoolSize(1)
+        .build();
+
+    @After
+    public void dispose() {
+        this.group.dispose();
+    }
+
+    @Test
+    public void copyDoesNotJoin() {
+        DefaultConnectionContext connectionContext = connectionContext("test-host-1");
+        DefaultConnectionContext copy = connectionContext.withSecure(false);
+
+        connectionContext.dispose();
+
+        assertThat(this.group.getEndpoints()).isEmpty();
+
+        copy.dispose();
+    }
+
+    @Test
+    public void joinAndLeave() {
+        DefaultConnectionContext first = connectionContext("test-host-1");
+        DefaultConnectionContext second = connectionContext("test-host-2");
+
+        assertThat(this.group.getEndpoints()).containsOnly("test-host-1:443", "test-host-2:443");
+
+        first.dispose();
+
+        assertThat(this.group.getEndpoints()).containsOnly("test-host-2:443");
+
+        second.dispose();
+
+        assertThat(this.group.getEndpoints()).isEmpty();
+    }
+
+    @Test
+    public void sameEndpoint() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/GET_response.json")
+                .build())
+            .build());
+
+        DefaultConnectionContext first = localConnectionContext();
+        DefaultConnectionContext second = localConnectionContext();
+
+        assertThat(second.getConnectionPool()).isEqualTo(first.getConnectionPool());
+
+        first.dispose();
+
+        assertThat(this.group.getEndpoints()).containsOnly(String.format("%s:%d", this.mockWebServer.getHostName(), this.mockWebServer.getPort()));
+
+        second.getRootProvider()
+            .getRoot("cloud_controller_v2", second)
+            .as(StepVerifier::create)
+            .expectNext(String.format("http://api.run.pivotal.io:%d/v2", this.mockWebServer.getPort()))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        second.dispose();
+
+        assertThat(this.group.getEndpoints()).isEmpty();
+    }
+
+    @Test
+    public void separateConnectionPools() {
+        DefaultConnectionContext first = connectionContext("test-host-1");
+        DefaultConnectionContext second = connectionContext("test-host-2");
+
+        assertThat(first.getConnectionPool()).isNotEqualTo(second.getConnectionPool());
+    }
+
+    @Test
+    public void sharedThreadPool() {
+        DefaultConnectionContext first = connectionContext("test-host-1");
+        DefaultConnectionContext second = connectionContext("test-host-2");
+
+        assertThat(first.getThreadPool()).isSameAs(this.group.getThreadPool());
+        assertThat(second.getThreadPool()).isSameAs(this.group.getThreadPool());
+    }
+
+    private DefaultConnectionContext connectionContext(String apiHost) {
+        DefaultConnectionContext connectionContext = DefaultConnectionContext.builder()
+            .apiHost(apiHost)
+            .group(this.group)
+            .build();
+
+        connectionContext.getConnectionPool();
+        return connectionContext;
+    }
+
+    private DefaultConnectionContext localConnectionContext() {
+        DefaultConnectionContext connectionContext = DefaultConnectionContext.builder()
+            .apiHost(this.mockWebServer.getHostName())
+            .group(this.group)
+            .port(this.mockWebServer.getPort())
+            .secure(false)
+            .build();
+
+        connectionContext.getConnectionPool();
+        return connectionContext;
+    }
+
+}
@@ -18,12 +18,14 @@ package org.cloudfoundry.reactor;
 
 import org.junit.After;
 import org.junit.Test;
+import reactor.ipc.netty.http.client.HttpClient;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
 
 import static io.netty.handler.codec.http.HttpMethod.GET;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public final class DefaultConnectionContextTest extends AbstractRestTest {
 
@@ -38,6 +40,49 @@ public final class DefaultConnectionContextTest extends AbstractRestTest {
         this.connectionContext.dispose();
     }
 
+    @Test
+    public void getBitsConnectionPool() {
+        assertThat(this.connectionContext.getBitsConnectionPool()).isPresent();
+        assertThat(this.connectionContext.getBitsConnectionPool()).isNotEqualTo(this.connectionContext.getConnectionPool());
+
+        DefaultConnectionContext unpooled = DefaultConnectionContext.builder()
+            .apiHost("test-host")
+            .connectionPoolSize(null)
+            .build();
+
+        try {
+            assertThat(unpooled.getBitsConnectionPool()).isEmpty();
+        } finally {
+            unpooled.dispose();
+        }
+    }
+
+    @Test
+    public void getHttpClientConfigured() {
+        HttpClient httpClient = HttpClient.create();
+
+        DefaultConnectionContext configured = DefaultConnectionContext.builder()
+            .apiHost("test-host")
+            .httpClient(httpClient)
+            .build();
+
+        try {
+            assertThat(configured.getHttpClient(TrafficClass.API)).isSameAs(httpClient);
+            assertThat(configured.getHttpClient(TrafficClass.BITS)).isSameAs(httpClient);
+            assertThat(configured.getHttpClient(TrafficClass.STREAM)).isSameAs(httpClient);
+        } finally {
+            configured.dispose();
+        }
+    }
+
+    @Test
+    public void getHttpClientTrafficClass() {
+        assertThat(this.connectionContext.getHttpClient(TrafficClass.API)).isSameAs(this.connectionContext.getHttpClient());
+        assertThat(this.connectionContext.getHttpClient(TrafficClass.BITS)).isNotSameAs(this.connectionContext.getHttpClient());
+        assertThat(this.connectionContext.getHttpClient(TrafficClass.BITS)).isSameAs(this.connectionContext.getHttpClient(TrafficClass.BITS));
+        assertThat(this.connectionContext.getHttpClient(TrafficClass.STREAM)).isNotSameAs(this.connectionContext.getHttpClient(TrafficClass.BITS));
+    }
+
     @Test
     public void getInfo() {
         mockRequest(InteractionContext.builder()
@@ -16,9 +16,13 @@
 
 package org.cloudfoundry.reactor;
 
+import org.cloudfoundry.util.SnapshotStore;
 import org.junit.Test;
 import reactor.test.StepVerifier;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 
 import static io.netty.handler.codec.http.HttpMethod.GET;
@@ -82,4 +86,53 @@ public final class RootPayloadRootProviderTest extends AbstractRestTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void getRootKeySnapshot() throws IOException {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/GET_response.json")
+                .build())
+            .build());
+
+        Path directory = Files.createTempDirectory("root-payload-root-provider-test");
+        Path file = directory.resolve("snapshots.json");
+
+        try {
+            getRootKeyWithSnapshotStore(this.rootProvider, new SnapshotStore(file, Duration.ofMinutes(1)));
+
+            getRootKeyWithSnapshotStore(RootPayloadRootProvider.builder()
+                .apiHost("localhost")
+                .port(this.mockWebServer.getPort())
+                .secure(false)
+                .objectMapper(CONNECTION_CONTEXT.getObjectMapper())
+                .build(), new SnapshotStore(file, Duration.ofMinutes(1)));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+        }
+    }
+
+    private void getRootKeyWithSnapshotStore(RootPayloadRootProvider rootProvider, SnapshotStore snapshotStore) {
+        DefaultConnectionContext connectionContext = DefaultConnectionContext.builder()
+            .apiHost("localhost")
+            .secure(false)
+            .snapshotStore(snapshotStore)
+            .build();
+
+        try {
+            rootProvider
+                .getRoot("cloud_controller_v2", connectionContext)
+                .as(StepVerifier::create)
+                .expectNext(String.format("http://api.run.pivotal.io:%d/v2", this.mockWebServer.getPort()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        } finally {
+            connectionContext.dispose();
+        }
+    }
+
 }
@@ -24,14 +24,18 @@ import org.immutables.value.Value;
 import org.springframework.core.io.ClassPathResource;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Value.Immutable
 abstract class _TestResponse {
 
     private static final int MAX_CHUNK_SIZE = 16 * 1024;
 
+    abstract Optional<Duration> getBodyDelay();
+
     abstract Optional<String> getContentType();
 
     @AllowNulls
@@ -42,6 +46,9 @@ abstract class _TestResponse {
 
         getHeaders().forEach(response::addHeader);
 
+        getBodyDelay()
+            .ifPresent(delay -> response.setBodyDelay(delay.toMillis(), TimeUnit.MILLISECONDS));
+
         getPayload()
             .map(_TestResponse::getBuffer)
             .ifPresent(buffer -> response
@@ -40,6 +40,11 @@ public final class ReactorCloudFoundryClientTest extends AbstractRestTest {
         assertThat(this.client.applicationsV2()).isNotNull();
     }
 
+    @Test
+    public void applicationsV2Memoized() {
+        assertThat(this.client.applicationsV2()).isSameAs(this.client.applicationsV2());
+    }
+
     @Test
     public void applicationsV3() {
         assertThat(this.client.applicationsV3()).isNotNull();
@@ -84,6 +84,7 @@ import reactor.test.StepVerifier;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static io.netty.handler.codec.http.HttpMethod.DELETE;
@@ -320,6 +321,33 @@ public final class ReactorApplicationsV2Test extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void downloadDropletOffset() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/apps/test-application-id/droplet/download")
+                .header("Range", "bytes=10-")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/apps/GET_{id}_download_response.bin")
+                .build())
+            .build());
+
+        byte[] expected = getBytes("fixtures/client/v2/apps/GET_{id}_download_response.bin");
+
+        this.applications
+            .downloadDroplet(DownloadApplicationDropletRequest.builder()
+                .applicationId("test-application-id")
+                .offset(10L)
+                .build())
+            .as(OperationUtils::collectByteArray)
+            .as(StepVerifier::create)
+            .consumeNextWith(actual -> assertThat(actual).isEqualTo(Arrays.copyOfRange(expected, 10, expected.length)))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void environment() {
         mockRequest(InteractionContext.builder()
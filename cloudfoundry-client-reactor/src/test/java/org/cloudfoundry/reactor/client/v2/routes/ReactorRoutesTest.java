@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.reactor.client.v2.routes;
 
+import org.cloudfoundry.client.v2.ClientV2Exception;
 import org.cloudfoundry.client.v2.Metadata;
 import org.cloudfoundry.client.v2.applications.ApplicationEntity;
 import org.cloudfoundry.client.v2.applications.ApplicationResource;
@@ -57,8 +58,10 @@ import static io.netty.handler.codec.http.HttpMethod.POST;
 import static io.netty.handler.codec.http.HttpMethod.PUT;
 import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public final class ReactorRoutesTest extends AbstractClientApiTest {
 
@@ -222,6 +225,79 @@ public final class ReactorRoutesTest extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void existsDomainNotFound() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/routes/reserved/domain/test-domain-id/host/test-host?path=test-path")
+                .build())
+            .response(TestResponse.builder()
+                .status(NOT_FOUND)
+                .payload("fixtures/client/v2/routes/GET_reserved_domain_{id}_host_{host}_domain_not_found_response.json")
+                .build())
+            .build());
+
+        this.routes
+            .exists(RouteExistsRequest.builder()
+                .domainId("test-domain-id")
+                .host("test-host")
+                .path("test-path")
+                .build())
+            .as(StepVerifier::create)
+            .consumeErrorWith(t -> assertThat(t)
+                .isInstanceOf(ClientV2Exception.class)
+                .extracting("statusCode", "code", "errorCode")
+                .containsExactly(NOT_FOUND.code(), 130002, "CF-DomainNotFound"))
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void existsNotFound() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/routes/reserved/domain/test-domain-id/host/test-host?path=test-path")
+                .build())
+            .response(TestResponse.builder()
+                .status(NOT_FOUND)
+                .payload("fixtures/client/v2/routes/GET_reserved_domain_{id}_host_{host}_not_found_response.json")
+                .build())
+            .build());
+
+        this.routes
+            .exists(RouteExistsRequest.builder()
+                .domainId("test-domain-id")
+                .host("test-host")
+                .path("test-path")
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(false)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void existsNotFoundNoPayload() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/routes/reserved/domain/test-domain-id/host/test-host?path=test-path")
+                .build())
+            .response(TestResponse.builder()
+                .status(NOT_FOUND)
+                .build())
+            .build());
+
+        this.routes
+            .exists(RouteExistsRequest.builder()
+                .domainId("test-domain-id")
+                .host("test-host")
+                .path("test-path")
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(false)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void get() {
         mockRequest(InteractionContext.builder()
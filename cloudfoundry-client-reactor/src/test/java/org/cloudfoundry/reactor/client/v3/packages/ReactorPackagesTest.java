@@ -60,6 +60,7 @@ import reactor.test.StepVerifier;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.time.Duration;
+import java.util.Arrays;
 
 import static io.netty.handler.codec.http.HttpMethod.DELETE;
 import static io.netty.handler.codec.http.HttpMethod.GET;
@@ -67,6 +68,8 @@ import static io.netty.handler.codec.http.HttpMethod.POST;
 import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.PARTIAL_CONTENT;
+import static io.netty.handler.codec.http.HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.cloudfoundry.util.tuple.TupleUtils.consumer;
 
@@ -233,6 +236,84 @@ public final class ReactorPackagesTest extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void downloadOffset() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/packages/test-package-id/download")
+                .header("Range", "bytes=10-")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v3/packages/GET_{id}_download_response.bin")
+                .build())
+            .build());
+
+        byte[] expected = getBytes("fixtures/client/v3/packages/GET_{id}_download_response.bin");
+
+        this.packages
+            .download(DownloadPackageRequest.builder()
+                .packageId("test-package-id")
+                .offset(10L)
+                .build())
+            .as(OperationUtils::collectByteArray)
+            .as(StepVerifier::create)
+            .consumeNextWith(actual -> assertThat(actual).isEqualTo(Arrays.copyOfRange(expected, 10, expected.length)))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void downloadPartialContent() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/packages/test-package-id/download")
+                .header("Range", "bytes=10-")
+                .build())
+            .response(TestResponse.builder()
+                .status(PARTIAL_CONTENT)
+                .header("Content-Range", "bytes 10-475/476")
+                .payload("fixtures/client/v3/packages/GET_{id}_download_partial_response.bin")
+                .build())
+            .build());
+
+        byte[] expected = getBytes("fixtures/client/v3/packages/GET_{id}_download_response.bin");
+
+        this.packages
+            .download(DownloadPackageRequest.builder()
+                .packageId("test-package-id")
+                .offset(10L)
+                .build())
+            .as(OperationUtils::collectByteArray)
+            .as(StepVerifier::create)
+            .consumeNextWith(actual -> assertThat(actual).isEqualTo(Arrays.copyOfRange(expected, 10, expected.length)))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void downloadRangeNotSatisfiable() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/packages/test-package-id/download")
+                .header("Range", "bytes=476-")
+                .build())
+            .response(TestResponse.builder()
+                .status(REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header("Content-Range", "bytes */476")
+                .build())
+            .build());
+
+        this.packages
+            .download(DownloadPackageRequest.builder()
+                .packageId("test-package-id")
+                .offset(476L)
+                .build())
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void get() {
         mockRequest(InteractionContext.builder()
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.routing.v1.tcproutes;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.TooLongFrameException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class EventStreamParserTest {
+
+    private final EventStreamParser parser = new EventStreamParser(16);
+
+    @Test
+    public void carriageReturnLineFeedSplitAcrossChunks() {
+        List<ServerSentEvent> events = parse("data: alpha\r", "\n\r", "\n");
+
+        assertThat(events).containsExactly(ServerSentEvent.builder()
+            .data("alpha")
+            .build());
+    }
+
+    @Test
+    public void eventSplitAcrossChunks() {
+        List<ServerSentEvent> events = parse("ev", "ent: add\nda", "ta: 1", "\n\n");
+
+        assertThat(events).containsExactly(ServerSentEvent.builder()
+            .data("1")
+            .eventType("add")
+            .build());
+    }
+
+    @Test
+    public void finishDiscardsIncompleteLine() {
+        assertThat(parse("data: alpha\ndata: bet")).isEmpty();
+
+        assertThat(this.parser.finish()).isEqualTo(ServerSentEvent.builder()
+            .data("alpha")
+            .build());
+    }
+
+    @Test
+    public void idAndRetry() {
+        List<ServerSentEvent> events = parse("id: 42\nretry: 5000\ndata: alpha\n\nretry: soon\ndata: beta\n\n");
+
+        assertThat(events).containsExactly(
+            ServerSentEvent.builder()
+                .data("alpha")
+                .id("42")
+                .retry(5000)
+                .build(),
+            ServerSentEvent.builder()
+                .data("beta")
+                .build());
+    }
+
+    @Test(expected = TooLongFrameException.class)
+    public void lineTooLong() {
+        parse("data: 0123456789", "0123456789\n");
+    }
+
+    private List<ServerSentEvent> parse(String... chunks) {
+        List<ServerSentEvent> events = new ArrayList<>();
+
+        for (String chunk : chunks) {
+            events.addAll(this.parser.parse(Unpooled.copiedBuffer(chunk, UTF_8)));
+        }
+
+        return events;
+    }
+
+}
@@ -23,11 +23,14 @@ import org.cloudfoundry.reactor.routing.AbstractRoutingApiTest;
 import org.cloudfoundry.routing.v1.ModificationTag;
 import org.cloudfoundry.routing.v1.tcproutes.CreateTcpRoutesRequest;
 import org.cloudfoundry.routing.v1.tcproutes.DeleteTcpRoutesRequest;
+import org.cloudfoundry.routing.v1.tcproutes.EventType;
+import org.cloudfoundry.routing.v1.tcproutes.EventsRequest;
 import org.cloudfoundry.routing.v1.tcproutes.ListTcpRoutesRequest;
 import org.cloudfoundry.routing.v1.tcproutes.ListTcpRoutesResponse;
 import org.cloudfoundry.routing.v1.tcproutes.TcpRoute;
 import org.cloudfoundry.routing.v1.tcproutes.TcpRouteConfiguration;
 import org.cloudfoundry.routing.v1.tcproutes.TcpRouteDeletion;
+import org.cloudfoundry.routing.v1.tcproutes.TcpRouteEvent;
 import org.junit.Test;
 import reactor.test.StepVerifier;
 
@@ -36,6 +39,8 @@ import java.time.Duration;
 import static io.netty.handler.codec.http.HttpMethod.GET;
 import static io.netty.handler.codec.http.HttpMethod.POST;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
 
 
 public final class ReactorTcpRoutesTest extends AbstractRoutingApiTest {
@@ -95,6 +100,90 @@ public final class ReactorTcpRoutesTest extends AbstractRoutingApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void events() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/v1/tcp_routes/events")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .contentType("text/event-stream")
+                .payload("fixtures/routing/v1/tcproutes/GET_events_response.txt")
+                .build())
+            .build());
+
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/v1/tcp_routes/events")
+                .header("Last-Event-ID", "1")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .contentType("text/event-stream")
+                .payload("fixtures/routing/v1/tcproutes/GET_events_reconnect_response.txt")
+                .build())
+            .build());
+
+        Duration elapsed = this.tcpRoutes
+            .events(EventsRequest.builder()
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(event(EventType.UPSERT, 10))
+            .expectNoEvent(Duration.ofSeconds(1))
+            .expectNext(event(EventType.DELETE, 11))
+            .thenCancel()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(3));
+    }
+
+    @Test
+    public void eventsServiceUnavailable() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/v1/tcp_routes/events")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .contentType("text/event-stream")
+                .payload("fixtures/routing/v1/tcproutes/GET_events_response.txt")
+                .build())
+            .build());
+
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/v1/tcp_routes/events")
+                .header("Last-Event-ID", "1")
+                .build())
+            .response(TestResponse.builder()
+                .status(SERVICE_UNAVAILABLE)
+                .build())
+            .build());
+
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/v1/tcp_routes/events")
+                .header("Last-Event-ID", "1")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .contentType("text/event-stream")
+                .payload("fixtures/routing/v1/tcproutes/GET_events_reconnect_response.txt")
+                .build())
+            .build());
+
+        this.tcpRoutes
+            .events(EventsRequest.builder()
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(event(EventType.UPSERT, 10))
+            .expectNoEvent(Duration.ofSeconds(4))
+            .expectNext(event(EventType.DELETE, 11))
+            .thenCancel()
+            .verify(Duration.ofSeconds(10));
+    }
+
     @Test
     public void list() {
         mockRequest(InteractionContext.builder()
@@ -128,4 +217,19 @@ public final class ReactorTcpRoutesTest extends AbstractRoutingApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    private static TcpRouteEvent event(EventType eventType, int index) {
+        return TcpRouteEvent.builder()
+            .backendIp("10.1.1.12")
+            .backendPort(60000)
+            .eventType(eventType)
+            .modificationTag(ModificationTag.builder()
+                .modificationTagId("cbdhb4e3-141d-4259-b0ac-99140e8998l0")
+                .index(index)
+                .build())
+            .port(5200)
+            .routerGroupId("xyz789")
+            .ttl(30)
+            .build();
+    }
+
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.routing.v1.tcproutes;
+
+import org.cloudfoundry.routing.RoutingClient;
+import org.cloudfoundry.routing.v1.ModificationTag;
+import org.cloudfoundry.routing.v1.routergroups.ListRouterGroupsRequest;
+import org.cloudfoundry.routing.v1.routergroups.ListRouterGroupsResponse;
+import org.cloudfoundry.routing.v1.routergroups.RouterGroup;
+import org.cloudfoundry.routing.v1.routergroups.RouterGroups;
+import org.cloudfoundry.routing.v1.tcproutes.EventType;
+import org.cloudfoundry.routing.v1.tcproutes.EventsRequest;
+import org.cloudfoundry.routing.v1.tcproutes.ListTcpRoutesRequest;
+import org.cloudfoundry.routing.v1.tcproutes.ListTcpRoutesResponse;
+import org.cloudfoundry.routing.v1.tcproutes.TcpRoute;
+import org.cloudfoundry.routing.v1.tcproutes.TcpRouteEvent;
+import org.cloudfoundry.routing.v1.tcproutes.TcpRoutes;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class TcpRouteMirrorTest {
+
+    private final DirectProcessor<TcpRouteEvent> events = DirectProcessor.create();
+
+    private final RouterGroups routerGroups = mock(RouterGroups.class);
+
+    private final RoutingClient routingClient = mock(RoutingClient.class);
+
+    private final TcpRoutes tcpRoutes = mock(TcpRoutes.class);
+
+    private final TcpRouteMirror mirror = new TcpRouteMirror(this.routingClient, Duration.ofHours(1));
+
+    @Test
+    public void bootstrap() {
+        requestListRoutes(route("test-backend-ip-1", 1), route("test-backend-ip-2", 1));
+
+        this.mirror.start();
+        this.mirror.ready().block(Duration.ofSeconds(5));
+
+        assertThat(this.mirror.getRoute("test-router-group-id", 1000, "test-backend-ip-1", 2000)).contains(route("test-backend-ip-1", 1));
+        assertThat(this.mirror.getRoute("test-router-group-id", 1001, "test-backend-ip-1", 2000)).isEmpty();
+        assertThat(this.mirror.getRoutes("test-router-group-id", 1000)).containsOnly(route("test-backend-ip-1", 1), route("test-backend-ip-2", 1));
+        assertThat(this.mirror.getRoutes("test-other-router-group-id")).isEmpty();
+        assertThat(this.mirror.getRouterGroup("test-router-group-id")).contains(routerGroup());
+        assertThat(this.mirror.getRouterGroups()).containsExactly(routerGroup());
+    }
+
+    @Test
+    public void events() {
+        requestListRoutes(route("test-backend-ip-1", 1));
+
+        this.mirror.start();
+        this.mirror.ready().block(Duration.ofSeconds(5));
+
+        this.mirror.changes()
+            .as(StepVerifier::create)
+            .then(() -> this.events.onNext(event(EventType.UPSERT, "test-backend-ip-2", 1)))
+            .expectNext(TcpRouteChange.builder()
+                .eventType(EventType.UPSERT)
+                .route(route("test-backend-ip-2", 1))
+                .build())
+            .then(() -> this.events.onNext(event(EventType.DELETE, "test-backend-ip-1", 2)))
+            .expectNext(TcpRouteChange.builder()
+                .eventType(EventType.DELETE)
+                .route(route("test-backend-ip-1", 1))
+                .build())
+            .thenCancel()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.mirror.getRoutes("test-router-group-id")).containsExactly(route("test-backend-ip-2", 1));
+    }
+
+    @Test
+    public void eventsUnchangedRoute() {
+        requestListRoutes(route("test-backend-ip-1", 1));
+
+        this.mirror.start();
+        this.mirror.ready().block(Duration.ofSeconds(5));
+
+        this.mirror.changes()
+            .as(StepVerifier::create)
+            .then(() -> this.events.onNext(event(EventType.UPSERT, "test-backend-ip-1", 2)))
+            .then(() -> this.events.onNext(event(EventType.DELETE, "test-backend-ip-1", 3)))
+            .expectNext(TcpRouteChange.builder()
+                .eventType(EventType.DELETE)
+                .route(route("test-backend-ip-1", 2))
+                .build())
+            .thenCancel()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void readyAfterDispose() {
+        requestListRoutes();
+        when(this.tcpRoutes.list(ListTcpRoutesRequest.builder()
+            .build()))
+            .thenReturn(Mono.never());
+
+        this.mirror.start();
+        this.mirror.dispose();
+
+        this.mirror.ready()
+            .as(StepVerifier::create)
+            .expectError(IllegalStateException.class)
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void resync() {
+        when(this.tcpRoutes.list(ListTcpRoutesRequest.builder()
+            .build()))
+            .thenReturn(Mono.just(ListTcpRoutesResponse.builder()
+                .tcpRoute(route("test-backend-ip-1", 1))
+                .build()))
+            .thenReturn(Mono.just(ListTcpRoutesResponse.builder()
+                .tcpRoute(route("test-backend-ip-2", 1))
+                .build()));
+        requestListRouterGroups();
+
+        TcpRouteMirror mirror = new TcpRouteMirror(this.routingClient, Duration.ofMillis(200));
+
+        try {
+            mirror.start();
+            mirror.ready().block(Duration.ofSeconds(5));
+
+            mirror.changes()
+                .as(StepVerifier::create)
+                .expectNext(TcpRouteChange.builder()
+                    .eventType(EventType.UPSERT)
+                    .route(route("test-backend-ip-2", 1))
+                    .build())
+                .expectNext(TcpRouteChange.builder()
+                    .eventType(EventType.DELETE)
+                    .route(route("test-backend-ip-1", 1))
+                    .build())
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+            assertThat(mirror.getRoutes("test-router-group-id")).containsExactly(route("test-backend-ip-2", 1));
+        } finally {
+            mirror.dispose();
+        }
+    }
+
+    @Before
+    public void setUp() {
+        when(this.routingClient.routerGroups()).thenReturn(this.routerGroups);
+        when(this.routingClient.tcpRoutes()).thenReturn(this.tcpRoutes);
+        when(this.tcpRoutes.events(EventsRequest.builder()
+            .build()))
+            .thenReturn(this.events);
+    }
+
+    @After
+    public void tearDown() {
+        this.mirror.dispose();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void startTwice() {
+        requestListRoutes();
+
+        this.mirror.start();
+        this.mirror.start();
+    }
+
+    private static TcpRouteEvent event(EventType eventType, String backendIp, Integer index) {
+        TcpRoute route = route(backendIp, index);
+
+        return TcpRouteEvent.builder()
+            .backendIp(route.getBackendIp())
+            .backendPort(route.getBackendPort())
+            .eventType(eventType)
+            .modificationTag(route.getModificationTag())
+            .port(route.getPort())
+            .routerGroupId(route.getRouterGroupId())
+            .ttl(route.getTtl())
+            .build();
+    }
+
+    private static TcpRoute route(String backendIp, Integer index) {
+        return TcpRoute.builder()
+            .backendIp(backendIp)
+            .backendPort(2000)
+            .modificationTag(ModificationTag.builder()
+                .index(index)
+                .modificationTagId("test-modification-tag-id")
+                .build())
+            .port(1000)
+            .routerGroupId("test-router-group-id")
+            .ttl(120)
+            .build();
+    }
+
+    private static RouterGroup routerGroup() {
+        return RouterGroup.builder()
+            .name("test-router-group-name")
+            .reservablePorts("1000-2000")
+            .routerGroupId("test-router-group-id")
+            .type("tcp")
+            .build();
+    }
+
+    private void requestListRouterGroups() {
+        when(this.routerGroups.list(ListRouterGroupsRequest.builder()
+            .build()))
+            .thenReturn(Mono.just(ListRouterGroupsResponse.builder()
+                .routerGroup(routerGroup())
+                .build()));
+    }
+
+    private void requestListRoutes(TcpRoute... routes) {
+        when(this.tcpRoutes.list(ListTcpRoutesRequest.builder()
+            .build()))
+            .thenReturn(Mono.just(ListTcpRoutesResponse.builder()
+                .tcpRoutes(routes)
+                .build()));
+        requestListRouterGroups();
+    }
+
+}
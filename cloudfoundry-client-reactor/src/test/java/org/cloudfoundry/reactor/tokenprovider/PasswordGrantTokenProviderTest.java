@@ -0,0 +1,187 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.tokenprovider;
+
+import okhttp3.Headers;
+import okio.Buffer;
+import org.cloudfoundry.reactor.AbstractRestTest;
+import org.cloudfoundry.reactor.ConnectionContext;
+import org.cloudfoundry.reactor.DefaultConnectionContext;
+import org.cloudfoundry.reactor.InteractionContext;
+import org.cloudfoundry.reactor.RootProvider;
+import org.cloudfoundry.reactor.TestRequest;
+import org.cloudfoundry.reactor.TestResponse;
+import org.cloudfoundry.util.SnapshotStore;
+import org.junit.After;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static io.netty.handler.codec.http.HttpMethod.POST;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cloudfoundry.util.tuple.TupleUtils.consumer;
+
+public final class PasswordGrantTokenProviderTest extends AbstractRestTest {
+
+    private final Path directory;
+
+    private final Path file;
+
+    public PasswordGrantTokenProviderTest() throws IOException {
+        this.directory = Files.createTempDirectory("password-grant-token-provider-test");
+        this.file = this.directory.resolve("snapshots.json");
+    }
+
+    @After
+    public void delete() throws IOException {
+        Files.deleteIfExists(this.file);
+        Files.delete(this.directory);
+    }
+
+    @Test
+    public void refreshTokenNotRestoredForChangedPassword() {
+        mockPasswordGrant("test-username");
+        mockPasswordGrant("test-username");
+
+        getToken(tokenProvider("test-username", "test-password"), "bearer cd37a35114084fafb83d21c6f2af0e84");
+        getToken(tokenProvider("test-username", "changed-password"), "bearer cd37a35114084fafb83d21c6f2af0e84");
+    }
+
+    @Test
+    public void refreshTokenNotRestoredForOtherUser() {
+        mockPasswordGrant("test-username");
+        mockPasswordGrant("other-username");
+
+        getToken(tokenProvider("test-username", "test-password"), "bearer cd37a35114084fafb83d21c6f2af0e84");
+        getToken(tokenProvider("other-username", "test-password"), "bearer cd37a35114084fafb83d21c6f2af0e84");
+    }
+
+    @Test
+    public void refreshTokenRejected() {
+        mockPasswordGrant("test-username");
+
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(POST).path("/oauth/token")
+                .contents(form("grant_type=refresh_token", "refresh_token=cd37a35114084fafb83d21c6f2af0e84-r"))
+                .build())
+            .response(TestResponse.builder()
+                .status(UNAUTHORIZED)
+                .payload("fixtures/uaa/error_response.json")
+                .build())
+            .build());
+
+        mockPasswordGrant("test-username");
+
+        getToken(tokenProvider("test-username", "test-password"), "bearer cd37a35114084fafb83d21c6f2af0e84");
+        getToken(tokenProvider("test-username", "test-password"), "bearer cd37a35114084fafb83d21c6f2af0e84");
+    }
+
+    @Test
+    public void refreshTokenRestored() {
+        mockPasswordGrant("test-username");
+
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(POST).path("/oauth/token")
+                .contents(form("grant_type=refresh_token", "refresh_token=cd37a35114084fafb83d21c6f2af0e84-r"))
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/uaa/tokens/GET_refresh_response.json")
+                .build())
+            .build());
+
+        getToken(tokenProvider("test-username", "test-password"), "bearer cd37a35114084fafb83d21c6f2af0e84");
+        getToken(tokenProvider("test-username", "test-password"), "bearer eyJhbGciOiJIUzI1NiIsImtpZCI6Imx");
+    }
+
+    private static Consumer<Tuple2<Headers, Buffer>> form(String... parameters) {
+        return consumer((headers, body) -> assertThat(body.readString(Charset.defaultCharset())).contains(parameters));
+    }
+
+    private static PasswordGrantTokenProvider tokenProvider(String username, String password) {
+        return PasswordGrantTokenProvider.builder()
+            .password(password)
+            .username(username)
+            .build();
+    }
+
+    private void getToken(PasswordGrantTokenProvider tokenProvider, String expected) {
+        DefaultConnectionContext connectionContext = DefaultConnectionContext.builder()
+            .apiHost("localhost")
+            .secure(false)
+            .rootProvider(new StubRootProvider(this.root))
+            .snapshotStore(new SnapshotStore(this.file, Duration.ofMinutes(1)))
+            .build();
+
+        try {
+            tokenProvider
+                .getToken(connectionContext)
+                .as(StepVerifier::create)
+                .expectNext(expected)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        } finally {
+            connectionContext.dispose();
+        }
+    }
+
+    private void mockPasswordGrant(String username) {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(POST).path("/oauth/token")
+                .contents(form("grant_type=password", String.format("username=%s", username)))
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/uaa/tokens/GET_response_PW.json")
+                .build())
+            .build());
+    }
+
+    private static final class StubRootProvider implements RootProvider {
+
+        private final Mono<String> root;
+
+        private StubRootProvider(Mono<String> root) {
+            this.root = root;
+        }
+
+        @Override
+        public Mono<String> getRoot(ConnectionContext connectionContext) {
+            return this.root;
+        }
+
+        @Override
+        public Mono<String> getRoot(String key, ConnectionContext connectionContext) {
+            return this.root;
+        }
+
+    }
+
+}
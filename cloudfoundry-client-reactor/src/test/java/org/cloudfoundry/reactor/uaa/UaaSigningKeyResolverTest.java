@@ -18,6 +18,8 @@ package org.cloudfoundry.reactor.uaa;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.impl.Base64Codec;
 import io.jsonwebtoken.impl.DefaultClaims;
 import io.jsonwebtoken.impl.DefaultJwsHeader;
@@ -29,14 +31,20 @@ import org.cloudfoundry.uaa.tokens.Tokens;
 import org.junit.Assert;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class UaaSigningKeyResolverTest {
@@ -102,6 +110,36 @@ public final class UaaSigningKeyResolverTest {
         assertThat(this.signingKeyResolver.resolveSigningKey(header, claims)).isNotNull();
     }
 
+    @Test
+    public void resolveTokenKey() throws NoSuchAlgorithmException {
+        KeyPair keyPair = getKeyPair();
+        PublicKey publicKey = keyPair.getPublic();
+
+        when(
+            this.tokens.listKeys(ListTokenKeysRequest.builder()
+                .build())
+        ).thenReturn(
+            Mono.just(ListTokenKeysResponse.builder()
+                .key(TokenKey.builder()
+                    .algorithm(publicKey.getAlgorithm())
+                    .e("")
+                    .id("test-key-id")
+                    .keyType(KeyType.RSA)
+                    .n("")
+                    .use("")
+                    .value(getEncoded(publicKey))
+                    .build())
+                .build())
+        );
+
+        this.signingKeyResolver
+            .resolveSigningKey(getToken(keyPair.getPrivate()))
+            .as(StepVerifier::create)
+            .expectNext(publicKey)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void resolveUnknownKey() {
         when(
@@ -118,10 +156,45 @@ public final class UaaSigningKeyResolverTest {
         this.signingKeyResolver.resolveSigningKey(header, claims);
     }
 
+    @Test
+    public void resolveUnknownKeyRateLimited() {
+        when(
+            this.tokens.listKeys(ListTokenKeysRequest.builder()
+                .build())
+        ).thenReturn(
+            Mono.just(ListTokenKeysResponse.builder()
+                .build())
+        );
+
+        JwsHeader<?> header = new DefaultJwsHeader().setKeyId("test-key-id");
+        Claims claims = new DefaultClaims();
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                this.signingKeyResolver.resolveSigningKey(header, claims);
+                Assert.fail("Expected IllegalStateException");
+            } catch (IllegalStateException e) {
+                // expected
+            }
+        }
+
+        verify(this.tokens, times(1)).listKeys(ListTokenKeysRequest.builder()
+            .build());
+    }
+
     private static String getEncoded(PublicKey publicKey) {
         return String.format("-----BEGIN PUBLIC KEY-----\n%s\n-----END PUBLIC KEY-----", BASE64.encode(publicKey.getEncoded()));
     }
 
+    @SuppressWarnings("unchecked")
+    private static String getToken(PrivateKey privateKey) {
+        return Jwts.builder()
+            .setHeader((Map<String, Object>) new DefaultJwsHeader().setKeyId("test-key-id"))
+            .signWith(SignatureAlgorithm.RS256, privateKey)
+            .claim("user_name", "test-username")
+            .compact();
+    }
+
     private KeyPair getKeyPair() throws NoSuchAlgorithmException {
         KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
         keyPairGenerator.initialize(1024);
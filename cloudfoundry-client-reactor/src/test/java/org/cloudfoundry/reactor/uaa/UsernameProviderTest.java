@@ -16,11 +16,8 @@
 
 package org.cloudfoundry.reactor.uaa;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.SigningKeyResolver;
 import io.jsonwebtoken.impl.DefaultJwsHeader;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
@@ -28,18 +25,24 @@ import org.junit.Test;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.security.Key;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.sql.Date;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,17 +50,94 @@ public final class UsernameProviderTest {
 
     private final ConnectionContext connectionContext = mock(ConnectionContext.class);
 
-    private final SigningKeyResolver signingKeyResolver = mock(SigningKeyResolver.class);
+    @SuppressWarnings("unchecked")
+    private final Function<String, Mono<Key>> signingKeys = mock(Function.class);
 
     private final TokenProvider tokenProvider = mock(TokenProvider.class);
 
-    private final UsernameProvider usernameProvider = new UsernameProvider(this.connectionContext, this.signingKeyResolver, this.tokenProvider);
+    private final UsernameProvider usernameProvider = new UsernameProvider(this.connectionContext, this.signingKeys, this.tokenProvider);
+
+    @Test
+    public void getCacheFull() throws NoSuchAlgorithmException {
+        KeyPair keyPair = getKeyPair();
+        when(this.signingKeys.apply(any(String.class))).thenReturn(Mono.just(keyPair.getPublic()));
+
+        Instant now = Instant.now();
+        String first = String.format("bearer %s", getToken(keyPair.getPrivate(), now.plus(Duration.ofHours(1))));
+        String second = String.format("bearer %s", getToken(keyPair.getPrivate(), now.plus(Duration.ofHours(2))));
+        String third = String.format("bearer %s", getToken(keyPair.getPrivate(), now.plus(Duration.ofHours(3))));
+        when(this.tokenProvider.getToken(this.connectionContext)).thenReturn(Mono.just(first), Mono.just(second), Mono.just(third), Mono.just(first));
+
+        UsernameProvider usernameProvider = new UsernameProvider(this.connectionContext, this.signingKeys, this.tokenProvider, Clock.systemUTC(), 2);
+        for (int i = 0; i < 4; i++) {
+            usernameProvider
+                .get()
+                .as(StepVerifier::create)
+                .expectNext("test-username")
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+        }
+
+        verify(this.signingKeys, times(4)).apply(any(String.class));
+    }
+
+    @Test
+    public void getCachedToken() throws NoSuchAlgorithmException {
+        KeyPair keyPair = getKeyPair();
+        when(this.signingKeys.apply(any(String.class))).thenReturn(Mono.just(keyPair.getPublic()));
+
+        String token = String.format("bearer %s", getToken(keyPair.getPrivate(), Instant.now().plus(Duration.ofHours(1))));
+        when(this.tokenProvider.getToken(this.connectionContext)).thenReturn(Mono.just(token));
+
+        for (int i = 0; i < 2; i++) {
+            this.usernameProvider
+                .get()
+                .as(StepVerifier::create)
+                .expectNext("test-username")
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+        }
+
+        verify(this.signingKeys, times(1)).apply(any(String.class));
+    }
+
+    @Test
+    public void getCachedTokenExpired() throws NoSuchAlgorithmException {
+        KeyPair keyPair = getKeyPair();
+        when(this.signingKeys.apply(any(String.class))).thenReturn(Mono.just(keyPair.getPublic()));
+
+        Instant now = Instant.now();
+        String expiredToken = String.format("bearer %s", getToken(keyPair.getPrivate(), now.plus(Duration.ofHours(1))));
+        String validToken = String.format("bearer %s", getToken(keyPair.getPrivate(), now.plus(Duration.ofHours(3))));
+        when(this.tokenProvider.getToken(this.connectionContext)).thenReturn(Mono.just(expiredToken), Mono.just(expiredToken), Mono.just(validToken));
+
+        TestClock clock = new TestClock(now);
+        UsernameProvider usernameProvider = new UsernameProvider(this.connectionContext, this.signingKeys, this.tokenProvider, clock, 2);
+
+        usernameProvider
+            .get()
+            .as(StepVerifier::create)
+            .expectNext("test-username")
+            .expectComplete()
+            .verify(Duration.ofSeconds(1));
+
+        clock.instant = now.plus(Duration.ofHours(2));
+
+        usernameProvider
+            .get()
+            .as(StepVerifier::create)
+            .expectNext("test-username")
+            .expectComplete()
+            .verify(Duration.ofSeconds(1));
+
+        verify(this.tokenProvider).invalidate(this.connectionContext);
+    }
 
     @SuppressWarnings("unchecked")
     @Test
     public void getInvalidToken() throws NoSuchAlgorithmException {
         KeyPair keyPair = getKeyPair();
-        when(this.signingKeyResolver.resolveSigningKey(any(JwsHeader.class), any(Claims.class))).thenReturn(keyPair.getPublic());
+        when(this.signingKeys.apply(any(String.class))).thenReturn(Mono.just(keyPair.getPublic()));
 
         String invalidToken = String.format("bearer %s", getToken(keyPair.getPrivate(), Instant.now().minus(Duration.ofHours(1))));
         String validToken = String.format("bearer %s", getToken(keyPair.getPrivate(), Instant.now().plus(Duration.ofHours(1))));
@@ -76,7 +156,7 @@ public final class UsernameProviderTest {
     @Test
     public void getValidToken() throws NoSuchAlgorithmException {
         KeyPair keyPair = getKeyPair();
-        when(this.signingKeyResolver.resolveSigningKey(any(JwsHeader.class), any(Claims.class))).thenReturn(keyPair.getPublic());
+        when(this.signingKeys.apply(any(String.class))).thenReturn(Mono.just(keyPair.getPublic()));
 
         String token = String.format("bearer %s", getToken(keyPair.getPrivate(), Instant.now().plus(Duration.ofHours(1))));
         when(this.tokenProvider.getToken(this.connectionContext)).thenReturn(Mono.just(token));
@@ -105,4 +185,29 @@ public final class UsernameProviderTest {
         return keyPairGenerator.generateKeyPair();
     }
 
+    private static final class TestClock extends Clock {
+
+        private volatile Instant instant;
+
+        private TestClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+    }
+
 }
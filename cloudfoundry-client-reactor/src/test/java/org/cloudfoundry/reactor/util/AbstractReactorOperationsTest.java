@@ -0,0 +1,150 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.cloudfoundry.reactor.AbstractRestTest;
+import org.cloudfoundry.reactor.ConnectionContext;
+import org.cloudfoundry.reactor.DefaultConnectionContext;
+import org.cloudfoundry.reactor.InteractionContext;
+import org.cloudfoundry.reactor.TestRequest;
+import org.cloudfoundry.reactor.TestResponse;
+import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.TrafficClass;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+
+public final class AbstractReactorOperationsTest extends AbstractRestTest {
+
+    private static final ConnectionContext TIMEOUT_CONNECTION_CONTEXT = DefaultConnectionContext.builder()
+        .apiHost("localhost")
+        .apiResponseTimeout(Duration.ofMillis(500))
+        .bitsResponseTimeout(Duration.ofMillis(500))
+        .secure(false)
+        .build();
+
+    private final StubReactorOperations operations = new StubReactorOperations(TIMEOUT_CONNECTION_CONTEXT, this.root, TOKEN_PROVIDER);
+
+    @Test
+    public void download() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/test-path")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/GET_response.json")
+                .build())
+            .build());
+
+        this.operations
+            .download()
+            .reduce(0, (count, chunk) -> count + chunk.length)
+            .as(StepVerifier::create)
+            .expectNextMatches(count -> count > 0)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void downloadStalledBody() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/test-path")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/GET_response.json")
+                .bodyDelay(Duration.ofSeconds(2))
+                .build())
+            .build());
+
+        this.operations
+            .download()
+            .as(StepVerifier::create)
+            .thenConsumeWhile(chunk -> true)
+            .expectError(TimeoutException.class)
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void get() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/test-path")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/GET_response.json")
+                .build())
+            .build());
+
+        this.operations
+            .get()
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void getStalledBody() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/test-path")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/GET_response.json")
+                .bodyDelay(Duration.ofSeconds(2))
+                .build())
+            .build());
+
+        this.operations
+            .get()
+            .as(StepVerifier::create)
+            .expectError(TimeoutException.class)
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private static final class StubReactorOperations extends AbstractReactorOperations {
+
+        private StubReactorOperations(ConnectionContext connectionContext, Mono<String> root, TokenProvider tokenProvider) {
+            super(connectionContext, root, tokenProvider);
+        }
+
+        private Flux<byte[]> download() {
+            return doGet(TrafficClass.BITS, builder -> builder.pathSegment("test-path"), outbound -> outbound, inbound -> inbound)
+                .flatMapMany(response -> response.receive().asByteArray())
+                .transform(responseTimeout(TrafficClass.BITS));
+        }
+
+        private Mono<JsonNode> get() {
+            return doGet(JsonNode.class, builder -> builder.pathSegment("test-path"), outbound -> outbound, inbound -> inbound);
+        }
+
+    }
+
+}
@@ -23,6 +23,7 @@ import org.cloudfoundry.client.v3.ClientV3Exception;
 import org.cloudfoundry.uaa.UaaException;
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.ipc.netty.ByteBufFlux;
 import reactor.ipc.netty.http.client.HttpClientResponse;
@@ -33,7 +34,9 @@ import java.time.Duration;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.RETURNS_SMART_NULLS;
 import static org.mockito.Mockito.mock;
@@ -105,6 +108,33 @@ public final class ErrorPayloadMapperTest {
             .verify(Duration.ofSeconds(1));
     }
 
+    @Test
+    public void clientV2StatusOnlyError() throws IOException {
+        when(this.response.status()).thenReturn(NOT_FOUND);
+        when(this.response.receive()).thenReturn(ByteBufFlux.fromPath(new ClassPathResource("fixtures/client/v2/error_response.json").getFile().toPath()));
+
+        Mono.just(this.response)
+            .transform(ErrorPayloadMapper.clientV2StatusOnly())
+            .as(StepVerifier::create)
+            .consumeErrorWith(t -> assertThat(t)
+                .isInstanceOf(ClientV2Exception.class)
+                .extracting("statusCode", "code", "description", "errorCode")
+                .containsExactly(NOT_FOUND.code(), null, "Not Found", null))
+            .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void clientV2StatusOnlyNoError() {
+        when(this.response.status()).thenReturn(OK);
+
+        Mono.just(this.response)
+            .transform(ErrorPayloadMapper.clientV2StatusOnly())
+            .as(StepVerifier::create)
+            .expectNext(this.response)
+            .expectComplete()
+            .verify(Duration.ofSeconds(1));
+    }
+
     @Test
     public void clientV3BadPayload() throws IOException {
         when(this.response.status()).thenReturn(BAD_REQUEST);
@@ -177,6 +207,47 @@ public final class ErrorPayloadMapperTest {
             .verify(Duration.ofSeconds(1));
     }
 
+    @Test
+    public void fallbackError() throws IOException {
+        when(this.response.status()).thenReturn(BAD_REQUEST);
+        when(this.response.receive()).thenReturn(ByteBufFlux.fromPath(new ClassPathResource("fixtures/invalid_error_response.json").getFile().toPath()));
+
+        Mono.just(this.response)
+            .transform(ErrorPayloadMapper.fallback())
+            .as(StepVerifier::create)
+            .consumeErrorWith(t -> assertThat(t)
+                .isInstanceOf(UnknownCloudFoundryException.class)
+                .extracting("statusCode", "payload")
+                .containsExactly(BAD_REQUEST.code(), "Invalid Error Response"))
+            .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void fallbackErrorNoPayload() {
+        when(this.response.status()).thenReturn(SERVICE_UNAVAILABLE);
+        when(this.response.receive()).thenReturn(ByteBufFlux.fromInbound(Flux.empty()));
+
+        Mono.just(this.response)
+            .transform(ErrorPayloadMapper.fallback())
+            .as(StepVerifier::create)
+            .consumeErrorWith(t -> assertThat(t)
+                .isInstanceOf(UnknownCloudFoundryException.class)
+                .extracting("statusCode", "payload")
+                .containsExactly(SERVICE_UNAVAILABLE.code(), null))
+            .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void fallbackNoError() {
+        when(this.response.status()).thenReturn(OK);
+
+        Mono.just(this.response)
+            .transform(ErrorPayloadMapper.fallback())
+            .as(StepVerifier::create)
+            .expectNext(this.response)
+            .expectComplete()
+            .verify(Duration.ofSeconds(1));
+    }
 
     @Test
     public void uaaBadPayload() throws IOException {
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cloudfoundry.client.v2.applications.ListApplicationsResponse;
+import org.cloudfoundry.client.v2.applications.SummaryApplicationResponse;
+import org.cloudfoundry.reactor.DefaultConnectionContext;
+import org.cloudfoundry.uaa.users.ListUsersResponse;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class JsonBindingAccelerationTest {
+
+    private final DefaultConnectionContext accelerated = DefaultConnectionContext.builder()
+        .acceleratedJsonBinding(true)
+        .apiHost("localhost")
+        .build();
+
+    private final DefaultConnectionContext reflective = DefaultConnectionContext.builder()
+        .apiHost("localhost")
+        .build();
+
+    @Test
+    public void available() {
+        assertThat(JsonBindingAcceleration.isAvailable()).isTrue();
+    }
+
+    @Test
+    public void deserializeClient() throws IOException {
+        assertEquivalentBinding("fixtures/client/v2/apps/GET_apps_response.json", ListApplicationsResponse.class);
+        assertEquivalentBinding("fixtures/client/v2/apps/GET_{id}_summary_response.json", SummaryApplicationResponse.class);
+    }
+
+    @Test
+    public void deserializeUaa() throws IOException {
+        assertEquivalentBinding("fixtures/uaa/users/GET_response.json", ListUsersResponse.class);
+    }
+
+    @After
+    public void dispose() {
+        this.accelerated.dispose();
+        this.reflective.dispose();
+    }
+
+    @Test
+    public void serialize() throws IOException {
+        ListApplicationsResponse response = read(this.reflective.getObjectMapper(), "fixtures/client/v2/apps/GET_apps_response.json", ListApplicationsResponse.class);
+
+        assertThat(this.accelerated.getObjectMapper().writeValueAsString(response))
+            .isEqualTo(this.reflective.getObjectMapper().writeValueAsString(response));
+    }
+
+    private static <T> T read(ObjectMapper objectMapper, String path, Class<T> type) throws IOException {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return objectMapper.readValue(in, type);
+        }
+    }
+
+    private <T> void assertEquivalentBinding(String path, Class<T> type) throws IOException {
+        assertThat(read(this.accelerated.getObjectMapper(), path, type))
+            .isEqualTo(read(this.reflective.getObjectMapper(), path, type));
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.cloudfoundry.reactor.ConnectionContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.ipc.netty.NettyOutbound;
+import reactor.ipc.netty.http.client.HttpClientRequest;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_LENGTH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class JsonCodecTest {
+
+    private final RecordingByteBufAllocator allocator = new RecordingByteBufAllocator();
+
+    private final ConnectionContext connectionContext = mock(ConnectionContext.class, RETURNS_SMART_NULLS);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final NettyOutbound outbound = mock(NettyOutbound.class, RETURNS_SMART_NULLS);
+
+    private final HttpClientRequest request = mock(HttpClientRequest.class, RETURNS_SMART_NULLS);
+
+    private final List<String> sent = new ArrayList<>();
+
+    @Test
+    public void encode() {
+        when(this.request.send(any())).thenAnswer(invocation -> {
+            when(this.outbound.then()).thenReturn(Flux.from((Publisher<?>) invocation.getArguments()[0])
+                .cast(ByteBuf.class)
+                .doOnNext(byteBuf -> {
+                    this.sent.add(byteBuf.toString(StandardCharsets.UTF_8));
+                    byteBuf.release();
+                })
+                .then());
+
+            return this.outbound;
+        });
+
+        Mono.just(this.request)
+            .as(JsonCodec.encode(this.connectionContext, Collections.singletonMap("test-key", "test-value")))
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(1));
+
+        assertThat(this.sent).containsExactly("{\"test-key\":\"test-value\"}");
+        verify(this.request).header(CONTENT_LENGTH, "25");
+        assertReleased();
+    }
+
+    @Test
+    public void encodeCancel() {
+        when(this.request.send(any())).thenReturn(this.outbound);
+        when(this.outbound.then()).thenReturn(Mono.never());
+
+        Mono.just(this.request)
+            .as(JsonCodec.encode(this.connectionContext, Collections.singletonMap("test-key", "test-value")))
+            .as(StepVerifier::create)
+            .thenCancel()
+            .verify(Duration.ofSeconds(1));
+
+        assertReleased();
+    }
+
+    @Test
+    public void encodeSerializationFailure() {
+        Mono.just(this.request)
+            .as(JsonCodec.encode(this.connectionContext, new FailingPayload()))
+            .as(StepVerifier::create)
+            .consumeErrorWith(t -> assertThat(t).hasMessageContaining("test-failure"))
+            .verify(Duration.ofSeconds(1));
+
+        assertReleased();
+    }
+
+    @Before
+    public void setUp() {
+        when(this.connectionContext.canSerialize(any())).thenReturn(true);
+        when(this.connectionContext.getObjectMapper()).thenReturn(this.objectMapper);
+        when(this.request.alloc()).thenReturn(this.allocator);
+        when(this.request.header(any(CharSequence.class), any(CharSequence.class))).thenReturn(this.request);
+    }
+
+    private void assertReleased() {
+        assertThat(this.allocator.buffers)
+            .isNotEmpty()
+            .allMatch(byteBuf -> byteBuf.refCnt() == 0);
+    }
+
+    public static final class FailingPayload {
+
+        public String getValue() {
+            throw new IllegalStateException("test-failure");
+        }
+
+    }
+
+    private static final class RecordingByteBufAllocator extends UnpooledByteBufAllocator {
+
+        private final List<ByteBuf> buffers = new ArrayList<>();
+
+        private RecordingByteBufAllocator() {
+            super(false);
+        }
+
+        @Override
+        public ByteBuf buffer() {
+            ByteBuf byteBuf = super.buffer();
+            this.buffers.add(byteBuf);
+            return byteBuf;
+        }
+
+    }
+
+}
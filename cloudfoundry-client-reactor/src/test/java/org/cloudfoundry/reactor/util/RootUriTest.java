@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class RootUriTest {
+
+    private final RootUri rootUri = new RootUri("https://api.test-host/");
+
+    @Test
+    public void isFor() {
+        assertThat(this.rootUri.isFor("https://api.test-host/")).isTrue();
+        assertThat(this.rootUri.isFor("https://uaa.test-host/")).isFalse();
+    }
+
+    @Test
+    public void transformRequiresEncoding() {
+        assertEquivalent(builder -> builder
+            .pathSegment("v2", "apps")
+            .queryParam("q", "name:test application")
+            .queryParam("q", "space_guid IN test-space-id-1,test-space-id-2"));
+    }
+
+    @Test
+    public void transformSafe() {
+        assertEquivalent(builder -> builder
+            .pathSegment("v2", "apps", "1a2b3c4d-0000-1111-2222-333344445555")
+            .queryParam("q", "name:test-application")
+            .queryParam("page", 2));
+    }
+
+    @Test
+    public void transformUnicode() {
+        assertEquivalent(builder -> builder
+            .pathSegment("v2", "organizations", "test-organization-é"));
+    }
+
+    private void assertEquivalent(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        String expected = uriTransformer.apply(UriComponentsBuilder.fromUriString("https://api.test-host/")).build().encode().toUriString();
+        assertThat(this.rootUri.transform(uriTransformer)).isEqualTo(expected);
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.cloudfoundry.client.v2.applications;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.cloudfoundry.Nullable;
 import org.immutables.value.Value;
 
 /**
@@ -31,4 +32,11 @@ abstract class _DownloadApplicationRequest {
     @JsonIgnore
     abstract String getApplicationId();
 
+    /**
+     * The offset of the first byte to download.  Used to resume an interrupted download with a {@code Range} request.
+     */
+    @JsonIgnore
+    @Nullable
+    abstract Long getOffset();
+
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.cloudfoundry.client.CloudFoundryClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The payloads served by a {@link SimulatedFoundation}, derived from the recorded client fixtures
+ */
+final class Dataset {
+
+    static final String ORGANIZATION_ID = "load-test-organization-id";
+
+    static final String SPACE_ID = "load-test-space-id";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Duration TOKEN_VALIDITY = Duration.ofHours(12);
+
+    private final ObjectNode applicationTemplate;
+
+    private final FoundationConfiguration configuration;
+
+    private final List<byte[]> envelopes;
+
+    private final byte[] organizations;
+
+    private final byte[] spaces;
+
+    private final ObjectNode summaryApplicationTemplate;
+
+    private byte[] spaceSummary;
+
+    Dataset(FoundationConfiguration configuration) {
+        this.configuration = configuration;
+
+        this.applicationTemplate = (ObjectNode) readTree("client/v2/apps/GET_apps_response.json").path("resources").get(0);
+        this.organizations = write(getSingleResource("client/v2/organizations/GET_response.json", ORGANIZATION_ID, "load-test-organization"));
+        this.spaces = write(getSingleResource("client/v2/spaces/GET_response.json", SPACE_ID, "load-test-space"));
+        this.summaryApplicationTemplate = (ObjectNode) readTree("client/v2/spaces/GET_{id}_summary_response.json").path("apps").get(0);
+
+        List<byte[]> envelopes = new ArrayList<>();
+        envelopes.addAll(readEnvelopes("doppler/apps/GET_{id}_containermetrics_response-large.bin", "d12911a0934bf75879de385a042c4037fa903841921ba84abb77cb73a444"));
+        envelopes.addAll(readEnvelopes("doppler/apps/GET_{id}_recentlogs_response-large.bin", "74684f6bed3ee99aa98a13c609c354cd849b01a6e6051226906140ad31b2"));
+        this.envelopes = Collections.unmodifiableList(envelopes);
+    }
+
+    byte[] getApplications(int page, int resultsPerPage) {
+        int totalResults = this.configuration.getApplicationCount();
+        int totalPages = Math.max(1, (totalResults + resultsPerPage - 1) / resultsPerPage);
+
+        String previousUrl = page > 1 ? getApplicationsUrl(page - 1, resultsPerPage) : null;
+        String nextUrl = page < totalPages ? getApplicationsUrl(page + 1, resultsPerPage) : null;
+
+        ObjectNode response = OBJECT_MAPPER.createObjectNode()
+            .put("total_results", totalResults)
+            .put("total_pages", totalPages)
+            .put("prev_url", previousUrl)
+            .put("next_url", nextUrl);
+
+        ArrayNode resources = response.putArray("resources");
+        for (int i = (page - 1) * resultsPerPage; i < Math.min(totalResults, page * resultsPerPage); i++) {
+            resources.add(getApplication(i));
+        }
+
+        return write(response);
+    }
+
+    List<byte[]> getEnvelopes() {
+        return this.envelopes;
+    }
+
+    byte[] getInfo(String host) {
+        ObjectNode info = (ObjectNode) readTree("client/v2/info/GET_response.json");
+
+        info
+            .put("api_version", CloudFoundryClient.SUPPORTED_API_VERSION)
+            .put("authorization_endpoint", String.format("http://%s", host))
+            .put("doppler_logging_endpoint", String.format("ws://%s", host))
+            .put("routing_endpoint", String.format("http://%s", host))
+            .put("token_endpoint", String.format("http://%s", host));
+
+        return write(info);
+    }
+
+    byte[] getOrganizations() {
+        return this.organizations;
+    }
+
+    byte[] getRoot(String host) {
+        ObjectNode root = OBJECT_MAPPER.createObjectNode();
+        ObjectNode links = root.putObject("links");
+
+        links.putObject("self").put("href", String.format("http://%s", host));
+        links.putObject("cloud_controller_v2").put("href", String.format("http://%s/v2", host));
+        links.putObject("cloud_controller_v3").put("href", String.format("http://%s/v3", host));
+        links.putObject("logging").put("href", String.format("ws://%s", host));
+        links.putObject("uaa").put("href", String.format("http://%s", host));
+
+        return write(root);
+    }
+
+    synchronized byte[] getSpaceSummary() {
+        if (this.spaceSummary == null) {
+            ObjectNode summary = OBJECT_MAPPER.createObjectNode()
+                .put("guid", SPACE_ID)
+                .put("name", "load-test-space");
+
+            ArrayNode applications = summary.putArray("apps");
+            for (int i = 0; i < this.configuration.getApplicationCount(); i++) {
+                applications.add(this.summaryApplicationTemplate.deepCopy()
+                    .put("guid", getApplicationId(i))
+                    .put("name", getApplicationName(i))
+                    .put("space_guid", SPACE_ID));
+            }
+
+            summary.putArray("services");
+
+            this.spaceSummary = write(summary);
+        }
+
+        return this.spaceSummary;
+    }
+
+    byte[] getSpaces() {
+        return this.spaces;
+    }
+
+    byte[] getToken() {
+        Instant now = Instant.now();
+
+        String header = encode("{\"alg\":\"none\"}");
+        String claims = encode(String.format("{\"user_name\":\"admin\",\"iat\":%d,\"exp\":%d}", now.getEpochSecond(), now.plus(TOKEN_VALIDITY).getEpochSecond()));
+
+        return write(OBJECT_MAPPER.createObjectNode()
+            .put("access_token", String.format("%s.%s.", header, claims))
+            .put("expires_in", TOKEN_VALIDITY.getSeconds())
+            .put("jti", UUID.randomUUID().toString())
+            .put("scope", "cloud_controller.admin doppler.firehose")
+            .put("token_type", "bearer"));
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+    }
+
+    private static String getApplicationId(int index) {
+        return new UUID(0, index).toString();
+    }
+
+    private static String getApplicationName(int index) {
+        return String.format("load-test-application-%d", index);
+    }
+
+    private static String getApplicationsUrl(int page, int resultsPerPage) {
+        return String.format("/v2/apps?order-direction=asc&page=%d&results-per-page=%d", page, resultsPerPage);
+    }
+
+    private static ObjectNode getSingleResource(String fixture, String id, String name) {
+        JsonNode resource = readTree(fixture).path("resources").get(0);
+        ((ObjectNode) resource.path("metadata")).put("guid", id);
+        ((ObjectNode) resource.path("entity")).put("name", name);
+
+        ObjectNode response = OBJECT_MAPPER.createObjectNode()
+            .put("total_results", 1)
+            .put("total_pages", 1)
+            .putNull("prev_url")
+            .putNull("next_url");
+
+        response.putArray("resources").add(resource);
+
+        return response;
+    }
+
+    private static byte[] read(String fixture) {
+        try (InputStream in = Dataset.class.getClassLoader().getResourceAsStream(String.format("fixtures/%s", fixture))) {
+            if (in == null) {
+                throw new IllegalArgumentException(String.format("Fixture %s does not exist", fixture));
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                out.write(buffer, 0, length);
+            }
+
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<byte[]> readEnvelopes(String fixture, String boundary) {
+        String payload = new String(read(fixture), ISO_8859_1);
+        List<byte[]> envelopes = new ArrayList<>();
+
+        for (String part : payload.split(Pattern.quote(String.format("--%s", boundary)))) {
+            if (part.startsWith("\r\n\r\n")) {
+                String envelope = part.substring(4, part.endsWith("\r\n") ? part.length() - 2 : part.length());
+                envelopes.add(envelope.getBytes(ISO_8859_1));
+            }
+        }
+
+        return envelopes;
+    }
+
+    private static JsonNode readTree(String fixture) {
+        try {
+            return OBJECT_MAPPER.readTree(read(fixture));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] write(JsonNode node) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ObjectNode getApplication(int index) {
+        ObjectNode application = this.applicationTemplate.deepCopy();
+        String applicationId = getApplicationId(index);
+
+        ((ObjectNode) application.path("metadata"))
+            .put("guid", applicationId)
+            .put("url", String.format("/v2/apps/%s", applicationId));
+
+        ((ObjectNode) application.path("entity"))
+            .put("name", getApplicationName(index))
+            .put("space_guid", SPACE_ID);
+
+        return application;
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.loadtest;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.doppler.DopplerClient;
+import org.cloudfoundry.operations.CloudFoundryOperations;
+import org.cloudfoundry.operations.DefaultCloudFoundryOperations;
+import org.cloudfoundry.reactor.DefaultConnectionContext;
+import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.client.ReactorCloudFoundryClient;
+import org.cloudfoundry.reactor.doppler.ReactorDopplerClient;
+import org.cloudfoundry.reactor.tokenprovider.PasswordGrantTokenProvider;
+import reactor.core.Disposable;
+
+import java.util.Optional;
+
+/**
+ * The clients used by scenarios, connected to a {@link SimulatedFoundation}
+ */
+final class FoundationClients implements Disposable {
+
+    private final CloudFoundryClient cloudFoundryClient;
+
+    private final CloudFoundryOperations cloudFoundryOperations;
+
+    private final DefaultConnectionContext connectionContext;
+
+    private final DopplerClient dopplerClient;
+
+    FoundationClients(int port) {
+        this(port, Optional.empty());
+    }
+
+    FoundationClients(int port, Optional<Integer> apiSocketBufferSize) {
+        this.connectionContext = DefaultConnectionContext.builder()
+            .apiHost("localhost")
+            .apiSocketBufferSize(apiSocketBufferSize)
+            .port(port)
+            .secure(false)
+            .build();
+
+        TokenProvider tokenProvider = PasswordGrantTokenProvider.builder()
+            .password("admin")
+            .username("admin")
+            .build();
+
+        this.cloudFoundryClient = ReactorCloudFoundryClient.builder()
+            .connectionContext(this.connectionContext)
+            .tokenProvider(tokenProvider)
+            .build();
+
+        this.dopplerClient = ReactorDopplerClient.builder()
+            .connectionContext(this.connectionContext)
+            .tokenProvider(tokenProvider)
+            .build();
+
+        this.cloudFoundryOperations = DefaultCloudFoundryOperations.builder()
+            .cloudFoundryClient(this.cloudFoundryClient)
+            .dopplerClient(this.dopplerClient)
+            .organization("load-test-organization")
+            .space("load-test-space")
+            .build();
+    }
+
+    @Override
+    public void dispose() {
+        this.connectionContext.dispose();
+    }
+
+    CloudFoundryClient getCloudFoundryClient() {
+        return this.cloudFoundryClient;
+    }
+
+    CloudFoundryOperations getCloudFoundryOperations() {
+        return this.cloudFoundryOperations;
+    }
+
+    DopplerClient getDopplerClient() {
+        return this.dopplerClient;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Runs a {@link Scenario} against a {@link SimulatedFoundation} and prints its throughput and latency.  For example:
+ * <pre>
+ * java -jar load-test.jar --scenario list-applications --iterations 20 --concurrency 4 --applications 50000 --latency 20 --error-rate 0.01
+ * </pre>
+ * On Linux, the peak kernel memory used by TCP sockets is printed as well.  Compare runs with and without {@code --api-socket-buffer-size} to measure the effect of socket buffer sizing.
+ */
+public final class LoadTest {
+
+    private static final String API_SOCKET_BUFFER_SIZE = "--api-socket-buffer-size";
+
+    private static final Map<String, String> DEFAULTS = new HashMap<>();
+
+    private static final String RATE_LIMIT = "--rate-limit";
+
+    static {
+        DEFAULTS.put("--applications", "50000");
+        DEFAULTS.put("--concurrency", "10");
+        DEFAULTS.put("--envelopes", "2000000");
+        DEFAULTS.put("--error-rate", "0");
+        DEFAULTS.put("--iterations", "100");
+        DEFAULTS.put("--latency", "0");
+        DEFAULTS.put("--scenario", Scenario.LIST_APPLICATIONS.toString());
+        DEFAULTS.put("--warmup", "5");
+    }
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+
+        FoundationConfiguration.Builder builder = FoundationConfiguration.builder()
+            .applicationCount(Integer.parseInt(options.get("--applications")))
+            .envelopeCount(Integer.parseInt(options.get("--envelopes")))
+            .errorRate(Double.parseDouble(options.get("--error-rate")))
+            .latency(Duration.ofMillis(Long.parseLong(options.get("--latency"))));
+
+        if (options.containsKey(RATE_LIMIT)) {
+            builder.rateLimit(Integer.parseInt(options.get(RATE_LIMIT)));
+        }
+
+        Scenario scenario = Scenario.from(options.get("--scenario"));
+        int concurrency = Integer.parseInt(options.get("--concurrency"));
+
+        SimulatedFoundation foundation = new SimulatedFoundation(builder.build());
+        FoundationClients clients = new FoundationClients(foundation.getPort(), Optional.ofNullable(options.get(API_SOCKET_BUFFER_SIZE)).map(Integer::parseInt));
+
+        try {
+            ScenarioRunner.run(scenario, clients, Integer.parseInt(options.get("--warmup")), concurrency);
+            print(ScenarioRunner.run(scenario, clients, Integer.parseInt(options.get("--iterations")), concurrency));
+        } finally {
+            clients.dispose();
+            foundation.dispose();
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+
+        for (int i = 0; i < args.length; i += 2) {
+            if (!(DEFAULTS.containsKey(args[i]) || API_SOCKET_BUFFER_SIZE.equals(args[i]) || RATE_LIMIT.equals(args[i])) || i + 1 == args.length) {
+                throw new IllegalArgumentException(String.format("Usage: LoadTest [--option value]... (invalid argument: %s)", args[i]));
+            }
+
+            options.put(args[i], args[i + 1]);
+        }
+
+        return options;
+    }
+
+    private static void print(ScenarioReport report) {
+        System.out.printf("Scenario:    %s%n", report.getScenario());
+        System.out.printf("Operations:  %d (%d failed) in %.3f s%n", report.getOperations(), report.getErrors(), report.getElapsed().toNanos() / 1e9);
+        System.out.printf("Throughput:  %.1f ops/s, %.1f items/s%n", report.getOperationsPerSecond(), report.getItemsPerSecond());
+        System.out.printf("Latency:     p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+            report.getP50Latency().toNanos() / 1e6, report.getP99Latency().toNanos() / 1e6, report.getMaximumLatency().toNanos() / 1e6);
+        report.getSocketMemoryPages().ifPresent(pages -> System.out.printf("TCP memory:  %d pages (peak, system-wide)%n", pages));
+    }
+
+}
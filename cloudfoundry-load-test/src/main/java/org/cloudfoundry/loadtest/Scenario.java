@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.loadtest;
+
+import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
+import org.cloudfoundry.doppler.FirehoseRequest;
+import org.cloudfoundry.util.PaginationUtils;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * The operations that can be driven against a {@link SimulatedFoundation}.  Each execution of a scenario is one measured operation, and every element it emits is counted as an item.
+ */
+enum Scenario {
+
+    /**
+     * Consumes the firehose until the simulated foundation has sent all of its envelopes
+     */
+    FIREHOSE("firehose") {
+        @Override
+        Flux<?> execute(FoundationClients clients) {
+            return clients.getDopplerClient()
+                .firehose(FirehoseRequest.builder()
+                    .subscriptionId(UUID.randomUUID().toString())
+                    .build());
+        }
+    },
+
+    /**
+     * Lists the applications in the space with {@code cloudFoundryOperations.applications().list()}
+     */
+    LIST_APPLICATIONS("list-applications") {
+        @Override
+        Flux<?> execute(FoundationClients clients) {
+            return clients.getCloudFoundryOperations()
+                .applications()
+                .list();
+        }
+    },
+
+    /**
+     * Lists every page of applications with the V2 client API
+     */
+    LIST_APPLICATIONS_V2("list-applications-v2") {
+        @Override
+        Flux<?> execute(FoundationClients clients) {
+            return PaginationUtils
+                .requestClientV2Resources(page -> clients.getCloudFoundryClient().applicationsV2()
+                    .list(ListApplicationsRequest.builder()
+                        .page(page)
+                        .build()));
+        }
+    };
+
+    private final String value;
+
+    Scenario(String value) {
+        this.value = value;
+    }
+
+    static Scenario from(String s) {
+        return Arrays.stream(values())
+            .filter(scenario -> scenario.value.equals(s))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(String.format("Unknown scenario: %s", s)));
+    }
+
+    abstract Flux<?> execute(FoundationClients clients);
+
+    @Override
+    public String toString() {
+        return this.value;
+    }
+
+}
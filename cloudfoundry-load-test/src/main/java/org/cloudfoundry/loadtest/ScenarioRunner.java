@@ -0,0 +1,107 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a {@link Scenario} a number of times with bounded concurrency, measuring the latency of each operation and sampling the kernel memory used by TCP sockets
+ */
+final class ScenarioRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-load-test");
+
+    private static final Duration SOCKET_MEMORY_INTERVAL = Duration.ofMillis(100);
+
+    private ScenarioRunner() {
+    }
+
+    static ScenarioReport run(Scenario scenario, FoundationClients clients, int operations, int concurrency) {
+        AtomicInteger errors = new AtomicInteger();
+        AtomicLong items = new AtomicLong();
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicReference<Optional<Long>> socketMemoryPages = new AtomicReference<>(SocketMemory.getPages());
+
+        Disposable socketMemorySampler = Flux.interval(SOCKET_MEMORY_INTERVAL)
+            .subscribe(ignored -> SocketMemory.getPages()
+                .ifPresent(pages -> socketMemoryPages.accumulateAndGet(Optional.of(pages), ScenarioRunner::max)));
+
+        long start = System.nanoTime();
+
+        Flux.range(0, operations)
+            .flatMap(ignored -> Mono
+                .defer(() -> {
+                    long begin = System.nanoTime();
+
+                    return scenario.execute(clients)
+                        .doOnNext(item -> items.incrementAndGet())
+                        .then()
+                        .doOnSuccess(v -> latencies.add(System.nanoTime() - begin));
+                })
+                .onErrorResume(t -> {
+                    LOGGER.debug("Operation failed", t);
+                    errors.incrementAndGet();
+                    return Mono.empty();
+                }), concurrency)
+            .blockLast();
+
+        socketMemorySampler.dispose();
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        long[] sorted = latencies.stream()
+            .mapToLong(Long::longValue)
+            .sorted()
+            .toArray();
+
+        return ScenarioReport.builder()
+            .elapsed(elapsed)
+            .errors(errors.get())
+            .items(items.get())
+            .maximumLatency(getPercentile(sorted, 1.0))
+            .operations(operations)
+            .p50Latency(getPercentile(sorted, 0.5))
+            .p99Latency(getPercentile(sorted, 0.99))
+            .scenario(scenario)
+            .socketMemoryPages(socketMemoryPages.get())
+            .build();
+    }
+
+    private static Duration getPercentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Duration.ZERO;
+        }
+
+        return Duration.ofNanos(sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)]);
+    }
+
+    private static Optional<Long> max(Optional<Long> current, Optional<Long> sample) {
+        return current.isPresent() ? Optional.of(Math.max(current.get(), sample.get())) : sample;
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.loadtest;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.ipc.netty.NettyContext;
+import reactor.ipc.netty.http.server.HttpServer;
+import reactor.ipc.netty.http.server.HttpServerRequest;
+import reactor.ipc.netty.http.server.HttpServerResponse;
+import reactor.ipc.netty.http.server.HttpServerRoutes;
+import reactor.ipc.netty.http.websocket.WebsocketInbound;
+import reactor.ipc.netty.http.websocket.WebsocketOutbound;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_LENGTH;
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.netty.handler.codec.http.HttpHeaderNames.HOST;
+import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_JSON;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.TOO_MANY_REQUESTS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A local HTTP server that simulates the Cloud Controller, UAA, and Doppler endpoints used by the client.  Responses are derived from the recorded client fixtures and scaled to the configured
+ * dataset sizes.  API requests can be delayed, rate limited, and failed at random to exercise the client's concurrency and error handling.
+ */
+final class SimulatedFoundation implements Disposable {
+
+    private static final int DEFAULT_RESULTS_PER_PAGE = 50;
+
+    private final FoundationConfiguration configuration;
+
+    private final NettyContext context;
+
+    private final Dataset dataset;
+
+    private final RateLimiter rateLimiter;
+
+    /**
+     * Creates and starts an instance listening on an ephemeral local port
+     *
+     * @param configuration the configuration of the simulated foundation
+     */
+    SimulatedFoundation(FoundationConfiguration configuration) {
+        this.configuration = configuration;
+        this.dataset = new Dataset(configuration);
+        this.rateLimiter = configuration.getRateLimit()
+            .map(RateLimiter::new)
+            .orElse(null);
+
+        this.context = HttpServer.create("localhost", 0)
+            .newRouter(this::routes)
+            .block();
+    }
+
+    @Override
+    public void dispose() {
+        this.context.dispose();
+    }
+
+    /**
+     * Returns the port the simulated foundation is listening on
+     *
+     * @return the port
+     */
+    int getPort() {
+        return this.context.address().getPort();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return this.context.isDisposed();
+    }
+
+    private static int getParameter(QueryStringDecoder query, String name, int defaultValue) {
+        List<String> values = query.parameters().get(name);
+        return values == null || values.isEmpty() ? defaultValue : Integer.parseInt(values.get(0));
+    }
+
+    private static Mono<Void> send(HttpServerResponse response, byte[] payload) {
+        return Mono.from(response
+            .header(CONTENT_LENGTH, String.valueOf(payload.length))
+            .header(CONTENT_TYPE, APPLICATION_JSON)
+            .sendByteArray(Mono.just(payload)));
+    }
+
+    private static Mono<Void> sendError(HttpServerResponse response, HttpResponseStatus status, int code, String errorCode, String description) {
+        return send(response.status(status), String.format("{\"code\":%d,\"description\":\"%s\",\"error_code\":\"%s\"}", code, description, errorCode).getBytes(UTF_8));
+    }
+
+    private Mono<Void> delay() {
+        return this.configuration.getLatency().isZero() ? Mono.empty() : Mono.delay(this.configuration.getLatency()).then();
+    }
+
+    private Publisher<Void> firehose(WebsocketInbound inbound, WebsocketOutbound outbound) {
+        List<byte[]> envelopes = this.dataset.getEnvelopes();
+
+        return outbound.sendObject(Flux.range(0, this.configuration.getEnvelopeCount())
+            .map(i -> new BinaryWebSocketFrame(Unpooled.wrappedBuffer(envelopes.get(i % envelopes.size())))));
+    }
+
+    private Publisher<Void> listApplications(HttpServerRequest request, HttpServerResponse response) {
+        QueryStringDecoder query = new QueryStringDecoder(request.uri());
+        return send(response, this.dataset.getApplications(getParameter(query, "page", 1), getParameter(query, "results-per-page", DEFAULT_RESULTS_PER_PAGE)));
+    }
+
+    private void routes(HttpServerRoutes routes) {
+        routes
+            .get("/", simulate((request, response) -> send(response, this.dataset.getRoot(request.requestHeaders().get(HOST)))))
+            .get("/v2/info", simulate((request, response) -> send(response, this.dataset.getInfo(request.requestHeaders().get(HOST)))))
+            .get("/v2/apps", simulate(this::listApplications))
+            .get("/v2/organizations", simulate((request, response) -> send(response, this.dataset.getOrganizations())))
+            .get("/v2/spaces", simulate((request, response) -> send(response, this.dataset.getSpaces())))
+            .get("/v2/spaces/{spaceId}/summary", simulate((request, response) -> send(response, this.dataset.getSpaceSummary())))
+            .post("/oauth/token", simulate((request, response) -> request.receive()
+                .then()
+                .then(Mono.defer(() -> send(response, this.dataset.getToken())))))
+            .ws("/firehose/{subscriptionId}", this::firehose);
+    }
+
+    private BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> simulate(BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> handler) {
+        return (request, response) -> delay()
+            .then(Mono.defer(() -> {
+                if (this.rateLimiter != null && !this.rateLimiter.tryAcquire()) {
+                    return sendError(response, TOO_MANY_REQUESTS, 10013, "CF-RateLimitExceeded", "Rate Limit Exceeded");
+                }
+
+                if (ThreadLocalRandom.current().nextDouble() < this.configuration.getErrorRate()) {
+                    return sendError(response, INTERNAL_SERVER_ERROR, 10001, "UnknownError", "An unknown error occurred.");
+                }
+
+                return Mono.from(handler.apply(request, response));
+            }));
+    }
+
+    private static final class RateLimiter {
+
+        private final double capacity;
+
+        private final double permitsPerNanosecond;
+
+        private double permits;
+
+        private long updated = System.nanoTime();
+
+        private RateLimiter(int permitsPerSecond) {
+            this.capacity = permitsPerSecond;
+            this.permits = permitsPerSecond;
+            this.permitsPerNanosecond = permitsPerSecond / 1e9;
+        }
+
+        private synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+
+            this.permits = Math.min(this.capacity, this.permits + (now - this.updated) * this.permitsPerNanosecond);
+            this.updated = now;
+
+            if (this.permits < 1) {
+                return false;
+            }
+
+            this.permits--;
+            return true;
+        }
+
+    }
+
+}
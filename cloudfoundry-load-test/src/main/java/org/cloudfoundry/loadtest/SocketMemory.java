@@ -0,0 +1,59 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * Reads the kernel memory used by TCP sockets, as reported by the {@code mem} field of the {@code TCP} line of {@code /proc/net/sockstat}.  The value is system-wide and counted in pages.  It is
+ * only available on Linux.
+ */
+final class SocketMemory {
+
+    private static final Path SOCKSTAT = Paths.get("/proc/net/sockstat");
+
+    private SocketMemory() {
+    }
+
+    static Optional<Long> getPages() {
+        try {
+            return Files.readAllLines(SOCKSTAT).stream()
+                .filter(line -> line.startsWith("TCP:"))
+                .findFirst()
+                .flatMap(SocketMemory::parseMemory);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    static Optional<Long> parseMemory(String line) {
+        String[] fields = line.trim().split("\\s+");
+
+        for (int i = 1; i < fields.length - 1; i += 2) {
+            if ("mem".equals(fields[i])) {
+                return Optional.of(Long.parseLong(fields[i + 1]));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.loadtest;
+
+import org.immutables.value.Value;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The configuration of a {@link SimulatedFoundation}
+ */
+@Value.Immutable
+abstract class _FoundationConfiguration {
+
+    @Value.Check
+    void check() {
+        if (getErrorRate() < 0 || getErrorRate() > 1) {
+            throw new IllegalStateException("Cannot build FoundationConfiguration, error rate must be between 0 and 1");
+        }
+
+        if (getRateLimit().filter(rateLimit -> rateLimit < 1).isPresent()) {
+            throw new IllegalStateException("Cannot build FoundationConfiguration, rate limit must be at least 1");
+        }
+    }
+
+    /**
+     * The number of applications in the simulated space
+     */
+    @Value.Default
+    Integer getApplicationCount() {
+        return 50_000;
+    }
+
+    /**
+     * The number of envelopes sent to each firehose subscription
+     */
+    @Value.Default
+    Integer getEnvelopeCount() {
+        return 2_000_000;
+    }
+
+    /**
+     * The fraction of API requests that fail with an internal server error
+     */
+    @Value.Default
+    Double getErrorRate() {
+        return 0.0;
+    }
+
+    /**
+     * The latency added to each API request
+     */
+    @Value.Default
+    Duration getLatency() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * The maximum number of API requests accepted per second.  Requests over the limit are rejected with {@code 429 Too Many Requests}.
+     */
+    abstract Optional<Integer> getRateLimit();
+
+}
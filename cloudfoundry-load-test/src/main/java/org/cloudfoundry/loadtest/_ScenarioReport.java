@@ -0,0 +1,93 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.loadtest;
+
+import org.immutables.value.Value;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The results of running a {@link Scenario}
+ */
+@Value.Immutable
+abstract class _ScenarioReport {
+
+    /**
+     * The elapsed time of the run
+     */
+    abstract Duration getElapsed();
+
+    /**
+     * The number of operations that failed
+     */
+    abstract Integer getErrors();
+
+    /**
+     * The number of items emitted by the operations
+     */
+    abstract Long getItems();
+
+    /**
+     * The maximum latency of the successful operations
+     */
+    abstract Duration getMaximumLatency();
+
+    /**
+     * The number of operations executed
+     */
+    abstract Integer getOperations();
+
+    /**
+     * The median latency of the successful operations
+     */
+    abstract Duration getP50Latency();
+
+    /**
+     * The 99th percentile latency of the successful operations
+     */
+    abstract Duration getP99Latency();
+
+    /**
+     * The scenario that was run
+     */
+    abstract Scenario getScenario();
+
+    /**
+     * The peak kernel memory used by TCP sockets during the run, in pages.  Only available on Linux.
+     */
+    abstract Optional<Long> getSocketMemoryPages();
+
+    /**
+     * Returns the number of items emitted per second
+     */
+    double getItemsPerSecond() {
+        return perSecond(getItems());
+    }
+
+    /**
+     * Returns the number of operations executed per second
+     */
+    double getOperationsPerSecond() {
+        return perSecond(getOperations());
+    }
+
+    private double perSecond(long count) {
+        return getElapsed().isZero() ? 0 : count * 1e9 / getElapsed().toNanos();
+    }
+
+}
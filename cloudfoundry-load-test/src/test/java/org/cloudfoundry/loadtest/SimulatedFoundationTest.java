@@ -0,0 +1,127 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.loadtest;
+
+import org.junit.After;
+import org.junit.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class SimulatedFoundationTest {
+
+    private FoundationClients clients;
+
+    private SimulatedFoundation foundation;
+
+    @Test
+    public void errorRate() {
+        start(FoundationConfiguration.builder()
+            .applicationCount(120)
+            .errorRate(1.0)
+            .build());
+
+        ScenarioReport report = ScenarioRunner.run(Scenario.LIST_APPLICATIONS_V2, this.clients, 4, 2);
+
+        assertThat(report.getErrors()).isEqualTo(4);
+        assertThat(report.getItems()).isZero();
+    }
+
+    @Test
+    public void firehose() {
+        start(FoundationConfiguration.builder()
+            .envelopeCount(30)
+            .build());
+
+        Scenario.FIREHOSE.execute(this.clients)
+            .as(StepVerifier::create)
+            .expectNextCount(30)
+            .expectComplete()
+            .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void listApplications() {
+        start(FoundationConfiguration.builder()
+            .applicationCount(120)
+            .build());
+
+        Scenario.LIST_APPLICATIONS.execute(this.clients)
+            .as(StepVerifier::create)
+            .expectNextCount(120)
+            .expectComplete()
+            .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void listApplicationsV2() {
+        start(FoundationConfiguration.builder()
+            .applicationCount(120)
+            .build());
+
+        Scenario.LIST_APPLICATIONS_V2.execute(this.clients)
+            .as(StepVerifier::create)
+            .expectNextCount(120)
+            .expectComplete()
+            .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void rateLimit() {
+        start(FoundationConfiguration.builder()
+            .applicationCount(120)
+            .rateLimit(1)
+            .build());
+
+        ScenarioReport report = ScenarioRunner.run(Scenario.LIST_APPLICATIONS_V2, this.clients, 4, 4);
+
+        assertThat(report.getErrors()).isPositive();
+    }
+
+    @Test
+    public void report() {
+        start(FoundationConfiguration.builder()
+            .applicationCount(120)
+            .build());
+
+        ScenarioReport report = ScenarioRunner.run(Scenario.LIST_APPLICATIONS_V2, this.clients, 4, 2);
+
+        assertThat(report.getErrors()).isZero();
+        assertThat(report.getItems()).isEqualTo(480);
+        assertThat(report.getP50Latency()).isLessThanOrEqualTo(report.getP99Latency());
+        assertThat(report.getP99Latency()).isLessThanOrEqualTo(report.getMaximumLatency());
+    }
+
+    @After
+    public void tearDown() {
+        if (this.clients != null) {
+            this.clients.dispose();
+        }
+
+        if (this.foundation != null) {
+            this.foundation.dispose();
+        }
+    }
+
+    private void start(FoundationConfiguration configuration) {
+        this.foundation = new SimulatedFoundation(configuration);
+        this.clients = new FoundationClients(this.foundation.getPort());
+    }
+
+}
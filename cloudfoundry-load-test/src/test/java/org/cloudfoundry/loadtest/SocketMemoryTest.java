@@ -0,0 +1,35 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.loadtest;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class SocketMemoryTest {
+
+    @Test
+    public void parseMemory() {
+        assertThat(SocketMemory.parseMemory("TCP: inuse 12 orphan 0 tw 3 alloc 15 mem 42")).hasValue(42L);
+    }
+
+    @Test
+    public void parseMemoryMissing() {
+        assertThat(SocketMemory.parseMemory("TCP: inuse 12 orphan 0 tw 3 alloc 15")).isEmpty();
+    }
+
+}
@@ -18,8 +18,10 @@ package org.cloudfoundry.operations;
 
 import org.cloudfoundry.operations.advanced.Advanced;
 import org.cloudfoundry.operations.applications.Applications;
+import org.cloudfoundry.operations.auditevents.AuditEvents;
 import org.cloudfoundry.operations.buildpacks.Buildpacks;
 import org.cloudfoundry.operations.domains.Domains;
+import org.cloudfoundry.operations.inventory.Inventory;
 import org.cloudfoundry.operations.networkpolicies.NetworkPolicies;
 import org.cloudfoundry.operations.organizationadmin.OrganizationAdmin;
 import org.cloudfoundry.operations.organizations.Organizations;
@@ -29,6 +31,7 @@ import org.cloudfoundry.operations.services.Services;
 import org.cloudfoundry.operations.spaceadmin.SpaceAdmin;
 import org.cloudfoundry.operations.spaces.Spaces;
 import org.cloudfoundry.operations.stacks.Stacks;
+import org.cloudfoundry.operations.usageevents.UsageEvents;
 import org.cloudfoundry.operations.useradmin.UserAdmin;
 
 /**
@@ -55,6 +58,13 @@ public interface CloudFoundryOperations {
      */
     Applications applications();
 
+    /**
+     * Main entry point to the Cloud Foundry Audit Events Operations API
+     *
+     * @return the Cloud Foundry Audit Events Operations API
+     */
+    AuditEvents auditEvents();
+
     /**
      * Main entry point to the Cloud Foundry Buildpacks Operations API
      *
@@ -69,6 +79,13 @@ public interface CloudFoundryOperations {
      */
     Domains domains();
 
+    /**
+     * Main entry point to the Cloud Foundry Inventory Operations API
+     *
+     * @return the Cloud Foundry Inventory Operations API
+     */
+    Inventory inventory();
+
     /**
      * Main entry point to the Cloud Foundry Networking Policies Operations API
      *
@@ -132,6 +149,13 @@ public interface CloudFoundryOperations {
      */
     Stacks stacks();
 
+    /**
+     * Main entry point to the Cloud Foundry Usage Events Operations API
+     *
+     * @return the Cloud Foundry Usage Events Operations API
+     */
+    UsageEvents usageEvents();
+
     /**
      * Main entry point to the Cloud Foundry User Admin Operations API
      *
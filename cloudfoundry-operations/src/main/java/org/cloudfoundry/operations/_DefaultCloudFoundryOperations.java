@@ -28,10 +28,14 @@ import org.cloudfoundry.operations.advanced.Advanced;
 import org.cloudfoundry.operations.advanced.DefaultAdvanced;
 import org.cloudfoundry.operations.applications.Applications;
 import org.cloudfoundry.operations.applications.DefaultApplications;
+import org.cloudfoundry.operations.auditevents.AuditEvents;
+import org.cloudfoundry.operations.auditevents.DefaultAuditEvents;
 import org.cloudfoundry.operations.buildpacks.Buildpacks;
 import org.cloudfoundry.operations.buildpacks.DefaultBuildpacks;
 import org.cloudfoundry.operations.domains.DefaultDomains;
 import org.cloudfoundry.operations.domains.Domains;
+import org.cloudfoundry.operations.inventory.DefaultInventory;
+import org.cloudfoundry.operations.inventory.Inventory;
 import org.cloudfoundry.operations.networkpolicies.DefaultNetworkPolicies;
 import org.cloudfoundry.operations.networkpolicies.NetworkPolicies;
 import org.cloudfoundry.operations.organizationadmin.DefaultOrganizationAdmin;
@@ -50,13 +54,18 @@ import org.cloudfoundry.operations.spaces.DefaultSpaces;
 import org.cloudfoundry.operations.spaces.Spaces;
 import org.cloudfoundry.operations.stacks.DefaultStacks;
 import org.cloudfoundry.operations.stacks.Stacks;
+import org.cloudfoundry.operations.usageevents.DefaultUsageEvents;
+import org.cloudfoundry.operations.usageevents.UsageEvents;
 import org.cloudfoundry.operations.useradmin.DefaultUserAdmin;
 import org.cloudfoundry.operations.useradmin.UserAdmin;
+import org.cloudfoundry.operations.util.ReferenceDataCache;
+import org.cloudfoundry.operations.util.ResourceIdCache;
 import org.cloudfoundry.routing.RoutingClient;
 import org.cloudfoundry.uaa.UaaClient;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.cloudfoundry.util.PaginationUtils;
 import org.cloudfoundry.util.ResourceUtils;
+import org.cloudfoundry.util.SnapshotStore;
 import org.immutables.value.Value;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -71,6 +80,10 @@ import java.util.Optional;
 @Value.Immutable
 abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations {
 
+    private static final Duration DEFAULT_NOT_FOUND_CACHE_DURATION = Duration.ofSeconds(5);
+
+    private static final Duration DEFAULT_RESOURCE_ID_CACHE_DURATION = Duration.ofSeconds(30);
+
     @Override
     @Value.Derived
     public Advanced advanced() {
@@ -80,7 +93,13 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
     @Override
     @Value.Derived
     public Applications applications() {
-        return new DefaultApplications(getCloudFoundryClientPublisher(), getDopplerClientPublisher(), getSpaceId());
+        return new DefaultApplications(getCloudFoundryClientPublisher(), getDopplerClientPublisher(), getSpaceId(), getResourceIdCache());
+    }
+
+    @Override
+    @Value.Derived
+    public AuditEvents auditEvents() {
+        return new DefaultAuditEvents(getCloudFoundryClientPublisher());
     }
 
     @Override
@@ -92,7 +111,13 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
     @Override
     @Value.Derived
     public Domains domains() {
-        return new DefaultDomains(getCloudFoundryClientPublisher(), getRoutingClientPublisher());
+        return new DefaultDomains(getCloudFoundryClientPublisher(), getRoutingClientPublisher(), getReferenceDataCache(), getResourceIdCache());
+    }
+
+    @Override
+    @Value.Derived
+    public Inventory inventory() {
+        return new DefaultInventory(getCloudFoundryClientPublisher());
     }
 
     @Override
@@ -110,13 +135,13 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
     @Override
     @Value.Derived
     public Organizations organizations() {
-        return new DefaultOrganizations(getCloudFoundryClientPublisher(), getUsername());
+        return new DefaultOrganizations(getCloudFoundryClientPublisher(), getUsername(), getReferenceDataCache(), getResourceIdCache());
     }
 
     @Override
     @Value.Derived
     public Routes routes() {
-        return new DefaultRoutes(getCloudFoundryClientPublisher(), getOrganizationId(), getSpaceId());
+        return new DefaultRoutes(getCloudFoundryClientPublisher(), getOrganizationId(), getSpaceId(), getResourceIdCache());
     }
 
     @Override
@@ -128,7 +153,7 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
     @Override
     @Value.Derived
     public Services services() {
-        return new DefaultServices(getCloudFoundryClientPublisher(), getOrganizationId(), getSpaceId());
+        return new DefaultServices(getCloudFoundryClientPublisher(), getOrganizationId(), getSpaceId(), getResourceIdCache());
     }
 
     @Override
@@ -140,7 +165,7 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
     @Override
     @Value.Derived
     public Spaces spaces() {
-        return new DefaultSpaces(getCloudFoundryClientPublisher(), getOrganizationId(), getUsername());
+        return new DefaultSpaces(getCloudFoundryClientPublisher(), getOrganizationId(), getUsername(), getReferenceDataCache(), getResourceIdCache());
     }
 
     @Override
@@ -149,10 +174,16 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
         return new DefaultStacks(getCloudFoundryClientPublisher());
     }
 
+    @Override
+    @Value.Derived
+    public UsageEvents usageEvents() {
+        return new DefaultUsageEvents(getCloudFoundryClientPublisher());
+    }
+
     @Override
     @Value.Derived
     public UserAdmin userAdmin() {
-        return new DefaultUserAdmin(getCloudFoundryClientPublisher(), getUaaClientPublisher());
+        return new DefaultUserAdmin(getCloudFoundryClientPublisher(), getUaaClientPublisher(), getResourceIdCache());
     }
 
     /**
@@ -221,6 +252,25 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
         }
     }
 
+    @Value.Derived
+    ReferenceDataCache getReferenceDataCache() {
+        Duration ttl = getCacheDuration().orElse(ReferenceDataCache.DEFAULT_CACHE_DURATION);
+
+        return getSnapshotStore()
+            .map(snapshots -> new ReferenceDataCache(ttl, snapshots))
+            .orElseGet(() -> new ReferenceDataCache(ttl));
+    }
+
+    @Value.Derived
+    ResourceIdCache getResourceIdCache() {
+        Duration ttl = getCacheDuration().orElse(DEFAULT_RESOURCE_ID_CACHE_DURATION);
+        Duration notFoundTtl = ttl.compareTo(DEFAULT_NOT_FOUND_CACHE_DURATION) < 0 ? ttl : DEFAULT_NOT_FOUND_CACHE_DURATION;
+
+        return getSnapshotStore()
+            .map(snapshots -> new ResourceIdCache(ttl, notFoundTtl, snapshots))
+            .orElseGet(() -> new ResourceIdCache(ttl, notFoundTtl));
+    }
+
     /**
      * The {@link RoutingClient} to use for operations functionality
      */
@@ -234,6 +284,11 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
             .orElse(Mono.error(new IllegalStateException("RoutingClient must be set")));
     }
 
+    /**
+     * The {@link SnapshotStore} that stable lookups, like the ids of stacks and the names of shared domains, are persisted to, so that they can be restored by a new JVM
+     */
+    abstract Optional<SnapshotStore> getSnapshotStore();
+
     /**
      * The space to target
      */
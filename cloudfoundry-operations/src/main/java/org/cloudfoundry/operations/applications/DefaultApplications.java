@@ -95,6 +95,7 @@ import org.cloudfoundry.doppler.LogMessage;
 import org.cloudfoundry.doppler.RecentLogsRequest;
 import org.cloudfoundry.doppler.StreamRequest;
 import org.cloudfoundry.operations.util.OperationsLogging;
+import org.cloudfoundry.operations.util.ResourceIdCache;
 import org.cloudfoundry.util.DateUtils;
 import org.cloudfoundry.util.DelayTimeoutException;
 import org.cloudfoundry.util.ExceptionUtils;
@@ -129,6 +130,11 @@ import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.APPLICATION;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.ORGANIZATION;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.SERVICE_INSTANCE;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.SPACE;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.STACK;
 import static org.cloudfoundry.util.DelayUtils.exponentialBackOff;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 import static org.cloudfoundry.util.tuple.TupleUtils.predicate;
@@ -169,16 +175,27 @@ public final class DefaultApplications implements Applications {
 
     private final RandomWords randomWords;
 
+    private final ResourceIdCache resourceIds;
+
     private final Mono<String> spaceId;
 
     public DefaultApplications(Mono<CloudFoundryClient> cloudFoundryClient, Mono<DopplerClient> dopplerClient, Mono<String> spaceId) {
-        this(cloudFoundryClient, dopplerClient, new WordListRandomWords(), spaceId);
+        this(cloudFoundryClient, dopplerClient, spaceId, ResourceIdCache.disabled());
+    }
+
+    public DefaultApplications(Mono<CloudFoundryClient> cloudFoundryClient, Mono<DopplerClient> dopplerClient, Mono<String> spaceId, ResourceIdCache resourceIds) {
+        this(cloudFoundryClient, dopplerClient, new WordListRandomWords(), spaceId, resourceIds);
     }
 
     DefaultApplications(Mono<CloudFoundryClient> cloudFoundryClient, Mono<DopplerClient> dopplerClient, RandomWords randomWords, Mono<String> spaceId) {
+        this(cloudFoundryClient, dopplerClient, randomWords, spaceId, ResourceIdCache.disabled());
+    }
+
+    DefaultApplications(Mono<CloudFoundryClient> cloudFoundryClient, Mono<DopplerClient> dopplerClient, RandomWords randomWords, Mono<String> spaceId, ResourceIdCache resourceIds) {
         this.cloudFoundryClient = cloudFoundryClient;
         this.dopplerClient = dopplerClient;
         this.randomWords = randomWords;
+        this.resourceIds = resourceIds;
         this.spaceId = spaceId;
     }
 
@@ -188,8 +205,8 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId),
-                getApplicationIdFromOrgSpace(cloudFoundryClient, request.getTargetName(), spaceId, request.getTargetOrganization(), request.getTargetSpace())
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getName(), spaceId),
+                getApplicationIdFromOrgSpace(cloudFoundryClient, this.resourceIds, request.getTargetName(), spaceId, request.getTargetOrganization(), request.getTargetSpace())
             )))
             .flatMap(function((cloudFoundryClient, sourceApplicationId, targetApplicationId) -> copyBits(cloudFoundryClient, request.getStagingTimeout(), sourceApplicationId, targetApplicationId)
                 .thenReturn(Tuples.of(cloudFoundryClient, targetApplicationId))))
@@ -204,12 +221,13 @@ public final class DefaultApplications implements Applications {
     public Mono<Void> delete(DeleteApplicationRequest request) {
         return Mono
             .zip(this.cloudFoundryClient, this.spaceId)
-            .flatMap(function((cloudFoundryClient, spaceId) -> getRoutesAndApplicationId(cloudFoundryClient, request, spaceId, Optional.ofNullable(request.getDeleteRoutes()).orElse(false))
+            .flatMap(function((cloudFoundryClient, spaceId) -> getRoutesAndApplicationId(cloudFoundryClient, request, this.resourceIds, spaceId, Optional.ofNullable(request.getDeleteRoutes()).orElse(false))
                 .map(function((routes, applicationId) -> Tuples.of(cloudFoundryClient, routes, applicationId)))))
             .flatMap(function((cloudFoundryClient, routes, applicationId) -> deleteRoutes(cloudFoundryClient, request.getCompletionTimeout(), routes)
                 .thenReturn(Tuples.of(cloudFoundryClient, applicationId))))
             .delayUntil(function(DefaultApplications::removeServiceBindings))
             .flatMap(function(DefaultApplications::requestDeleteApplication))
+            .transform(this.resourceIds.invalidating(APPLICATION))
             .transform(OperationsLogging.log("Delete Application"))
             .checkpoint();
     }
@@ -262,7 +280,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
@@ -283,7 +301,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getName(), spaceId)
             )))
             .flatMap(function(DefaultApplications::requestApplicationEnvironment))
             .map(DefaultApplications::toApplicationEnvironments)
@@ -297,7 +315,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getName(), spaceId)
             )))
             .flatMapMany(function((cloudFoundryClient, applicationId) -> requestEvents(applicationId, cloudFoundryClient)
                 .take(Optional.ofNullable(request.getMaxNumberOfEvents()).orElse(MAX_NUMBER_OF_RECENT_EVENTS))))
@@ -345,7 +363,7 @@ public final class DefaultApplications implements Applications {
     public Flux<LogMessage> logs(LogsRequest request) {
         return Mono
             .zip(this.cloudFoundryClient, this.spaceId)
-            .flatMap(function((cloudFoundryClient, spaceId) -> getApplicationId(cloudFoundryClient, request.getName(), spaceId)))
+            .flatMap(function((cloudFoundryClient, spaceId) -> getApplicationId(cloudFoundryClient, this.resourceIds, request.getName(), spaceId)))
             .flatMapMany(applicationId -> getLogs(this.dopplerClient, applicationId, request.getRecent()))
             .transform(OperationsLogging.log("Get Application Logs"))
             .checkpoint();
@@ -409,14 +427,15 @@ public final class DefaultApplications implements Applications {
             .flatMapMany(function((cloudFoundryClient, availableDomains, spaceId) -> Flux.fromIterable(request.getManifests())
                 .flatMap(manifest -> {
                     if (manifest.getPath() != null) {
-                        return pushApplication(cloudFoundryClient, availableDomains, manifest, this.randomWords, request, spaceId);
+                        return pushApplication(cloudFoundryClient, availableDomains, manifest, this.randomWords, request, this.resourceIds, spaceId);
                     } else if (!manifest.getDocker().getImage().isEmpty()) {
-                        return pushDocker(cloudFoundryClient, availableDomains, manifest, this.randomWords, request, spaceId);
+                        return pushDocker(cloudFoundryClient, availableDomains, manifest, this.randomWords, request, this.resourceIds, spaceId);
                     } else {
                         throw new IllegalStateException("One of application or dockerImage must be supplied");
                     }
                 })))
             .then()
+            .transform(this.resourceIds.invalidating(APPLICATION))
             .transform(OperationsLogging.log("Push Manifest"))
             .checkpoint();
     }
@@ -427,10 +446,11 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId) -> requestUpdateApplicationName(cloudFoundryClient, applicationId, request.getNewName())))
             .then()
+            .transform(this.resourceIds.invalidating(APPLICATION))
             .transform(OperationsLogging.log("Rename Application"))
             .checkpoint();
     }
@@ -441,7 +461,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId) -> restageApplication(cloudFoundryClient, request.getName(), applicationId, request.getStagingTimeout(), request.getStartupTimeout
                 ())))
@@ -473,7 +493,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId) -> requestTerminateApplicationInstance(cloudFoundryClient, applicationId, String.valueOf(request.getInstanceIndex()))))
             .transform(OperationsLogging.log("Restart Application Instance"))
@@ -501,7 +521,7 @@ public final class DefaultApplications implements Applications {
             .filter(predicate((cloudFoundryClient, spaceId) -> areModifiersPresent(request)))
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
@@ -535,7 +555,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId) -> requestUpdateApplicationHealthCheckType(cloudFoundryClient, applicationId, request.getType())))
             .then()
@@ -633,13 +653,13 @@ public final class DefaultApplications implements Applications {
             .map(ResourceUtils::getId);
     }
 
-    private static Mono<Void> bindServices(CloudFoundryClient cloudFoundryClient, String applicationId, ApplicationManifest manifest, String spaceId) {
+    private static Mono<Void> bindServices(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String applicationId, ApplicationManifest manifest, String spaceId) {
         if (manifest.getServices() == null || manifest.getServices().size() == 0) {
             return Mono.empty();
         }
 
         return Flux.fromIterable(manifest.getServices())
-            .flatMap(serviceInstanceName -> getServiceId(cloudFoundryClient, serviceInstanceName, spaceId))
+            .flatMap(serviceInstanceName -> getServiceId(cloudFoundryClient, resourceIds, serviceInstanceName, spaceId))
             .flatMap(serviceInstanceId -> requestCreateServiceBinding(cloudFoundryClient, applicationId, serviceInstanceId)
                 .onErrorResume(ExceptionUtils.statusCode(CF_SERVICE_ALREADY_BOUND), t -> Mono.empty()))
             .then();
@@ -754,9 +774,12 @@ public final class DefaultApplications implements Applications {
             .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Application %s does not exist", application));
     }
 
-    private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
-        return getApplication(cloudFoundryClient, application, spaceId)
-            .map(ResourceUtils::getId);
+    private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String application, String spaceId) {
+        return resourceIds
+            .get(APPLICATION, spaceId, application, () -> requestApplications(cloudFoundryClient, application, spaceId)
+                .map(ResourceUtils::getId)
+                .singleOrEmpty())
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Application %s does not exist", application));
     }
 
     private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, ApplicationManifest manifest, String spaceId, String stackId) {
@@ -773,12 +796,13 @@ public final class DefaultApplications implements Applications {
                 .map(ResourceUtils::getId));
     }
 
-    private static Mono<String> getApplicationIdFromOrgSpace(CloudFoundryClient cloudFoundryClient, String application, String spaceId, String organization, String space) {
+    private static Mono<String> getApplicationIdFromOrgSpace(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String application, String spaceId, String organization,
+                                                             String space) {
         return
             getSpaceOrganizationId(cloudFoundryClient, spaceId)
-                .flatMap(organizationId -> organization != null ? getOrganizationId(cloudFoundryClient, organization) : Mono.just(organizationId))
-                .flatMap(organizationId -> space != null ? getSpaceId(cloudFoundryClient, organizationId, space) : Mono.just(spaceId))
-                .flatMap(spaceId1 -> getApplicationId(cloudFoundryClient, application, spaceId1));
+                .flatMap(organizationId -> organization != null ? getOrganizationId(cloudFoundryClient, resourceIds, organization) : Mono.just(organizationId))
+                .flatMap(organizationId -> space != null ? getSpaceId(cloudFoundryClient, resourceIds, organizationId, space) : Mono.just(spaceId))
+                .flatMap(spaceId1 -> getApplicationId(cloudFoundryClient, resourceIds, application, spaceId1));
     }
 
     private static Mono<String> getApplicationIdV3(CloudFoundryClient cloudFoundryClient, String applicationName, String spaceId) {
@@ -841,9 +865,8 @@ public final class DefaultApplications implements Applications {
     }
 
     private static Mono<String> getDefaultDomainId(CloudFoundryClient cloudFoundryClient) {
-        return requestSharedDomains(cloudFoundryClient)
+        return requestFirstSharedDomain(cloudFoundryClient)
             .map(ResourceUtils::getId)
-            .next()
             .switchIfEmpty(ExceptionUtils.illegalArgument("No default domain found"));
     }
 
@@ -905,28 +928,19 @@ public final class DefaultApplications implements Applications {
         }
     }
 
-    private static Mono<Optional<String>> getOptionalStackId(CloudFoundryClient cloudFoundryClient, String stack) {
+    private static Mono<Optional<String>> getOptionalStackId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String stack) {
         return Optional.ofNullable(stack)
-            .map(stack1 -> getStackId(cloudFoundryClient, stack1)
+            .map(stack1 -> getStackId(cloudFoundryClient, resourceIds, stack1)
                 .map(Optional::of))
             .orElse(Mono.just(Optional.empty()));
     }
 
-    private static Mono<OrganizationResource> getOrganization(CloudFoundryClient cloudFoundryClient, String organization) {
-        return requestOrganizations(cloudFoundryClient, organization)
-            .single()
-            .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Organization %s not found", organization));
-    }
-
-    private static Mono<String> getOrganizationId(CloudFoundryClient cloudFoundryClient, String organization) {
-        return getOrganization(cloudFoundryClient, organization)
-            .map(ResourceUtils::getId);
-    }
-
-    private static Mono<SpaceResource> getOrganizationSpaceByName(CloudFoundryClient cloudFoundryClient, String organizationId, String space) {
-        return requestOrganizationSpacesByName(cloudFoundryClient, organizationId, space)
-            .single()
-            .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Space %s not found", space));
+    private static Mono<String> getOrganizationId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String organization) {
+        return resourceIds
+            .get(ORGANIZATION, null, organization, () -> requestOrganizations(cloudFoundryClient, organization)
+                .map(ResourceUtils::getId)
+                .singleOrEmpty())
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Organization %s not found", organization));
     }
 
     private static Flux<String> getPushRouteIdFromDomain(CloudFoundryClient cloudFoundryClient, List<DomainSummary> availableDomains, String domainId, ApplicationManifest manifest,
@@ -1001,22 +1015,26 @@ public final class DefaultApplications implements Applications {
     }
 
     private static Mono<Tuple2<Optional<List<org.cloudfoundry.client.v2.routes.Route>>, String>> getRoutesAndApplicationId(CloudFoundryClient cloudFoundryClient, DeleteApplicationRequest request,
-                                                                                                                           String spaceId, boolean deleteRoutes) {
-        return getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                                                                                                                           ResourceIdCache resourceIds, String spaceId, boolean deleteRoutes) {
+        return getApplicationId(cloudFoundryClient, resourceIds, request.getName(), spaceId)
             .flatMap(applicationId -> getOptionalRoutes(cloudFoundryClient, deleteRoutes, applicationId)
                 .zipWith(Mono.just(applicationId)));
     }
 
-    private static Mono<String> getServiceId(CloudFoundryClient cloudFoundryClient, String serviceInstanceName, String spaceId) {
-        return requestListServiceInstances(cloudFoundryClient, serviceInstanceName, spaceId)
-            .map(ResourceUtils::getId)
-            .single()
-            .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Service instance %s could not be found", serviceInstanceName));
+    private static Mono<String> getServiceId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String serviceInstanceName, String spaceId) {
+        return resourceIds
+            .get(SERVICE_INSTANCE, spaceId, serviceInstanceName, () -> requestListServiceInstances(cloudFoundryClient, serviceInstanceName, spaceId)
+                .map(ResourceUtils::getId)
+                .singleOrEmpty())
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Service instance %s could not be found", serviceInstanceName));
     }
 
-    private static Mono<String> getSpaceId(CloudFoundryClient cloudFoundryClient, String organizationId, String space) {
-        return getOrganizationSpaceByName(cloudFoundryClient, organizationId, space)
-            .map(ResourceUtils::getId);
+    private static Mono<String> getSpaceId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String organizationId, String space) {
+        return resourceIds
+            .get(SPACE, organizationId, space, () -> requestOrganizationSpacesByName(cloudFoundryClient, organizationId, space)
+                .map(ResourceUtils::getId)
+                .singleOrEmpty())
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Space %s not found", space));
     }
 
     private static Mono<String> getSpaceOrganizationId(CloudFoundryClient cloudFoundryClient, String spaceId) {
@@ -1024,11 +1042,12 @@ public final class DefaultApplications implements Applications {
             .map(response -> ResourceUtils.getEntity(response).getOrganizationId());
     }
 
-    private static Mono<String> getStackId(CloudFoundryClient cloudFoundryClient, String stack) {
-        return requestStacks(cloudFoundryClient, stack)
-            .map(ResourceUtils::getId)
-            .single()
-            .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Stack %s does not exist", stack));
+    private static Mono<String> getStackId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String stack) {
+        return resourceIds
+            .get(STACK, null, stack, () -> requestStacks(cloudFoundryClient, stack)
+                .map(ResourceUtils::getId)
+                .singleOrEmpty())
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Stack %s does not exist", stack));
     }
 
     private static Mono<String> getStackName(CloudFoundryClient cloudFoundryClient, String stackId) {
@@ -1143,9 +1162,9 @@ public final class DefaultApplications implements Applications {
     }
 
     private static Flux<Void> pushApplication(CloudFoundryClient cloudFoundryClient, List<DomainSummary> availableDomains, ApplicationManifest manifest, RandomWords randomWords,
-                                              PushApplicationManifestRequest request, String spaceId) {
+                                              PushApplicationManifestRequest request, ResourceIdCache resourceIds, String spaceId) {
 
-        return getOptionalStackId(cloudFoundryClient, manifest.getStack())
+        return getOptionalStackId(cloudFoundryClient, resourceIds, manifest.getStack())
             .flatMapMany(stackId -> getApplicationId(cloudFoundryClient, manifest, spaceId, stackId.orElse(null)))
             .flatMap(applicationId -> Mono.zip(
                 Mono.just(applicationId),
@@ -1157,16 +1176,16 @@ public final class DefaultApplications implements Applications {
                 .thenReturn(Tuples.of(applicationId, matchedResources))))
             .flatMap(function((applicationId, matchedResources) -> Mono.when(
                 uploadApplicationAndWait(cloudFoundryClient, applicationId, manifest.getPath(), matchedResources, request.getStagingTimeout()),
-                bindServices(cloudFoundryClient, applicationId, manifest, spaceId)
+                bindServices(cloudFoundryClient, resourceIds, applicationId, manifest, spaceId)
             )
                 .thenReturn(applicationId)))
             .flatMap(applicationId -> stopAndStartApplication(cloudFoundryClient, applicationId, manifest.getName(), request));
     }
 
     private static Flux<Void> pushDocker(CloudFoundryClient cloudFoundryClient, List<DomainSummary> availableDomains, ApplicationManifest manifest, RandomWords randomWords,
-                                         PushApplicationManifestRequest request, String spaceId) {
+                                         PushApplicationManifestRequest request, ResourceIdCache resourceIds, String spaceId) {
 
-        return getOptionalStackId(cloudFoundryClient, manifest.getStack())
+        return getOptionalStackId(cloudFoundryClient, resourceIds, manifest.getStack())
             .flatMapMany(stackId -> getApplicationId(cloudFoundryClient, manifest, spaceId, stackId.orElse(null)))
             .flatMap(applicationId -> Mono.zip(
                 Mono.just(applicationId),
@@ -1174,7 +1193,7 @@ public final class DefaultApplications implements Applications {
             ))
             .flatMap(function((applicationId, existingRoutes) -> prepareDomainsAndRoutes(cloudFoundryClient, applicationId, availableDomains, manifest, existingRoutes, randomWords, spaceId)
                 .thenReturn(applicationId)))
-            .delayUntil(applicationId -> bindServices(cloudFoundryClient, applicationId, manifest, spaceId))
+            .delayUntil(applicationId -> bindServices(cloudFoundryClient, resourceIds, applicationId, manifest, spaceId))
             .flatMap(applicationId -> stopAndStartApplication(cloudFoundryClient, applicationId, manifest.getName(), request));
     }
 
@@ -1370,6 +1389,14 @@ public final class DefaultApplications implements Applications {
                     .build()));
     }
 
+    private static Mono<SharedDomainResource> requestFirstSharedDomain(CloudFoundryClient cloudFoundryClient) {
+        return PaginationUtils
+            .requestClientV2Resource(resultsPerPage -> cloudFoundryClient.sharedDomains()
+                .list(ListSharedDomainsRequest.builder()
+                    .resultsPerPage(resultsPerPage)
+                    .build()));
+    }
+
     private static Mono<AbstractApplicationResource> requestGetApplication(CloudFoundryClient cloudFoundryClient, String applicationId) {
         return cloudFoundryClient.applicationsV2()
             .get(org.cloudfoundry.client.v2.applications.GetApplicationRequest.builder()
@@ -1506,14 +1533,6 @@ public final class DefaultApplications implements Applications {
                     .build()));
     }
 
-    private static Flux<SharedDomainResource> requestSharedDomains(CloudFoundryClient cloudFoundryClient) {
-        return PaginationUtils
-            .requestClientV2Resources(page -> cloudFoundryClient.sharedDomains()
-                .list(ListSharedDomainsRequest.builder()
-                    .page(page)
-                    .build()));
-    }
-
     private static Mono<GetSpaceResponse> requestSpace(CloudFoundryClient cloudFoundryClient, String spaceId) {
         return cloudFoundryClient.spaces()
             .get(GetSpaceRequest.builder()
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.auditevents;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Stores the timestamp of the latest audit event delivered, so that tailing audit events can resume where it stopped
+ */
+public interface AuditEventCheckpointStore {
+
+    /**
+     * Get the checkpoint
+     *
+     * @return the timestamp of the latest audit event delivered, or empty if there is none
+     */
+    Mono<String> getCheckpoint();
+
+    /**
+     * Set the checkpoint
+     *
+     * @param timestamp the timestamp of the latest audit event delivered
+     * @return completion indicator
+     */
+    Mono<Void> setCheckpoint(String timestamp);
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.auditevents;
+
+import org.cloudfoundry.client.v2.events.EventResource;
+import reactor.core.publisher.Flux;
+
+/**
+ * Main entry point to the Cloud Foundry Audit Events Operations API
+ */
+public interface AuditEvents {
+
+    /**
+     * Continuously tail audit events, starting after the checkpoint in the request's store
+     *
+     * @param request the tail audit events request
+     * @return the audit events, in the order they are recorded
+     */
+    Flux<EventResource> tail(TailAuditEventsRequest request);
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.auditevents;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.OrderDirection;
+import org.cloudfoundry.client.v2.events.EventResource;
+import org.cloudfoundry.client.v2.events.ListEventsRequest;
+import org.cloudfoundry.operations.util.OperationsLogging;
+import org.cloudfoundry.util.PaginationUtils;
+import org.cloudfoundry.util.ResourceUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tails audit events by polling for events at or after the latest timestamp seen, less an overlap window.  Events seen again in the overlap are dropped using a bounded set of recent event ids.
+ * The checkpoint is stored after each poll has been delivered, so delivery is at-least-once: tailing that is resumed will redeliver the events in the overlap window.
+ */
+public final class DefaultAuditEvents implements AuditEvents {
+
+    private static final int RESULTS_PER_PAGE = 100;
+
+    private final Mono<CloudFoundryClient> cloudFoundryClient;
+
+    public DefaultAuditEvents(Mono<CloudFoundryClient> cloudFoundryClient) {
+        this.cloudFoundryClient = cloudFoundryClient;
+    }
+
+    @Override
+    public Flux<EventResource> tail(TailAuditEventsRequest request) {
+        return this.cloudFoundryClient
+            .flatMapMany(cloudFoundryClient -> request.getCheckpointStore().getCheckpoint()
+                .switchIfEmpty(Mono.fromSupplier(() -> getStartTimestamp(request)))
+                .flatMapMany(checkpoint -> tail(cloudFoundryClient, request, new Window(checkpoint, request.getSeenEventCapacity()))))
+            .transform(OperationsLogging.log("Tail Audit Events"))
+            .checkpoint();
+    }
+
+    private static String getStartTimestamp(TailAuditEventsRequest request) {
+        if (request.getStartTimestamp() != null) {
+            return request.getStartTimestamp();
+        }
+
+        return toTimestamp(Instant.now());
+    }
+
+    private static Flux<EventResource> requestEvents(CloudFoundryClient cloudFoundryClient, TailAuditEventsRequest request, String since) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.events()
+                .list(ListEventsRequest.builder()
+                    .actees(request.getActees())
+                    .orderDirection(OrderDirection.ASCENDING)
+                    .page(page)
+                    .resultsPerPage(RESULTS_PER_PAGE)
+                    .timestamp(since)
+                    .types(request.getTypes())
+                    .build()));
+    }
+
+    private static Flux<EventResource> tail(CloudFoundryClient cloudFoundryClient, TailAuditEventsRequest request, Window window) {
+        return Flux
+            .defer(() -> requestEvents(cloudFoundryClient, request, window.getSince(request.getOverlap()))
+                .filter(window::isUnseen)
+                .doOnNext(window::record)
+                .concatWith(Mono.defer(() -> request.getCheckpointStore().setCheckpoint(window.latest))
+                    .then(Mono.empty())))
+            .repeatWhen(polls -> polls.concatMap(count -> Mono.delay(request.getPollInterval())));
+    }
+
+    private static String toTimestamp(Instant instant) {
+        return instant.truncatedTo(ChronoUnit.SECONDS).toString();
+    }
+
+    /**
+     * The latest timestamp seen by a tail, and the ids of the events seen most recently
+     */
+    private static final class Window {
+
+        private final Map<String, Boolean> seen;
+
+        private volatile String latest;
+
+        private Window(String latest, int capacity) {
+            this.latest = latest;
+            this.seen = new LinkedHashMap<String, Boolean>() {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > capacity;
+                }
+
+            };
+        }
+
+        private static Instant parse(String timestamp) {
+            try {
+                return Instant.parse(timestamp);
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+
+        private synchronized String getSince(Duration overlap) {
+            Instant latest = parse(this.latest);
+            return latest == null ? this.latest : toTimestamp(latest.minus(overlap));
+        }
+
+        private synchronized boolean isUnseen(EventResource resource) {
+            return !this.seen.containsKey(ResourceUtils.getId(resource));
+        }
+
+        private synchronized void record(EventResource resource) {
+            this.seen.put(ResourceUtils.getId(resource), true);
+
+            String timestamp = ResourceUtils.getEntity(resource).getTimestamp();
+            Instant instant = parse(timestamp);
+            Instant latest = parse(this.latest);
+
+            if (instant != null && (latest == null || instant.isAfter(latest))) {
+                this.latest = timestamp;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.auditevents;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An {@link AuditEventCheckpointStore} that keeps its checkpoint in memory
+ */
+public final class InMemoryAuditEventCheckpointStore implements AuditEventCheckpointStore {
+
+    private final AtomicReference<String> checkpoint = new AtomicReference<>();
+
+    @Override
+    public Mono<String> getCheckpoint() {
+        return Mono.justOrEmpty(this.checkpoint.get());
+    }
+
+    @Override
+    public Mono<Void> setCheckpoint(String timestamp) {
+        return Mono.fromRunnable(() -> this.checkpoint.set(timestamp));
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.auditevents;
+
+import org.cloudfoundry.Nullable;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The request options for the tail audit events operation
+ */
+@Value.Immutable
+abstract class _TailAuditEventsRequest {
+
+    @Value.Check
+    void check() {
+        if (getSeenEventCapacity() < 1) {
+            throw new IllegalStateException("Cannot build TailAuditEventsRequest, seen event capacity must be at least 1");
+        }
+    }
+
+    /**
+     * The ids of the actees to restrict events to
+     */
+    @Nullable
+    abstract List<String> getActees();
+
+    /**
+     * The store used to resume tailing where it last stopped
+     */
+    @Value.Default
+    AuditEventCheckpointStore getCheckpointStore() {
+        return new InMemoryAuditEventCheckpointStore();
+    }
+
+    /**
+     * How far before the latest timestamp seen each poll starts, to catch events that are recorded late
+     */
+    @Value.Default
+    Duration getOverlap() {
+        return Duration.ofSeconds(30);
+    }
+
+    /**
+     * The time to wait between polls
+     */
+    @Value.Default
+    Duration getPollInterval() {
+        return Duration.ofSeconds(10);
+    }
+
+    /**
+     * The number of most recent event ids remembered to drop events seen again in the overlap.  This should exceed the number of events expected within the overlap.
+     */
+    @Value.Default
+    Integer getSeenEventCapacity() {
+        return 10_000;
+    }
+
+    /**
+     * The timestamp to start from when the checkpoint store is empty.  Defaults to now.
+     */
+    @Nullable
+    abstract String getStartTimestamp();
+
+    /**
+     * The types of events to restrict events to
+     */
+    @Nullable
+    abstract List<String> getTypes();
+
+}
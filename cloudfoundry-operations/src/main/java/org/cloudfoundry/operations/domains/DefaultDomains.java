@@ -32,6 +32,8 @@ import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsRequest;
 import org.cloudfoundry.client.v2.shareddomains.SharedDomainEntity;
 import org.cloudfoundry.client.v2.shareddomains.SharedDomainResource;
 import org.cloudfoundry.operations.util.OperationsLogging;
+import org.cloudfoundry.operations.util.ReferenceDataCache;
+import org.cloudfoundry.operations.util.ResourceIdCache;
 import org.cloudfoundry.routing.RoutingClient;
 import org.cloudfoundry.routing.v1.routergroups.ListRouterGroupsResponse;
 import org.cloudfoundry.util.ExceptionUtils;
@@ -42,16 +44,31 @@ import reactor.core.publisher.Mono;
 
 import java.util.NoSuchElementException;
 
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.DOMAIN;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 
 public final class DefaultDomains implements Domains {
 
     private final Mono<CloudFoundryClient> cloudFoundryClient;
 
+    private final ReferenceDataCache referenceData;
+
+    private final ResourceIdCache resourceIds;
+
     private final Mono<RoutingClient> routingClient;
 
     public DefaultDomains(Mono<CloudFoundryClient> cloudFoundryClient, Mono<RoutingClient> routingClient) {
+        this(cloudFoundryClient, routingClient, ResourceIdCache.disabled());
+    }
+
+    public DefaultDomains(Mono<CloudFoundryClient> cloudFoundryClient, Mono<RoutingClient> routingClient, ResourceIdCache resourceIds) {
+        this(cloudFoundryClient, routingClient, ReferenceDataCache.disabled(), resourceIds);
+    }
+
+    public DefaultDomains(Mono<CloudFoundryClient> cloudFoundryClient, Mono<RoutingClient> routingClient, ReferenceDataCache referenceData, ResourceIdCache resourceIds) {
         this.cloudFoundryClient = cloudFoundryClient;
+        this.referenceData = referenceData;
+        this.resourceIds = resourceIds;
         this.routingClient = routingClient;
     }
 
@@ -64,6 +81,7 @@ public final class DefaultDomains implements Domains {
             ))
             .flatMap(function((cloudFoundryClient, organizationId) -> requestCreateDomain(cloudFoundryClient, request.getDomain(), organizationId)))
             .then()
+            .transform(this.resourceIds.invalidating(DOMAIN))
             .transform(OperationsLogging.log("Create Domain"))
             .checkpoint();
     }
@@ -74,6 +92,8 @@ public final class DefaultDomains implements Domains {
             return this.cloudFoundryClient
                 .flatMap(cloudFoundryClient -> requestCreateSharedDomain(cloudFoundryClient, request.getDomain(), null))
                 .then()
+                .transform(this.resourceIds.invalidating(DOMAIN))
+                .doFinally(signal -> this.referenceData.invalidateSharedDomainNames())
                 .transform(OperationsLogging.log("Create Shared Domain"))
                 .checkpoint();
         } else {
@@ -85,6 +105,8 @@ public final class DefaultDomains implements Domains {
                 )))
                 .flatMap(function((cloudFoundryClient, routerGroupId) -> requestCreateSharedDomain(cloudFoundryClient, request.getDomain(), routerGroupId)))
                 .then()
+                .transform(this.resourceIds.invalidating(DOMAIN))
+                .doFinally(signal -> this.referenceData.invalidateSharedDomainNames())
                 .transform(OperationsLogging.log("Create Shared Domain"))
                 .checkpoint();
         }
@@ -121,6 +143,7 @@ public final class DefaultDomains implements Domains {
             ))
             .flatMap(function(DefaultDomains::requestAssociateOrganizationPrivateDomainRequest))
             .then()
+            .transform(this.resourceIds.invalidating(DOMAIN))
             .transform(OperationsLogging.log("Share Domain"))
             .checkpoint();
     }
@@ -134,6 +157,7 @@ public final class DefaultDomains implements Domains {
                 getOrganizationId(cloudFoundryClient, request.getOrganization())
             ))
             .flatMap(function(DefaultDomains::requestRemoveOrganizationPrivateDomainRequest))
+            .transform(this.resourceIds.invalidating(DOMAIN))
             .transform(OperationsLogging.log("Unshare Domain"))
             .checkpoint();
     }
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.inventory;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.organizations.ListOrganizationsRequest;
+import org.cloudfoundry.client.v2.organizations.OrganizationResource;
+import org.cloudfoundry.client.v2.privatedomains.ListPrivateDomainsRequest;
+import org.cloudfoundry.client.v2.privatedomains.PrivateDomainResource;
+import org.cloudfoundry.client.v2.routemappings.ListRouteMappingsRequest;
+import org.cloudfoundry.client.v2.routemappings.RouteMappingResource;
+import org.cloudfoundry.client.v2.routes.ListRoutesRequest;
+import org.cloudfoundry.client.v2.routes.RouteResource;
+import org.cloudfoundry.client.v2.serviceinstances.ListServiceInstancesRequest;
+import org.cloudfoundry.client.v2.serviceinstances.ServiceInstanceResource;
+import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsRequest;
+import org.cloudfoundry.client.v2.shareddomains.SharedDomainResource;
+import org.cloudfoundry.client.v2.spaces.ListSpacesRequest;
+import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.cloudfoundry.client.v2.userprovidedserviceinstances.ListUserProvidedServiceInstancesRequest;
+import org.cloudfoundry.client.v2.userprovidedserviceinstances.UserProvidedServiceInstanceResource;
+import org.cloudfoundry.client.v3.applications.ApplicationResource;
+import org.cloudfoundry.client.v3.applications.ApplicationState;
+import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.operations.util.OperationsLogging;
+import org.cloudfoundry.util.PaginationUtils;
+import org.cloudfoundry.util.ResourceUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+public final class DefaultInventory implements Inventory {
+
+    private static final int CLIENT_V2_PAGE_SIZE = 100;
+
+    private static final int CLIENT_V3_PAGE_SIZE = 5000;
+
+    private final Mono<CloudFoundryClient> cloudFoundryClient;
+
+    public DefaultInventory(Mono<CloudFoundryClient> cloudFoundryClient) {
+        this.cloudFoundryClient = cloudFoundryClient;
+    }
+
+    @Override
+    public Mono<InventorySnapshot> snapshot() {
+        return this.cloudFoundryClient
+            .flatMap(DefaultInventory::snapshot)
+            .transform(OperationsLogging.log("Take Inventory Snapshot"))
+            .checkpoint();
+    }
+
+    private static Mono<Void> addApplications(CloudFoundryClient cloudFoundryClient, InventorySnapshot.Builder builder) {
+        return requestApplications(cloudFoundryClient)
+            .doOnNext(resource -> builder.application(resource.getId(), resource.getName(), getSpaceId(resource), Optional.ofNullable(resource.getState())
+                .map(ApplicationState::getValue)
+                .orElse(null)))
+            .then();
+    }
+
+    private static Mono<Void> addDomains(CloudFoundryClient cloudFoundryClient, InventorySnapshot.Builder builder) {
+        return Flux
+            .merge(
+                requestPrivateDomains(cloudFoundryClient)
+                    .doOnNext(resource -> builder.domain(ResourceUtils.getId(resource), ResourceUtils.getEntity(resource).getName())),
+                requestSharedDomains(cloudFoundryClient)
+                    .doOnNext(resource -> builder.domain(ResourceUtils.getId(resource), ResourceUtils.getEntity(resource).getName())))
+            .then();
+    }
+
+    private static Mono<Void> addOrganizations(CloudFoundryClient cloudFoundryClient, InventorySnapshot.Builder builder) {
+        return requestOrganizations(cloudFoundryClient)
+            .doOnNext(resource -> builder.organization(ResourceUtils.getId(resource), ResourceUtils.getEntity(resource).getName()))
+            .then();
+    }
+
+    private static Mono<Void> addRouteMappings(CloudFoundryClient cloudFoundryClient, InventorySnapshot.Builder builder) {
+        return requestRouteMappings(cloudFoundryClient)
+            .doOnNext(resource -> builder.routeMapping(ResourceUtils.getEntity(resource).getApplicationId(), ResourceUtils.getEntity(resource).getRouteId()))
+            .then();
+    }
+
+    private static Mono<Void> addRoutes(CloudFoundryClient cloudFoundryClient, InventorySnapshot.Builder builder) {
+        return requestRoutes(cloudFoundryClient)
+            .doOnNext(resource -> builder.route(ResourceUtils.getId(resource), ResourceUtils.getEntity(resource).getHost(), ResourceUtils.getEntity(resource).getDomainId(),
+                ResourceUtils.getEntity(resource).getPath(), ResourceUtils.getEntity(resource).getPort(), ResourceUtils.getEntity(resource).getSpaceId()))
+            .then();
+    }
+
+    private static Mono<Void> addServiceInstances(CloudFoundryClient cloudFoundryClient, InventorySnapshot.Builder builder) {
+        return Flux
+            .merge(
+                requestServiceInstances(cloudFoundryClient)
+                    .doOnNext(resource -> builder.serviceInstance(ResourceUtils.getId(resource), ResourceUtils.getEntity(resource).getName(), ResourceUtils.getEntity(resource).getType(),
+                        ResourceUtils.getEntity(resource).getSpaceId())),
+                requestUserProvidedServiceInstances(cloudFoundryClient)
+                    .doOnNext(resource -> builder.serviceInstance(ResourceUtils.getId(resource), ResourceUtils.getEntity(resource).getName(), ResourceUtils.getEntity(resource).getType(),
+                        ResourceUtils.getEntity(resource).getSpaceId())))
+            .then();
+    }
+
+    private static Mono<Void> addSpaces(CloudFoundryClient cloudFoundryClient, InventorySnapshot.Builder builder) {
+        return requestSpaces(cloudFoundryClient)
+            .doOnNext(resource -> builder.space(ResourceUtils.getId(resource), ResourceUtils.getEntity(resource).getName(), ResourceUtils.getEntity(resource).getOrganizationId()))
+            .then();
+    }
+
+    private static String getSpaceId(ApplicationResource resource) {
+        return Optional.ofNullable(resource.getRelationships())
+            .map(relationships -> relationships.getSpace().getData().getId())
+            .orElse(null);
+    }
+
+    private static Flux<ApplicationResource> requestApplications(CloudFoundryClient cloudFoundryClient) {
+        return PaginationUtils
+            .requestClientV3Resources(page -> cloudFoundryClient.applicationsV3()
+                .list(ListApplicationsRequest.builder()
+                    .page(page)
+                    .perPage(CLIENT_V3_PAGE_SIZE)
+                    .build()));
+    }
+
+    private static Flux<OrganizationResource> requestOrganizations(CloudFoundryClient cloudFoundryClient) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.organizations()
+                .list(ListOrganizationsRequest.builder()
+                    .page(page)
+                    .resultsPerPage(CLIENT_V2_PAGE_SIZE)
+                    .build()));
+    }
+
+    private static Flux<PrivateDomainResource> requestPrivateDomains(CloudFoundryClient cloudFoundryClient) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.privateDomains()
+                .list(ListPrivateDomainsRequest.builder()
+                    .page(page)
+                    .resultsPerPage(CLIENT_V2_PAGE_SIZE)
+                    .build()));
+    }
+
+    private static Flux<RouteMappingResource> requestRouteMappings(CloudFoundryClient cloudFoundryClient) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.routeMappings()
+                .list(ListRouteMappingsRequest.builder()
+                    .page(page)
+                    .resultsPerPage(CLIENT_V2_PAGE_SIZE)
+                    .build()));
+    }
+
+    private static Flux<RouteResource> requestRoutes(CloudFoundryClient cloudFoundryClient) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.routes()
+                .list(ListRoutesRequest.builder()
+                    .page(page)
+                    .resultsPerPage(CLIENT_V2_PAGE_SIZE)
+                    .build()));
+    }
+
+    private static Flux<ServiceInstanceResource> requestServiceInstances(CloudFoundryClient cloudFoundryClient) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.serviceInstances()
+                .list(ListServiceInstancesRequest.builder()
+                    .page(page)
+                    .resultsPerPage(CLIENT_V2_PAGE_SIZE)
+                    .build()));
+    }
+
+    private static Flux<SharedDomainResource> requestSharedDomains(CloudFoundryClient cloudFoundryClient) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.sharedDomains()
+                .list(ListSharedDomainsRequest.builder()
+                    .page(page)
+                    .resultsPerPage(CLIENT_V2_PAGE_SIZE)
+                    .build()));
+    }
+
+    private static Flux<SpaceResource> requestSpaces(CloudFoundryClient cloudFoundryClient) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.spaces()
+                .list(ListSpacesRequest.builder()
+                    .page(page)
+                    .resultsPerPage(CLIENT_V2_PAGE_SIZE)
+                    .build()));
+    }
+
+    private static Flux<UserProvidedServiceInstanceResource> requestUserProvidedServiceInstances(CloudFoundryClient cloudFoundryClient) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.userProvidedServiceInstances()
+                .list(ListUserProvidedServiceInstancesRequest.builder()
+                    .page(page)
+                    .resultsPerPage(CLIENT_V2_PAGE_SIZE)
+                    .build()));
+    }
+
+    private static Mono<InventorySnapshot> snapshot(CloudFoundryClient cloudFoundryClient) {
+        return Mono.defer(() -> {
+            InventorySnapshot.Builder builder = InventorySnapshot.builder();
+
+            return Mono
+                .when(
+                    addApplications(cloudFoundryClient, builder),
+                    addDomains(cloudFoundryClient, builder),
+                    addOrganizations(cloudFoundryClient, builder),
+                    addRouteMappings(cloudFoundryClient, builder),
+                    addRoutes(cloudFoundryClient, builder),
+                    addServiceInstances(cloudFoundryClient, builder),
+                    addSpaces(cloudFoundryClient, builder))
+                .then(Mono.fromSupplier(builder::build));
+        });
+    }
+
+}
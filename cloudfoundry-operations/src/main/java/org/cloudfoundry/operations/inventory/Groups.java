@@ -0,0 +1,90 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.inventory;
+
+/**
+ * A compressed one-to-many relationship between owner positions and member positions.  Members of each owner are stored contiguously, in the order they were supplied.
+ */
+final class Groups {
+
+    private final int[] members;
+
+    private final int[] offsets;
+
+    /**
+     * Creates a new instance
+     *
+     * @param ownerCount the number of owners
+     * @param owners     the owner of each relationship, or {@code -1} if it has none
+     * @param members    the member of each relationship
+     */
+    Groups(int ownerCount, int[] owners, int[] members) {
+        this.offsets = new int[ownerCount + 1];
+        for (int owner : owners) {
+            if (owner != -1) {
+                this.offsets[owner + 1]++;
+            }
+        }
+
+        for (int i = 0; i < ownerCount; i++) {
+            this.offsets[i + 1] += this.offsets[i];
+        }
+
+        this.members = new int[this.offsets[ownerCount]];
+        int[] cursors = new int[ownerCount];
+        for (int i = 0; i < owners.length; i++) {
+            if (owners[i] != -1) {
+                this.members[this.offsets[owners[i]] + cursors[owners[i]]++] = members[i];
+            }
+        }
+    }
+
+    /**
+     * Creates a new instance where the members are the positions of the owners array
+     *
+     * @param ownerCount the number of owners
+     * @param owners     the owner of each member, or {@code -1} if it has none
+     */
+    Groups(int ownerCount, int[] owners) {
+        this(ownerCount, owners, positions(owners.length));
+    }
+
+    /**
+     * Returns the members of an owner
+     *
+     * @param owner the owner, or {@code -1}
+     * @return the members of the owner
+     */
+    int[] get(int owner) {
+        if (owner == -1) {
+            return new int[0];
+        }
+
+        int[] result = new int[this.offsets[owner + 1] - this.offsets[owner]];
+        System.arraycopy(this.members, this.offsets[owner], result, 0, result.length);
+        return result;
+    }
+
+    private static int[] positions(int length) {
+        int[] positions = new int[length];
+        for (int i = 0; i < length; i++) {
+            positions[i] = i;
+        }
+        return positions;
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.inventory;
+
+/**
+ * An open-addressed index from a key to its position in an array.  Uses a single {@code int[]} table rather than boxed map entries so that indexes over hundreds of thousands of keys stay compact.
+ */
+final class IdIndex {
+
+    private static final int EMPTY = 0;
+
+    private final String[] keys;
+
+    private final int mask;
+
+    private final int[] table;
+
+    IdIndex(String[] keys) {
+        this.keys = keys;
+        this.table = new int[Integer.highestOneBit(Math.max(1, keys.length) * 4)];
+        this.mask = this.table.length - 1;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && indexOf(keys[i]) == -1) {
+                this.table[slotOf(keys[i])] = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the position of a key
+     *
+     * @param key the key
+     * @return the position of the first occurrence of the key, or {@code -1} if it is not present
+     */
+    int indexOf(String key) {
+        if (key == null) {
+            return -1;
+        }
+
+        int entry = this.table[slotOf(key)];
+        return entry == EMPTY ? -1 : entry - 1;
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int slotOf(String key) {
+        int slot = hash(key) & this.mask;
+
+        while (this.table[slot] != EMPTY && !this.keys[this.table[slot] - 1].equals(key)) {
+            slot = (slot + 1) & this.mask;
+        }
+
+        return slot;
+    }
+
+}
@@ -0,0 +1,492 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.inventory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A point-in-time, in-memory view of the organizations, spaces, applications, routes and service instances of a Cloud Foundry instance.  Resources are held in parallel arrays, joined by position and
+ * indexed by hash so that the snapshot stays compact and queries do not make any further requests.
+ */
+public final class InventorySnapshot {
+
+    private final String[] applicationIds;
+
+    private final IdIndex applicationIndex;
+
+    private final String[] applicationNames;
+
+    private final Groups applicationRoutes;
+
+    private final int[] applicationSpaces;
+
+    private final String[] applicationStates;
+
+    private final String[] domainNames;
+
+    private final IdIndex organizationIndex;
+
+    private final String[] organizationNames;
+
+    private final Groups organizationSpaces;
+
+    private final Groups routeApplications;
+
+    private final int[] routeDomains;
+
+    private final String[] routeHosts;
+
+    private final String[] routeIds;
+
+    private final String[] routePaths;
+
+    private final Integer[] routePorts;
+
+    private final String[] serviceInstanceIds;
+
+    private final String[] serviceInstanceNames;
+
+    private final String[] serviceInstanceTypes;
+
+    private final Groups spaceApplications;
+
+    private final String[] spaceNames;
+
+    private final int[] spaceOrganizations;
+
+    private final Groups spaceRoutes;
+
+    private final Groups spaceServiceInstances;
+
+    private final Instant timestamp;
+
+    private InventorySnapshot(Builder builder) {
+        this.timestamp = builder.timestamp;
+
+        String[] organizationIds = toArray(builder.organizationIds);
+        IdIndex organizationIdIndex = new IdIndex(organizationIds);
+        this.organizationNames = toArray(builder.organizationNames);
+        this.organizationIndex = new IdIndex(this.organizationNames);
+
+        String[] spaceIds = toArray(builder.spaceIds);
+        IdIndex spaceIndex = new IdIndex(spaceIds);
+        this.spaceNames = toArray(builder.spaceNames);
+        this.spaceOrganizations = positions(organizationIdIndex, builder.spaceOrganizationIds);
+        this.organizationSpaces = new Groups(organizationIds.length, this.spaceOrganizations);
+
+        this.applicationIds = toArray(builder.applicationIds);
+        this.applicationIndex = new IdIndex(this.applicationIds);
+        this.applicationNames = toArray(builder.applicationNames);
+        this.applicationSpaces = positions(spaceIndex, builder.applicationSpaceIds);
+        this.applicationStates = toArray(builder.applicationStates);
+        this.spaceApplications = new Groups(spaceIds.length, this.applicationSpaces);
+
+        this.domainNames = toArray(builder.domainNames);
+        IdIndex domainIndex = new IdIndex(toArray(builder.domainIds));
+
+        this.routeIds = toArray(builder.routeIds);
+        IdIndex routeIndex = new IdIndex(this.routeIds);
+        this.routeDomains = positions(domainIndex, builder.routeDomainIds);
+        this.routeHosts = toArray(builder.routeHosts);
+        this.routePaths = toArray(builder.routePaths);
+        this.routePorts = builder.routePorts.toArray(new Integer[0]);
+        this.spaceRoutes = new Groups(spaceIds.length, positions(spaceIndex, builder.routeSpaceIds));
+
+        int[] unresolvedApplications = positions(this.applicationIndex, builder.mappingApplicationIds);
+        int[] unresolvedRoutes = positions(routeIndex, builder.mappingRouteIds);
+        int[] resolvedMappings = resolved(unresolvedApplications, unresolvedRoutes);
+        int[] mappingApplications = select(unresolvedApplications, resolvedMappings);
+        int[] mappingRoutes = select(unresolvedRoutes, resolvedMappings);
+        this.applicationRoutes = new Groups(this.applicationIds.length, mappingApplications, mappingRoutes);
+        this.routeApplications = new Groups(this.routeIds.length, mappingRoutes, mappingApplications);
+
+        this.serviceInstanceIds = toArray(builder.serviceInstanceIds);
+        this.serviceInstanceNames = toArray(builder.serviceInstanceNames);
+        this.serviceInstanceTypes = toArray(builder.serviceInstanceTypes);
+        this.spaceServiceInstances = new Groups(spaceIds.length, positions(spaceIndex, builder.serviceInstanceSpaceIds));
+    }
+
+    /**
+     * Returns an application
+     *
+     * @param applicationId the id of the application
+     * @return the application, or empty if it is not in the snapshot
+     */
+    public Optional<InventoryApplication> getApplication(String applicationId) {
+        int application = this.applicationIndex.indexOf(applicationId);
+        return application == -1 ? Optional.empty() : Optional.of(toApplication(application));
+    }
+
+    /**
+     * Returns the number of applications in the snapshot
+     *
+     * @return the number of applications
+     */
+    public int getApplicationCount() {
+        return this.applicationIds.length;
+    }
+
+    /**
+     * Returns the applications in a space
+     *
+     * @param organization the name of the organization
+     * @param space        the name of the space
+     * @return the applications in the space, or an empty list if the space is not in the snapshot
+     */
+    public List<InventoryApplication> getApplications(String organization, String space) {
+        List<InventoryApplication> applications = new ArrayList<>();
+        for (int application : this.spaceApplications.get(indexOfSpace(organization, space))) {
+            applications.add(toApplication(application));
+        }
+        return applications;
+    }
+
+    /**
+     * Returns the number of organizations in the snapshot
+     *
+     * @return the number of organizations
+     */
+    public int getOrganizationCount() {
+        return this.organizationNames.length;
+    }
+
+    /**
+     * Returns the names of the organizations in the snapshot
+     *
+     * @return the names of the organizations
+     */
+    public List<String> getOrganizations() {
+        return Collections.unmodifiableList(Arrays.asList(this.organizationNames));
+    }
+
+    /**
+     * Returns the number of routes in the snapshot
+     *
+     * @return the number of routes
+     */
+    public int getRouteCount() {
+        return this.routeIds.length;
+    }
+
+    /**
+     * Returns the routes in a space
+     *
+     * @param organization the name of the organization
+     * @param space        the name of the space
+     * @return the routes in the space, or an empty list if the space is not in the snapshot
+     */
+    public List<InventoryRoute> getRoutes(String organization, String space) {
+        List<InventoryRoute> routes = new ArrayList<>();
+        for (int route : this.spaceRoutes.get(indexOfSpace(organization, space))) {
+            routes.add(toRoute(route));
+        }
+        return routes;
+    }
+
+    /**
+     * Returns the number of service instances in the snapshot
+     *
+     * @return the number of service instances
+     */
+    public int getServiceInstanceCount() {
+        return this.serviceInstanceIds.length;
+    }
+
+    /**
+     * Returns the service instances in a space
+     *
+     * @param organization the name of the organization
+     * @param space        the name of the space
+     * @return the service instances in the space, or an empty list if the space is not in the snapshot
+     */
+    public List<InventoryServiceInstance> getServiceInstances(String organization, String space) {
+        List<InventoryServiceInstance> serviceInstances = new ArrayList<>();
+        for (int serviceInstance : this.spaceServiceInstances.get(indexOfSpace(organization, space))) {
+            serviceInstances.add(InventoryServiceInstance.builder()
+                .id(this.serviceInstanceIds[serviceInstance])
+                .name(this.serviceInstanceNames[serviceInstance])
+                .type(this.serviceInstanceTypes[serviceInstance])
+                .build());
+        }
+        return serviceInstances;
+    }
+
+    /**
+     * Returns the number of spaces in the snapshot
+     *
+     * @return the number of spaces
+     */
+    public int getSpaceCount() {
+        return this.spaceNames.length;
+    }
+
+    /**
+     * Returns the names of the spaces in an organization
+     *
+     * @param organization the name of the organization
+     * @return the names of the spaces, or an empty list if the organization is not in the snapshot
+     */
+    public List<String> getSpaces(String organization) {
+        List<String> spaces = new ArrayList<>();
+        for (int space : this.organizationSpaces.get(this.organizationIndex.indexOf(organization))) {
+            spaces.add(this.spaceNames[space]);
+        }
+        return spaces;
+    }
+
+    /**
+     * Returns the time at which the snapshot was started
+     *
+     * @return the time at which the snapshot was started
+     */
+    public Instant getTimestamp() {
+        return this.timestamp;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    private static int[] positions(IdIndex index, List<String> keys) {
+        int[] positions = new int[keys.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = index.indexOf(keys.get(i));
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the positions of the mappings whose application and route are both in the snapshot.  The listings are requested concurrently, so a mapping may reference an application or route
+     * that was created or deleted while the snapshot was being taken.
+     */
+    private static int[] resolved(int[] applications, int[] routes) {
+        int count = 0;
+        int[] resolved = new int[applications.length];
+        for (int i = 0; i < applications.length; i++) {
+            if (applications[i] != -1 && routes[i] != -1) {
+                resolved[count++] = i;
+            }
+        }
+        return Arrays.copyOf(resolved, count);
+    }
+
+    private static int[] select(int[] values, int[] positions) {
+        int[] selected = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            selected[i] = values[positions[i]];
+        }
+        return selected;
+    }
+
+    private static String[] toArray(List<String> values) {
+        return values.toArray(new String[values.size()]);
+    }
+
+    private int indexOfSpace(String organization, String space) {
+        for (int candidate : this.organizationSpaces.get(this.organizationIndex.indexOf(organization))) {
+            if (this.spaceNames[candidate].equals(space)) {
+                return candidate;
+            }
+        }
+
+        return -1;
+    }
+
+    private InventoryApplication toApplication(int application) {
+        int space = this.applicationSpaces[application];
+        int organization = space == -1 ? -1 : this.spaceOrganizations[space];
+
+        InventoryApplication.Builder builder = InventoryApplication.builder()
+            .id(this.applicationIds[application])
+            .name(this.applicationNames[application])
+            .organization(organization == -1 ? "" : this.organizationNames[organization])
+            .space(space == -1 ? "" : this.spaceNames[space])
+            .state(this.applicationStates[application]);
+
+        for (int route : this.applicationRoutes.get(application)) {
+            builder.url(toUrl(route));
+        }
+
+        return builder.build();
+    }
+
+    private String toDomain(int route) {
+        int domain = this.routeDomains[route];
+        return domain == -1 ? "" : this.domainNames[domain];
+    }
+
+    private InventoryRoute toRoute(int route) {
+        InventoryRoute.Builder builder = InventoryRoute.builder()
+            .domain(toDomain(route))
+            .host(this.routeHosts[route])
+            .id(this.routeIds[route])
+            .path(this.routePaths[route])
+            .port(this.routePorts[route]);
+
+        for (int application : this.routeApplications.get(route)) {
+            builder.application(this.applicationNames[application]);
+        }
+
+        return builder.build();
+    }
+
+    private String toUrl(int route) {
+        StringBuilder sb = new StringBuilder();
+        if (!this.routeHosts[route].isEmpty()) {
+            sb.append(this.routeHosts[route]).append(".");
+        }
+        sb.append(toDomain(route));
+
+        if (this.routePorts[route] == null) {
+            Optional.ofNullable(this.routePaths[route])
+                .ifPresent(sb::append);
+        } else {
+            sb.append(":").append(this.routePorts[route]);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Accumulates the resources of a snapshot as they arrive.  Resource types may arrive concurrently, so all mutators are synchronized.  Repeated values such as application names and states are
+     * shared rather than held once per resource.
+     */
+    static final class Builder {
+
+        private final List<String> applicationIds = new ArrayList<>();
+
+        private final List<String> applicationNames = new ArrayList<>();
+
+        private final List<String> applicationSpaceIds = new ArrayList<>();
+
+        private final List<String> applicationStates = new ArrayList<>();
+
+        private final List<String> domainIds = new ArrayList<>();
+
+        private final List<String> domainNames = new ArrayList<>();
+
+        private final List<String> mappingApplicationIds = new ArrayList<>();
+
+        private final List<String> mappingRouteIds = new ArrayList<>();
+
+        private final List<String> organizationIds = new ArrayList<>();
+
+        private final List<String> organizationNames = new ArrayList<>();
+
+        private final List<String> routeDomainIds = new ArrayList<>();
+
+        private final List<String> routeHosts = new ArrayList<>();
+
+        private final List<String> routeIds = new ArrayList<>();
+
+        private final List<String> routePaths = new ArrayList<>();
+
+        private final List<Integer> routePorts = new ArrayList<>();
+
+        private final List<String> routeSpaceIds = new ArrayList<>();
+
+        private final List<String> serviceInstanceIds = new ArrayList<>();
+
+        private final List<String> serviceInstanceNames = new ArrayList<>();
+
+        private final List<String> serviceInstanceSpaceIds = new ArrayList<>();
+
+        private final List<String> serviceInstanceTypes = new ArrayList<>();
+
+        private final List<String> spaceIds = new ArrayList<>();
+
+        private final List<String> spaceNames = new ArrayList<>();
+
+        private final List<String> spaceOrganizationIds = new ArrayList<>();
+
+        private final Map<String, String> strings = new HashMap<>();
+
+        private final Instant timestamp = Instant.now();
+
+        private Builder() {
+        }
+
+        synchronized Builder application(String id, String name, String spaceId, String state) {
+            this.applicationIds.add(id);
+            this.applicationNames.add(share(name));
+            this.applicationSpaceIds.add(spaceId);
+            this.applicationStates.add(share(state));
+            return this;
+        }
+
+        synchronized InventorySnapshot build() {
+            this.strings.clear();
+            return new InventorySnapshot(this);
+        }
+
+        synchronized Builder domain(String id, String name) {
+            this.domainIds.add(id);
+            this.domainNames.add(name);
+            return this;
+        }
+
+        synchronized Builder organization(String id, String name) {
+            this.organizationIds.add(id);
+            this.organizationNames.add(name);
+            return this;
+        }
+
+        synchronized Builder route(String id, String host, String domainId, String path, Integer port, String spaceId) {
+            this.routeDomainIds.add(domainId);
+            this.routeHosts.add(share(Optional.ofNullable(host).orElse("")));
+            this.routeIds.add(id);
+            this.routePaths.add(path == null || path.isEmpty() ? null : share(path));
+            this.routePorts.add(port);
+            this.routeSpaceIds.add(spaceId);
+            return this;
+        }
+
+        synchronized Builder routeMapping(String applicationId, String routeId) {
+            this.mappingApplicationIds.add(applicationId);
+            this.mappingRouteIds.add(routeId);
+            return this;
+        }
+
+        synchronized Builder serviceInstance(String id, String name, String type, String spaceId) {
+            this.serviceInstanceIds.add(id);
+            this.serviceInstanceNames.add(share(name));
+            this.serviceInstanceSpaceIds.add(spaceId);
+            this.serviceInstanceTypes.add(share(type));
+            return this;
+        }
+
+        synchronized Builder space(String id, String name, String organizationId) {
+            this.spaceIds.add(id);
+            this.spaceNames.add(share(name));
+            this.spaceOrganizationIds.add(organizationId);
+            return this;
+        }
+
+        private String share(String value) {
+            return value == null ? null : this.strings.computeIfAbsent(value, v -> v);
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.inventory;
+
+import org.cloudfoundry.Nullable;
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * An application in an {@link InventorySnapshot}
+ */
+@Value.Immutable
+abstract class _InventoryApplication {
+
+    /**
+     * The id
+     */
+    abstract String getId();
+
+    /**
+     * The name
+     */
+    abstract String getName();
+
+    /**
+     * The name of the organization
+     */
+    abstract String getOrganization();
+
+    /**
+     * The name of the space
+     */
+    abstract String getSpace();
+
+    /**
+     * The state
+     */
+    @Nullable
+    abstract String getState();
+
+    /**
+     * The urls mapped to the application
+     */
+    abstract List<String> getUrls();
+
+}
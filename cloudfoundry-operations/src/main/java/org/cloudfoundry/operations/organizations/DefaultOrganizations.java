@@ -19,7 +19,6 @@ package org.cloudfoundry.operations.organizations;
 import org.cloudfoundry.client.CloudFoundryClient;
 import org.cloudfoundry.client.v2.featureflags.GetFeatureFlagRequest;
 import org.cloudfoundry.client.v2.featureflags.GetFeatureFlagResponse;
-import org.cloudfoundry.client.v2.organizationquotadefinitions.GetOrganizationQuotaDefinitionRequest;
 import org.cloudfoundry.client.v2.organizationquotadefinitions.GetOrganizationQuotaDefinitionResponse;
 import org.cloudfoundry.client.v2.organizationquotadefinitions.ListOrganizationQuotaDefinitionsRequest;
 import org.cloudfoundry.client.v2.organizationquotadefinitions.OrganizationQuotaDefinitionResource;
@@ -30,19 +29,18 @@ import org.cloudfoundry.client.v2.organizations.AssociateOrganizationUserByUsern
 import org.cloudfoundry.client.v2.organizations.CreateOrganizationResponse;
 import org.cloudfoundry.client.v2.organizations.DeleteOrganizationResponse;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationPrivateDomainsRequest;
-import org.cloudfoundry.client.v2.organizations.ListOrganizationSpaceQuotaDefinitionsRequest;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationSpacesRequest;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationsRequest;
 import org.cloudfoundry.client.v2.organizations.OrganizationResource;
 import org.cloudfoundry.client.v2.organizations.UpdateOrganizationRequest;
 import org.cloudfoundry.client.v2.organizations.UpdateOrganizationResponse;
 import org.cloudfoundry.client.v2.privatedomains.PrivateDomainResource;
-import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsRequest;
-import org.cloudfoundry.client.v2.shareddomains.SharedDomainResource;
 import org.cloudfoundry.client.v2.spacequotadefinitions.SpaceQuotaDefinitionResource;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
 import org.cloudfoundry.operations.spaceadmin.SpaceQuota;
 import org.cloudfoundry.operations.util.OperationsLogging;
+import org.cloudfoundry.operations.util.ReferenceDataCache;
+import org.cloudfoundry.operations.util.ResourceIdCache;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.cloudfoundry.util.JobUtils;
 import org.cloudfoundry.util.PaginationUtils;
@@ -55,19 +53,39 @@ import java.time.Duration;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.APPLICATION;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.ORGANIZATION;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.SERVICE_INSTANCE;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.SPACE;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 import static org.cloudfoundry.util.tuple.TupleUtils.predicate;
 
 public final class DefaultOrganizations implements Organizations {
 
+    private static final int PAGE_CONCURRENCY = 4;
+
     private static final String SET_ROLES_BY_USERNAME_FEATURE_FLAG = "set_roles_by_username";
 
     private final Mono<CloudFoundryClient> cloudFoundryClient;
 
+    private final ReferenceDataCache referenceData;
+
+    private final ResourceIdCache resourceIds;
+
     private final Mono<String> username;
 
     public DefaultOrganizations(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> username) {
+        this(cloudFoundryClient, username, ReferenceDataCache.disabled());
+    }
+
+    public DefaultOrganizations(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> username, ReferenceDataCache referenceData) {
+        this(cloudFoundryClient, username, referenceData, ResourceIdCache.disabled());
+    }
+
+    public DefaultOrganizations(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> username, ReferenceDataCache referenceData, ResourceIdCache resourceIds) {
         this.cloudFoundryClient = cloudFoundryClient;
+        this.referenceData = referenceData;
+        this.resourceIds = resourceIds;
         this.username = username;
     }
 
@@ -83,6 +101,7 @@ public final class DefaultOrganizations implements Organizations {
             )))
             .filter(predicate((cloudFoundryClient, organizationId, setRolesByUsernameEnabled, username) -> setRolesByUsernameEnabled))
             .flatMap(function((cloudFoundryClient, organizationId, setRolesByUsernameEnabled, username) -> setOrganizationManager(cloudFoundryClient, organizationId, username)))
+            .transform(this.resourceIds.invalidating(ORGANIZATION))
             .transform(OperationsLogging.log("Create Organization"))
             .checkpoint();
     }
@@ -96,6 +115,7 @@ public final class DefaultOrganizations implements Organizations {
                 getOrganizationId(cloudFoundryClient, request.getName())
             ))
             .flatMap(function(DefaultOrganizations::deleteOrganization))
+            .transform(this.resourceIds.invalidating(ORGANIZATION, SPACE, APPLICATION, SERVICE_INSTANCE))
             .transform(OperationsLogging.log("Delete Organization"))
             .checkpoint();
     }
@@ -131,6 +151,7 @@ public final class DefaultOrganizations implements Organizations {
             ))
             .flatMap(function((cloudFoundryClient, organizationId) -> requestUpdateOrganization(cloudFoundryClient, organizationId, request.getNewName())))
             .then()
+            .transform(this.resourceIds.invalidating(ORGANIZATION))
             .transform(OperationsLogging.log("Rename Organization"))
             .checkpoint();
     }
@@ -148,31 +169,11 @@ public final class DefaultOrganizations implements Organizations {
             .flatMap(job -> JobUtils.waitForCompletion(cloudFoundryClient, completionTimeout, job));
     }
 
-    private static Mono<Tuple4<List<String>, OrganizationQuota, List<SpaceQuota>, List<String>>> getAuxiliaryContent(CloudFoundryClient cloudFoundryClient, OrganizationResource organizationResource) {
-        String organizationId = ResourceUtils.getId(organizationResource);
-
-        return Mono
-            .zip(
-                getDomainNames(cloudFoundryClient, organizationId),
-                getOrganizationQuota(cloudFoundryClient, organizationResource),
-                getSpaceQuotas(cloudFoundryClient, organizationId),
-                getSpaceNames(cloudFoundryClient, organizationId)
-            );
-    }
-
     private static Mono<String> getCreateOrganizationId(CloudFoundryClient cloudFoundryClient, String organization, String quotaDefinitionId) {
         return requestCreateOrganization(cloudFoundryClient, organization, quotaDefinitionId)
             .map(ResourceUtils::getId);
     }
 
-    private static Mono<List<String>> getDomainNames(CloudFoundryClient cloudFoundryClient, String organizationId) {
-        return requestListPrivateDomains(cloudFoundryClient, organizationId)
-            .map(resource -> resource.getEntity().getName())
-            .mergeWith(requestListSharedDomains(cloudFoundryClient)
-                .map(resource -> resource.getEntity().getName()))
-            .collectList();
-    }
-
     private static Mono<Boolean> getFeatureFlagEnabled(CloudFoundryClient cloudFoundryClient, String featureFlag) {
         return requestGetFeatureFlag(cloudFoundryClient, featureFlag)
             .map(GetFeatureFlagResponse::getEnabled);
@@ -189,12 +190,6 @@ public final class DefaultOrganizations implements Organizations {
             .map(ResourceUtils::getId);
     }
 
-    private static Mono<OrganizationQuota> getOrganizationQuota(CloudFoundryClient cloudFoundryClient, OrganizationResource resource) {
-        return requestOrganizationQuotaDefinition(cloudFoundryClient, ResourceUtils.getEntity(resource).getQuotaDefinitionId())
-            .map(response -> toOrganizationQuota(response, resource));
-
-    }
-
     private static Mono<OrganizationQuotaDefinitionResource> getOrganizationQuotaDefinition(CloudFoundryClient cloudFoundryClient, String quotaDefinitionName) {
         return requestOrganizationQuotaDefinitions(cloudFoundryClient, quotaDefinitionName)
             .single()
@@ -212,12 +207,6 @@ public final class DefaultOrganizations implements Organizations {
             .collectList();
     }
 
-    private static Mono<List<SpaceQuota>> getSpaceQuotas(CloudFoundryClient cloudFoundryClient, String organizationId) {
-        return requestSpaceQuotaDefinitions(cloudFoundryClient, organizationId)
-            .map(DefaultOrganizations::toSpaceQuota)
-            .collectList();
-    }
-
     private static Mono<AssociateOrganizationManagerByUsernameResponse> requestAssociateOrganizationManagerByUsername(CloudFoundryClient cloudFoundryClient, String organizationId, String username) {
         return cloudFoundryClient.organizations()
             .associateManagerByUsername(AssociateOrganizationManagerByUsernameRequest.builder()
@@ -264,22 +253,7 @@ public final class DefaultOrganizations implements Organizations {
                 .listPrivateDomains(ListOrganizationPrivateDomainsRequest.builder()
                     .organizationId(organizationId)
                     .page(page)
-                    .build()));
-    }
-
-    private static Flux<SharedDomainResource> requestListSharedDomains(CloudFoundryClient cloudFoundryClient) {
-        return PaginationUtils
-            .requestClientV2Resources(page -> cloudFoundryClient.sharedDomains()
-                .list(ListSharedDomainsRequest.builder()
-                    .page(page)
-                    .build()));
-    }
-
-    private static Mono<GetOrganizationQuotaDefinitionResponse> requestOrganizationQuotaDefinition(CloudFoundryClient cloudFoundryClient, String quotaDefinitionId) {
-        return cloudFoundryClient.organizationQuotaDefinitions()
-            .get(GetOrganizationQuotaDefinitionRequest.builder()
-                .organizationQuotaDefinitionId(quotaDefinitionId)
-                .build());
+                    .build()), PAGE_CONCURRENCY);
     }
 
     private static Flux<OrganizationQuotaDefinitionResource> requestOrganizationQuotaDefinitions(CloudFoundryClient cloudFoundryClient, String organizationQuotaDefinition) {
@@ -308,22 +282,13 @@ public final class DefaultOrganizations implements Organizations {
                     .build()));
     }
 
-    private static Flux<SpaceQuotaDefinitionResource> requestSpaceQuotaDefinitions(CloudFoundryClient cloudFoundryClient, String organizationId) {
-        return PaginationUtils
-            .requestClientV2Resources(page -> cloudFoundryClient.organizations()
-                .listSpaceQuotaDefinitions(ListOrganizationSpaceQuotaDefinitionsRequest.builder()
-                    .page(page)
-                    .organizationId(organizationId)
-                    .build()));
-    }
-
     private static Flux<SpaceResource> requestSpaces(CloudFoundryClient cloudFoundryClient, String organizationId) {
         return PaginationUtils
             .requestClientV2Resources(page -> cloudFoundryClient.organizations()
                 .listSpaces(ListOrganizationSpacesRequest.builder()
                     .page(page)
                     .organizationId(organizationId)
-                    .build()));
+                    .build()), PAGE_CONCURRENCY);
     }
 
     private static Mono<UpdateOrganizationResponse> requestUpdateOrganization(CloudFoundryClient cloudFoundryClient, String organizationId, String newName) {
@@ -388,4 +353,36 @@ public final class DefaultOrganizations implements Organizations {
             .build();
     }
 
+    private Mono<Tuple4<List<String>, OrganizationQuota, List<SpaceQuota>, List<String>>> getAuxiliaryContent(CloudFoundryClient cloudFoundryClient, OrganizationResource organizationResource) {
+        String organizationId = ResourceUtils.getId(organizationResource);
+
+        return Mono
+            .zip(
+                getDomainNames(cloudFoundryClient, organizationId),
+                getOrganizationQuota(cloudFoundryClient, organizationResource),
+                getSpaceQuotas(cloudFoundryClient, organizationId),
+                getSpaceNames(cloudFoundryClient, organizationId)
+            );
+    }
+
+    private Mono<List<String>> getDomainNames(CloudFoundryClient cloudFoundryClient, String organizationId) {
+        return requestListPrivateDomains(cloudFoundryClient, organizationId)
+            .map(resource -> resource.getEntity().getName())
+            .mergeWith(this.referenceData.getSharedDomainNames(cloudFoundryClient)
+                .flatMapIterable(names -> names))
+            .collectList();
+    }
+
+    private Mono<OrganizationQuota> getOrganizationQuota(CloudFoundryClient cloudFoundryClient, OrganizationResource resource) {
+        return this.referenceData.getOrganizationQuotaDefinition(cloudFoundryClient, ResourceUtils.getEntity(resource).getQuotaDefinitionId())
+            .map(response -> toOrganizationQuota(response, resource));
+    }
+
+    private Mono<List<SpaceQuota>> getSpaceQuotas(CloudFoundryClient cloudFoundryClient, String organizationId) {
+        return this.referenceData.getOrganizationSpaceQuotaDefinitions(cloudFoundryClient, organizationId)
+            .flatMapIterable(resources -> resources)
+            .map(DefaultOrganizations::toSpaceQuota)
+            .collectList();
+    }
+
 }
@@ -21,14 +21,17 @@ import org.cloudfoundry.client.v2.Resource;
 import org.cloudfoundry.client.v2.applications.ApplicationResource;
 import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteRequest;
 import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteResponse;
+import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
 import org.cloudfoundry.client.v2.applications.RemoveApplicationRouteRequest;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationPrivateDomainsRequest;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationSpacesRequest;
 import org.cloudfoundry.client.v2.privatedomains.PrivateDomainResource;
+import org.cloudfoundry.client.v2.routemappings.ListRouteMappingsRequest;
+import org.cloudfoundry.client.v2.routemappings.RouteMappingEntity;
+import org.cloudfoundry.client.v2.routemappings.RouteMappingResource;
 import org.cloudfoundry.client.v2.routes.AbstractRouteResource;
 import org.cloudfoundry.client.v2.routes.CreateRouteResponse;
 import org.cloudfoundry.client.v2.routes.DeleteRouteResponse;
-import org.cloudfoundry.client.v2.routes.ListRouteApplicationsRequest;
 import org.cloudfoundry.client.v2.routes.RouteEntity;
 import org.cloudfoundry.client.v2.routes.RouteExistsRequest;
 import org.cloudfoundry.client.v2.routes.RouteResource;
@@ -40,6 +43,7 @@ import org.cloudfoundry.client.v2.spaces.ListSpaceRoutesRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpaceServiceInstancesRequest;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
 import org.cloudfoundry.operations.util.OperationsLogging;
+import org.cloudfoundry.operations.util.ResourceIdCache;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.cloudfoundry.util.JobUtils;
 import org.cloudfoundry.util.PaginationUtils;
@@ -52,25 +56,38 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.APPLICATION;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.DOMAIN;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.SPACE;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
-import static org.cloudfoundry.util.tuple.TupleUtils.predicate;
 
 public final class DefaultRoutes implements Routes {
 
+    private static final int RESULTS_PER_PAGE = 100;
+
+    private static final int ROUTE_MAPPINGS_BATCH_SIZE = 50;
+
     private final Mono<CloudFoundryClient> cloudFoundryClient;
 
     private final Mono<String> organizationId;
 
+    private final ResourceIdCache resourceIds;
+
     private final Mono<String> spaceId;
 
     public DefaultRoutes(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> organizationId, Mono<String> spaceId) {
+        this(cloudFoundryClient, organizationId, spaceId, ResourceIdCache.disabled());
+    }
+
+    public DefaultRoutes(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> organizationId, Mono<String> spaceId, ResourceIdCache resourceIds) {
         this.cloudFoundryClient = cloudFoundryClient;
         this.organizationId = organizationId;
+        this.resourceIds = resourceIds;
         this.spaceId = spaceId;
     }
 
@@ -80,7 +97,7 @@ public final class DefaultRoutes implements Routes {
             .zip(this.cloudFoundryClient, this.organizationId)
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getOptionalDomainId(cloudFoundryClient, organizationId, request.getDomain())
+                getOptionalDomainId(cloudFoundryClient, this.resourceIds, organizationId, request.getDomain())
             )))
             .flatMap(function((cloudFoundryClient, domainId) -> requestRouteExists(cloudFoundryClient, domainId, request.getHost(), request.getPath())))
             .defaultIfEmpty(false)
@@ -94,8 +111,8 @@ public final class DefaultRoutes implements Routes {
             .zip(this.cloudFoundryClient, this.organizationId)
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getSpaceId(cloudFoundryClient, organizationId, request.getSpace()),
-                getDomainId(cloudFoundryClient, organizationId, request.getDomain())
+                getSpaceId(cloudFoundryClient, this.resourceIds, organizationId, request.getSpace()),
+                getDomainId(cloudFoundryClient, this.resourceIds, organizationId, request.getDomain())
             )))
             .flatMap(function((cloudFoundryClient, spaceId, domainId) ->
                 requestCreateRoute(cloudFoundryClient, domainId, request.getHost(), request.getPath(), request.getPort(), request.getRandomPort(), spaceId)
@@ -112,7 +129,7 @@ public final class DefaultRoutes implements Routes {
             .zip(this.cloudFoundryClient, this.organizationId)
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getDomainId(cloudFoundryClient, organizationId, request.getDomain())
+                getDomainId(cloudFoundryClient, this.resourceIds, organizationId, request.getDomain())
             )))
             .flatMap(function((cloudFoundryClient, domainId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
@@ -128,15 +145,12 @@ public final class DefaultRoutes implements Routes {
     public Mono<Void> deleteOrphanedRoutes(DeleteOrphanedRoutesRequest request) {
         return Mono
             .zip(this.cloudFoundryClient, this.spaceId)
-            .flatMapMany(function((cloudFoundryClient, spaceId) -> requestSpaceRoutes(cloudFoundryClient, spaceId)
-                .filter(route -> isRouteOrphan(ResourceUtils.getEntity(route)))
+            .flatMap(function((cloudFoundryClient, spaceId) -> getOrphanedRoutes(cloudFoundryClient, spaceId)
                 .map(ResourceUtils::getId)
-                .map(routeId -> Tuples.of(cloudFoundryClient, routeId))))
-            .flatMap(function((cloudFoundryClient, routeId) -> getApplications(cloudFoundryClient, routeId)
-                .map(applicationResources -> Tuples.of(cloudFoundryClient, applicationResources, routeId))))
-            .filter(predicate((cloudFoundryClient, applicationResources, routeId) -> isApplicationOrphan(applicationResources)))
-            .flatMap(function((cloudFoundryClient, applicationResources, routeId) -> deleteRoute(cloudFoundryClient, request.getCompletionTimeout(), routeId)))
-            .then()
+                .flatMap(routeId -> requestDeleteRoute(cloudFoundryClient, routeId), request.getConcurrency())
+                .map(ResourceUtils::getEntity)
+                .collectList()
+                .flatMap(jobs -> JobUtils.waitForCompletion(cloudFoundryClient, request.getCompletionTimeout(), jobs, request.getConcurrency()))))
             .transform(OperationsLogging.log("Delete Orphaned Routes"))
             .checkpoint();
     }
@@ -148,31 +162,44 @@ public final class DefaultRoutes implements Routes {
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
                 getAllDomains(cloudFoundryClient, organizationId),
-                getAllSpaces(cloudFoundryClient, organizationId)
+                getAllSpaces(cloudFoundryClient, organizationId),
+                getRoutes(cloudFoundryClient, request, this.organizationId, this.spaceId).collectList()
             )))
-            .flatMapMany(function((cloudFoundryClient, domains, spaces) -> getRoutes(cloudFoundryClient, request, this.organizationId, this.spaceId)
-                .map(route -> Tuples.of(cloudFoundryClient, domains, route, spaces))))
-            .flatMap(function((cloudFoundryClient, domains, route, spaces) -> Mono
+            .flatMapMany(function((cloudFoundryClient, domains, spaces, routes) -> Mono
                 .zip(
-                    getApplicationNames(cloudFoundryClient, ResourceUtils.getId(route)),
-                    getDomainName(domains, ResourceUtils.getEntity(route).getDomainId()),
-                    Mono.just(route),
-                    getServiceName(cloudFoundryClient, ResourceUtils.getEntity(route)),
-                    getSpaceName(spaces, ResourceUtils.getEntity(route).getSpaceId())
-                )))
-            .map(function(DefaultRoutes::toRoute))
+                    getApplicationNames(cloudFoundryClient, request, this.organizationId, this.spaceId, routes),
+                    getServiceInstanceNames(cloudFoundryClient, routes)
+                )
+                .flatMapMany(function((applicationNames, serviceInstanceNames) -> Flux.fromIterable(routes)
+                    .map(route -> toRoute(applicationNames, domains, route, serviceInstanceNames, spaces))))))
             .transform(OperationsLogging.log("List Routes"))
             .checkpoint();
     }
 
+    @Override
+    public Flux<Route> listOrphanedRoutes() {
+        return Mono
+            .zip(this.cloudFoundryClient, this.organizationId, this.spaceId)
+            .flatMap(function((cloudFoundryClient, organizationId, spaceId) -> Mono.zip(
+                getAllDomains(cloudFoundryClient, organizationId),
+                getAllSpaces(cloudFoundryClient, organizationId),
+                getOrphanedRoutes(cloudFoundryClient, spaceId).collectList()
+            )))
+            .flatMapIterable(function((domains, spaces, routes) -> routes.stream()
+                .map(route -> toRoute(Collections.emptyMap(), domains, route, Collections.emptyMap(), spaces))
+                .collect(Collectors.toList())))
+            .transform(OperationsLogging.log("List Orphaned Routes"))
+            .checkpoint();
+    }
+
     @Override
     public Mono<Integer> map(MapRouteRequest request) {
         return Mono
             .zip(this.cloudFoundryClient, this.organizationId, this.spaceId)
             .flatMap(function((cloudFoundryClient, organizationId, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getOrCreateRoute(cloudFoundryClient, organizationId, spaceId, request.getDomain(), request.getHost(), request.getPath(), request.getPort(), request.getRandomPort()),
-                getApplicationId(cloudFoundryClient, request.getApplicationName(), spaceId)
+                getOrCreateRoute(cloudFoundryClient, this.resourceIds, organizationId, spaceId, request.getDomain(), request.getHost(), request.getPath(), request.getPort(), request.getRandomPort()),
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getApplicationName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, routeResource, applicationId) -> requestAssociateRoute(cloudFoundryClient, applicationId, ResourceUtils.getId(routeResource))))
             .then(Mono.justOrEmpty(request.getPort()))
@@ -186,8 +213,8 @@ public final class DefaultRoutes implements Routes {
             .zip(this.cloudFoundryClient, this.organizationId, this.spaceId)
             .flatMap(function((cloudFoundryClient, organizationId, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getApplicationName(), spaceId),
-                getDomainId(cloudFoundryClient, organizationId, request.getDomain())
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getApplicationName(), spaceId),
+                getDomainId(cloudFoundryClient, this.resourceIds, organizationId, request.getDomain())
                     .flatMap(domainId -> getRouteId(cloudFoundryClient, request.getHost(), request.getDomain(), domainId, request.getPath(), request.getPort()))
             )))
             .flatMap(function(DefaultRoutes::requestRemoveRouteFromApplication))
@@ -214,41 +241,46 @@ public final class DefaultRoutes implements Routes {
             .collectMap(function((id, name) -> id), function((id, name) -> name));
     }
 
-    private static Mono<ApplicationResource> getApplication(CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
-        return requestApplications(cloudFoundryClient, application, spaceId)
-            .single()
-            .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Application %s does not exist", application));
-    }
-
-    private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
-        return getApplication(cloudFoundryClient, application, spaceId)
-            .map(ResourceUtils::getId);
+    private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String application, String spaceId) {
+        return resourceIds
+            .get(APPLICATION, spaceId, application, () -> requestApplications(cloudFoundryClient, application, spaceId)
+                .map(ResourceUtils::getId)
+                .singleOrEmpty())
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Application %s does not exist", application));
     }
 
-    private static Mono<List<String>> getApplicationNames(CloudFoundryClient cloudFoundryClient, String routeId) {
-        return requestApplications(cloudFoundryClient, routeId)
-            .map(resource -> ResourceUtils.getEntity(resource).getName())
-            .collectList();
+    private static Mono<Map<String, List<String>>> getApplicationNames(CloudFoundryClient cloudFoundryClient, ListRoutesRequest request, Mono<String> organizationId, Mono<String> spaceId,
+                                                                       List<RouteResource> routes) {
+        return requestRouteMappings(cloudFoundryClient, routes)
+            .map(ResourceUtils::getEntity)
+            .collectList()
+            .filter(routeMappings -> !routeMappings.isEmpty())
+            .flatMap(routeMappings -> getApplicationNames(cloudFoundryClient, request, organizationId, spaceId)
+                .map(applicationNames -> routeMappings.stream()
+                    .filter(routeMapping -> applicationNames.containsKey(routeMapping.getApplicationId()))
+                    .collect(Collectors.groupingBy(RouteMappingEntity::getRouteId, Collectors.mapping(routeMapping -> applicationNames.get(routeMapping.getApplicationId()),
+                        Collectors.collectingAndThen(Collectors.toList(), names -> names.stream().distinct().collect(Collectors.toList())))))))
+            .defaultIfEmpty(Collections.emptyMap());
     }
 
-    private static Mono<List<ApplicationResource>> getApplications(CloudFoundryClient cloudFoundryClient, String routeId) {
-        return requestApplications(cloudFoundryClient, routeId)
-            .collectList();
-    }
+    private static Mono<Map<String, String>> getApplicationNames(CloudFoundryClient cloudFoundryClient, ListRoutesRequest request, Mono<String> organizationId, Mono<String> spaceId) {
+        Flux<ApplicationResource> applications;
 
-    private static Mono<Resource<?>> getDomain(CloudFoundryClient cloudFoundryClient, String organizationId, String domain) {
-        return getDomains(cloudFoundryClient, organizationId, domain)
-            .single()
-            .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Domain %s does not exist", domain));
-    }
+        if (Level.ORGANIZATION == request.getLevel()) {
+            applications = organizationId
+                .flatMapMany(organizationId1 -> requestApplications(cloudFoundryClient, builder -> builder.organizationId(organizationId1)));
+        } else {
+            applications = spaceId
+                .flatMapMany(spaceId1 -> requestApplications(cloudFoundryClient, builder -> builder.spaceId(spaceId1)));
+        }
 
-    private static Mono<String> getDomainId(CloudFoundryClient cloudFoundryClient, String organizationId, String domain) {
-        return getDomain(cloudFoundryClient, organizationId, domain)
-            .map(ResourceUtils::getId);
+        return applications
+            .collectMap(ResourceUtils::getId, resource -> ResourceUtils.getEntity(resource).getName());
     }
 
-    private static Mono<String> getDomainName(Map<String, String> domains, String domainId) {
-        return Mono.just(domains.get(domainId));
+    private static Mono<String> getDomainId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String organizationId, String domain) {
+        return getOptionalDomainId(cloudFoundryClient, resourceIds, organizationId, domain)
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Domain %s does not exist", domain));
     }
 
     private static Flux<Resource<?>> getDomains(CloudFoundryClient cloudFoundryClient, String organizationId, String domain) {
@@ -257,25 +289,38 @@ public final class DefaultRoutes implements Routes {
             .switchIfEmpty(requestSharedDomains(cloudFoundryClient, domain));
     }
 
-    private static Mono<String> getOptionalDomainId(CloudFoundryClient cloudFoundryClient, String organizationId, String domain) {
-        return getDomains(cloudFoundryClient, organizationId, domain)
-            .singleOrEmpty()
-            .map(ResourceUtils::getId);
+    private static Mono<String> getOptionalDomainId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String organizationId, String domain) {
+        return resourceIds
+            .get(DOMAIN, organizationId, domain, () -> getDomains(cloudFoundryClient, organizationId, domain)
+                .singleOrEmpty()
+                .map(ResourceUtils::getId));
     }
 
-    private static Mono<AbstractRouteResource> getOrCreateRoute(CloudFoundryClient cloudFoundryClient, String organizationId, String spaceId, String domain, String host, String path, Integer port,
-                                                                Boolean randomPort) {
+    private static Mono<AbstractRouteResource> getOrCreateRoute(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String organizationId, String spaceId, String domain,
+                                                                String host, String path, Integer port, Boolean randomPort) {
         if (randomPort != null) {
-            return getDomainId(cloudFoundryClient, organizationId, domain)
+            return getDomainId(cloudFoundryClient, resourceIds, organizationId, domain)
                 .flatMap(domainId -> requestCreateRoute(cloudFoundryClient, domainId, host, path, port, randomPort, spaceId));
         }
 
-        return getDomainId(cloudFoundryClient, organizationId, domain)
+        return getDomainId(cloudFoundryClient, resourceIds, organizationId, domain)
             .flatMap(domainId -> getRoute(cloudFoundryClient, domainId, host, path, port)
                 .cast(AbstractRouteResource.class)
                 .switchIfEmpty(requestCreateRoute(cloudFoundryClient, domainId, host, path, port, randomPort, spaceId)));
     }
 
+    private static Flux<RouteResource> getOrphanedRoutes(CloudFoundryClient cloudFoundryClient, String spaceId) {
+        return requestSpaceRoutes(cloudFoundryClient, spaceId)
+            .filter(route -> isRouteOrphan(ResourceUtils.getEntity(route)))
+            .collectList()
+            .flatMapMany(routes -> requestRouteMappings(cloudFoundryClient, routes)
+                .map(resource -> ResourceUtils.getEntity(resource).getRouteId())
+                .collect(Collectors.toSet())
+                .flatMapIterable(mappedRouteIds -> routes.stream()
+                    .filter(route -> !mappedRouteIds.contains(ResourceUtils.getId(route)))
+                    .collect(Collectors.toList())));
+    }
+
     private static Mono<RouteResource> getRoute(CloudFoundryClient cloudFoundryClient, String domainId, String domain, String host, String path, Integer port) {
         return getRoute(cloudFoundryClient, domainId, host, path, port)
             .switchIfEmpty(ExceptionUtils.illegalArgument("Route for %s does not exist", domain));
@@ -308,42 +353,32 @@ public final class DefaultRoutes implements Routes {
         }
     }
 
-    private static Mono<Optional<String>> getServiceInstanceName(CloudFoundryClient cloudFoundryClient, String serviceInstanceId, String spaceId) {
-        return requestListSpaceServiceInstances(cloudFoundryClient, spaceId)
-            .filter(resource -> serviceInstanceId.equals(ResourceUtils.getId(resource)))
-            .single()
-            .map(resource -> Optional.of(ResourceUtils.getEntity(resource).getName()));
-    }
-
-    private static Mono<Optional<String>> getServiceName(CloudFoundryClient cloudFoundryClient, RouteEntity route) {
-        return Mono.justOrEmpty(route.getServiceInstanceId())
-            .flatMap(serviceInstanceId -> getServiceInstanceName(cloudFoundryClient, serviceInstanceId, route.getSpaceId()))
-            .defaultIfEmpty(Optional.empty());
-    }
-
-    private static Mono<SpaceResource> getSpace(CloudFoundryClient cloudFoundryClient, String organizationId, String space) {
-        return requestSpaces(cloudFoundryClient, organizationId, space)
-            .single()
-            .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Space %s does not exist", space));
+    private static Mono<Map<String, String>> getServiceInstanceNames(CloudFoundryClient cloudFoundryClient, List<RouteResource> routes) {
+        return Flux.fromIterable(routes)
+            .map(ResourceUtils::getEntity)
+            .filter(entity -> !isRouteOrphan(entity))
+            .map(RouteEntity::getSpaceId)
+            .distinct()
+            .flatMap(spaceId -> requestListSpaceServiceInstances(cloudFoundryClient, spaceId))
+            .collectMap(ResourceUtils::getId, resource -> ResourceUtils.getEntity(resource).getName());
     }
 
-    private static Mono<String> getSpaceId(CloudFoundryClient cloudFoundryClient, String organizationId, String space) {
-        return getSpace(cloudFoundryClient, organizationId, space)
-            .map(ResourceUtils::getId);
-    }
-
-    private static Mono<String> getSpaceName(Map<String, String> spaces, String spaceId) {
-        return Mono.just(spaces.get(spaceId));
-    }
-
-    private static boolean isApplicationOrphan(List<ApplicationResource> applications) {
-        return applications.isEmpty();
+    private static Mono<String> getSpaceId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String organizationId, String space) {
+        return resourceIds
+            .get(SPACE, organizationId, space, () -> requestSpaces(cloudFoundryClient, organizationId, space)
+                .map(ResourceUtils::getId)
+                .singleOrEmpty())
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Space %s does not exist", space));
     }
 
     private static boolean isIdentical(String s, String t) {
         return s == null ? t == null : s.equals(t);
     }
 
+    private static boolean isRouteOrphan(RouteEntity entity) {
+        return entity.getServiceInstanceId() == null || entity.getServiceInstanceId().isEmpty();
+    }
+
     private static String nullSafe(String host) {
         return host == null ? "" : host;
     }
@@ -374,12 +409,15 @@ public final class DefaultRoutes implements Routes {
                     .build()));
     }
 
-    private static Flux<ApplicationResource> requestApplications(CloudFoundryClient cloudFoundryClient, String routeId) {
+    private static Flux<ApplicationResource> requestApplications(CloudFoundryClient cloudFoundryClient, UnaryOperator<ListApplicationsRequest.Builder> modifier) {
+
+        ListApplicationsRequest.Builder listBuilder = modifier.apply(ListApplicationsRequest.builder());
+
         return PaginationUtils
-            .requestClientV2Resources(page -> cloudFoundryClient.routes()
-                .listApplications(ListRouteApplicationsRequest.builder()
-                    .routeId(routeId)
+            .requestClientV2Resources(page -> cloudFoundryClient.applicationsV2()
+                .list(listBuilder
                     .page(page)
+                    .resultsPerPage(RESULTS_PER_PAGE)
                     .build()));
     }
 
@@ -457,6 +495,19 @@ public final class DefaultRoutes implements Routes {
                 .build());
     }
 
+    private static Flux<RouteMappingResource> requestRouteMappings(CloudFoundryClient cloudFoundryClient, List<RouteResource> routes) {
+        return Flux.fromIterable(routes)
+            .map(ResourceUtils::getId)
+            .buffer(ROUTE_MAPPINGS_BATCH_SIZE)
+            .flatMap(routeIds -> PaginationUtils
+                .requestClientV2Resources(page -> cloudFoundryClient.routeMappings()
+                    .list(ListRouteMappingsRequest.builder()
+                        .page(page)
+                        .resultsPerPage(RESULTS_PER_PAGE)
+                        .routeIds(routeIds)
+                        .build())));
+    }
+
     private static Mono<Boolean> requestRouteExists(CloudFoundryClient cloudFoundryClient, String domainId, String host, String path) {
         return cloudFoundryClient.routes()
             .exists(RouteExistsRequest.builder()
@@ -514,23 +565,21 @@ public final class DefaultRoutes implements Routes {
                     .build()));
     }
 
-    private static Route toRoute(List<String> applications, String domain, RouteResource resource, Optional<String> service, String space) {
+    private static Route toRoute(Map<String, List<String>> applications, Map<String, String> domains, RouteResource resource, Map<String, String> serviceInstances, Map<String, String> spaces) {
         RouteEntity entity = ResourceUtils.getEntity(resource);
         Route.Builder builder = Route.builder()
-            .applications(applications)
-            .domain(domain)
+            .applications(applications.getOrDefault(ResourceUtils.getId(resource), Collections.emptyList()))
+            .domain(domains.get(entity.getDomainId()))
             .host(entity.getHost())
             .id(ResourceUtils.getId(resource))
             .path(entity.getPath())
-            .space(space);
+            .space(spaces.get(entity.getSpaceId()));
 
-        service.ifPresent(builder::service);
+        Optional.ofNullable(entity.getServiceInstanceId())
+            .map(serviceInstances::get)
+            .ifPresent(builder::service);
 
         return builder.build();
     }
 
-    private boolean isRouteOrphan(RouteEntity entity) {
-        return entity.getServiceInstanceId() == null || entity.getServiceInstanceId().isEmpty();
-    }
-
 }
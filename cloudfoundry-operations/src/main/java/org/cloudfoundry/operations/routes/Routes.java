@@ -65,6 +65,13 @@ public interface Routes {
      */
     Flux<Route> list(ListRoutesRequest request);
 
+    /**
+     * Lists the orphaned routes that {@link #deleteOrphanedRoutes(DeleteOrphanedRoutesRequest)} would delete, without deleting them
+     *
+     * @return the orphaned routes in the current space
+     */
+    Flux<Route> listOrphanedRoutes();
+
     /**
      * Add a URL route to an application
      *
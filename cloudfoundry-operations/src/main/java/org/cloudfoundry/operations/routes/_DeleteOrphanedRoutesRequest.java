@@ -26,6 +26,13 @@ import java.time.Duration;
 @Value.Immutable
 abstract class _DeleteOrphanedRoutesRequest {
 
+    @Value.Check
+    void check() {
+        if (getConcurrency() < 1) {
+            throw new IllegalStateException("Cannot build DeleteOrphanedRoutesRequest, concurrency must be at least 1");
+        }
+    }
+
     /**
      * How long to wait for deletion
      */
@@ -34,4 +41,12 @@ abstract class _DeleteOrphanedRoutesRequest {
         return Duration.ofMinutes(5);
     }
 
+    /**
+     * The maximum number of routes to delete, and of deletion jobs to poll, at the same time
+     */
+    @Value.Default
+    Integer getConcurrency() {
+        return 10;
+    }
+
 }
@@ -282,6 +282,24 @@ public final class DefaultServiceAdmin implements ServiceAdmin {
             .map(ResourceUtils::getId);
     }
 
+    private static Mono<Integer> requestCountOrganizations(CloudFoundryClient cloudFoundryClient, String organizationName) {
+        return PaginationUtils
+            .countClientV2Resources(resultsPerPage -> cloudFoundryClient.organizations()
+                .list(ListOrganizationsRequest.builder()
+                    .name(organizationName)
+                    .resultsPerPage(resultsPerPage)
+                    .build()));
+    }
+
+    private static Mono<Integer> requestCountServices(CloudFoundryClient cloudFoundryClient, String serviceName) {
+        return PaginationUtils
+            .countClientV2Resources(resultsPerPage -> cloudFoundryClient.services()
+                .list(ListServicesRequest.builder()
+                    .label(serviceName)
+                    .resultsPerPage(resultsPerPage)
+                    .build()));
+    }
+
     private static Mono<CreateServiceBrokerResponse> requestCreateServiceBroker(CloudFoundryClient cloudFoundryClient, String name, String url, String username, String password, Boolean isSpaceScoped,
                                                                                 String spaceId) {
         return cloudFoundryClient.serviceBrokers()
@@ -522,7 +540,8 @@ public final class DefaultServiceAdmin implements ServiceAdmin {
 
     private static Mono<Void> validateOrganization(CloudFoundryClient cloudFoundryClient, String organizationName) {
         if (organizationName != null) {
-            return requestListOrganizations(cloudFoundryClient, organizationName)
+            return requestCountOrganizations(cloudFoundryClient, organizationName)
+                .filter(count -> count > 0)
                 .switchIfEmpty(ExceptionUtils.illegalArgument("Organization %s not found", organizationName))
                 .then();
         } else {
@@ -532,7 +551,8 @@ public final class DefaultServiceAdmin implements ServiceAdmin {
 
     private static Mono<Void> validateService(CloudFoundryClient cloudFoundryClient, String serviceName) {
         if (serviceName != null) {
-            return requestListServices(cloudFoundryClient, serviceName)
+            return requestCountServices(cloudFoundryClient, serviceName)
+                .filter(count -> count > 0)
                 .switchIfEmpty(ExceptionUtils.illegalArgument("Service %s not found", serviceName))
                 .then();
         } else {
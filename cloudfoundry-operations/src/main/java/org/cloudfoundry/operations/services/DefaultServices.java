@@ -73,6 +73,7 @@ import org.cloudfoundry.client.v2.userprovidedserviceinstances.DeleteUserProvide
 import org.cloudfoundry.client.v2.userprovidedserviceinstances.RemoveUserProvidedServiceInstanceRouteRequest;
 import org.cloudfoundry.client.v2.userprovidedserviceinstances.UpdateUserProvidedServiceInstanceResponse;
 import org.cloudfoundry.operations.util.OperationsLogging;
+import org.cloudfoundry.operations.util.ResourceIdCache;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.cloudfoundry.util.JobUtils;
 import org.cloudfoundry.util.LastOperationUtils;
@@ -95,6 +96,9 @@ import java.util.Optional;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.APPLICATION;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.DOMAIN;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.SERVICE_INSTANCE;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 
 public final class DefaultServices implements Services {
@@ -109,12 +113,19 @@ public final class DefaultServices implements Services {
 
     private final Mono<String> organizationId;
 
+    private final ResourceIdCache resourceIds;
+
     private final Mono<String> spaceId;
 
     public DefaultServices(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> organizationId, Mono<String> spaceId) {
+        this(cloudFoundryClient, organizationId, spaceId, ResourceIdCache.disabled());
+    }
+
+    public DefaultServices(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> organizationId, Mono<String> spaceId, ResourceIdCache resourceIds) {
         this.cloudFoundryClient = cloudFoundryClient;
         this.spaceId = spaceId;
         this.organizationId = organizationId;
+        this.resourceIds = resourceIds;
     }
 
     @Override
@@ -123,8 +134,8 @@ public final class DefaultServices implements Services {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getApplicationName(), spaceId),
-                getSpaceServiceInstanceId(cloudFoundryClient, request.getServiceInstanceName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getApplicationName(), spaceId),
+                getSpaceServiceInstanceId(cloudFoundryClient, this.resourceIds, request.getServiceInstanceName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId, serviceInstanceId) -> createServiceBinding(cloudFoundryClient, applicationId, serviceInstanceId, request.getParameters())))
             .then()
@@ -138,13 +149,13 @@ public final class DefaultServices implements Services {
             .zip(this.cloudFoundryClient, this.organizationId, this.spaceId)
             .flatMap(function((cloudFoundryClient, organizationId, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getDomainId(cloudFoundryClient, request.getDomainName(), organizationId),
+                getDomainId(cloudFoundryClient, this.resourceIds, request.getDomainName(), organizationId),
                 Mono.just(spaceId)
             )))
             .flatMap(function((cloudFoundryClient, domainId, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
                 getRouteId(cloudFoundryClient, request.getDomainName(), domainId, request.getHostname(), request.getPath()),
-                getSpaceServiceInstanceId(cloudFoundryClient, request.getServiceInstanceName(), spaceId)
+                getSpaceServiceInstanceId(cloudFoundryClient, this.resourceIds, request.getServiceInstanceName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, routeId, userProvidedServiceInstanceId) -> createRouteBinding(cloudFoundryClient, routeId, userProvidedServiceInstanceId, request.getParameters())))
             .then()
@@ -172,6 +183,7 @@ public final class DefaultServices implements Services {
                 createServiceInstance(cloudFoundryClient, spaceId, planId, request)
             )))
             .flatMap(function(DefaultServices::waitForCreateInstance))
+            .transform(this.resourceIds.invalidating(SERVICE_INSTANCE))
             .transform(OperationsLogging.log("Create Service Instance"))
             .checkpoint();
     }
@@ -182,7 +194,7 @@ public final class DefaultServices implements Services {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getSpaceServiceInstanceId(cloudFoundryClient, request.getServiceInstanceName(), spaceId)
+                getSpaceServiceInstanceId(cloudFoundryClient, this.resourceIds, request.getServiceInstanceName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, serviceInstanceId) -> requestCreateServiceKey(cloudFoundryClient, serviceInstanceId, request.getServiceKeyName(), request.getParameters())))
             .then()
@@ -197,6 +209,7 @@ public final class DefaultServices implements Services {
             .flatMap(function((cloudFoundryClient, spaceId) -> requestCreateUserProvidedServiceInstance(cloudFoundryClient, request.getName(), request.getCredentials(), request.getRouteServiceUrl(),
                 spaceId, request.getSyslogDrainUrl())))
             .then()
+            .transform(this.resourceIds.invalidating(SERVICE_INSTANCE))
             .transform(OperationsLogging.log("Create User Provided Service Instance"))
             .checkpoint();
     }
@@ -211,6 +224,7 @@ public final class DefaultServices implements Services {
                 getSpaceServiceInstance(cloudFoundryClient, request.getName(), spaceId)
             )))
             .flatMap(function(DefaultServices::deleteServiceInstance))
+            .transform(this.resourceIds.invalidating(SERVICE_INSTANCE))
             .transform(OperationsLogging.log("Delete Service Instance"))
             .checkpoint();
     }
@@ -221,7 +235,7 @@ public final class DefaultServices implements Services {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getSpaceServiceInstanceId(cloudFoundryClient, request.getServiceInstanceName(), spaceId)
+                getSpaceServiceInstanceId(cloudFoundryClient, this.resourceIds, request.getServiceInstanceName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, serviceInstanceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
@@ -263,7 +277,7 @@ public final class DefaultServices implements Services {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getSpaceServiceInstanceId(cloudFoundryClient, request.getServiceInstanceName(), spaceId)
+                getSpaceServiceInstanceId(cloudFoundryClient, this.resourceIds, request.getServiceInstanceName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, serviceInstanceId) -> getServiceKey(cloudFoundryClient, serviceInstanceId, request.getServiceKeyName())))
             .map(DefaultServices::toServiceKey)
@@ -290,7 +304,7 @@ public final class DefaultServices implements Services {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getSpaceServiceInstanceId(cloudFoundryClient, request.getServiceInstanceName(), spaceId)
+                getSpaceServiceInstanceId(cloudFoundryClient, this.resourceIds, request.getServiceInstanceName(), spaceId)
             )))
             .flatMapMany(function((cloudFoundryClient, serviceInstanceId) -> requestListServiceInstanceServiceKeys(cloudFoundryClient, serviceInstanceId)))
             .map(DefaultServices::toServiceKey)
@@ -327,6 +341,7 @@ public final class DefaultServices implements Services {
             )))
             .flatMap(function((cloudFoundryClient, serviceInstance) -> renameServiceInstance(cloudFoundryClient, serviceInstance, request.getNewName())))
             .then()
+            .transform(this.resourceIds.invalidating(SERVICE_INSTANCE))
             .transform(OperationsLogging.log("Rename Service Instance"))
             .checkpoint();
     }
@@ -337,8 +352,8 @@ public final class DefaultServices implements Services {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getApplicationName(), spaceId),
-                getSpaceServiceInstanceId(cloudFoundryClient, request.getServiceInstanceName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.resourceIds, request.getApplicationName(), spaceId),
+                getSpaceServiceInstanceId(cloudFoundryClient, this.resourceIds, request.getServiceInstanceName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId, serviceInstanceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
@@ -357,13 +372,13 @@ public final class DefaultServices implements Services {
             .zip(this.cloudFoundryClient, this.organizationId, this.spaceId)
             .flatMap(function((cloudFoundryClient, organizationId, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getDomainId(cloudFoundryClient, request.getDomainName(), organizationId),
+                getDomainId(cloudFoundryClient, this.resourceIds, request.getDomainName(), organizationId),
                 Mono.just(spaceId)
             )))
             .flatMap(function((cloudFoundryClient, domainId, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
                 getRouteId(cloudFoundryClient, request.getDomainName(), domainId, request.getHostname(), request.getPath()),
-                getSpaceServiceInstanceId(cloudFoundryClient, request.getServiceInstanceName(), spaceId)
+                getSpaceServiceInstanceId(cloudFoundryClient, this.resourceIds, request.getServiceInstanceName(), spaceId)
             )))
             .flatMap(function(DefaultServices::requestRemoveRoute))
             .then()
@@ -412,8 +427,7 @@ public final class DefaultServices implements Services {
             return Mono.just(Optional.of(servicePlanId));
         }
 
-        return requestListServicePlanVisibilities(cloudFoundryClient, organizationId, servicePlanId)
-            .next()
+        return requestFirstServicePlanVisibility(cloudFoundryClient, organizationId, servicePlanId)
             .switchIfEmpty(ExceptionUtils.illegalArgument("Service Plan %s is not visible to your organization", resource.getEntity().getName()))
             .thenReturn(Optional.of(servicePlanId));
     }
@@ -457,15 +471,12 @@ public final class DefaultServices implements Services {
         }
     }
 
-    private static Mono<ApplicationResource> getApplication(CloudFoundryClient cloudFoundryClient, String applicationName, String spaceId) {
-        return requestListApplications(cloudFoundryClient, applicationName, spaceId)
-            .single()
-            .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Application %s does not exist", applicationName));
-    }
-
-    private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, String applicationName, String spaceId) {
-        return getApplication(cloudFoundryClient, applicationName, spaceId)
-            .map(ResourceUtils::getId);
+    private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String applicationName, String spaceId) {
+        return resourceIds
+            .get(APPLICATION, spaceId, applicationName, () -> requestListApplications(cloudFoundryClient, applicationName, spaceId)
+                .map(ResourceUtils::getId)
+                .singleOrEmpty())
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Application %s does not exist", applicationName));
     }
 
     private static Mono<List<String>> getBoundApplications(CloudFoundryClient cloudFoundryClient, String serviceInstanceId) {
@@ -477,9 +488,10 @@ public final class DefaultServices implements Services {
             .collectList();
     }
 
-    private static Mono<String> getDomainId(CloudFoundryClient cloudFoundryClient, String domain, String organizationId) {
-        return getPrivateDomainId(cloudFoundryClient, domain, organizationId)
-            .switchIfEmpty(getSharedDomainId(cloudFoundryClient, domain))
+    private static Mono<String> getDomainId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String domain, String organizationId) {
+        return resourceIds
+            .get(DOMAIN, organizationId, domain, () -> getPrivateDomainId(cloudFoundryClient, domain, organizationId)
+                .switchIfEmpty(getSharedDomainId(cloudFoundryClient, domain)))
             .switchIfEmpty(ExceptionUtils.illegalArgument("Domain %s not found", domain));
     }
 
@@ -612,9 +624,12 @@ public final class DefaultServices implements Services {
             .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Service instance %s does not exist", serviceInstanceName));
     }
 
-    private static Mono<String> getSpaceServiceInstanceId(CloudFoundryClient cloudFoundryClient, String serviceInstanceName, String spaceId) {
-        return getSpaceServiceInstance(cloudFoundryClient, serviceInstanceName, spaceId)
-            .map(ResourceUtils::getId);
+    private static Mono<String> getSpaceServiceInstanceId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String serviceInstanceName, String spaceId) {
+        return resourceIds
+            .get(SERVICE_INSTANCE, spaceId, serviceInstanceName, () -> requestListServiceInstances(cloudFoundryClient, spaceId, serviceInstanceName)
+                .map(ResourceUtils::getId)
+                .singleOrEmpty())
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Service instance %s does not exist", serviceInstanceName));
     }
 
     private static Mono<UnionServiceInstanceResource> getSpaceUserProvidedServiceInstance(CloudFoundryClient cloudFoundryClient, String serviceInstanceName, String spaceId) {
@@ -738,6 +753,16 @@ public final class DefaultServices implements Services {
                 .build());
     }
 
+    private static Mono<ServicePlanVisibilityResource> requestFirstServicePlanVisibility(CloudFoundryClient cloudFoundryClient, String organizationId, String servicePlanId) {
+        return PaginationUtils
+            .requestClientV2Resource(resultsPerPage -> cloudFoundryClient.servicePlanVisibilities()
+                .list(ListServicePlanVisibilitiesRequest.builder()
+                    .organizationId(organizationId)
+                    .resultsPerPage(resultsPerPage)
+                    .servicePlanId(servicePlanId)
+                    .build()));
+    }
+
     private static Mono<GetApplicationResponse> requestGetApplication(CloudFoundryClient cloudFoundryClient, String applicationId) {
         return cloudFoundryClient.applicationsV2()
             .get(GetApplicationRequest.builder()
@@ -825,16 +850,6 @@ public final class DefaultServices implements Services {
                     .build()));
     }
 
-    private static Flux<ServicePlanVisibilityResource> requestListServicePlanVisibilities(CloudFoundryClient cloudFoundryClient, String organizationId, String servicePlanId) {
-        return PaginationUtils
-            .requestClientV2Resources(page -> cloudFoundryClient.servicePlanVisibilities()
-                .list(ListServicePlanVisibilitiesRequest.builder()
-                    .organizationId(organizationId)
-                    .page(page)
-                    .servicePlanId(servicePlanId)
-                    .build()));
-    }
-
     private static Flux<ServicePlanResource> requestListServicePlans(CloudFoundryClient cloudFoundryClient, String serviceId) {
         return PaginationUtils
             .requestClientV2Resources(page -> cloudFoundryClient.servicePlans()
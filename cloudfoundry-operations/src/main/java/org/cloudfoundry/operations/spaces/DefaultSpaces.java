@@ -31,12 +31,7 @@ import org.cloudfoundry.client.v2.organizations.OrganizationResource;
 import org.cloudfoundry.client.v2.privatedomains.PrivateDomainResource;
 import org.cloudfoundry.client.v2.securitygroups.RuleEntity;
 import org.cloudfoundry.client.v2.securitygroups.SecurityGroupEntity;
-import org.cloudfoundry.client.v2.securitygroups.SecurityGroupResource;
 import org.cloudfoundry.client.v2.services.ServiceResource;
-import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsRequest;
-import org.cloudfoundry.client.v2.shareddomains.SharedDomainResource;
-import org.cloudfoundry.client.v2.spacequotadefinitions.GetSpaceQuotaDefinitionRequest;
-import org.cloudfoundry.client.v2.spacequotadefinitions.GetSpaceQuotaDefinitionResponse;
 import org.cloudfoundry.client.v2.spacequotadefinitions.SpaceQuotaDefinitionEntity;
 import org.cloudfoundry.client.v2.spacequotadefinitions.SpaceQuotaDefinitionResource;
 import org.cloudfoundry.client.v2.spaces.AssociateSpaceDeveloperByUsernameRequest;
@@ -46,7 +41,6 @@ import org.cloudfoundry.client.v2.spaces.AssociateSpaceManagerByUsernameResponse
 import org.cloudfoundry.client.v2.spaces.CreateSpaceResponse;
 import org.cloudfoundry.client.v2.spaces.DeleteSpaceResponse;
 import org.cloudfoundry.client.v2.spaces.ListSpaceApplicationsRequest;
-import org.cloudfoundry.client.v2.spaces.ListSpaceSecurityGroupsRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpaceServicesRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpacesRequest;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
@@ -54,6 +48,8 @@ import org.cloudfoundry.client.v2.spaces.UpdateSpaceRequest;
 import org.cloudfoundry.client.v2.spaces.UpdateSpaceResponse;
 import org.cloudfoundry.operations.spaceadmin.SpaceQuota;
 import org.cloudfoundry.operations.util.OperationsLogging;
+import org.cloudfoundry.operations.util.ReferenceDataCache;
+import org.cloudfoundry.operations.util.ResourceIdCache;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.cloudfoundry.util.JobUtils;
 import org.cloudfoundry.util.PaginationUtils;
@@ -69,19 +65,39 @@ import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.APPLICATION;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.ORGANIZATION;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.SERVICE_INSTANCE;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.SPACE;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 
 public final class DefaultSpaces implements Spaces {
 
+    private static final int PAGE_CONCURRENCY = 4;
+
     private final Mono<CloudFoundryClient> cloudFoundryClient;
 
     private final Mono<String> organizationId;
 
+    private final ReferenceDataCache referenceData;
+
+    private final ResourceIdCache resourceIds;
+
     private final Mono<String> username;
 
     public DefaultSpaces(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> organizationId, Mono<String> username) {
+        this(cloudFoundryClient, organizationId, username, ReferenceDataCache.disabled());
+    }
+
+    public DefaultSpaces(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> organizationId, Mono<String> username, ReferenceDataCache referenceData) {
+        this(cloudFoundryClient, organizationId, username, referenceData, ResourceIdCache.disabled());
+    }
+
+    public DefaultSpaces(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> organizationId, Mono<String> username, ReferenceDataCache referenceData, ResourceIdCache resourceIds) {
         this.cloudFoundryClient = cloudFoundryClient;
         this.organizationId = organizationId;
+        this.referenceData = referenceData;
+        this.resourceIds = resourceIds;
         this.username = username;
     }
 
@@ -106,7 +122,7 @@ public final class DefaultSpaces implements Spaces {
             .flatMap(function((cloudFoundryClient, username) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
                 Mono.just(username),
-                getOrganizationIdOrDefault(cloudFoundryClient, request.getOrganization(), this.organizationId)
+                getOrganizationIdOrDefault(cloudFoundryClient, this.resourceIds, request.getOrganization(), this.organizationId)
             )))
             .flatMap(function((cloudFoundryClient, username, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
@@ -127,6 +143,7 @@ public final class DefaultSpaces implements Spaces {
                 requestAssociateSpaceDeveloperByUsername(cloudFoundryClient, spaceId, username)
             )))
             .then()
+            .transform(this.resourceIds.invalidating(SPACE))
             .transform(OperationsLogging.log("Create Space"))
             .checkpoint();
     }
@@ -138,9 +155,10 @@ public final class DefaultSpaces implements Spaces {
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
                 Mono.just(request.getCompletionTimeout()),
-                getOrganizationSpaceId(cloudFoundryClient, organizationId, request.getName())
+                getOrganizationSpaceId(cloudFoundryClient, this.resourceIds, organizationId, request.getName())
             )))
             .flatMap(function(DefaultSpaces::deleteSpace))
+            .transform(this.resourceIds.invalidating(SPACE, APPLICATION, SERVICE_INSTANCE))
             .transform(OperationsLogging.log("Delete Space"))
             .checkpoint();
     }
@@ -188,10 +206,11 @@ public final class DefaultSpaces implements Spaces {
             .zip(this.cloudFoundryClient, this.organizationId)
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getOrganizationSpaceId(cloudFoundryClient, organizationId, request.getName())
+                getOrganizationSpaceId(cloudFoundryClient, this.resourceIds, organizationId, request.getName())
             )))
             .flatMap(function((cloudFoundryClient, spaceId) -> requestUpdateSpace(cloudFoundryClient, spaceId, request.getNewName())))
             .then()
+            .transform(this.resourceIds.invalidating(SPACE))
             .transform(OperationsLogging.log("Rename Space"))
             .checkpoint();
     }
@@ -217,26 +236,6 @@ public final class DefaultSpaces implements Spaces {
             .collectList();
     }
 
-    private static Mono<List<String>> getDomainNames(CloudFoundryClient cloudFoundryClient, SpaceResource spaceResource) {
-        return requestListPrivateDomains(cloudFoundryClient, spaceResource.getEntity().getOrganizationId())
-            .map(resource -> resource.getEntity().getName())
-            .mergeWith(requestListSharedDomains(cloudFoundryClient)
-                .map(resource -> resource.getEntity().getName()))
-            .collectList();
-    }
-
-    private static Mono<Optional<SpaceQuota>> getOptionalSpaceQuotaDefinition(CloudFoundryClient cloudFoundryClient, SpaceResource spaceResource) {
-        String spaceQuotaDefinitionId = ResourceUtils.getEntity(spaceResource).getSpaceQuotaDefinitionId();
-
-        if (spaceQuotaDefinitionId == null) {
-            return Mono.just(Optional.empty());
-        }
-
-        return requestSpaceQuotaDefinition(cloudFoundryClient, spaceQuotaDefinitionId)
-            .map(DefaultSpaces::toSpaceQuotaDefinition)
-            .map(Optional::of);
-    }
-
     private static Mono<Optional<String>> getOptionalSpaceQuotaId(CloudFoundryClient cloudFoundryClient, String organizationId, String spaceQuota) {
         if (spaceQuota == null) {
             return Mono.just(Optional.empty());
@@ -247,20 +246,17 @@ public final class DefaultSpaces implements Spaces {
         }
     }
 
-    private static Mono<OrganizationResource> getOrganization(CloudFoundryClient cloudFoundryClient, String organization) {
-        return requestOrganizations(cloudFoundryClient, organization)
-            .single()
-            .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Organization %s does not exist", organization));
-    }
-
-    private static Mono<String> getOrganizationId(CloudFoundryClient cloudFoundryClient, String organization) {
-        return getOrganization(cloudFoundryClient, organization)
-            .map(ResourceUtils::getId);
+    private static Mono<String> getOrganizationId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String organization) {
+        return resourceIds
+            .get(ORGANIZATION, null, organization, () -> requestOrganizations(cloudFoundryClient, organization)
+                .map(ResourceUtils::getId)
+                .singleOrEmpty())
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Organization %s does not exist", organization));
     }
 
-    private static Mono<String> getOrganizationIdOrDefault(CloudFoundryClient cloudFoundryClient, String organizationName, Mono<String> organizationId) {
+    private static Mono<String> getOrganizationIdOrDefault(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String organizationName, Mono<String> organizationId) {
         return Optional.ofNullable(organizationName)
-            .map(organization -> getOrganizationId(cloudFoundryClient, organization))
+            .map(organization -> getOrganizationId(cloudFoundryClient, resourceIds, organization))
             .orElse(organizationId);
     }
 
@@ -275,9 +271,12 @@ public final class DefaultSpaces implements Spaces {
             .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Space %s does not exist", space));
     }
 
-    private static Mono<String> getOrganizationSpaceId(CloudFoundryClient cloudFoundryClient, String organizationId, String space) {
-        return getOrganizationSpace(cloudFoundryClient, organizationId, space)
-            .map(ResourceUtils::getId);
+    private static Mono<String> getOrganizationSpaceId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String organizationId, String space) {
+        return resourceIds
+            .get(SPACE, organizationId, space, () -> requestOrganizationSpaces(cloudFoundryClient, organizationId, space)
+                .map(ResourceUtils::getId)
+                .singleOrEmpty())
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Space %s does not exist", space));
     }
 
     private static Mono<String> getOrganizationSpaceIdWhere(CloudFoundryClient cloudFoundryClient, String organizationId, String space, Predicate<SpaceResource> predicate) {
@@ -286,43 +285,12 @@ public final class DefaultSpaces implements Spaces {
             .map(ResourceUtils::getId);
     }
 
-    private static Mono<List<SecurityGroupEntity>> getSecurityGroups(CloudFoundryClient cloudFoundryClient, SpaceResource spaceResource, boolean withRules) {
-        return requestSpaceSecurityGroups(cloudFoundryClient, ResourceUtils.getId(spaceResource))
-            .map(securityGroupResource -> {
-                SecurityGroupEntity entity = ResourceUtils.getEntity(securityGroupResource);
-                if (!withRules) {
-                    entity = SecurityGroupEntity.builder()
-                        .name(entity.getName())
-                        .runningDefault(entity.getRunningDefault())
-                        .spacesUrl(entity.getSpacesUrl())
-                        .stagingDefault(entity.getStagingDefault())
-                        .build();
-                }
-                return entity;
-            })
-            .collectList();
-    }
-
     private static Mono<List<String>> getServiceNames(CloudFoundryClient cloudFoundryClient, SpaceResource spaceResource) {
         return requestSpaceServices(cloudFoundryClient, ResourceUtils.getId(spaceResource))
             .map(serviceResource -> ResourceUtils.getEntity(serviceResource).getLabel())
             .collectList();
     }
 
-    private static Mono<SpaceDetail> getSpaceDetail(CloudFoundryClient cloudFoundryClient, SpaceResource resource, GetSpaceRequest request) {
-        return Mono
-            .zip(
-                getApplicationNames(cloudFoundryClient, resource),
-                getDomainNames(cloudFoundryClient, resource),
-                getOrganizationName(cloudFoundryClient, resource),
-                getSecurityGroups(cloudFoundryClient, resource, Optional.ofNullable(request.getSecurityGroupRules()).orElse(false)),
-                getServiceNames(cloudFoundryClient, resource),
-                getOptionalSpaceQuotaDefinition(cloudFoundryClient, resource)
-            )
-            .map(function((applications, domains, organization, securityGroups, services, spaceQuota) ->
-                toSpaceDetail(applications, domains, organization, resource, securityGroups, services, spaceQuota)));
-    }
-
     private static Mono<SpaceQuotaDefinitionResource> getSpaceQuota(CloudFoundryClient cloudFoundryClient, String organizationId, String spaceQuota) {
         return requestOrganizationSpaceQuotas(cloudFoundryClient, organizationId, spaceQuota)
             .single()
@@ -376,15 +344,7 @@ public final class DefaultSpaces implements Spaces {
                 .listPrivateDomains(ListOrganizationPrivateDomainsRequest.builder()
                     .organizationId(organizationId)
                     .page(page)
-                    .build()));
-    }
-
-    private static Flux<SharedDomainResource> requestListSharedDomains(CloudFoundryClient cloudFoundryClient) {
-        return PaginationUtils
-            .requestClientV2Resources(page -> cloudFoundryClient.sharedDomains()
-                .list(ListSharedDomainsRequest.builder()
-                    .page(page)
-                    .build()));
+                    .build()), PAGE_CONCURRENCY);
     }
 
     private static Mono<GetOrganizationResponse> requestOrganization(CloudFoundryClient cloudFoundryClient, String organizationId) {
@@ -429,23 +389,7 @@ public final class DefaultSpaces implements Spaces {
                 .listApplications(ListSpaceApplicationsRequest.builder()
                     .page(page)
                     .spaceId(spaceId)
-                    .build()));
-    }
-
-    private static Mono<GetSpaceQuotaDefinitionResponse> requestSpaceQuotaDefinition(CloudFoundryClient cloudFoundryClient, String spaceQuotaDefinitionId) {
-        return cloudFoundryClient.spaceQuotaDefinitions()
-            .get(GetSpaceQuotaDefinitionRequest.builder()
-                .spaceQuotaDefinitionId(spaceQuotaDefinitionId)
-                .build());
-    }
-
-    private static Flux<SecurityGroupResource> requestSpaceSecurityGroups(CloudFoundryClient cloudFoundryClient, String spaceId) {
-        return PaginationUtils
-            .requestClientV2Resources(page -> cloudFoundryClient.spaces()
-                .listSecurityGroups(ListSpaceSecurityGroupsRequest.builder()
-                    .spaceId(spaceId)
-                    .page(page)
-                    .build()));
+                    .build()), PAGE_CONCURRENCY);
     }
 
     private static Flux<ServiceResource> requestSpaceServices(CloudFoundryClient cloudFoundryClient, String spaceId) {
@@ -454,7 +398,7 @@ public final class DefaultSpaces implements Spaces {
                 .listServices(ListSpaceServicesRequest.builder()
                     .page(page)
                     .spaceId(spaceId)
-                    .build()));
+                    .build()), PAGE_CONCURRENCY);
     }
 
     private static Flux<SpaceResource> requestSpaces(CloudFoundryClient cloudFoundryClient, String organizationId) {
@@ -548,4 +492,55 @@ public final class DefaultSpaces implements Spaces {
             .build();
     }
 
+    private Mono<List<String>> getDomainNames(CloudFoundryClient cloudFoundryClient, SpaceResource spaceResource) {
+        return requestListPrivateDomains(cloudFoundryClient, spaceResource.getEntity().getOrganizationId())
+            .map(resource -> resource.getEntity().getName())
+            .mergeWith(this.referenceData.getSharedDomainNames(cloudFoundryClient)
+                .flatMapIterable(names -> names))
+            .collectList();
+    }
+
+    private Mono<Optional<SpaceQuota>> getOptionalSpaceQuotaDefinition(CloudFoundryClient cloudFoundryClient, SpaceResource spaceResource) {
+        String spaceQuotaDefinitionId = ResourceUtils.getEntity(spaceResource).getSpaceQuotaDefinitionId();
+
+        if (spaceQuotaDefinitionId == null) {
+            return Mono.just(Optional.empty());
+        }
+
+        return this.referenceData.getSpaceQuotaDefinition(cloudFoundryClient, spaceQuotaDefinitionId)
+            .map(DefaultSpaces::toSpaceQuotaDefinition)
+            .map(Optional::of);
+    }
+
+    private Mono<List<SecurityGroupEntity>> getSecurityGroups(CloudFoundryClient cloudFoundryClient, SpaceResource spaceResource, boolean withRules) {
+        return this.referenceData.getSpaceSecurityGroups(cloudFoundryClient, ResourceUtils.getId(spaceResource))
+            .flatMapIterable(entities -> entities)
+            .map(entity -> {
+                if (!withRules) {
+                    entity = SecurityGroupEntity.builder()
+                        .name(entity.getName())
+                        .runningDefault(entity.getRunningDefault())
+                        .spacesUrl(entity.getSpacesUrl())
+                        .stagingDefault(entity.getStagingDefault())
+                        .build();
+                }
+                return entity;
+            })
+            .collectList();
+    }
+
+    private Mono<SpaceDetail> getSpaceDetail(CloudFoundryClient cloudFoundryClient, SpaceResource resource, GetSpaceRequest request) {
+        return Mono
+            .zip(
+                getApplicationNames(cloudFoundryClient, resource),
+                getDomainNames(cloudFoundryClient, resource),
+                getOrganizationName(cloudFoundryClient, resource),
+                getSecurityGroups(cloudFoundryClient, resource, Optional.ofNullable(request.getSecurityGroupRules()).orElse(false)),
+                getServiceNames(cloudFoundryClient, resource),
+                getOptionalSpaceQuotaDefinition(cloudFoundryClient, resource)
+            )
+            .map(function((applications, domains, organization, securityGroups, services, spaceQuota) ->
+                toSpaceDetail(applications, domains, organization, resource, securityGroups, services, spaceQuota)));
+    }
+
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.usageevents;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.PaginatedResponse;
+import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v2.applicationusageevents.ApplicationUsageEventResource;
+import org.cloudfoundry.client.v2.applicationusageevents.ListApplicationUsageEventsRequest;
+import org.cloudfoundry.client.v2.serviceusageevents.ListServiceUsageEventsRequest;
+import org.cloudfoundry.client.v2.serviceusageevents.ServiceUsageEventResource;
+import org.cloudfoundry.operations.util.OperationsLogging;
+import org.cloudfoundry.util.ResourceUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Streams usage events by following the {@code after_guid} cursor of the usage event endpoints.  Each poll requests a single page of events after the last event delivered, so the total number
+ * of events is never counted.  The checkpoint for a batch is stored before the next batch is requested, so delivery is at-least-once: a stream that is cancelled or fails will redeliver its last
+ * batch when it is resumed.
+ */
+public final class DefaultUsageEvents implements UsageEvents {
+
+    private final Mono<CloudFoundryClient> cloudFoundryClient;
+
+    public DefaultUsageEvents(Mono<CloudFoundryClient> cloudFoundryClient) {
+        this.cloudFoundryClient = cloudFoundryClient;
+    }
+
+    @Override
+    public Flux<List<ApplicationUsageEventResource>> streamApplicationUsageEvents(StreamUsageEventsRequest request) {
+        return this.cloudFoundryClient
+            .flatMapMany(cloudFoundryClient -> streamUsageEvents(request, UsageEventType.APPLICATION, eventId -> requestApplicationUsageEvents(cloudFoundryClient, eventId, request.getBatchSize())))
+            .transform(OperationsLogging.log("Stream Application Usage Events"))
+            .checkpoint();
+    }
+
+    @Override
+    public Flux<List<ServiceUsageEventResource>> streamServiceUsageEvents(StreamUsageEventsRequest request) {
+        return this.cloudFoundryClient
+            .flatMapMany(cloudFoundryClient -> streamUsageEvents(request, UsageEventType.SERVICE, eventId -> requestServiceUsageEvents(cloudFoundryClient, eventId, request.getBatchSize())))
+            .transform(OperationsLogging.log("Stream Service Usage Events"))
+            .checkpoint();
+    }
+
+    private static Mono<List<ApplicationUsageEventResource>> requestApplicationUsageEvents(CloudFoundryClient cloudFoundryClient, String afterEventId, Integer batchSize) {
+        return cloudFoundryClient.applicationUsageEvents()
+            .list(ListApplicationUsageEventsRequest.builder()
+                .afterApplicationUsageEventId(afterEventId)
+                .page(1)
+                .resultsPerPage(batchSize)
+                .build())
+            .map(PaginatedResponse::getResources);
+    }
+
+    private static Mono<List<ServiceUsageEventResource>> requestServiceUsageEvents(CloudFoundryClient cloudFoundryClient, String afterEventId, Integer batchSize) {
+        return cloudFoundryClient.serviceUsageEvents()
+            .list(ListServiceUsageEventsRequest.builder()
+                .afterServiceUsageEventId(afterEventId)
+                .page(1)
+                .resultsPerPage(batchSize)
+                .build())
+            .map(PaginatedResponse::getResources);
+    }
+
+    private static <R extends Resource<?>> Flux<List<R>> streamUsageEvents(StreamUsageEventsRequest request, UsageEventType type, Function<String, Mono<List<R>>> batchSupplier) {
+        UsageEventCheckpointStore checkpointStore = request.getCheckpointStore();
+
+        return checkpointStore.getCheckpoint(type)
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .flatMapMany(checkpoint -> {
+                Cursor cursor = new Cursor(checkpoint.orElse(null), request.getMinimumPollInterval());
+
+                return Mono
+                    .defer(() -> cursor.commit(checkpointStore, type)
+                        .then(batchSupplier.apply(cursor.eventId)))
+                    .doOnNext(batch -> cursor.advance(batch, request))
+                    .repeatWhen(polls -> polls.concatMap(count -> Mono.delay(cursor.pollInterval)))
+                    .filter(batch -> !batch.isEmpty());
+            });
+    }
+
+    /**
+     * The position of a stream of usage events, and how long to wait before polling for more
+     */
+    private static final class Cursor {
+
+        private volatile String eventId;
+
+        private volatile Duration pollInterval;
+
+        private volatile String uncommittedEventId;
+
+        private Cursor(String eventId, Duration pollInterval) {
+            this.eventId = eventId;
+            this.pollInterval = pollInterval;
+        }
+
+        private static Duration backOff(Duration pollInterval, StreamUsageEventsRequest request) {
+            Duration backOff = pollInterval.multipliedBy(2);
+
+            if (backOff.compareTo(request.getMinimumPollInterval()) < 0) {
+                return request.getMinimumPollInterval();
+            }
+
+            if (backOff.compareTo(request.getMaximumPollInterval()) > 0) {
+                return request.getMaximumPollInterval();
+            }
+
+            return backOff;
+        }
+
+        private void advance(List<? extends Resource<?>> batch, StreamUsageEventsRequest request) {
+            if (batch.size() >= request.getBatchSize()) {
+                this.pollInterval = Duration.ZERO;
+            } else if (!batch.isEmpty()) {
+                this.pollInterval = request.getMinimumPollInterval();
+            } else {
+                this.pollInterval = backOff(this.pollInterval, request);
+            }
+
+            if (!batch.isEmpty()) {
+                this.eventId = ResourceUtils.getId(batch.get(batch.size() - 1));
+                this.uncommittedEventId = this.eventId;
+            }
+        }
+
+        private Mono<Void> commit(UsageEventCheckpointStore checkpointStore, UsageEventType type) {
+            String eventId = this.uncommittedEventId;
+
+            if (eventId == null) {
+                return Mono.empty();
+            }
+
+            return checkpointStore.setCheckpoint(type, eventId)
+                .doOnSuccess(v -> this.uncommittedEventId = null);
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.usageevents;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link UsageEventCheckpointStore} that keeps its checkpoints in memory
+ */
+public final class InMemoryUsageEventCheckpointStore implements UsageEventCheckpointStore {
+
+    private final Map<UsageEventType, String> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<String> getCheckpoint(UsageEventType type) {
+        return Mono.justOrEmpty(this.checkpoints.get(type));
+    }
+
+    @Override
+    public Mono<Void> setCheckpoint(UsageEventType type, String eventId) {
+        return Mono.fromRunnable(() -> this.checkpoints.put(type, eventId));
+    }
+
+}
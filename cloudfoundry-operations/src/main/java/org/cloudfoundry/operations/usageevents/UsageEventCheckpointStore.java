@@ -0,0 +1,43 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.usageevents;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Stores the id of the last usage event of each type that has been delivered, so that a stream of usage events can resume where it stopped
+ */
+public interface UsageEventCheckpointStore {
+
+    /**
+     * Get the checkpoint for a type of usage event
+     *
+     * @param type the type of usage event
+     * @return the id of the last usage event delivered, or empty if there is none
+     */
+    Mono<String> getCheckpoint(UsageEventType type);
+
+    /**
+     * Set the checkpoint for a type of usage event
+     *
+     * @param type    the type of usage event
+     * @param eventId the id of the last usage event delivered
+     * @return completion indicator
+     */
+    Mono<Void> setCheckpoint(UsageEventType type, String eventId);
+
+}
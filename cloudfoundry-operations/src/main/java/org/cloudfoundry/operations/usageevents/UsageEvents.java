@@ -0,0 +1,46 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.usageevents;
+
+import org.cloudfoundry.client.v2.applicationusageevents.ApplicationUsageEventResource;
+import org.cloudfoundry.client.v2.serviceusageevents.ServiceUsageEventResource;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Main entry point to the Cloud Foundry Usage Events Operations API
+ */
+public interface UsageEvents {
+
+    /**
+     * Continuously stream application usage events in batches, starting after the checkpoint in the request's store
+     *
+     * @param request the stream usage events request
+     * @return the batches of application usage events
+     */
+    Flux<List<ApplicationUsageEventResource>> streamApplicationUsageEvents(StreamUsageEventsRequest request);
+
+    /**
+     * Continuously stream service usage events in batches, starting after the checkpoint in the request's store
+     *
+     * @param request the stream usage events request
+     * @return the batches of service usage events
+     */
+    Flux<List<ServiceUsageEventResource>> streamServiceUsageEvents(StreamUsageEventsRequest request);
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.usageevents;
+
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * The request options for the stream usage events operations
+ */
+@Value.Immutable
+abstract class _StreamUsageEventsRequest {
+
+    @Value.Check
+    void check() {
+        if (getBatchSize() < 1 || getBatchSize() > 100) {
+            throw new IllegalStateException("Cannot build StreamUsageEventsRequest, batch size must be between 1 and 100");
+        }
+
+        if (getMinimumPollInterval().compareTo(getMaximumPollInterval()) > 0) {
+            throw new IllegalStateException("Cannot build StreamUsageEventsRequest, minimum poll interval must not be greater than maximum poll interval");
+        }
+    }
+
+    /**
+     * The maximum number of events to request, and to emit, at a time
+     */
+    @Value.Default
+    Integer getBatchSize() {
+        return 100;
+    }
+
+    /**
+     * The store used to resume the stream where it last stopped
+     */
+    @Value.Default
+    UsageEventCheckpointStore getCheckpointStore() {
+        return new InMemoryUsageEventCheckpointStore();
+    }
+
+    /**
+     * The longest time to wait between polls when no new events are found
+     */
+    @Value.Default
+    Duration getMaximumPollInterval() {
+        return Duration.ofMinutes(1);
+    }
+
+    /**
+     * The time to wait between polls when fewer events than the batch size are found
+     */
+    @Value.Default
+    Duration getMinimumPollInterval() {
+        return Duration.ofSeconds(5);
+    }
+
+}
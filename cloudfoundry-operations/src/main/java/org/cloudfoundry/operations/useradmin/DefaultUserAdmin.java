@@ -45,7 +45,9 @@ import org.cloudfoundry.client.v2.spaces.RemoveSpaceDeveloperByUsernameRequest;
 import org.cloudfoundry.client.v2.spaces.RemoveSpaceManagerByUsernameRequest;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
 import org.cloudfoundry.client.v2.users.UserResource;
+import org.cloudfoundry.operations.util.ExpiringCache;
 import org.cloudfoundry.operations.util.OperationsLogging;
+import org.cloudfoundry.operations.util.ResourceIdCache;
 import org.cloudfoundry.uaa.UaaClient;
 import org.cloudfoundry.uaa.UaaException;
 import org.cloudfoundry.uaa.users.CreateUserResponse;
@@ -60,26 +62,60 @@ import org.cloudfoundry.util.PaginationUtils;
 import org.cloudfoundry.util.ResourceUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.ORGANIZATION;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.SPACE;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 import static org.cloudfoundry.util.tuple.TupleUtils.predicate;
 
 public final class DefaultUserAdmin implements UserAdmin {
 
+    private static final Duration DEFAULT_USER_ID_CACHE_DURATION = Duration.ofMinutes(5);
+
+    private static final int PAGE_CONCURRENCY = 4;
+
     private static final String SET_ROLES_BY_USERNAME_FEATURE_FLAG = "set_roles_by_username";
 
     private static final String UNSET_ROLES_BY_USERNAME_FEATURE_FLAG = "unset_roles_by_username";
 
     private final Mono<CloudFoundryClient> cloudFoundryClient;
 
+    private final ResourceIdCache resourceIds;
+
     private final Mono<UaaClient> uaaClient;
 
+    private final ExpiringCache<String, String> userIds;
+
     public DefaultUserAdmin(Mono<CloudFoundryClient> cloudFoundryClient, Mono<UaaClient> uaaClient) {
+        this(cloudFoundryClient, uaaClient, DEFAULT_USER_ID_CACHE_DURATION);
+    }
+
+    public DefaultUserAdmin(Mono<CloudFoundryClient> cloudFoundryClient, Mono<UaaClient> uaaClient, ResourceIdCache resourceIds) {
+        this(cloudFoundryClient, uaaClient, DEFAULT_USER_ID_CACHE_DURATION, resourceIds);
+    }
+
+    public DefaultUserAdmin(Mono<CloudFoundryClient> cloudFoundryClient, Mono<UaaClient> uaaClient, Duration userIdCacheDuration) {
+        this(cloudFoundryClient, uaaClient, userIdCacheDuration, ResourceIdCache.disabled());
+    }
+
+    public DefaultUserAdmin(Mono<CloudFoundryClient> cloudFoundryClient, Mono<UaaClient> uaaClient, Duration userIdCacheDuration, ResourceIdCache resourceIds) {
         this.uaaClient = uaaClient;
         this.cloudFoundryClient = cloudFoundryClient;
+        this.resourceIds = resourceIds;
+        this.userIds = new ExpiringCache<>(userIdCacheDuration);
     }
 
     @Override
@@ -100,28 +136,43 @@ public final class DefaultUserAdmin implements UserAdmin {
             .flatMap(function((cloudFoundryClient, uaaClient) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
                 Mono.just(uaaClient),
-                getUserId(uaaClient, request.getUsername()))))
+                this.userIds.get(request.getUsername(), username -> getUserId(uaaClient, username)))))
             .flatMap(function((cloudFoundryClient, uaaClient, userId) -> Mono.zip(
                 deleteUser(cloudFoundryClient, userId),
                 requestDeleteUaaUser(uaaClient, userId))))
             .then()
+            .doOnSuccess(v -> this.userIds.invalidate(request.getUsername()))
             .transform(OperationsLogging.log("Delete User"))
             .checkpoint();
     }
 
+    @Override
+    public Flux<OrganizationUser> listOrganizationUserRoles(ListOrganizationUsersRequest request) {
+        return this.cloudFoundryClient
+            .flatMap(cloudFoundryClient -> Mono.zip(
+                Mono.just(cloudFoundryClient),
+                getOrganizationId(cloudFoundryClient, this.resourceIds, request.getOrganizationName())
+            ))
+            .flatMapMany(function((cloudFoundryClient, organizationId) -> getMembers(OrganizationRole.class, getOrganizationMemberships(cloudFoundryClient, organizationId))))
+            .filter(member -> member.username != null)
+            .map(member -> OrganizationUser.builder()
+                .id(member.id)
+                .roles(member.roles)
+                .username(member.username)
+                .build())
+            .transform(OperationsLogging.log("List Organization User Roles"))
+            .checkpoint();
+    }
+
     @Override
     public Mono<OrganizationUsers> listOrganizationUsers(ListOrganizationUsersRequest request) {
         return this.cloudFoundryClient
             .flatMap(cloudFoundryClient -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getOrganizationId(cloudFoundryClient, request.getOrganizationName())
+                getOrganizationId(cloudFoundryClient, this.resourceIds, request.getOrganizationName())
             ))
-            .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
-                listOrganizationAuditorNames(cloudFoundryClient, organizationId),
-                listOrganizationBillingManagerNames(cloudFoundryClient, organizationId),
-                listOrganizationManagerNames(cloudFoundryClient, organizationId)
-            )))
-            .flatMap(function(this::toOrganizationUsers))
+            .flatMap(function((cloudFoundryClient, organizationId) -> getUsernames(getOrganizationMemberships(cloudFoundryClient, organizationId))))
+            .map(DefaultUserAdmin::toOrganizationUsers)
             .transform(OperationsLogging.log("List Organization Users"))
             .checkpoint();
     }
@@ -131,18 +182,14 @@ public final class DefaultUserAdmin implements UserAdmin {
         return this.cloudFoundryClient
             .flatMap(cloudFoundryClient -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getOrganizationId(cloudFoundryClient, request.getOrganizationName())
+                getOrganizationId(cloudFoundryClient, this.resourceIds, request.getOrganizationName())
             ))
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getSpaceId(cloudFoundryClient, organizationId, request.getSpaceName()))
+                getSpaceId(cloudFoundryClient, this.resourceIds, organizationId, request.getSpaceName()))
             ))
-            .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
-                listSpaceAuditorNames(cloudFoundryClient, spaceId),
-                listSpaceDeveloperNames(cloudFoundryClient, spaceId),
-                listSpaceManagerNames(cloudFoundryClient, spaceId)
-            )))
-            .flatMap(function(this::toSpaceUsers))
+            .flatMap(function((cloudFoundryClient, spaceId) -> getUsernames(getSpaceMemberships(cloudFoundryClient, spaceId))))
+            .map(DefaultUserAdmin::toSpaceUsers)
             .transform(OperationsLogging.log("List Space Users"))
             .checkpoint();
     }
@@ -158,7 +205,7 @@ public final class DefaultUserAdmin implements UserAdmin {
             .switchIfEmpty(ExceptionUtils.illegalState("Setting roles by username is not enabled"))
             .flatMap(function((cloudFoundryClient, ignore) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getOrganizationId(cloudFoundryClient, request.getOrganizationName()))
+                getOrganizationId(cloudFoundryClient, this.resourceIds, request.getOrganizationName()))
             ))
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 requestAssociateOrganizationUserByUsername(cloudFoundryClient, organizationId, request),
@@ -179,12 +226,12 @@ public final class DefaultUserAdmin implements UserAdmin {
             .switchIfEmpty(ExceptionUtils.illegalState("Setting roles by username is not enabled"))
             .flatMap(function((cloudFoundryClient, ignore) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getOrganizationId(cloudFoundryClient, request.getOrganizationName()))
+                getOrganizationId(cloudFoundryClient, this.resourceIds, request.getOrganizationName()))
             ))
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
                 Mono.just(organizationId),
-                getSpaceId(cloudFoundryClient, organizationId, request.getSpaceName())
+                getSpaceId(cloudFoundryClient, this.resourceIds, organizationId, request.getSpaceName())
             )))
             .flatMap(function((cloudFoundryClient, organizationId, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
@@ -207,7 +254,7 @@ public final class DefaultUserAdmin implements UserAdmin {
             .switchIfEmpty(ExceptionUtils.illegalState("Unsetting roles by username is not enabled"))
             .flatMap(function((cloudFoundryClient, ignore) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getOrganizationId(cloudFoundryClient, request.getOrganizationName()))
+                getOrganizationId(cloudFoundryClient, this.resourceIds, request.getOrganizationName()))
             ))
             .flatMap(function((cloudFoundryClient, organizationId) -> removeOrganizationRole(cloudFoundryClient, organizationId, request)))
             .transform(OperationsLogging.log("Unset User Organization Role"))
@@ -225,11 +272,11 @@ public final class DefaultUserAdmin implements UserAdmin {
             .switchIfEmpty(ExceptionUtils.illegalState("Unsetting roles by username is not enabled"))
             .flatMap(function((cloudFoundryClient, ignore) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getOrganizationId(cloudFoundryClient, request.getOrganizationName()))
+                getOrganizationId(cloudFoundryClient, this.resourceIds, request.getOrganizationName()))
             ))
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getSpaceId(cloudFoundryClient, organizationId, request.getSpaceName())
+                getSpaceId(cloudFoundryClient, this.resourceIds, organizationId, request.getSpaceName())
             )))
             .flatMap(function((cloudFoundryClient, spaceId) -> removeSpaceRole(cloudFoundryClient, request, spaceId)))
             .transform(OperationsLogging.log("Unset User Space Role"))
@@ -323,20 +370,38 @@ public final class DefaultUserAdmin implements UserAdmin {
             .map(GetFeatureFlagResponse::getEnabled);
     }
 
-    private static Mono<String> getOrganizationId(CloudFoundryClient cloudFoundryClient, String organizationName) {
-        return requestListOrganizations(cloudFoundryClient, organizationName)
-            .singleOrEmpty()
-            .map(ResourceUtils::getId)
+    private static Mono<String> getOrganizationId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String organizationName) {
+        return resourceIds
+            .get(ORGANIZATION, null, organizationName, () -> requestListOrganizations(cloudFoundryClient, organizationName)
+                .singleOrEmpty()
+                .map(ResourceUtils::getId))
             .switchIfEmpty(ExceptionUtils.illegalArgument("Organization %s not found", organizationName));
     }
 
-    private static Mono<String> getSpaceId(CloudFoundryClient cloudFoundryClient, String organizationId, String spaceName) {
-        return requestListSpaces(cloudFoundryClient, organizationId, spaceName)
-            .singleOrEmpty()
-            .map(ResourceUtils::getId)
+    private static Map<OrganizationRole, Flux<UserResource>> getOrganizationMemberships(CloudFoundryClient cloudFoundryClient, String organizationId) {
+        Map<OrganizationRole, Flux<UserResource>> memberships = new EnumMap<>(OrganizationRole.class);
+        memberships.put(OrganizationRole.AUDITOR, requestListOrganizationAuditors(cloudFoundryClient, organizationId));
+        memberships.put(OrganizationRole.BILLING_MANAGER, requestListOrganizationBillingManagers(cloudFoundryClient, organizationId));
+        memberships.put(OrganizationRole.MANAGER, requestListOrganizationManagers(cloudFoundryClient, organizationId));
+        return memberships;
+    }
+
+    private static Mono<String> getSpaceId(CloudFoundryClient cloudFoundryClient, ResourceIdCache resourceIds, String organizationId, String spaceName) {
+        return resourceIds
+            .get(SPACE, organizationId, spaceName, () -> requestListSpaces(cloudFoundryClient, organizationId, spaceName)
+                .singleOrEmpty()
+                .map(ResourceUtils::getId))
             .switchIfEmpty(ExceptionUtils.illegalArgument("Space %s not found", spaceName));
     }
 
+    private static Map<SpaceRole, Flux<UserResource>> getSpaceMemberships(CloudFoundryClient cloudFoundryClient, String spaceId) {
+        Map<SpaceRole, Flux<UserResource>> memberships = new EnumMap<>(SpaceRole.class);
+        memberships.put(SpaceRole.AUDITOR, requestListSpaceAuditors(cloudFoundryClient, spaceId));
+        memberships.put(SpaceRole.DEVELOPER, requestListSpaceDevelopers(cloudFoundryClient, spaceId));
+        memberships.put(SpaceRole.MANAGER, requestListSpaceManagers(cloudFoundryClient, spaceId));
+        return memberships;
+    }
+
     private static Mono<String> getUserId(UaaClient uaaClient, String username) {
         return PaginationUtils
             .requestUaaResources(startIndex -> uaaClient.users()
@@ -349,42 +414,6 @@ public final class DefaultUserAdmin implements UserAdmin {
             .map(User::getId);
     }
 
-    private static Mono<List<String>> listOrganizationAuditorNames(CloudFoundryClient cloudFoundryClient, String organizationId) {
-        return requestListOrganizationAuditors(cloudFoundryClient, organizationId)
-            .map(resource -> ResourceUtils.getEntity(resource).getUsername())
-            .collectList();
-    }
-
-    private static Mono<List<String>> listOrganizationBillingManagerNames(CloudFoundryClient cloudFoundryClient, String organizationId) {
-        return requestListOrganizationBillingManagers(cloudFoundryClient, organizationId)
-            .map(resource -> ResourceUtils.getEntity(resource).getUsername())
-            .collectList();
-    }
-
-    private static Mono<List<String>> listOrganizationManagerNames(CloudFoundryClient cloudFoundryClient, String organizationId) {
-        return requestListOrganizationManagers(cloudFoundryClient, organizationId)
-            .map(resource -> ResourceUtils.getEntity(resource).getUsername())
-            .collectList();
-    }
-
-    private static Mono<List<String>> listSpaceAuditorNames(CloudFoundryClient cloudFoundryClient, String spaceId) {
-        return requestListSpaceAuditors(cloudFoundryClient, spaceId)
-            .map(resource -> ResourceUtils.getEntity(resource).getUsername())
-            .collectList();
-    }
-
-    private static Mono<List<String>> listSpaceDeveloperNames(CloudFoundryClient cloudFoundryClient, String spaceId) {
-        return requestListSpaceDevelopers(cloudFoundryClient, spaceId)
-            .map(resource -> ResourceUtils.getEntity(resource).getUsername())
-            .collectList();
-    }
-
-    private static Mono<List<String>> listSpaceManagerNames(CloudFoundryClient cloudFoundryClient, String spaceId) {
-        return requestListSpaceManagers(cloudFoundryClient, spaceId)
-            .map(resource -> ResourceUtils.getEntity(resource).getUsername())
-            .collectList();
-    }
-
     private static Mono<Void> removeOrganizationRole(CloudFoundryClient cloudFoundryClient, String organizationId, UnsetOrganizationRoleRequest request) {
         if (OrganizationRole.AUDITOR == request.getOrganizationRole()) {
             return cloudFoundryClient.organizations()
@@ -506,7 +535,7 @@ public final class DefaultUserAdmin implements UserAdmin {
             .listAuditors(ListOrganizationAuditorsRequest.builder()
                 .organizationId(organizationId)
                 .page(page)
-                .build()));
+                .build()), PAGE_CONCURRENCY);
     }
 
     private static Flux<UserResource> requestListOrganizationBillingManagers(CloudFoundryClient cloudFoundryClient, String organizationId) {
@@ -514,7 +543,7 @@ public final class DefaultUserAdmin implements UserAdmin {
             .listBillingManagers(ListOrganizationBillingManagersRequest.builder()
                 .organizationId(organizationId)
                 .page(page)
-                .build()));
+                .build()), PAGE_CONCURRENCY);
     }
 
     private static Flux<UserResource> requestListOrganizationManagers(CloudFoundryClient cloudFoundryClient, String organizationId) {
@@ -522,7 +551,7 @@ public final class DefaultUserAdmin implements UserAdmin {
             .listManagers(ListOrganizationManagersRequest.builder()
                 .organizationId(organizationId)
                 .page(page)
-                .build()));
+                .build()), PAGE_CONCURRENCY);
     }
 
     private static Flux<OrganizationResource> requestListOrganizations(CloudFoundryClient cloudFoundryClient, String organizationName) {
@@ -538,7 +567,7 @@ public final class DefaultUserAdmin implements UserAdmin {
             .listAuditors(ListSpaceAuditorsRequest.builder()
                 .page(page)
                 .spaceId(spaceId)
-                .build()));
+                .build()), PAGE_CONCURRENCY);
     }
 
     private static Flux<UserResource> requestListSpaceDevelopers(CloudFoundryClient cloudFoundryClient, String spaceId) {
@@ -546,7 +575,7 @@ public final class DefaultUserAdmin implements UserAdmin {
             .listDevelopers(ListSpaceDevelopersRequest.builder()
                 .page(page)
                 .spaceId(spaceId)
-                .build()));
+                .build()), PAGE_CONCURRENCY);
     }
 
     private static Flux<UserResource> requestListSpaceManagers(CloudFoundryClient cloudFoundryClient, String spaceId) {
@@ -554,7 +583,7 @@ public final class DefaultUserAdmin implements UserAdmin {
             .listManagers(ListSpaceManagersRequest.builder()
                 .page(page)
                 .spaceId(spaceId)
-                .build()));
+                .build()), PAGE_CONCURRENCY);
     }
 
     private static Flux<SpaceResource> requestListSpaces(CloudFoundryClient cloudFoundryClient, String organizationId, String spaceName) {
@@ -566,20 +595,118 @@ public final class DefaultUserAdmin implements UserAdmin {
                 .build()));
     }
 
-    private Mono<OrganizationUsers> toOrganizationUsers(List<String> auditors, List<String> billingManagers, List<String> managers) {
-        return Mono.just(OrganizationUsers.builder()
-            .addAllAuditors(auditors)
-            .addAllBillingManagers(billingManagers)
-            .addAllManagers(managers)
-            .build());
+    private static OrganizationUsers toOrganizationUsers(Map<OrganizationRole, List<String>> usernames) {
+        return OrganizationUsers.builder()
+            .auditors(usernames.get(OrganizationRole.AUDITOR))
+            .billingManagers(usernames.get(OrganizationRole.BILLING_MANAGER))
+            .managers(usernames.get(OrganizationRole.MANAGER))
+            .build();
     }
 
-    private Mono<SpaceUsers> toSpaceUsers(List<String> auditors, List<String> developers, List<String> managers) {
-        return Mono.just(SpaceUsers.builder()
-            .addAllAuditors(auditors)
-            .addAllDevelopers(developers)
-            .addAllManagers(managers)
-            .build());
+    private static SpaceUsers toSpaceUsers(Map<SpaceRole, List<String>> usernames) {
+        return SpaceUsers.builder()
+            .auditors(usernames.get(SpaceRole.AUDITOR))
+            .developers(usernames.get(SpaceRole.DEVELOPER))
+            .managers(usernames.get(SpaceRole.MANAGER))
+            .build();
+    }
+
+    private void cacheUserId(UserResource resource) {
+        Optional.ofNullable(ResourceUtils.getEntity(resource).getUsername())
+            .ifPresent(username -> this.userIds.put(username, ResourceUtils.getId(resource)));
+    }
+
+    private <R extends Enum<R>> Flux<Member<R>> getMembers(Class<R> roleType, Map<R, Flux<UserResource>> memberships) {
+        return Flux.defer(() -> {
+            MemberResolver<R> resolver = new MemberResolver<>(roleType, memberships.keySet());
+
+            return Flux.merge(memberships.entrySet().stream()
+                .map(entry -> entry.getValue()
+                    .doOnNext(this::cacheUserId)
+                    .concatMapIterable(resource -> resolver.add(entry.getKey(), resource))
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(resolver.complete(entry.getKey())))))
+                .collect(Collectors.toList()));
+        });
+    }
+
+    private <R extends Enum<R>> Mono<Map<R, List<String>>> getUsernames(Map<R, Flux<UserResource>> memberships) {
+        return Flux.fromIterable(memberships.entrySet())
+            .flatMap(entry -> entry.getValue()
+                .doOnNext(this::cacheUserId)
+                .filter(resource -> ResourceUtils.getEntity(resource).getUsername() != null)
+                .map(resource -> ResourceUtils.getEntity(resource).getUsername())
+                .collectList()
+                .map(usernames -> Tuples.of(entry.getKey(), usernames)))
+            .collectMap(Tuple2::getT1, Tuple2::getT2);
+    }
+
+    /**
+     * A user and the roles it holds, merged from the per-role membership lists
+     */
+    private static final class Member<R extends Enum<R>> {
+
+        private final String id;
+
+        private final EnumSet<R> roles;
+
+        private final String username;
+
+        private Member(Class<R> roleType, String id, String username) {
+            this.id = id;
+            this.roles = EnumSet.noneOf(roleType);
+            this.username = username;
+        }
+
+    }
+
+    /**
+     * Merges the per-role membership lists into {@link Member}s as they are listed.  A member is resolved, and released downstream, as soon as each role list has either included it or
+     * completed, so only members whose roles are still undecided are held.
+     */
+    private static final class MemberResolver<R extends Enum<R>> {
+
+        private final EnumSet<R> completed;
+
+        private final Map<String, Member<R>> pending = new LinkedHashMap<>();
+
+        private final Set<R> roles;
+
+        private final Class<R> roleType;
+
+        private MemberResolver(Class<R> roleType, Set<R> roles) {
+            this.completed = EnumSet.noneOf(roleType);
+            this.roles = roles;
+            this.roleType = roleType;
+        }
+
+        private synchronized List<Member<R>> add(R role, UserResource resource) {
+            Member<R> member = this.pending.computeIfAbsent(ResourceUtils.getId(resource), id -> new Member<>(this.roleType, id, ResourceUtils.getEntity(resource).getUsername()));
+            member.roles.add(role);
+
+            if (!isResolved(member)) {
+                return Collections.emptyList();
+            }
+
+            this.pending.remove(member.id);
+            return Collections.singletonList(member);
+        }
+
+        private synchronized List<Member<R>> complete(R role) {
+            this.completed.add(role);
+
+            List<Member<R>> resolved = this.pending.values().stream()
+                .filter(this::isResolved)
+                .collect(Collectors.toList());
+
+            resolved.forEach(member -> this.pending.remove(member.id));
+            return resolved;
+        }
+
+        private boolean isResolved(Member<R> member) {
+            return this.roles.stream()
+                .allMatch(role -> member.roles.contains(role) || this.completed.contains(role));
+        }
+
     }
 
 }
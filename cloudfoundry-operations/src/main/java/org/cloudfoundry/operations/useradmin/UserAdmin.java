@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.operations.useradmin;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -39,6 +40,14 @@ public interface UserAdmin {
      */
     Mono<Void> delete(DeleteUserRequest request);
 
+    /**
+     * List the users of an organization, together with the roles each of them holds
+     *
+     * @param request the list organization users request
+     * @return the users of the organization
+     */
+    Flux<OrganizationUser> listOrganizationUserRoles(ListOrganizationUsersRequest request);
+
     /**
      * List organization users
      *
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A cache of values that expire a fixed time after they are loaded.  Concurrent requests for a key share a single load, empty results are cached, optionally for a shorter time, and failed
+ * loads are not cached.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of value
+ */
+public final class ExpiringCache<K, V> {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Clock clock;
+
+    private final Duration emptyTtl;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final Duration ttl;
+
+    /**
+     * Creates a new instance
+     *
+     * @param ttl how long a value remains in the cache after it is loaded
+     */
+    public ExpiringCache(Duration ttl) {
+        this(ttl, ttl);
+    }
+
+    /**
+     * Creates a new instance
+     *
+     * @param ttl      how long a value remains in the cache after it is loaded
+     * @param emptyTtl how long an empty result remains in the cache after it is loaded
+     */
+    public ExpiringCache(Duration ttl, Duration emptyTtl) {
+        this(Clock.systemUTC(), ttl, emptyTtl);
+    }
+
+    ExpiringCache(Clock clock, Duration ttl) {
+        this(clock, ttl, ttl);
+    }
+
+    ExpiringCache(Clock clock, Duration ttl, Duration emptyTtl) {
+        this.clock = clock;
+        this.emptyTtl = emptyTtl;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Returns the value for a key, loading it if it is absent or has expired
+     *
+     * @param key    the key
+     * @param loader the function used to load the value
+     * @return the value, or empty if the loader completed empty
+     */
+    public Mono<V> get(K key, Function<K, Mono<V>> loader) {
+        return Mono.defer(() -> {
+            Instant now = this.clock.instant();
+
+            Entry<V> entry = this.entries.compute(key, (k, existing) -> existing != null && existing.isLive(now) ? existing : load(k, loader, now));
+            purgeIfFull(now);
+
+            return entry.value
+                .doOnError(t -> this.entries.remove(key, entry));
+        });
+    }
+
+    /**
+     * Removes the value for a key
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        this.entries.remove(key);
+    }
+
+    /**
+     * Removes all values
+     */
+    public void invalidateAll() {
+        this.entries.clear();
+    }
+
+    /**
+     * Stores a value that is already known, for example one returned as a side effect of another request
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(K key, V value) {
+        Instant now = this.clock.instant();
+
+        Entry<V> entry = new Entry<>(now.plus(this.ttl));
+        entry.value = Mono.just(value);
+
+        this.entries.put(key, entry);
+        purgeIfFull(now);
+    }
+
+    private Entry<V> load(K key, Function<K, Mono<V>> loader, Instant now) {
+        Entry<V> entry = new Entry<>(now.plus(this.ttl));
+
+        entry.value = loader.apply(key)
+            .doOnSuccess(value -> {
+                if (value == null) {
+                    entry.expiration = now.plus(this.emptyTtl);
+                }
+            })
+            .cache();
+
+        return entry;
+    }
+
+    private void purgeIfFull(Instant now) {
+        if (this.entries.size() > PURGE_THRESHOLD) {
+            this.entries.values().removeIf(entry -> !entry.isLive(now));
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private volatile Instant expiration;
+
+        private Mono<V> value;
+
+        private Entry(Instant expiration) {
+            this.expiration = expiration;
+        }
+
+        private boolean isLive(Instant now) {
+            return now.isBefore(this.expiration);
+        }
+
+    }
+
+}
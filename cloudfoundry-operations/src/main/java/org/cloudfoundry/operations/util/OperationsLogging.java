@@ -17,6 +17,7 @@
 package org.cloudfoundry.operations.util;
 
 import org.cloudfoundry.util.TimeUtils;
+import org.cloudfoundry.util.TraceUtils;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
@@ -38,8 +39,10 @@ public final class OperationsLogging {
 
     @SuppressWarnings("unchecked")
     public static <T extends Publisher<U>, U> Function<T, T> log(String message) {
+        Function<T, T> trace = TraceUtils.<T, U>trace(message);
+
         if (!LOGGER.isDebugEnabled()) {
-            return f -> f;
+            return trace;
         }
 
         AtomicLong startTimeHolder = new AtomicLong();
@@ -54,7 +57,7 @@ public final class OperationsLogging {
             LOGGER.debug("FINISH {} ({}/{})", message, signalType, elapsed);
         };
 
-        return f -> {
+        Function<T, T> logging = f -> {
             if (f instanceof Mono) {
                 return (T) ((Mono<U>) f)
                     .doOnSubscribe(start)
@@ -68,6 +71,8 @@ public final class OperationsLogging {
                 return f;
             }
         };
+
+        return logging.andThen(trace);
     }
 
 }
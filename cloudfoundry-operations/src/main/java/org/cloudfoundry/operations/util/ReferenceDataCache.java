@@ -0,0 +1,237 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.organizationquotadefinitions.GetOrganizationQuotaDefinitionRequest;
+import org.cloudfoundry.client.v2.organizationquotadefinitions.GetOrganizationQuotaDefinitionResponse;
+import org.cloudfoundry.client.v2.organizations.ListOrganizationSpaceQuotaDefinitionsRequest;
+import org.cloudfoundry.client.v2.securitygroups.SecurityGroupEntity;
+import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsRequest;
+import org.cloudfoundry.client.v2.spacequotadefinitions.GetSpaceQuotaDefinitionRequest;
+import org.cloudfoundry.client.v2.spacequotadefinitions.GetSpaceQuotaDefinitionResponse;
+import org.cloudfoundry.client.v2.spacequotadefinitions.SpaceQuotaDefinitionResource;
+import org.cloudfoundry.client.v2.spaces.ListSpaceSecurityGroupsRequest;
+import org.cloudfoundry.util.PaginationUtils;
+import org.cloudfoundry.util.ResourceUtils;
+import org.cloudfoundry.util.SnapshotStore;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A short-lived cache of the reference data, like quota definitions, shared domains and security groups, that many organization and space details have in common.  The names of the shared
+ * domains can also be persisted to a {@link SnapshotStore}.
+ */
+public final class ReferenceDataCache {
+
+    /**
+     * The default time that reference data remains in the cache after it is loaded
+     */
+    public static final Duration DEFAULT_CACHE_DURATION = Duration.ofSeconds(30);
+
+    private static final String NAMES = "names";
+
+    private static final int PAGE_CONCURRENCY = 4;
+
+    private static final String SHARED_DOMAINS_KEY = "shared-domains";
+
+    private static final String SHARED_DOMAINS_SNAPSHOT_KEY = "reference-data/shared-domain-names";
+
+    private final boolean enabled;
+
+    private final ExpiringCache<String, GetOrganizationQuotaDefinitionResponse> organizationQuotaDefinitions;
+
+    private final ExpiringCache<String, List<SpaceQuotaDefinitionResource>> organizationSpaceQuotaDefinitions;
+
+    private final ExpiringCache<String, List<String>> sharedDomainNames;
+
+    private final Optional<SnapshotStore> snapshots;
+
+    private final ExpiringCache<String, GetSpaceQuotaDefinitionResponse> spaceQuotaDefinitions;
+
+    private final ExpiringCache<String, List<SecurityGroupEntity>> spaceSecurityGroups;
+
+    /**
+     * Creates a new instance
+     *
+     * @param ttl how long reference data remains in the cache after it is loaded.  A zero duration disables caching.
+     */
+    public ReferenceDataCache(Duration ttl) {
+        this(ttl, Optional.empty());
+    }
+
+    /**
+     * Creates a new instance
+     *
+     * @param ttl       how long reference data remains in the cache after it is loaded.  A zero duration disables caching.
+     * @param snapshots the store that the names of the shared domains are persisted to
+     */
+    public ReferenceDataCache(Duration ttl, SnapshotStore snapshots) {
+        this(ttl, Optional.of(snapshots));
+    }
+
+    private ReferenceDataCache(Duration ttl, Optional<SnapshotStore> snapshots) {
+        this.enabled = !ttl.isZero();
+        this.snapshots = snapshots;
+        this.organizationQuotaDefinitions = new ExpiringCache<>(ttl);
+        this.organizationSpaceQuotaDefinitions = new ExpiringCache<>(ttl);
+        this.sharedDomainNames = new ExpiringCache<>(ttl);
+        this.spaceQuotaDefinitions = new ExpiringCache<>(ttl);
+        this.spaceSecurityGroups = new ExpiringCache<>(ttl);
+    }
+
+    /**
+     * Returns an instance that does not cache
+     *
+     * @return an instance that does not cache
+     */
+    public static ReferenceDataCache disabled() {
+        return new ReferenceDataCache(Duration.ZERO);
+    }
+
+    /**
+     * Returns an organization quota definition
+     *
+     * @param cloudFoundryClient            the client to load the quota definition with
+     * @param organizationQuotaDefinitionId the id of the organization quota definition
+     * @return the organization quota definition
+     */
+    public Mono<GetOrganizationQuotaDefinitionResponse> getOrganizationQuotaDefinition(CloudFoundryClient cloudFoundryClient, String organizationQuotaDefinitionId) {
+        return get(this.organizationQuotaDefinitions, organizationQuotaDefinitionId, id -> cloudFoundryClient.organizationQuotaDefinitions()
+            .get(GetOrganizationQuotaDefinitionRequest.builder()
+                .organizationQuotaDefinitionId(id)
+                .build()));
+    }
+
+    /**
+     * Returns the space quota definitions of an organization
+     *
+     * @param cloudFoundryClient the client to load the quota definitions with
+     * @param organizationId     the id of the organization
+     * @return the space quota definitions of the organization
+     */
+    public Mono<List<SpaceQuotaDefinitionResource>> getOrganizationSpaceQuotaDefinitions(CloudFoundryClient cloudFoundryClient, String organizationId) {
+        return get(this.organizationSpaceQuotaDefinitions, organizationId, id -> PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.organizations()
+                .listSpaceQuotaDefinitions(ListOrganizationSpaceQuotaDefinitionsRequest.builder()
+                    .organizationId(id)
+                    .page(page)
+                    .build()), PAGE_CONCURRENCY)
+            .collectList());
+    }
+
+    /**
+     * Returns the names of the shared domains
+     *
+     * @param cloudFoundryClient the client to load the shared domains with
+     * @return the names of the shared domains
+     */
+    public Mono<List<String>> getSharedDomainNames(CloudFoundryClient cloudFoundryClient) {
+        return get(this.sharedDomainNames, SHARED_DOMAINS_KEY, key -> this.snapshots
+            .map(snapshots -> restoreSharedDomainNames(cloudFoundryClient, snapshots))
+            .orElseGet(() -> requestSharedDomainNames(cloudFoundryClient)));
+    }
+
+    /**
+     * Returns a space quota definition
+     *
+     * @param cloudFoundryClient     the client to load the quota definition with
+     * @param spaceQuotaDefinitionId the id of the space quota definition
+     * @return the space quota definition
+     */
+    public Mono<GetSpaceQuotaDefinitionResponse> getSpaceQuotaDefinition(CloudFoundryClient cloudFoundryClient, String spaceQuotaDefinitionId) {
+        return get(this.spaceQuotaDefinitions, spaceQuotaDefinitionId, id -> cloudFoundryClient.spaceQuotaDefinitions()
+            .get(GetSpaceQuotaDefinitionRequest.builder()
+                .spaceQuotaDefinitionId(id)
+                .build()));
+    }
+
+    /**
+     * Returns the security groups, including their rules, that apply to a space
+     *
+     * @param cloudFoundryClient the client to load the security groups with
+     * @param spaceId            the id of the space
+     * @return the security groups of the space
+     */
+    public Mono<List<SecurityGroupEntity>> getSpaceSecurityGroups(CloudFoundryClient cloudFoundryClient, String spaceId) {
+        return get(this.spaceSecurityGroups, spaceId, id -> PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.spaces()
+                .listSecurityGroups(ListSpaceSecurityGroupsRequest.builder()
+                    .spaceId(id)
+                    .page(page)
+                    .build()), PAGE_CONCURRENCY)
+            .map(ResourceUtils::getEntity)
+            .collectList());
+    }
+
+    /**
+     * Removes all cached reference data
+     */
+    public void invalidateAll() {
+        this.organizationQuotaDefinitions.invalidateAll();
+        this.organizationSpaceQuotaDefinitions.invalidateAll();
+        this.spaceQuotaDefinitions.invalidateAll();
+        this.spaceSecurityGroups.invalidateAll();
+        invalidateSharedDomainNames();
+    }
+
+    /**
+     * Removes the cached, and persisted, names of the shared domains
+     */
+    public void invalidateSharedDomainNames() {
+        this.sharedDomainNames.invalidateAll();
+        this.snapshots.ifPresent(snapshots -> snapshots.remove(SHARED_DOMAINS_SNAPSHOT_KEY));
+    }
+
+    private static Mono<List<String>> requestSharedDomainNames(CloudFoundryClient cloudFoundryClient) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.sharedDomains()
+                .list(ListSharedDomainsRequest.builder()
+                    .page(page)
+                    .build()), PAGE_CONCURRENCY)
+            .map(resource -> ResourceUtils.getEntity(resource).getName())
+            .collectList();
+    }
+
+    private static Mono<List<String>> restoreSharedDomainNames(CloudFoundryClient cloudFoundryClient, SnapshotStore snapshots) {
+        return Mono
+            .fromCallable(() -> snapshots.get(SHARED_DOMAINS_SNAPSHOT_KEY))
+            .subscribeOn(Schedulers.elastic())
+            .flatMap(snapshot -> Mono.justOrEmpty(snapshot.map(names -> names.get(NAMES))))
+            .map(names -> names.isEmpty() ? Collections.<String>emptyList() : Arrays.asList(names.split(",")))
+            .switchIfEmpty(requestSharedDomainNames(cloudFoundryClient)
+                .delayUntil(names -> Mono
+                    .fromRunnable(() -> snapshots.put(SHARED_DOMAINS_SNAPSHOT_KEY, Collections.singletonMap(NAMES, String.join(",", names))))
+                    .subscribeOn(Schedulers.elastic())));
+    }
+
+    private <K, V> Mono<V> get(ExpiringCache<K, V> cache, K key, Function<K, Mono<V>> loader) {
+        if (!this.enabled) {
+            return loader.apply(key);
+        }
+
+        return cache.get(key, loader);
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.cloudfoundry.util.SnapshotStore;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A cache of the ids that resource names resolve to, shared by the operations of a {@link org.cloudfoundry.operations.CloudFoundryOperations} instance.  Names that do not resolve are cached for
+ * a shorter time than those that do, and every cached id of a type is invalidated when an operation creates, renames, or deletes a resource of that type.  The ids of stacks, which rarely
+ * change, can also be persisted to a {@link SnapshotStore}.
+ */
+public final class ResourceIdCache {
+
+    private static final Set<ResourceType> PERSISTENT_TYPES = EnumSet.of(ResourceType.STACK);
+
+    private final boolean enabled;
+
+    private final Map<ResourceType, ExpiringCache<Key, String>> ids = new EnumMap<>(ResourceType.class);
+
+    private final Optional<SnapshotStore> snapshots;
+
+    /**
+     * Creates a new instance
+     *
+     * @param ttl         how long a resolved id remains in the cache.  A zero duration disables caching.
+     * @param notFoundTtl how long a name that does not resolve remains in the cache
+     */
+    public ResourceIdCache(Duration ttl, Duration notFoundTtl) {
+        this(ttl, notFoundTtl, Optional.empty());
+    }
+
+    /**
+     * Creates a new instance
+     *
+     * @param ttl         how long a resolved id remains in the cache.  A zero duration disables caching.
+     * @param notFoundTtl how long a name that does not resolve remains in the cache
+     * @param snapshots   the store that the ids of stacks are persisted to
+     */
+    public ResourceIdCache(Duration ttl, Duration notFoundTtl, SnapshotStore snapshots) {
+        this(ttl, notFoundTtl, Optional.of(snapshots));
+    }
+
+    private ResourceIdCache(Duration ttl, Duration notFoundTtl, Optional<SnapshotStore> snapshots) {
+        this.enabled = !ttl.isZero();
+        this.snapshots = snapshots;
+
+        for (ResourceType type : ResourceType.values()) {
+            this.ids.put(type, new ExpiringCache<>(ttl, notFoundTtl));
+        }
+    }
+
+    /**
+     * Returns an instance that does not cache
+     *
+     * @return an instance that does not cache
+     */
+    public static ResourceIdCache disabled() {
+        return new ResourceIdCache(Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * Returns the id that a name resolves to, loading it if it is absent or has expired
+     *
+     * @param type   the type of resource
+     * @param scope  the id of the organization or space the name is unique within, or {@code null} if the name is globally unique
+     * @param name   the name
+     * @param loader the supplier of the id, completing empty if the name does not resolve
+     * @return the id, or empty if the name does not resolve
+     */
+    public Mono<String> get(ResourceType type, String scope, String name, Supplier<Mono<String>> loader) {
+        if (!this.enabled) {
+            return loader.get();
+        }
+
+        return this.ids.get(type).get(new Key(scope, name), key -> this.snapshots
+            .filter(snapshots -> PERSISTENT_TYPES.contains(type))
+            .map(snapshots -> restore(snapshots, type, name, loader))
+            .orElseGet(loader));
+    }
+
+    /**
+     * Removes all cached ids of a type
+     *
+     * @param type the type of resource
+     */
+    public void invalidate(ResourceType type) {
+        this.ids.get(type).invalidateAll();
+
+        if (PERSISTENT_TYPES.contains(type)) {
+            this.snapshots.ifPresent(snapshots -> snapshots.remove(getSnapshotKey(type)));
+        }
+    }
+
+    /**
+     * Removes all cached ids
+     */
+    public void invalidateAll() {
+        Arrays.stream(ResourceType.values()).forEach(this::invalidate);
+    }
+
+    /**
+     * Returns a transformer that removes all cached ids of some types when an operation that creates, renames, or deletes resources of those types completes, fails, or is cancelled.  An operation
+     * that deletes a resource should also name the types of the resources that are deleted with it.
+     *
+     * @param types the types of resource
+     * @param <T>   the type of the operation's result
+     * @return the transformer
+     */
+    public <T> Function<Mono<T>, Mono<T>> invalidating(ResourceType... types) {
+        return operation -> operation
+            .doFinally(signal -> Arrays.stream(types).forEach(this::invalidate));
+    }
+
+    private static String getSnapshotKey(ResourceType type) {
+        return String.format("resource-ids/%s", type.name().toLowerCase(Locale.ROOT));
+    }
+
+    private Mono<String> restore(SnapshotStore snapshots, ResourceType type, String name, Supplier<Mono<String>> loader) {
+        String key = getSnapshotKey(type);
+
+        return Mono
+            .fromCallable(() -> snapshots.get(key))
+            .subscribeOn(Schedulers.elastic())
+            .flatMap(snapshot -> Mono.justOrEmpty(snapshot.map(ids -> ids.get(name))))
+            .switchIfEmpty(Mono.defer(loader)
+                .delayUntil(id -> Mono
+                    .fromRunnable(() -> save(snapshots, key, name, id))
+                    .subscribeOn(Schedulers.elastic())));
+    }
+
+    private synchronized void save(SnapshotStore snapshots, String key, String name, String id) {
+        Map<String, String> ids = new HashMap<>(snapshots.get(key).orElse(Collections.emptyMap()));
+        ids.put(name, id);
+
+        snapshots.put(key, ids);
+    }
+
+    /**
+     * The types of resource whose ids are cached
+     */
+    public enum ResourceType {
+
+        /**
+         * Applications, unique within a space
+         */
+        APPLICATION,
+
+        /**
+         * Private and shared domains, globally unique
+         */
+        DOMAIN,
+
+        /**
+         * Organizations, globally unique
+         */
+        ORGANIZATION,
+
+        /**
+         * Service instances, including user provided service instances, unique within a space
+         */
+        SERVICE_INSTANCE,
+
+        /**
+         * Spaces, unique within an organization
+         */
+        SPACE,
+
+        /**
+         * Stacks, globally unique
+         */
+        STACK
+
+    }
+
+    private static final class Key {
+
+        private final String name;
+
+        private final String scope;
+
+        private Key(String scope, String name) {
+            this.name = name;
+            this.scope = scope;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return Objects.equals(this.name, key.name) && Objects.equals(this.scope, key.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.name, this.scope);
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@ package org.cloudfoundry.operations;
 
 import org.cloudfoundry.client.CloudFoundryClient;
 import org.cloudfoundry.client.v2.applications.ApplicationsV2;
+import org.cloudfoundry.client.v2.applicationusageevents.ApplicationUsageEvents;
 import org.cloudfoundry.client.v2.buildpacks.Buildpacks;
 import org.cloudfoundry.client.v2.domains.Domains;
 import org.cloudfoundry.client.v2.events.Events;
@@ -27,6 +28,7 @@ import org.cloudfoundry.client.v2.organizationquotadefinitions.OrganizationQuota
 import org.cloudfoundry.client.v2.organizations.Organizations;
 import org.cloudfoundry.client.v2.privatedomains.PrivateDomains;
 import org.cloudfoundry.client.v2.resourcematch.ResourceMatch;
+import org.cloudfoundry.client.v2.routemappings.RouteMappings;
 import org.cloudfoundry.client.v2.routes.Routes;
 import org.cloudfoundry.client.v2.servicebindings.ServiceBindingsV2;
 import org.cloudfoundry.client.v2.servicebrokers.ServiceBrokers;
@@ -35,6 +37,7 @@ import org.cloudfoundry.client.v2.servicekeys.ServiceKeys;
 import org.cloudfoundry.client.v2.serviceplans.ServicePlans;
 import org.cloudfoundry.client.v2.serviceplanvisibilities.ServicePlanVisibilities;
 import org.cloudfoundry.client.v2.services.Services;
+import org.cloudfoundry.client.v2.serviceusageevents.ServiceUsageEvents;
 import org.cloudfoundry.client.v2.shareddomains.SharedDomains;
 import org.cloudfoundry.client.v2.spacequotadefinitions.SpaceQuotaDefinitions;
 import org.cloudfoundry.client.v2.spaces.Spaces;
@@ -76,6 +79,8 @@ public abstract class AbstractOperationsTest {
 
     protected static final String TEST_USERNAME = "test-username";
 
+    protected final ApplicationUsageEvents applicationUsageEvents = mock(ApplicationUsageEvents.class, RETURNS_SMART_NULLS);
+
     protected final ApplicationsV2 applications = mock(ApplicationsV2.class, RETURNS_SMART_NULLS);
 
     protected final ApplicationsV3 applicationsV3 = mock(ApplicationsV3.class, RETURNS_SMART_NULLS);
@@ -106,6 +111,8 @@ public abstract class AbstractOperationsTest {
 
     protected final RouterGroups routerGroups = mock(RouterGroups.class, RETURNS_SMART_NULLS);
 
+    protected final RouteMappings routeMappings = mock(RouteMappings.class, RETURNS_SMART_NULLS);
+
     protected final Routes routes = mock(Routes.class, RETURNS_SMART_NULLS);
 
     protected final RoutingClient routingClient = mock(RoutingClient.class, RETURNS_SMART_NULLS);
@@ -122,6 +129,8 @@ public abstract class AbstractOperationsTest {
 
     protected final ServicePlans servicePlans = mock(ServicePlans.class, RETURNS_SMART_NULLS);
 
+    protected final ServiceUsageEvents serviceUsageEvents = mock(ServiceUsageEvents.class, RETURNS_SMART_NULLS);
+
     protected final Services services = mock(Services.class, RETURNS_SMART_NULLS);
 
     protected final SharedDomains sharedDomains = mock(SharedDomains.class, RETURNS_SMART_NULLS);
@@ -146,6 +155,7 @@ public abstract class AbstractOperationsTest {
 
     @Before
     public final void mockClient() {
+        when(this.cloudFoundryClient.applicationUsageEvents()).thenReturn(this.applicationUsageEvents);
         when(this.cloudFoundryClient.applicationsV2()).thenReturn(this.applications);
         when(this.cloudFoundryClient.applicationsV3()).thenReturn(this.applicationsV3);
         when(this.cloudFoundryClient.buildpacks()).thenReturn(this.buildpacks);
@@ -157,6 +167,7 @@ public abstract class AbstractOperationsTest {
         when(this.cloudFoundryClient.organizationQuotaDefinitions()).thenReturn(this.organizationQuotaDefinitions);
         when(this.cloudFoundryClient.privateDomains()).thenReturn(this.privateDomains);
         when(this.cloudFoundryClient.resourceMatch()).thenReturn(this.resourceMatch);
+        when(this.cloudFoundryClient.routeMappings()).thenReturn(this.routeMappings);
         when(this.cloudFoundryClient.routes()).thenReturn(this.routes);
         when(this.cloudFoundryClient.serviceBindingsV2()).thenReturn(this.serviceBindingsV2);
         when(this.cloudFoundryClient.serviceBrokers()).thenReturn(this.serviceBrokers);
@@ -164,6 +175,7 @@ public abstract class AbstractOperationsTest {
         when(this.cloudFoundryClient.serviceKeys()).thenReturn(this.serviceKeys);
         when(this.cloudFoundryClient.servicePlans()).thenReturn(this.servicePlans);
         when(this.cloudFoundryClient.servicePlanVisibilities()).thenReturn(this.servicePlanVisibilities);
+        when(this.cloudFoundryClient.serviceUsageEvents()).thenReturn(this.serviceUsageEvents);
         when(this.cloudFoundryClient.services()).thenReturn(this.services);
         when(this.cloudFoundryClient.sharedDomains()).thenReturn(this.sharedDomains);
         when(this.cloudFoundryClient.spaceQuotaDefinitions()).thenReturn(this.spaceQuotaDefinitions);
@@ -40,6 +40,11 @@ public final class DefaultCloudFoundryOperationsTest extends AbstractOperationsT
         assertThat(this.operations.applications()).isNotNull();
     }
 
+    @Test
+    public void auditEvents() {
+        assertThat(this.operations.auditEvents()).isNotNull();
+    }
+
     @Test
     public void buildpacks() {
         assertThat(this.operations.buildpacks()).isNotNull();
@@ -50,6 +55,11 @@ public final class DefaultCloudFoundryOperationsTest extends AbstractOperationsT
         assertThat(this.operations.domains()).isNotNull();
     }
 
+    @Test
+    public void inventory() {
+        assertThat(this.operations.inventory()).isNotNull();
+    }
+
     @Test
     public void networkPolicies() {
         assertThat(this.operations.networkPolicies()).isNotNull();
@@ -95,6 +105,11 @@ public final class DefaultCloudFoundryOperationsTest extends AbstractOperationsT
         assertThat(this.operations.stacks()).isNotNull();
     }
 
+    @Test
+    public void usageEvents() {
+        assertThat(this.operations.usageEvents()).isNotNull();
+    }
+
     @Test
     public void userAdmin() {
         assertThat(this.operations.userAdmin()).isNotNull();
@@ -3793,31 +3793,47 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     }
 
     private static void requestSharedDomains(CloudFoundryClient cloudFoundryClient, String domain, String domainId) {
+        Mono<ListSharedDomainsResponse> response = Mono
+            .just(fill(ListSharedDomainsResponse.builder())
+                .resource(SharedDomainResource.builder()
+                    .metadata(fill(Metadata.builder())
+                        .id(domainId)
+                        .build())
+                    .entity(fill(SharedDomainEntity.builder())
+                        .name(domain)
+                        .build())
+                    .build())
+                .build());
+
         when(cloudFoundryClient.sharedDomains()
             .list(ListSharedDomainsRequest.builder()
                 .page(1)
                 .build()))
-            .thenReturn(Mono
-                .just(fill(ListSharedDomainsResponse.builder())
-                    .resource(SharedDomainResource.builder()
-                        .metadata(fill(Metadata.builder())
-                            .id(domainId)
-                            .build())
-                        .entity(fill(SharedDomainEntity.builder())
-                            .name(domain)
-                            .build())
-                        .build())
-                    .build()));
+            .thenReturn(response);
+
+        when(cloudFoundryClient.sharedDomains()
+            .list(ListSharedDomainsRequest.builder()
+                .resultsPerPage(1)
+                .build()))
+            .thenReturn(response);
     }
 
     private static void requestSharedDomainsEmpty(CloudFoundryClient cloudFoundryClient) {
+        Mono<ListSharedDomainsResponse> response = Mono
+            .just(fill(ListSharedDomainsResponse.builder())
+                .build());
+
         when(cloudFoundryClient.sharedDomains()
             .list(ListSharedDomainsRequest.builder()
                 .page(1)
                 .build()))
-            .thenReturn(Mono
-                .just(fill(ListSharedDomainsResponse.builder())
-                    .build()));
+            .thenReturn(response);
+
+        when(cloudFoundryClient.sharedDomains()
+            .list(ListSharedDomainsRequest.builder()
+                .resultsPerPage(1)
+                .build()))
+            .thenReturn(response);
     }
 
     private static void requestSpace(CloudFoundryClient cloudFoundryClient, String spaceId, String organizationId) {
@@ -3869,22 +3885,30 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     }
 
     private static void requestTcpDomains(CloudFoundryClient cloudFoundryClient, String domain, String domainId) {
+        Mono<ListSharedDomainsResponse> response = Mono
+            .just(fill(ListSharedDomainsResponse.builder())
+                .resource(SharedDomainResource.builder()
+                    .metadata(fill(Metadata.builder())
+                        .id(domainId)
+                        .build())
+                    .entity(fill(SharedDomainEntity.builder())
+                        .name(domain)
+                        .routerGroupType("tcp")
+                        .build())
+                    .build())
+                .build());
+
         when(cloudFoundryClient.sharedDomains()
             .list(ListSharedDomainsRequest.builder()
                 .page(1)
                 .build()))
-            .thenReturn(Mono
-                .just(fill(ListSharedDomainsResponse.builder())
-                    .resource(SharedDomainResource.builder()
-                        .metadata(fill(Metadata.builder())
-                            .id(domainId)
-                            .build())
-                        .entity(fill(SharedDomainEntity.builder())
-                            .name(domain)
-                            .routerGroupType("tcp")
-                            .build())
-                        .build())
-                    .build()));
+            .thenReturn(response);
+
+        when(cloudFoundryClient.sharedDomains()
+            .list(ListSharedDomainsRequest.builder()
+                .resultsPerPage(1)
+                .build()))
+            .thenReturn(response);
     }
 
     private static void requestTerminateApplicationInstance(CloudFoundryClient cloudFoundryClient, String applicationId, String instanceIndex) {
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.auditevents;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.Metadata;
+import org.cloudfoundry.client.v2.OrderDirection;
+import org.cloudfoundry.client.v2.events.EventEntity;
+import org.cloudfoundry.client.v2.events.EventResource;
+import org.cloudfoundry.client.v2.events.ListEventsRequest;
+import org.cloudfoundry.client.v2.events.ListEventsResponse;
+import org.cloudfoundry.operations.AbstractOperationsTest;
+import org.cloudfoundry.util.ResourceUtils;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.cloudfoundry.operations.TestObjects.fill;
+import static org.mockito.Mockito.when;
+
+public final class DefaultAuditEventsTest extends AbstractOperationsTest {
+
+    private final AuditEventCheckpointStore checkpointStore = new InMemoryAuditEventCheckpointStore();
+
+    private final DefaultAuditEvents auditEvents = new DefaultAuditEvents(Mono.just(this.cloudFoundryClient));
+
+    @Test
+    public void tail() {
+        this.checkpointStore.setCheckpoint("2018-01-01T00:01:00Z").block();
+        requestEvents(this.cloudFoundryClient, "2018-01-01T00:00:00Z",
+            event("test-event-1-id", "2018-01-01T00:00:30Z"),
+            event("test-event-2-id", "2018-01-01T00:02:00Z"));
+        requestEvents(this.cloudFoundryClient, "2018-01-01T00:01:00Z",
+            event("test-event-2-id", "2018-01-01T00:02:00Z"),
+            event("test-event-3-id", "2018-01-01T00:03:00Z"));
+
+        this.auditEvents
+            .tail(TailAuditEventsRequest.builder()
+                .checkpointStore(this.checkpointStore)
+                .overlap(Duration.ofMinutes(1))
+                .pollInterval(Duration.ofMillis(10))
+                .build())
+            .take(3)
+            .map(ResourceUtils::getId)
+            .as(StepVerifier::create)
+            .expectNext("test-event-1-id", "test-event-2-id", "test-event-3-id")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        this.checkpointStore
+            .getCheckpoint()
+            .as(StepVerifier::create)
+            .expectNext("2018-01-01T00:02:00Z")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void tailStartTimestamp() {
+        requestEvents(this.cloudFoundryClient, "2017-12-31T23:59:30Z",
+            event("test-event-id", "2018-01-01T00:00:00Z"));
+
+        this.auditEvents
+            .tail(TailAuditEventsRequest.builder()
+                .checkpointStore(this.checkpointStore)
+                .startTimestamp("2018-01-01T00:00:00Z")
+                .build())
+            .take(1)
+            .map(ResourceUtils::getId)
+            .as(StepVerifier::create)
+            .expectNext("test-event-id")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private static EventResource event(String id, String timestamp) {
+        return EventResource.builder()
+            .metadata(fill(Metadata.builder())
+                .id(id)
+                .build())
+            .entity(fill(EventEntity.builder())
+                .timestamp(timestamp)
+                .build())
+            .build();
+    }
+
+    private static void requestEvents(CloudFoundryClient cloudFoundryClient, String since, EventResource... events) {
+        when(cloudFoundryClient.events()
+            .list(ListEventsRequest.builder()
+                .orderDirection(OrderDirection.ASCENDING)
+                .page(1)
+                .resultsPerPage(100)
+                .timestamp(since)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListEventsResponse.builder())
+                    .resources(events)
+                    .build()));
+    }
+
+}
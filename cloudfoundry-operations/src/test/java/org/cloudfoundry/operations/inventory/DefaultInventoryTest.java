@@ -0,0 +1,371 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.inventory;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.Metadata;
+import org.cloudfoundry.client.v2.organizations.ListOrganizationsRequest;
+import org.cloudfoundry.client.v2.organizations.ListOrganizationsResponse;
+import org.cloudfoundry.client.v2.organizations.OrganizationEntity;
+import org.cloudfoundry.client.v2.organizations.OrganizationResource;
+import org.cloudfoundry.client.v2.privatedomains.ListPrivateDomainsRequest;
+import org.cloudfoundry.client.v2.privatedomains.ListPrivateDomainsResponse;
+import org.cloudfoundry.client.v2.routemappings.ListRouteMappingsRequest;
+import org.cloudfoundry.client.v2.routemappings.ListRouteMappingsResponse;
+import org.cloudfoundry.client.v2.routemappings.RouteMappingEntity;
+import org.cloudfoundry.client.v2.routemappings.RouteMappingResource;
+import org.cloudfoundry.client.v2.routes.ListRoutesRequest;
+import org.cloudfoundry.client.v2.routes.ListRoutesResponse;
+import org.cloudfoundry.client.v2.routes.RouteEntity;
+import org.cloudfoundry.client.v2.routes.RouteResource;
+import org.cloudfoundry.client.v2.serviceinstances.ListServiceInstancesRequest;
+import org.cloudfoundry.client.v2.serviceinstances.ListServiceInstancesResponse;
+import org.cloudfoundry.client.v2.serviceinstances.ServiceInstanceEntity;
+import org.cloudfoundry.client.v2.serviceinstances.ServiceInstanceResource;
+import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsRequest;
+import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsResponse;
+import org.cloudfoundry.client.v2.shareddomains.SharedDomainEntity;
+import org.cloudfoundry.client.v2.shareddomains.SharedDomainResource;
+import org.cloudfoundry.client.v2.spaces.ListSpacesRequest;
+import org.cloudfoundry.client.v2.spaces.ListSpacesResponse;
+import org.cloudfoundry.client.v2.spaces.SpaceEntity;
+import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.cloudfoundry.client.v2.userprovidedserviceinstances.ListUserProvidedServiceInstancesRequest;
+import org.cloudfoundry.client.v2.userprovidedserviceinstances.ListUserProvidedServiceInstancesResponse;
+import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.Lifecycle;
+import org.cloudfoundry.client.v3.Relationship;
+import org.cloudfoundry.client.v3.ToOneRelationship;
+import org.cloudfoundry.client.v3.applications.ApplicationRelationships;
+import org.cloudfoundry.client.v3.applications.ApplicationResource;
+import org.cloudfoundry.client.v3.applications.ApplicationState;
+import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationsResponse;
+import org.cloudfoundry.operations.AbstractOperationsTest;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cloudfoundry.operations.TestObjects.fill;
+import static org.mockito.Mockito.when;
+
+public final class DefaultInventoryTest extends AbstractOperationsTest {
+
+    private final DefaultInventory inventory = new DefaultInventory(Mono.just(this.cloudFoundryClient));
+
+    @Test
+    public void snapshot() {
+        requestApplications(this.cloudFoundryClient);
+        requestOrganizations(this.cloudFoundryClient);
+        requestPrivateDomains(this.cloudFoundryClient);
+        requestRouteMappings(this.cloudFoundryClient);
+        requestRoutes(this.cloudFoundryClient);
+        requestServiceInstances(this.cloudFoundryClient);
+        requestSharedDomains(this.cloudFoundryClient);
+        requestSpaces(this.cloudFoundryClient);
+        requestUserProvidedServiceInstances(this.cloudFoundryClient);
+
+        this.inventory
+            .snapshot()
+            .as(StepVerifier::create)
+            .consumeNextWith(snapshot -> {
+                assertThat(snapshot.getApplicationCount()).isEqualTo(2);
+                assertThat(snapshot.getOrganizations()).containsExactly("test-organization-name");
+                assertThat(snapshot.getSpaces("test-organization-name")).containsExactly("test-space-name");
+
+                assertThat(snapshot.getApplication("test-application-id")).contains(InventoryApplication.builder()
+                    .id("test-application-id")
+                    .name("test-application-name")
+                    .organization("test-organization-name")
+                    .space("test-space-name")
+                    .state("STARTED")
+                    .url("test-host.test-domain-name/test-path")
+                    .build());
+
+                assertThat(snapshot.getApplications("test-organization-name", "test-space-name"))
+                    .extracting(InventoryApplication::getName)
+                    .containsExactly("test-application-name", "test-other-application-name");
+
+                assertThat(snapshot.getRoutes("test-organization-name", "test-space-name")).containsExactly(InventoryRoute.builder()
+                    .application("test-application-name")
+                    .domain("test-domain-name")
+                    .host("test-host")
+                    .id("test-route-id")
+                    .path("/test-path")
+                    .build());
+
+                assertThat(snapshot.getServiceInstances("test-organization-name", "test-space-name")).containsExactly(InventoryServiceInstance.builder()
+                    .id("test-service-instance-id")
+                    .name("test-service-instance-name")
+                    .type("managed_service_instance")
+                    .build());
+            })
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void snapshotMappingUnknownApplication() {
+        requestApplications(this.cloudFoundryClient);
+        requestOrganizations(this.cloudFoundryClient);
+        requestPrivateDomains(this.cloudFoundryClient);
+        requestRouteMappings(this.cloudFoundryClient, "test-unknown-application-id", "test-route-id");
+        requestRoutes(this.cloudFoundryClient);
+        requestServiceInstances(this.cloudFoundryClient);
+        requestSharedDomains(this.cloudFoundryClient);
+        requestSpaces(this.cloudFoundryClient);
+        requestUserProvidedServiceInstances(this.cloudFoundryClient);
+
+        this.inventory
+            .snapshot()
+            .as(StepVerifier::create)
+            .consumeNextWith(snapshot -> {
+                assertThat(snapshot.getApplication("test-application-id").get().getUrls()).isEmpty();
+                assertThat(snapshot.getRoutes("test-organization-name", "test-space-name"))
+                    .flatExtracting(InventoryRoute::getApplications)
+                    .isEmpty();
+            })
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void snapshotMappingUnknownRoute() {
+        requestApplications(this.cloudFoundryClient);
+        requestOrganizations(this.cloudFoundryClient);
+        requestPrivateDomains(this.cloudFoundryClient);
+        requestRouteMappings(this.cloudFoundryClient, "test-application-id", "test-unknown-route-id");
+        requestRoutes(this.cloudFoundryClient);
+        requestServiceInstances(this.cloudFoundryClient);
+        requestSharedDomains(this.cloudFoundryClient);
+        requestSpaces(this.cloudFoundryClient);
+        requestUserProvidedServiceInstances(this.cloudFoundryClient);
+
+        this.inventory
+            .snapshot()
+            .as(StepVerifier::create)
+            .consumeNextWith(snapshot -> {
+                assertThat(snapshot.getApplication("test-application-id").get().getUrls()).isEmpty();
+                assertThat(snapshot.getRoutes("test-organization-name", "test-space-name"))
+                    .flatExtracting(InventoryRoute::getApplications)
+                    .isEmpty();
+            })
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void snapshotUnknownSpace() {
+        requestApplications(this.cloudFoundryClient);
+        requestOrganizations(this.cloudFoundryClient);
+        requestPrivateDomains(this.cloudFoundryClient);
+        requestRouteMappings(this.cloudFoundryClient);
+        requestRoutes(this.cloudFoundryClient);
+        requestServiceInstances(this.cloudFoundryClient);
+        requestSharedDomains(this.cloudFoundryClient);
+        requestSpaces(this.cloudFoundryClient);
+        requestUserProvidedServiceInstances(this.cloudFoundryClient);
+
+        this.inventory
+            .snapshot()
+            .as(StepVerifier::create)
+            .consumeNextWith(snapshot -> {
+                assertThat(snapshot.getApplication("test-unknown-application-id")).isEmpty();
+                assertThat(snapshot.getApplications("test-organization-name", "test-unknown-space-name")).isEmpty();
+                assertThat(snapshot.getRoutes("test-unknown-organization-name", "test-space-name")).isEmpty();
+                assertThat(snapshot.getSpaces("test-unknown-organization-name")).isEmpty();
+            })
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private static ApplicationResource application(String id, String name) {
+        return ApplicationResource.builder()
+            .createdAt("test-created-at")
+            .id(id)
+            .lifecycle(fill(Lifecycle.builder())
+                .data(fill(BuildpackData.builder())
+                    .build())
+                .build())
+            .name(name)
+            .relationships(ApplicationRelationships.builder()
+                .space(ToOneRelationship.builder()
+                    .data(Relationship.builder()
+                        .id("test-space-id")
+                        .build())
+                    .build())
+                .build())
+            .state(ApplicationState.STARTED)
+            .build();
+    }
+
+    private static void requestApplications(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.applicationsV3()
+            .list(ListApplicationsRequest.builder()
+                .page(1)
+                .perPage(5000)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListApplicationsResponse.builder())
+                    .resource(application("test-application-id", "test-application-name"))
+                    .resource(application("test-other-application-id", "test-other-application-name"))
+                    .build()));
+    }
+
+    private static void requestOrganizations(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.organizations()
+            .list(ListOrganizationsRequest.builder()
+                .page(1)
+                .resultsPerPage(100)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListOrganizationsResponse.builder())
+                    .resource(OrganizationResource.builder()
+                        .metadata(fill(Metadata.builder(), "organization-")
+                            .build())
+                        .entity(fill(OrganizationEntity.builder(), "organization-")
+                            .build())
+                        .build())
+                    .build()));
+    }
+
+    private static void requestPrivateDomains(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.privateDomains()
+            .list(ListPrivateDomainsRequest.builder()
+                .page(1)
+                .resultsPerPage(100)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListPrivateDomainsResponse.builder())
+                    .build()));
+    }
+
+    private static void requestRouteMappings(CloudFoundryClient cloudFoundryClient) {
+        requestRouteMappings(cloudFoundryClient, "test-application-id", "test-route-id");
+    }
+
+    private static void requestRouteMappings(CloudFoundryClient cloudFoundryClient, String applicationId, String routeId) {
+        when(cloudFoundryClient.routeMappings()
+            .list(ListRouteMappingsRequest.builder()
+                .page(1)
+                .resultsPerPage(100)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListRouteMappingsResponse.builder())
+                    .resource(RouteMappingResource.builder()
+                        .metadata(fill(Metadata.builder(), "route-mapping-")
+                            .build())
+                        .entity(RouteMappingEntity.builder()
+                            .applicationId(applicationId)
+                            .routeId(routeId)
+                            .build())
+                        .build())
+                    .build()));
+    }
+
+    private static void requestRoutes(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.routes()
+            .list(ListRoutesRequest.builder()
+                .page(1)
+                .resultsPerPage(100)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListRoutesResponse.builder())
+                    .resource(RouteResource.builder()
+                        .metadata(fill(Metadata.builder(), "route-")
+                            .build())
+                        .entity(RouteEntity.builder()
+                            .domainId("test-domain-id")
+                            .host("test-host")
+                            .path("/test-path")
+                            .spaceId("test-space-id")
+                            .build())
+                        .build())
+                    .build()));
+    }
+
+    private static void requestServiceInstances(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.serviceInstances()
+            .list(ListServiceInstancesRequest.builder()
+                .page(1)
+                .resultsPerPage(100)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListServiceInstancesResponse.builder())
+                    .resource(ServiceInstanceResource.builder()
+                        .metadata(fill(Metadata.builder(), "service-instance-")
+                            .build())
+                        .entity(ServiceInstanceEntity.builder()
+                            .name("test-service-instance-name")
+                            .spaceId("test-space-id")
+                            .type("managed_service_instance")
+                            .build())
+                        .build())
+                    .build()));
+    }
+
+    private static void requestSharedDomains(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.sharedDomains()
+            .list(ListSharedDomainsRequest.builder()
+                .page(1)
+                .resultsPerPage(100)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListSharedDomainsResponse.builder())
+                    .resource(SharedDomainResource.builder()
+                        .metadata(fill(Metadata.builder(), "domain-")
+                            .build())
+                        .entity(SharedDomainEntity.builder()
+                            .name("test-domain-name")
+                            .build())
+                        .build())
+                    .build()));
+    }
+
+    private static void requestSpaces(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.spaces()
+            .list(ListSpacesRequest.builder()
+                .page(1)
+                .resultsPerPage(100)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListSpacesResponse.builder())
+                    .resource(SpaceResource.builder()
+                        .metadata(fill(Metadata.builder(), "space-")
+                            .build())
+                        .entity(fill(SpaceEntity.builder(), "space-")
+                            .organizationId("test-organization-id")
+                            .build())
+                        .build())
+                    .build()));
+    }
+
+    private static void requestUserProvidedServiceInstances(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.userProvidedServiceInstances()
+            .list(ListUserProvidedServiceInstancesRequest.builder()
+                .page(1)
+                .resultsPerPage(100)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListUserProvidedServiceInstancesResponse.builder())
+                    .build()));
+    }
+
+}
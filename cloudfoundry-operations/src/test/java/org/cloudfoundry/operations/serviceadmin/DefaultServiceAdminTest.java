@@ -370,7 +370,7 @@ public final class DefaultServiceAdminTest extends AbstractOperationsTest {
     public void listServiceAccessSettingsSpecifyOrganization() {
         requestListServiceBrokers(this.cloudFoundryClient);
         requestListServicePlanVisibilities(this.cloudFoundryClient);
-        requestListOrganizations(this.cloudFoundryClient, "test-organization-name");
+        requestCountOrganizations(this.cloudFoundryClient, "test-organization-name", 1);
         requestListServicesWithBroker(this.cloudFoundryClient, "test-service-broker-id");
         requestListServicePlans(this.cloudFoundryClient, "test-service-id");
         requestGetOrganization(this.cloudFoundryClient, "test-organization-id");
@@ -395,7 +395,7 @@ public final class DefaultServiceAdminTest extends AbstractOperationsTest {
     public void listServiceAccessSettingsSpecifyOrganizationNotFound() {
         requestListServiceBrokers(this.cloudFoundryClient);
         requestListServicePlanVisibilities(this.cloudFoundryClient);
-        requestListOrganizationsEmpty(this.cloudFoundryClient, "bogus-organization-name");
+        requestCountOrganizations(this.cloudFoundryClient, "bogus-organization-name", 0);
 
         this.serviceAdmin
             .listServiceAccessSettings(ListServiceAccessSettingsRequest.builder()
@@ -408,7 +408,7 @@ public final class DefaultServiceAdminTest extends AbstractOperationsTest {
 
     @Test
     public void listServiceAccessSettingsSpecifyService() {
-        requestListServicesWithName(this.cloudFoundryClient, "test-service-name");
+        requestCountServices(this.cloudFoundryClient, "test-service-name", 1);
         requestListServiceBrokers(this.cloudFoundryClient);
         requestListServicePlanVisibilitiesEmpty(this.cloudFoundryClient);
         requestListServicesWithBroker(this.cloudFoundryClient, "test-service-broker-id");
@@ -434,7 +434,7 @@ public final class DefaultServiceAdminTest extends AbstractOperationsTest {
     public void listServiceAccessSettingsSpecifyServiceNotFound() {
         requestListServiceBrokers(this.cloudFoundryClient);
         requestListServicePlanVisibilitiesEmpty(this.cloudFoundryClient);
-        requestListServicesWithNameEmpty(this.cloudFoundryClient, "bogus-service-name");
+        requestCountServices(this.cloudFoundryClient, "bogus-service-name", 0);
 
         this.serviceAdmin
             .listServiceAccessSettings(ListServiceAccessSettingsRequest.builder()
@@ -508,6 +508,30 @@ public final class DefaultServiceAdminTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    private static void requestCountOrganizations(CloudFoundryClient cloudFoundryClient, String organizationName, int count) {
+        when(cloudFoundryClient.organizations()
+            .list(ListOrganizationsRequest.builder()
+                .name(organizationName)
+                .resultsPerPage(1)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListOrganizationsResponse.builder())
+                    .totalResults(count)
+                    .build()));
+    }
+
+    private static void requestCountServices(CloudFoundryClient cloudFoundryClient, String label, int count) {
+        when(cloudFoundryClient.services()
+            .list(ListServicesRequest.builder()
+                .label(label)
+                .resultsPerPage(1)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListServicesResponse.builder())
+                    .totalResults(count)
+                    .build()));
+    }
+
     private static void requestCreateServiceBroker(CloudFoundryClient cloudFoundryClient, String name, String url, String username, String password, String spaceId) {
         when(cloudFoundryClient.serviceBrokers()
             .create(org.cloudfoundry.client.v2.servicebrokers.CreateServiceBrokerRequest.builder()
@@ -1803,7 +1803,7 @@ public final class DefaultServicesTest extends AbstractOperationsTest {
         when(cloudFoundryClient.servicePlanVisibilities()
             .list(ListServicePlanVisibilitiesRequest.builder()
                 .organizationId(organizationId)
-                .page(1)
+                .resultsPerPage(1)
                 .servicePlanId(servicePlanId)
                 .build()))
             .thenReturn(Mono
@@ -1821,7 +1821,7 @@ public final class DefaultServicesTest extends AbstractOperationsTest {
         when(cloudFoundryClient.servicePlanVisibilities()
             .list(ListServicePlanVisibilitiesRequest.builder()
                 .organizationId(organizationId)
-                .page(1)
+                .resultsPerPage(1)
                 .servicePlanId(servicePlanId)
                 .build()))
             .thenReturn(Mono
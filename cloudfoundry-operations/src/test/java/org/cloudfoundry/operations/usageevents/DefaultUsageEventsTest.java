@@ -0,0 +1,119 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.usageevents;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.applicationusageevents.ApplicationUsageEventResource;
+import org.cloudfoundry.client.v2.applicationusageevents.ListApplicationUsageEventsRequest;
+import org.cloudfoundry.client.v2.applicationusageevents.ListApplicationUsageEventsResponse;
+import org.cloudfoundry.client.v2.serviceusageevents.ListServiceUsageEventsRequest;
+import org.cloudfoundry.client.v2.serviceusageevents.ListServiceUsageEventsResponse;
+import org.cloudfoundry.client.v2.serviceusageevents.ServiceUsageEventResource;
+import org.cloudfoundry.operations.AbstractOperationsTest;
+import org.cloudfoundry.util.ResourceUtils;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.cloudfoundry.operations.TestObjects.fill;
+import static org.mockito.Mockito.when;
+
+public final class DefaultUsageEventsTest extends AbstractOperationsTest {
+
+    private final UsageEventCheckpointStore checkpointStore = new InMemoryUsageEventCheckpointStore();
+
+    private final DefaultUsageEvents usageEvents = new DefaultUsageEvents(Mono.just(this.cloudFoundryClient));
+
+    @Test
+    public void streamApplicationUsageEvents() {
+        this.checkpointStore.setCheckpoint(UsageEventType.APPLICATION, "test-checkpoint-id").block();
+        requestApplicationUsageEvents(this.cloudFoundryClient, "test-checkpoint-id", "event-1-");
+        requestApplicationUsageEvents(this.cloudFoundryClient, "test-event-1-id", "event-2-");
+
+        this.usageEvents
+            .streamApplicationUsageEvents(StreamUsageEventsRequest.builder()
+                .batchSize(1)
+                .checkpointStore(this.checkpointStore)
+                .build())
+            .take(2)
+            .map(batch -> ResourceUtils.getId(batch.get(0)))
+            .as(StepVerifier::create)
+            .expectNext("test-event-1-id", "test-event-2-id")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        this.checkpointStore
+            .getCheckpoint(UsageEventType.APPLICATION)
+            .as(StepVerifier::create)
+            .expectNext("test-event-1-id")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void streamServiceUsageEventsAfterEmptyPoll() {
+        requestServiceUsageEventsEmptyThenEvent(this.cloudFoundryClient);
+
+        this.usageEvents
+            .streamServiceUsageEvents(StreamUsageEventsRequest.builder()
+                .checkpointStore(this.checkpointStore)
+                .maximumPollInterval(Duration.ofMillis(100))
+                .minimumPollInterval(Duration.ofMillis(10))
+                .build())
+            .take(1)
+            .map(batch -> ResourceUtils.getId(batch.get(0)))
+            .as(StepVerifier::create)
+            .expectNext("test-event-id")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private static void requestApplicationUsageEvents(CloudFoundryClient cloudFoundryClient, String afterEventId, String eventPrefix) {
+        when(cloudFoundryClient.applicationUsageEvents()
+            .list(ListApplicationUsageEventsRequest.builder()
+                .afterApplicationUsageEventId(afterEventId)
+                .page(1)
+                .resultsPerPage(1)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListApplicationUsageEventsResponse.builder())
+                    .resource(fill(ApplicationUsageEventResource.builder(), eventPrefix)
+                        .build())
+                    .build()));
+    }
+
+    private static void requestServiceUsageEventsEmptyThenEvent(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.serviceUsageEvents()
+            .list(ListServiceUsageEventsRequest.builder()
+                .page(1)
+                .resultsPerPage(100)
+                .build()))
+            .thenReturn(Mono
+                    .just(fill(ListServiceUsageEventsResponse.builder())
+                        .resources(Collections.emptyList())
+                        .build()),
+                Mono
+                    .just(fill(ListServiceUsageEventsResponse.builder())
+                        .resource(fill(ServiceUsageEventResource.builder(), "event-")
+                            .build())
+                        .build()));
+    }
+
+}
@@ -173,6 +173,52 @@ public final class DefaultUserAdminTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void listOrganizationUserRoles() {
+        requestOrganization(this.cloudFoundryClient);
+        requestListOrganizationAuditors(this.cloudFoundryClient);
+        requestListOrganizationBillingManagers(this.cloudFoundryClient);
+        requestListOrganizationManagersAuditor(this.cloudFoundryClient);
+
+        this.userAdmin
+            .listOrganizationUserRoles(ListOrganizationUsersRequest.builder()
+                .organizationName("test-organization-name")
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(OrganizationUser.builder()
+                    .id("test-organization-auditor-id")
+                    .roles(OrganizationRole.AUDITOR, OrganizationRole.MANAGER)
+                    .username("test-auditor-username")
+                    .build(),
+                OrganizationUser.builder()
+                    .id("test-organization-billing-manager-id")
+                    .role(OrganizationRole.BILLING_MANAGER)
+                    .username("test-billing-manager-username")
+                    .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void listOrganizationUsersSharedUser() {
+        requestOrganization(this.cloudFoundryClient);
+        requestListOrganizationAuditors(this.cloudFoundryClient);
+        requestListOrganizationBillingManagersEmpty(this.cloudFoundryClient);
+        requestListOrganizationManagersAuditor(this.cloudFoundryClient);
+
+        this.userAdmin
+            .listOrganizationUsers(ListOrganizationUsersRequest.builder()
+                .organizationName("test-organization-name")
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(OrganizationUsers.builder()
+                .auditor("test-auditor-username")
+                .manager("test-auditor-username")
+                .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void listOrganizationUsersAllFound() {
         requestOrganization(this.cloudFoundryClient);
@@ -751,7 +797,7 @@ public final class DefaultUserAdminTest extends AbstractOperationsTest {
                 .build()))
             .thenReturn(Mono
                 .just(fill(ListOrganizationAuditorsResponse.builder())
-                    .resource(fill(UserResource.builder())
+                    .resource(fill(UserResource.builder(), "organization-auditor-")
                         .entity(fill(UserEntity.builder())
                             .username("test-auditor-username")
                             .build())
@@ -778,7 +824,7 @@ public final class DefaultUserAdminTest extends AbstractOperationsTest {
                 .build()))
             .thenReturn(Mono
                 .just(fill(ListOrganizationBillingManagersResponse.builder())
-                    .resource(fill(UserResource.builder())
+                    .resource(fill(UserResource.builder(), "organization-billing-manager-")
                         .entity(fill(UserEntity.builder())
                             .username("test-billing-manager-username")
                             .build())
@@ -805,7 +851,7 @@ public final class DefaultUserAdminTest extends AbstractOperationsTest {
                 .build()))
             .thenReturn(Mono
                 .just(fill(ListOrganizationManagersResponse.builder())
-                    .resource(fill(UserResource.builder())
+                    .resource(fill(UserResource.builder(), "organization-manager-")
                         .entity(fill(UserEntity.builder())
                             .username("test-manager-username")
                             .build())
@@ -813,6 +859,22 @@ public final class DefaultUserAdminTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestListOrganizationManagersAuditor(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.organizations()
+            .listManagers(ListOrganizationManagersRequest.builder()
+                .organizationId("test-organization-id")
+                .page(1)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListOrganizationManagersResponse.builder())
+                    .resource(fill(UserResource.builder(), "organization-auditor-")
+                        .entity(fill(UserEntity.builder())
+                            .username("test-auditor-username")
+                            .build())
+                        .build())
+                    .build()));
+    }
+
     private static void requestListOrganizationManagersEmpty(CloudFoundryClient cloudFoundryClient) {
         when(cloudFoundryClient.organizations()
             .listManagers(ListOrganizationManagersRequest.builder()
@@ -886,7 +948,7 @@ public final class DefaultUserAdminTest extends AbstractOperationsTest {
                 .build()))
             .thenReturn(Mono
                 .just(fill(ListSpaceAuditorsResponse.builder())
-                    .resource(fill(UserResource.builder())
+                    .resource(fill(UserResource.builder(), "space-auditor-")
                         .entity(fill(UserEntity.builder())
                             .username("test-auditor-username")
                             .build())
@@ -913,7 +975,7 @@ public final class DefaultUserAdminTest extends AbstractOperationsTest {
                 .build()))
             .thenReturn(Mono
                 .just(fill(ListSpaceDevelopersResponse.builder())
-                    .resource(fill(UserResource.builder())
+                    .resource(fill(UserResource.builder(), "space-developer-")
                         .entity(fill(UserEntity.builder())
                             .username("test-developer-username")
                             .build())
@@ -940,7 +1002,7 @@ public final class DefaultUserAdminTest extends AbstractOperationsTest {
                 .build()))
             .thenReturn(Mono
                 .just(fill(ListSpaceManagersResponse.builder())
-                    .resource(fill(UserResource.builder())
+                    .resource(fill(UserResource.builder(), "space-manager-")
                         .entity(fill(UserEntity.builder())
                             .username("test-manager-username")
                             .build())
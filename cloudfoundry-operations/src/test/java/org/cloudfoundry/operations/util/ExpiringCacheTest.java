@@ -0,0 +1,159 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class ExpiringCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private final ExpiringCache<String, String> cache = new ExpiringCache<>(this.clock, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void get() {
+        load("test-key");
+        load("test-key");
+
+        assertThat(this.loads).hasValue(1);
+    }
+
+    @Test
+    public void getEmpty() {
+        loadEmpty("test-key");
+        loadEmpty("test-key");
+
+        assertThat(this.loads).hasValue(1);
+    }
+
+    @Test
+    public void getEmptyExpired() {
+        loadEmpty("test-key");
+        this.clock.advance(Duration.ofSeconds(5));
+
+        loadEmpty("test-key");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    public void getError() {
+        this.cache.get("test-key", key -> {
+            this.loads.incrementAndGet();
+            return Mono.error(new IllegalStateException("test-message"));
+        })
+            .as(StepVerifier::create)
+            .expectErrorMessage("test-message")
+            .verify(Duration.ofSeconds(5));
+
+        load("test-key");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    public void getExpired() {
+        load("test-key");
+        this.clock.advance(Duration.ofMinutes(1));
+
+        load("test-key");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    public void invalidate() {
+        load("test-key");
+        this.cache.invalidate("test-key");
+        load("test-key");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    public void put() {
+        this.cache.put("test-key", "test-value");
+
+        load("test-key");
+
+        assertThat(this.loads).hasValue(0);
+    }
+
+    private void load(String key) {
+        this.cache.get(key, this::loadValue)
+            .as(StepVerifier::create)
+            .expectNext("test-value")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private void loadEmpty(String key) {
+        this.cache.get(key, k -> {
+            this.loads.incrementAndGet();
+            return Mono.empty();
+        })
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private Mono<String> loadValue(String key) {
+        return Mono.fromSupplier(() -> {
+            this.loads.incrementAndGet();
+            return "test-value";
+        });
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.EPOCH;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        private void advance(Duration duration) {
+            this.instant = this.instant.plus(duration);
+        }
+
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.organizationquotadefinitions.GetOrganizationQuotaDefinitionRequest;
+import org.cloudfoundry.client.v2.organizationquotadefinitions.GetOrganizationQuotaDefinitionResponse;
+import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsRequest;
+import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsResponse;
+import org.cloudfoundry.client.v2.shareddomains.SharedDomainEntity;
+import org.cloudfoundry.client.v2.shareddomains.SharedDomainResource;
+import org.cloudfoundry.operations.AbstractOperationsTest;
+import org.cloudfoundry.util.SnapshotStore;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.cloudfoundry.operations.TestObjects.fill;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ReferenceDataCacheTest extends AbstractOperationsTest {
+
+    private final ReferenceDataCache referenceData = new ReferenceDataCache(Duration.ofMinutes(1));
+
+    @Test
+    public void disabled() {
+        requestOrganizationQuotaDefinition(this.cloudFoundryClient);
+
+        ReferenceDataCache referenceData = ReferenceDataCache.disabled();
+        getOrganizationQuotaDefinition(referenceData);
+        getOrganizationQuotaDefinition(referenceData);
+
+        verify(this.organizationQuotaDefinitions, times(2)).get(GetOrganizationQuotaDefinitionRequest.builder()
+            .organizationQuotaDefinitionId("test-quota-definition-id")
+            .build());
+    }
+
+    @Test
+    public void getOrganizationQuotaDefinition() {
+        requestOrganizationQuotaDefinition(this.cloudFoundryClient);
+
+        getOrganizationQuotaDefinition(this.referenceData);
+        getOrganizationQuotaDefinition(this.referenceData);
+
+        verify(this.organizationQuotaDefinitions, times(1)).get(GetOrganizationQuotaDefinitionRequest.builder()
+            .organizationQuotaDefinitionId("test-quota-definition-id")
+            .build());
+    }
+
+    @Test
+    public void getSharedDomainNames() {
+        requestSharedDomains(this.cloudFoundryClient);
+
+        getSharedDomainNames(this.referenceData);
+        getSharedDomainNames(this.referenceData);
+
+        verify(this.sharedDomains, times(1)).list(ListSharedDomainsRequest.builder()
+            .page(1)
+            .build());
+    }
+
+    @Test
+    public void invalidateAll() {
+        requestSharedDomains(this.cloudFoundryClient);
+
+        getSharedDomainNames(this.referenceData);
+        this.referenceData.invalidateAll();
+        getSharedDomainNames(this.referenceData);
+
+        verify(this.sharedDomains, times(2)).list(ListSharedDomainsRequest.builder()
+            .page(1)
+            .build());
+    }
+
+    @Test
+    public void invalidateSharedDomainNames() throws IOException {
+        requestSharedDomains(this.cloudFoundryClient);
+
+        Path directory = Files.createTempDirectory("reference-data-cache-test");
+        Path file = directory.resolve("snapshots.json");
+
+        try {
+            ReferenceDataCache referenceData = new ReferenceDataCache(Duration.ofMinutes(1), new SnapshotStore(file, Duration.ofMinutes(1)));
+            getSharedDomainNames(referenceData);
+            referenceData.invalidateSharedDomainNames();
+
+            getSharedDomainNames(new ReferenceDataCache(Duration.ofMinutes(1), new SnapshotStore(file, Duration.ofMinutes(1))));
+
+            verify(this.sharedDomains, times(2)).list(ListSharedDomainsRequest.builder()
+                .page(1)
+                .build());
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+        }
+    }
+
+    private static void requestOrganizationQuotaDefinition(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.organizationQuotaDefinitions()
+            .get(GetOrganizationQuotaDefinitionRequest.builder()
+                .organizationQuotaDefinitionId("test-quota-definition-id")
+                .build()))
+            .thenReturn(Mono
+                .just(fill(GetOrganizationQuotaDefinitionResponse.builder(), "quota-definition-")
+                    .build()));
+    }
+
+    private static void requestSharedDomains(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.sharedDomains()
+            .list(ListSharedDomainsRequest.builder()
+                .page(1)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListSharedDomainsResponse.builder())
+                    .resource(fill(SharedDomainResource.builder())
+                        .entity(fill(SharedDomainEntity.builder(), "shared-domain-")
+                            .build())
+                        .build())
+                    .build()));
+    }
+
+    private void getOrganizationQuotaDefinition(ReferenceDataCache referenceData) {
+        referenceData
+            .getOrganizationQuotaDefinition(this.cloudFoundryClient, "test-quota-definition-id")
+            .map(response -> response.getMetadata().getId())
+            .as(StepVerifier::create)
+            .expectNext("test-quota-definition-id")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private void getSharedDomainNames(ReferenceDataCache referenceData) {
+        referenceData
+            .getSharedDomainNames(this.cloudFoundryClient)
+            .as(StepVerifier::create)
+            .expectNext(Collections.singletonList("test-shared-domain-name"))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+}
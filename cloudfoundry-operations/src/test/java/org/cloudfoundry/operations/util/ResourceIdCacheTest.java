@@ -0,0 +1,188 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.cloudfoundry.util.SnapshotStore;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.APPLICATION;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.SPACE;
+import static org.cloudfoundry.operations.util.ResourceIdCache.ResourceType.STACK;
+
+public final class ResourceIdCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final ResourceIdCache resourceIds = new ResourceIdCache(Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+    @Test
+    public void disabled() {
+        ResourceIdCache resourceIds = ResourceIdCache.disabled();
+
+        get(resourceIds, APPLICATION, "test-space-id", "test-application-name");
+        get(resourceIds, APPLICATION, "test-space-id", "test-application-name");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    public void get() {
+        get(this.resourceIds, APPLICATION, "test-space-id", "test-application-name");
+        get(this.resourceIds, APPLICATION, "test-space-id", "test-application-name");
+
+        assertThat(this.loads).hasValue(1);
+    }
+
+    @Test
+    public void getDifferentScope() {
+        get(this.resourceIds, APPLICATION, "test-space-id-1", "test-application-name");
+        get(this.resourceIds, APPLICATION, "test-space-id-2", "test-application-name");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    public void getDifferentType() {
+        get(this.resourceIds, APPLICATION, "test-scope", "test-name");
+        get(this.resourceIds, SPACE, "test-scope", "test-name");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    public void getNotFound() {
+        getNotFound(this.resourceIds);
+        getNotFound(this.resourceIds);
+
+        assertThat(this.loads).hasValue(1);
+    }
+
+    @Test
+    public void getSnapshot() throws IOException {
+        Path directory = Files.createTempDirectory("resource-id-cache-test");
+        Path file = directory.resolve("snapshots.json");
+
+        try {
+            get(new ResourceIdCache(Duration.ofMinutes(1), Duration.ofMinutes(1), new SnapshotStore(file, Duration.ofMinutes(1))), STACK, null, "test-stack-name");
+            get(new ResourceIdCache(Duration.ofMinutes(1), Duration.ofMinutes(1), new SnapshotStore(file, Duration.ofMinutes(1))), STACK, null, "test-stack-name");
+
+            assertThat(this.loads).hasValue(1);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void invalidating() {
+        get(this.resourceIds, APPLICATION, "test-space-id", "test-application-name");
+        get(this.resourceIds, SPACE, "test-organization-id", "test-space-name");
+
+        Mono.just("test-result")
+            .transform(this.resourceIds.invalidating(APPLICATION))
+            .as(StepVerifier::create)
+            .expectNext("test-result")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        get(this.resourceIds, APPLICATION, "test-space-id", "test-application-name");
+        get(this.resourceIds, SPACE, "test-organization-id", "test-space-name");
+
+        assertThat(this.loads).hasValue(3);
+    }
+
+    @Test
+    public void invalidatingError() {
+        get(this.resourceIds, APPLICATION, "test-space-id", "test-application-name");
+
+        Mono.error(new IllegalStateException("test-message"))
+            .transform(this.resourceIds.invalidating(APPLICATION))
+            .as(StepVerifier::create)
+            .expectErrorMessage("test-message")
+            .verify(Duration.ofSeconds(5));
+
+        get(this.resourceIds, APPLICATION, "test-space-id", "test-application-name");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    public void invalidatingCancel() {
+        get(this.resourceIds, APPLICATION, "test-space-id", "test-application-name");
+
+        Mono.never()
+            .transform(this.resourceIds.invalidating(APPLICATION))
+            .as(StepVerifier::create)
+            .thenCancel()
+            .verify(Duration.ofSeconds(5));
+
+        get(this.resourceIds, APPLICATION, "test-space-id", "test-application-name");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    public void invalidatingDependents() {
+        get(this.resourceIds, APPLICATION, "test-space-id", "test-application-name");
+        get(this.resourceIds, SPACE, "test-organization-id", "test-space-name");
+        get(this.resourceIds, STACK, null, "test-stack-name");
+
+        Mono.just("test-result")
+            .transform(this.resourceIds.invalidating(SPACE, APPLICATION))
+            .as(StepVerifier::create)
+            .expectNext("test-result")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        get(this.resourceIds, APPLICATION, "test-space-id", "test-application-name");
+        get(this.resourceIds, SPACE, "test-organization-id", "test-space-name");
+        get(this.resourceIds, STACK, null, "test-stack-name");
+
+        assertThat(this.loads).hasValue(5);
+    }
+
+    private void get(ResourceIdCache resourceIds, ResourceIdCache.ResourceType type, String scope, String name) {
+        resourceIds
+            .get(type, scope, name, () -> Mono.fromSupplier(() -> {
+                this.loads.incrementAndGet();
+                return "test-id";
+            }))
+            .as(StepVerifier::create)
+            .expectNext("test-id")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private void getNotFound(ResourceIdCache resourceIds) {
+        resourceIds
+            .get(APPLICATION, "test-space-id", "test-application-name", () -> Mono.<String>empty()
+                .doOnSubscribe(subscription -> this.loads.incrementAndGet()))
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+/**
+ * An exception indicating that the deadline of an operation has been passed
+ */
+public final class DeadlineExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = -2207338755338815870L;
+
+    /**
+     * Creates a new instance
+     *
+     * @param message the message describing the work and the deadline it exceeded
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Utilities for bounding work with a deadline.  Deadlines are propagated through the Reactor subscriber context so that nested calls see the remaining budget and fail fast with a
+ * {@link DeadlineExceededException} instead of starting work that cannot finish.
+ */
+public final class DeadlineUtils {
+
+    private static final String DEADLINE_KEY = DeadlineUtils.class.getName() + ".deadline";
+
+    private static final String DEFAULT_DESCRIPTION = "Operation";
+
+    private DeadlineUtils() {
+    }
+
+    /**
+     * Bounds a {@link Publisher} by a deadline, and propagates that deadline to all nested work.  If a deadline already exists in the subscriber context, the earlier of the two is used.
+     * Typically used with {@code .transform()}.
+     *
+     * @param timeout the maximum duration of the {@link Publisher}, measured from subscription
+     * @param <T>     the type of {@link Publisher}
+     * @param <U>     the type of the elements of the {@link Publisher}
+     * @return a transforming {@link Function} that bounds the {@link Publisher} by a deadline
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Publisher<U>, U> Function<T, T> deadline(Duration timeout) {
+        return f -> {
+            if (f instanceof Mono) {
+                return (T) Mono.subscriberContext()
+                    .flatMap(context -> {
+                        Instant deadline = earliest(context, Instant.now().plus(timeout));
+                        return bound((Mono<U>) f, deadline, DEFAULT_DESCRIPTION)
+                            .subscriberContext(withDeadline(deadline));
+                    });
+            }
+            if (f instanceof Flux) {
+                return (T) Mono.subscriberContext()
+                    .flatMapMany(context -> {
+                        Instant deadline = earliest(context, Instant.now().plus(timeout));
+                        return bound((Flux<U>) f, deadline, DEFAULT_DESCRIPTION)
+                            .subscriberContext(withDeadline(deadline));
+                    });
+            } else {
+                return f;
+            }
+        };
+    }
+
+    /**
+     * Returns the time remaining before the deadline in a subscriber context
+     *
+     * @param context the subscriber context
+     * @return the time remaining, which may be negative if the deadline has passed, or empty if there is no deadline
+     */
+    public static Optional<Duration> remaining(Context context) {
+        return context.<Instant>getOrEmpty(DEADLINE_KEY)
+            .map(deadline -> Duration.between(Instant.now(), deadline));
+    }
+
+    /**
+     * Bounds a {@link Mono} by the lesser of a timeout and the time remaining before the deadline in the subscriber context.  If the deadline has already passed, the {@link Mono} is never
+     * subscribed to.  Typically used with {@code .transform()}.
+     *
+     * @param timeout the (optional) timeout of the {@link Mono}
+     * @param <T>     the type of the element of the {@link Mono}
+     * @return a transforming {@link Function} that bounds the {@link Mono}
+     */
+    public static <T> Function<Mono<T>, Mono<T>> timeout(Optional<Duration> timeout) {
+        return timeout(timeout, DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * Bounds a {@link Mono} by the lesser of a timeout and the time remaining before the deadline in the subscriber context.  If the deadline has already passed, the {@link Mono} is never
+     * subscribed to.  A {@link DeadlineExceededException} names the bounded work and the time that remained.  Typically used with {@code .transform()}.
+     *
+     * @param timeout     the (optional) timeout of the {@link Mono}
+     * @param description a description of the bounded work, such as the method and URI of a request
+     * @param <T>         the type of the element of the {@link Mono}
+     * @return a transforming {@link Function} that bounds the {@link Mono}
+     */
+    public static <T> Function<Mono<T>, Mono<T>> timeout(Optional<Duration> timeout, String description) {
+        return inbound -> Mono.subscriberContext()
+            .flatMap(context -> {
+                Optional<Duration> remaining = remaining(context);
+
+                if (!remaining.isPresent()) {
+                    return timeout
+                        .map(t -> inbound.timeout(t))
+                        .orElse(inbound);
+                }
+
+                if (timeout.isPresent() && timeout.get().compareTo(remaining.get()) < 0) {
+                    return inbound.timeout(timeout.get());
+                }
+
+                return bound(inbound, remaining.get(), description);
+            });
+    }
+
+    /**
+     * Bounds a {@link Flux} by the lesser of a timeout and the time remaining before the deadline in the subscriber context.  Unlike {@link Flux#timeout(Duration)}, the bound applies from
+     * subscription to completion rather than between elements.  If the deadline has already passed, the {@link Flux} is never subscribed to.  Typically used with {@code .transform()}.
+     *
+     * @param timeout the (optional) timeout of the {@link Flux}
+     * @param <T>     the type of the elements of the {@link Flux}
+     * @return a transforming {@link Function} that bounds the {@link Flux}
+     */
+    public static <T> Function<Flux<T>, Flux<T>> timeoutMany(Optional<Duration> timeout) {
+        return inbound -> Mono.subscriberContext()
+            .flatMapMany(context -> {
+                Optional<Duration> remaining = remaining(context);
+
+                if (!remaining.isPresent()) {
+                    return timeout
+                        .map(t -> expire(inbound, t, TimeoutException::new))
+                        .orElse(inbound);
+                }
+
+                if (timeout.isPresent() && timeout.get().compareTo(remaining.get()) < 0) {
+                    return expire(inbound, timeout.get(), TimeoutException::new);
+                }
+
+                return expire(inbound, remaining.get(), () -> deadlineExceeded(DEFAULT_DESCRIPTION, remaining.get()));
+            });
+    }
+
+    /**
+     * Registers a deadline in the subscriber context.  If a deadline already exists, the earlier of the two is used.  Typically used with {@code .subscriberContext()}.
+     *
+     * @param deadline the deadline
+     * @return a transforming {@link Function} for the subscriber context
+     */
+    public static Function<Context, Context> withDeadline(Instant deadline) {
+        return context -> context.put(DEADLINE_KEY, earliest(context, deadline));
+    }
+
+    private static <T> Mono<T> bound(Mono<T> mono, Instant deadline, String description) {
+        return bound(mono, Duration.between(Instant.now(), deadline), description);
+    }
+
+    private static <T> Mono<T> bound(Mono<T> mono, Duration remaining, String description) {
+        if (remaining.isNegative() || remaining.isZero()) {
+            return Mono.error(deadlineExceeded(description, remaining));
+        }
+
+        return mono.timeout(remaining, Mono.defer(() -> Mono.error(deadlineExceeded(description, remaining))));
+    }
+
+    private static <T> Flux<T> bound(Flux<T> flux, Instant deadline, String description) {
+        Duration remaining = Duration.between(Instant.now(), deadline);
+        return expire(flux, remaining, () -> deadlineExceeded(description, remaining));
+    }
+
+    private static DeadlineExceededException deadlineExceeded(String description, Duration remaining) {
+        if (remaining.isNegative() || remaining.isZero()) {
+            return new DeadlineExceededException(String.format("%s not started, deadline passed %d ms ago", description, remaining.negated().toMillis()));
+        }
+
+        return new DeadlineExceededException(String.format("%s did not complete within the remaining deadline of %d ms", description, remaining.toMillis()));
+    }
+
+    private static Instant earliest(Context context, Instant deadline) {
+        return context.<Instant>getOrEmpty(DEADLINE_KEY)
+            .filter(existing -> existing.isBefore(deadline))
+            .orElse(deadline);
+    }
+
+    private static <T> Flux<T> expire(Flux<T> flux, Duration remaining, Supplier<? extends Throwable> error) {
+        if (remaining.isNegative() || remaining.isZero()) {
+            return Flux.error(error.get());
+        }
+
+        AtomicBoolean expired = new AtomicBoolean();
+
+        return flux
+            .takeUntilOther(Mono.delay(remaining)
+                .doOnNext(i -> expired.set(true)))
+            .concatWith(Mono.defer(() -> expired.get() ? Mono.error(error.get()) : Mono.empty()));
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Utilities for writing downloads, such as packages and droplets, to disk without holding them in memory
+ */
+public final class DownloadUtils {
+
+    private static final int PREFETCH = 16;
+
+    private DownloadUtils() {
+    }
+
+    /**
+     * Writes a download to a file.  If the file already exists, its contents are treated as the beginning of the download and the download resumes after them.  Delete the file to download from
+     * the beginning.  A file that is already complete is left as it is, because the client downloads complete without error when asked for a range that starts at the end of the body.
+     *
+     * @param download a function that starts the download from an offset, typically by setting the {@code offset} of a download request
+     * @param file     the file to write to
+     * @param retries  the number of times to resume the download after it fails
+     * @param progress called with the number of bytes written so far after each chunk
+     * @return the size of the file once the download is complete
+     */
+    public static Mono<Long> write(Function<Long, Flux<byte[]>> download, Path file, int retries, LongConsumer progress) {
+        return Mono.using(
+            () -> FileChannel.open(file, CREATE, WRITE, APPEND),
+            channel -> write(download, channel, size(channel), retries, progress),
+            DownloadUtils::close);
+    }
+
+    /**
+     * Writes a download to a channel.  Chunks are written as they arrive, on an elastic thread, and no more than a small, fixed number of chunks is requested ahead of the writes.  When the
+     * download fails, it is resumed from the number of bytes written so far.  Failures to write to the channel are not retried.
+     *
+     * @param download a function that starts the download from an offset, typically by setting the {@code offset} of a download request
+     * @param channel  the channel to write to
+     * @param offset   the offset to start the download from
+     * @param retries  the number of times to resume the download after it fails
+     * @param progress called with the number of bytes written so far after each chunk
+     * @return the number of bytes written, including the offset, once the download is complete
+     */
+    public static Mono<Long> write(Function<Long, Flux<byte[]>> download, WritableByteChannel channel, long offset, int retries, LongConsumer progress) {
+        return Mono.defer(() -> {
+            AtomicLong position = new AtomicLong(offset);
+
+            return Flux.defer(() -> download.apply(position.get()))
+                .publishOn(Schedulers.elastic(), PREFETCH)
+                .doOnNext(chunk -> {
+                    write(channel, chunk);
+                    progress.accept(position.addAndGet(chunk.length));
+                })
+                .retry(retries, t -> !(t instanceof UncheckedIOException))
+                .then(Mono.fromSupplier(position::get));
+        });
+    }
+
+    private static void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long size(FileChannel channel) {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void write(WritableByteChannel channel, byte[] chunk) {
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
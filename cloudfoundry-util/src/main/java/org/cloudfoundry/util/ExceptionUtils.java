@@ -68,7 +68,7 @@ public final class ExceptionUtils {
      */
     public static Predicate<? super Throwable> statusCode(int... codes) {
         return t -> t instanceof ClientV2Exception &&
-            Arrays.stream(codes).anyMatch(candidate -> ((ClientV2Exception) t).getCode().equals(candidate));
+            Arrays.stream(codes).anyMatch(candidate -> Integer.valueOf(candidate).equals(((ClientV2Exception) t).getCode()));
     }
 
 }
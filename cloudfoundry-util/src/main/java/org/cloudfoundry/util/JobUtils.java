@@ -27,10 +27,13 @@ import org.cloudfoundry.client.v3.ClientV3Exception;
 import org.cloudfoundry.client.v3.Error;
 import org.cloudfoundry.client.v3.jobs.Job;
 import org.cloudfoundry.client.v3.jobs.JobState;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.cloudfoundry.util.DelayUtils.exponentialBackOff;
 
@@ -82,6 +85,36 @@ public final class JobUtils {
             .flatMap(JobUtils::getError);
     }
 
+    /**
+     * Waits for a collection of jobs to complete.  Outstanding jobs are polled together in rounds that share a single back-off schedule, rather than each job polling on its own.  All jobs are
+     * waited for even if one of them fails.
+     *
+     * @param cloudFoundryClient the client to use to request job status
+     * @param completionTimeout  the amount of time to wait for all of the jobs to complete.
+     * @param jobEntities        the entities representing the jobs
+     * @param concurrency        the maximum number of job status requests in flight at once
+     * @return {@code onComplete} once all jobs have completed, or the error of the first failed job
+     */
+    public static Mono<Void> waitForCompletion(CloudFoundryClient cloudFoundryClient, Duration completionTimeout, List<JobEntity> jobEntities, int concurrency) {
+        return Mono.defer(() -> {
+            Map<String, JobEntity> jobs = new ConcurrentHashMap<>();
+            jobEntities.forEach(entity -> jobs.put(entity.getId(), entity));
+
+            return Flux.defer(() -> Flux.fromIterable(jobs.values()))
+                .filter(entity -> !JobUtils.isComplete(entity))
+                .flatMap(entity -> requestJobV2(cloudFoundryClient, entity.getId()), concurrency)
+                .map(GetJobResponse::getEntity)
+                .doOnNext(entity -> jobs.put(entity.getId(), entity))
+                .then(Mono.fromSupplier(() -> jobs.values().stream().allMatch(JobUtils::isComplete)))
+                .filter(complete -> complete)
+                .repeatWhenEmpty(exponentialBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), completionTimeout))
+                .flatMapIterable(complete -> jobs.values())
+                .filter(entity -> "failed".equals(entity.getStatus()))
+                .next()
+                .flatMap(JobUtils::getError);
+        });
+    }
+
     /**
      * Waits for a job V3 to complete
      *
@@ -18,6 +18,7 @@ package org.cloudfoundry.util;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 
 import java.util.Optional;
 import java.util.function.Function;
@@ -30,6 +31,49 @@ public final class PaginationUtils {
     private PaginationUtils() {
     }
 
+    /**
+     * Count the resources matching a request without retrieving them.  A single page holding at most one resource is requested, and its {@code total_results} is returned.
+     *
+     * @param resultsPerPageSupplier a function from a {@code results-per-page} value to {@link Mono}s of {@link org.cloudfoundry.client.v2.PaginatedResponse}s.
+     * @param <U>                    the type of {@link org.cloudfoundry.client.v2.PaginatedResponse}.
+     * @return the number of resources matching the request
+     */
+    public static <U extends org.cloudfoundry.client.v2.PaginatedResponse<?>> Mono<Integer> countClientV2Resources(Function<Integer, Mono<U>> resultsPerPageSupplier) {
+        return resultsPerPageSupplier
+            .apply(1)
+            .map(response -> Optional.ofNullable(response.getTotalResults()).orElse(0));
+    }
+
+    /**
+     * Count the resources matching a request without retrieving them.  A single page holding at most one resource is requested, and its {@code total_results} is returned.
+     *
+     * @param perPageSupplier a function from a {@code per_page} value to {@link Mono}s of {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param <U>             the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return the number of resources matching the request
+     */
+    public static <U extends org.cloudfoundry.client.v3.PaginatedResponse<?>> Mono<Integer> countClientV3Resources(Function<Integer, Mono<U>> perPageSupplier) {
+        return perPageSupplier
+            .apply(1)
+            .map(response -> Optional.ofNullable(response.getPagination().getTotalResults()).orElse(0));
+    }
+
+    /**
+     * Request the first resource matching a request.  A single page holding at most one resource is requested, so no other resources are retrieved.
+     *
+     * @param resultsPerPageSupplier a function from a {@code results-per-page} value to {@link Mono}s of {@link org.cloudfoundry.client.v2.PaginatedResponse}s.
+     * @param <T>                    the type of resource in the list on each {@link org.cloudfoundry.client.v2.PaginatedResponse}.
+     * @param <U>                    the type of {@link org.cloudfoundry.client.v2.PaginatedResponse}.
+     * @return the first resource, or empty if no resources match the request
+     */
+    public static <T extends org.cloudfoundry.client.v2.Resource<?>, U extends org.cloudfoundry.client.v2.PaginatedResponse<T>> Mono<T> requestClientV2Resource(
+        Function<Integer, Mono<U>> resultsPerPageSupplier) {
+
+        return resultsPerPageSupplier
+            .apply(1)
+            .flatMapMany(ResourceUtils::getResources)
+            .next();
+    }
+
     /**
      * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.
      *
@@ -41,12 +85,42 @@ public final class PaginationUtils {
     public static <T extends org.cloudfoundry.client.v2.Resource<?>, U extends org.cloudfoundry.client.v2.PaginatedResponse<T>> Flux<T> requestClientV2Resources(
         Function<Integer, Mono<U>> pageSupplier) {
 
+        return requestClientV2Resources(pageSupplier, Queues.SMALL_BUFFER_SIZE);
+    }
+
+    /**
+     * Generate the stream of resources accumulated from a series of responses obtained from the page supplier, requesting at most {@code concurrency} additional pages at a time.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link org.cloudfoundry.client.v2.PaginatedResponse}s.
+     * @param concurrency  the maximum number of additional pages to request at the same time.
+     * @param <T>          the type of resource in the list on each {@link org.cloudfoundry.client.v2.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v2.PaginatedResponse}.
+     * @return a stream of <code>T</code> objects.
+     */
+    public static <T extends org.cloudfoundry.client.v2.Resource<?>, U extends org.cloudfoundry.client.v2.PaginatedResponse<T>> Flux<T> requestClientV2Resources(
+        Function<Integer, Mono<U>> pageSupplier, int concurrency) {
+
         return pageSupplier
             .apply(1)
-            .flatMapMany(requestClientV2AdditionalPages(pageSupplier))
+            .flatMapMany(requestClientV2AdditionalPages(pageSupplier, concurrency))
             .flatMap(ResourceUtils::getResources);
     }
 
+    /**
+     * Request the first resource matching a request.  A single page holding at most one resource is requested, so no other resources are retrieved.
+     *
+     * @param perPageSupplier a function from a {@code per_page} value to {@link Mono}s of {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param <T>             the type of resource in the list on each {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @param <U>             the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return the first resource, or empty if no resources match the request
+     */
+    public static <T, U extends org.cloudfoundry.client.v3.PaginatedResponse<T>> Mono<T> requestClientV3Resource(Function<Integer, Mono<U>> perPageSupplier) {
+        return perPageSupplier
+            .apply(1)
+            .flatMapIterable(org.cloudfoundry.client.v3.PaginatedResponse::getResources)
+            .next();
+    }
+
     /**
      * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.
      *
@@ -79,25 +153,25 @@ public final class PaginationUtils {
             .flatMapIterable(org.cloudfoundry.uaa.PaginatedResponse::getResources);
     }
 
-    private static <T> Function<T, Flux<T>> requestAdditionalPages(Function<Integer, Mono<T>> pageSupplier, Function<T, Integer> totalPagesSupplier) {
+    private static <T> Function<T, Flux<T>> requestAdditionalPages(Function<Integer, Mono<T>> pageSupplier, Function<T, Integer> totalPagesSupplier, int concurrency) {
         return response -> {
             Integer totalPages = Optional.ofNullable(totalPagesSupplier.apply(response)).orElse(1);
 
             return Flux
                 .range(2, totalPages - 1)
-                .flatMap(pageSupplier)
+                .flatMap(pageSupplier, concurrency)
                 .startWith(response)
                 .buffer()
                 .flatMapIterable(d -> d);
         };
     }
 
-    private static <T extends org.cloudfoundry.client.v2.PaginatedResponse<?>> Function<T, Flux<T>> requestClientV2AdditionalPages(Function<Integer, Mono<T>> pageSupplier) {
-        return requestAdditionalPages(pageSupplier, response -> response.getTotalPages());
+    private static <T extends org.cloudfoundry.client.v2.PaginatedResponse<?>> Function<T, Flux<T>> requestClientV2AdditionalPages(Function<Integer, Mono<T>> pageSupplier, int concurrency) {
+        return requestAdditionalPages(pageSupplier, response -> response.getTotalPages(), concurrency);
     }
 
     private static <T extends org.cloudfoundry.client.v3.PaginatedResponse<?>> Function<T, Flux<T>> requestClientV3AdditionalPages(Function<Integer, Mono<T>> pageSupplier) {
-        return requestAdditionalPages(pageSupplier, response -> response.getPagination().getTotalPages());
+        return requestAdditionalPages(pageSupplier, response -> response.getPagination().getTotalPages(), Queues.SMALL_BUFFER_SIZE);
     }
 
     private static <T extends org.cloudfoundry.uaa.PaginatedResponse<?>> Function<T, Flux<T>> requestUaaAdditionalPages(Function<Integer, Mono<T>> pageSupplier) {
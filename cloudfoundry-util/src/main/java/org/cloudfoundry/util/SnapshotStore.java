@@ -0,0 +1,186 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A file that persists stable responses, like the payload of the API root and refresh tokens, so that a new JVM can start without negotiating them again.  Every snapshot carries an
+ * expiration and expired snapshots are never returned.  A store holds the snapshots of a single Cloud Foundry instance and the file should only be readable by its owner, as it may contain
+ * credentials.  A file that cannot be read is treated as empty and a snapshot that cannot be written is only kept in memory.
+ */
+public final class SnapshotStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.snapshot");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TypeReference<Map<String, Snapshot>> SNAPSHOTS = new TypeReference<Map<String, Snapshot>>() {
+
+    };
+
+    private final Clock clock;
+
+    private final Path file;
+
+    private final Duration maxAge;
+
+    private Map<String, Snapshot> snapshots;
+
+    /**
+     * Creates a new instance
+     *
+     * @param file   the file to persist snapshots to
+     * @param maxAge how long a snapshot without an expiration of its own remains valid after it is taken
+     */
+    public SnapshotStore(Path file, Duration maxAge) {
+        this(Clock.systemUTC(), file, maxAge);
+    }
+
+    SnapshotStore(Clock clock, Path file, Duration maxAge) {
+        this.clock = clock;
+        this.file = file;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Returns a snapshot if it exists and has not expired
+     *
+     * @param key the key of the snapshot
+     * @return the snapshot, or empty if it does not exist or has expired
+     */
+    public synchronized Optional<Map<String, String>> get(String key) {
+        Snapshot snapshot = getSnapshots().get(key);
+
+        if (snapshot == null || !this.clock.instant().isBefore(Instant.ofEpochMilli(snapshot.expiration))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Collections.unmodifiableMap(snapshot.value));
+    }
+
+    /**
+     * Stores a snapshot that expires after the maximum age of the store
+     *
+     * @param key   the key of the snapshot
+     * @param value the snapshot
+     */
+    public void put(String key, Map<String, String> value) {
+        put(key, value, this.clock.instant().plus(this.maxAge));
+    }
+
+    /**
+     * Stores a snapshot that expires at a given instant
+     *
+     * @param key        the key of the snapshot
+     * @param value      the snapshot
+     * @param expiration when the snapshot expires
+     */
+    public synchronized void put(String key, Map<String, String> value, Instant expiration) {
+        getSnapshots().put(key, new Snapshot(expiration.toEpochMilli(), new HashMap<>(value)));
+        write();
+    }
+
+    /**
+     * Removes a snapshot
+     *
+     * @param key the key of the snapshot
+     */
+    public synchronized void remove(String key) {
+        if (getSnapshots().remove(key) != null) {
+            write();
+        }
+    }
+
+    private Map<String, Snapshot> getSnapshots() {
+        if (this.snapshots == null) {
+            this.snapshots = read();
+        }
+
+        return this.snapshots;
+    }
+
+    private Map<String, Snapshot> read() {
+        if (!Files.exists(this.file)) {
+            return new HashMap<>();
+        }
+
+        try {
+            Map<String, Snapshot> snapshots = OBJECT_MAPPER.readValue(this.file.toFile(), SNAPSHOTS);
+            long now = this.clock.millis();
+
+            snapshots.values().removeIf(snapshot -> snapshot.value == null || snapshot.expiration <= now);
+            return snapshots;
+        } catch (IOException e) {
+            LOGGER.debug("Unable to read snapshots from {}", this.file, e);
+            return new HashMap<>();
+        }
+    }
+
+    private void write() {
+        try {
+            Path directory = this.file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+
+            Path temporary = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+
+            try {
+                OBJECT_MAPPER.writeValue(temporary.toFile(), this.snapshots);
+                Files.move(temporary, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Unable to write snapshots to {}", this.file, e);
+        }
+    }
+
+    private static final class Snapshot {
+
+        @JsonProperty("expiration")
+        private long expiration;
+
+        @JsonProperty("value")
+        private Map<String, String> value;
+
+        private Snapshot() {
+        }
+
+        private Snapshot(long expiration, Map<String, String> value) {
+            this.expiration = expiration;
+            this.value = value;
+        }
+
+    }
+
+}
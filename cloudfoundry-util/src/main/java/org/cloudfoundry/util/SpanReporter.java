@@ -0,0 +1,39 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+
+/**
+ * A receiver of completed spans.  Implementations are registered in the Reactor subscriber context with {@link TraceUtils#withReporter(SpanReporter)}.
+ */
+@FunctionalInterface
+public interface SpanReporter {
+
+    /**
+     * Report a completed span
+     *
+     * @param name         the name of the span
+     * @param traceContext the identity of the span
+     * @param signalType   the signal that terminated the span
+     * @param elapsed      the elapsed time of the span
+     */
+    void report(String name, TraceContext traceContext, SignalType signalType, Duration elapsed);
+
+}
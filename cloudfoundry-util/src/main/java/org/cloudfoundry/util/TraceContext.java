@@ -0,0 +1,182 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A W3C Trace Context compatible span identity.  Instances are immutable and are propagated through the Reactor subscriber context.
+ */
+public final class TraceContext {
+
+    private static final int FLAG_SAMPLED = 0x01;
+
+    private static final Pattern TRACEPARENT = Pattern.compile("^00-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})$");
+
+    private static final String VERSION = "00";
+
+    private final int flags;
+
+    private final String parentId;
+
+    private final String spanId;
+
+    private final String traceId;
+
+    private TraceContext(String traceId, String spanId, String parentId, int flags) {
+        this.flags = flags;
+        this.parentId = parentId;
+        this.spanId = spanId;
+        this.traceId = traceId;
+    }
+
+    /**
+     * Creates a new, sampled, root {@link TraceContext}
+     *
+     * @return a new root {@link TraceContext}
+     */
+    public static TraceContext create() {
+        return new TraceContext(randomHex(2), randomHex(1), null, FLAG_SAMPLED);
+    }
+
+    /**
+     * Parses a {@code traceparent} header value
+     *
+     * @param traceparent the {@code traceparent} header value
+     * @return the parsed {@link TraceContext} or empty if the value is not a valid {@code traceparent}
+     */
+    public static Optional<TraceContext> parse(String traceparent) {
+        if (traceparent == null) {
+            return Optional.empty();
+        }
+
+        Matcher matcher = TRACEPARENT.matcher(traceparent.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new TraceContext(matcher.group(1), matcher.group(2), null, Integer.parseInt(matcher.group(3), 16)));
+    }
+
+    /**
+     * Creates a child {@link TraceContext} that shares this trace id and has this span as its parent
+     *
+     * @return a child {@link TraceContext}
+     */
+    public TraceContext child() {
+        return new TraceContext(this.traceId, randomHex(1), this.spanId, this.flags);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TraceContext that = (TraceContext) o;
+        return this.flags == that.flags &&
+            Objects.equals(this.parentId, that.parentId) &&
+            Objects.equals(this.spanId, that.spanId) &&
+            Objects.equals(this.traceId, that.traceId);
+    }
+
+    /**
+     * Returns the id of the parent span
+     *
+     * @return the id of the parent span or empty if this is a root span
+     */
+    public Optional<String> getParentId() {
+        return Optional.ofNullable(this.parentId);
+    }
+
+    /**
+     * Returns the id of this span
+     *
+     * @return the id of this span
+     */
+    public String getSpanId() {
+        return this.spanId;
+    }
+
+    /**
+     * Returns the id of the trace
+     *
+     * @return the id of the trace
+     */
+    public String getTraceId() {
+        return this.traceId;
+    }
+
+    /**
+     * Returns this span formatted as a {@code traceparent} header value
+     *
+     * @return the {@code traceparent} header value
+     */
+    public String getTraceparent() {
+        return String.format("%s-%s-%s-%02x", VERSION, this.traceId, this.spanId, this.flags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.flags, this.parentId, this.spanId, this.traceId);
+    }
+
+    /**
+     * Returns whether this span is sampled
+     *
+     * @return {@code true} if this span is sampled
+     */
+    public boolean isSampled() {
+        return (this.flags & FLAG_SAMPLED) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "TraceContext{" +
+            "traceId='" + this.traceId + '\'' +
+            ", spanId='" + this.spanId + '\'' +
+            ", parentId='" + this.parentId + '\'' +
+            ", flags=" + this.flags +
+            '}';
+    }
+
+    private static String randomHex(int longs) {
+        StringBuilder sb = new StringBuilder(longs * 16);
+
+        for (int i = 0; i < longs; i++) {
+            long value;
+            do {
+                value = ThreadLocalRandom.current().nextLong();
+            } while (value == 0);
+
+            String hex = Long.toHexString(value);
+            for (int j = hex.length(); j < 16; j++) {
+                sb.append('0');
+            }
+            sb.append(hex);
+        }
+
+        return sb.toString();
+    }
+
+}
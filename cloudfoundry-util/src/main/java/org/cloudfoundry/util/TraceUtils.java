@@ -0,0 +1,185 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Utilities for tracing operations and network exchanges.  Spans are propagated through the Reactor subscriber context so that nested and parallel work is attributed to the correct
+ * parent.  A trace is started when a {@link TraceContext} or {@link SpanReporter} is present in the subscriber context, or when the {@code cloudfoundry-client.trace} logger is enabled
+ * at {@code DEBUG}.
+ */
+public final class TraceUtils {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.trace");
+
+    private static final SpanReporter LOGGING_REPORTER = (name, traceContext, signalType, elapsed) ->
+        LOGGER.debug("SPAN   {} [trace={}, span={}, parent={}] ({}/{})", name, traceContext.getTraceId(), traceContext.getSpanId(), traceContext.getParentId().orElse("none"), signalType,
+            TimeUtils.asTime(elapsed.toMillis()));
+
+    private static final String REPORTER_KEY = SpanReporter.class.getName();
+
+    private static final String TRACE_CONTEXT_KEY = TraceContext.class.getName();
+
+    private TraceUtils() {
+    }
+
+    /**
+     * Wraps a {@link Publisher} in a span.  Typically used with {@code .transform()}.
+     *
+     * @param name the name of the span
+     * @param <T>  the type of {@link Publisher}
+     * @param <U>  the type of the elements of the {@link Publisher}
+     * @return a transforming {@link Function} that wraps the {@link Publisher} in a span
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Publisher<U>, U> Function<T, T> trace(String name) {
+        return f -> {
+            if (f instanceof Mono) {
+                return (T) trace(name, traceContext -> (Mono<U>) f);
+            }
+            if (f instanceof Flux) {
+                return (T) traceMany(name, traceContext -> (Flux<U>) f);
+            } else {
+                return f;
+            }
+        };
+    }
+
+    /**
+     * Executes a {@link Mono} within a child span of the span in the subscriber context
+     *
+     * @param name the name of the span
+     * @param body a {@link Function} that creates the {@link Mono}, receiving the span if tracing is active
+     * @param <T>  the type of the element of the {@link Mono}
+     * @return the {@link Mono} wrapped in a span
+     */
+    public static <T> Mono<T> trace(String name, Function<Optional<TraceContext>, Mono<T>> body) {
+        return Mono.subscriberContext()
+            .flatMap(context -> {
+                Optional<TraceContext> traceContext = newTraceContext(context);
+
+                if (!traceContext.isPresent()) {
+                    return body.apply(traceContext);
+                }
+
+                AtomicLong startTimeHolder = new AtomicLong();
+
+                return body.apply(traceContext)
+                    .doOnSubscribe(s -> startTimeHolder.set(System.nanoTime()))
+                    .doFinally(report(name, traceContext.get(), getReporter(context), startTimeHolder))
+                    .subscriberContext(withTraceContext(traceContext.get()));
+            });
+    }
+
+    /**
+     * Executes a {@link Flux} within a child span of the span in the subscriber context
+     *
+     * @param name the name of the span
+     * @param body a {@link Function} that creates the {@link Flux}, receiving the span if tracing is active
+     * @param <T>  the type of the elements of the {@link Flux}
+     * @return the {@link Flux} wrapped in a span
+     */
+    public static <T> Flux<T> traceMany(String name, Function<Optional<TraceContext>, Flux<T>> body) {
+        return Mono.subscriberContext()
+            .flatMapMany(context -> {
+                Optional<TraceContext> traceContext = newTraceContext(context);
+
+                if (!traceContext.isPresent()) {
+                    return body.apply(traceContext);
+                }
+
+                AtomicLong startTimeHolder = new AtomicLong();
+
+                return body.apply(traceContext)
+                    .doOnSubscribe(s -> startTimeHolder.set(System.nanoTime()))
+                    .doFinally(report(name, traceContext.get(), getReporter(context), startTimeHolder))
+                    .subscriberContext(withTraceContext(traceContext.get()));
+            });
+    }
+
+    /**
+     * Registers a {@link SpanReporter} in the subscriber context.  Typically used with {@code .subscriberContext()}.
+     *
+     * @param reporter the {@link SpanReporter} that receives completed spans
+     * @return a transforming {@link Function} for the subscriber context
+     */
+    public static Function<Context, Context> withReporter(SpanReporter reporter) {
+        return context -> context.put(REPORTER_KEY, reporter);
+    }
+
+    /**
+     * Registers a parent span in the subscriber context.  Typically used with {@code .subscriberContext()}.
+     *
+     * @param traceContext the parent span
+     * @return a transforming {@link Function} for the subscriber context
+     */
+    public static Function<Context, Context> withTraceContext(TraceContext traceContext) {
+        return context -> context.put(TRACE_CONTEXT_KEY, traceContext);
+    }
+
+    /**
+     * Registers a parent span, parsed from a {@code traceparent} header value, in the subscriber context.  Invalid values are ignored.  Typically used with {@code .subscriberContext()}.
+     *
+     * @param traceparent the {@code traceparent} header value
+     * @return a transforming {@link Function} for the subscriber context
+     */
+    public static Function<Context, Context> withTraceparent(String traceparent) {
+        return context -> TraceContext.parse(traceparent)
+            .map(traceContext -> context.put(TRACE_CONTEXT_KEY, traceContext))
+            .orElse(context);
+    }
+
+    private static SpanReporter getReporter(Context context) {
+        return context.getOrDefault(REPORTER_KEY, LOGGING_REPORTER);
+    }
+
+    private static Optional<TraceContext> newTraceContext(Context context) {
+        Optional<TraceContext> parent = context.getOrEmpty(TRACE_CONTEXT_KEY);
+
+        if (parent.isPresent()) {
+            return parent.map(TraceContext::child);
+        }
+
+        if (context.hasKey(REPORTER_KEY) || LOGGER.isDebugEnabled()) {
+            return Optional.of(TraceContext.create());
+        }
+
+        return Optional.empty();
+    }
+
+    private static Consumer<SignalType> report(String name, TraceContext traceContext, SpanReporter reporter, AtomicLong startTimeHolder) {
+        return signalType -> {
+            if (traceContext.isSampled()) {
+                reporter.report(name, traceContext, signalType, Duration.ofNanos(System.nanoTime() - startTimeHolder.get()));
+            }
+        };
+    }
+
+}
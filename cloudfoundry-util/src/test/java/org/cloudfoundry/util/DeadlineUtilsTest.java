@@ -0,0 +1,159 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class DeadlineUtilsTest {
+
+    @Test
+    public void deadlineExceeded() {
+        Mono.never()
+            .transform(DeadlineUtils.deadline(Duration.ofMillis(100)))
+            .as(StepVerifier::create)
+            .expectError(DeadlineExceededException.class)
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void deadlineExceededFlux() {
+        Flux.interval(Duration.ofMillis(10))
+            .transform(DeadlineUtils.deadline(Duration.ofMillis(100)))
+            .as(StepVerifier::create)
+            .thenConsumeWhile(i -> true)
+            .expectError(DeadlineExceededException.class)
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void deadlineNotExceeded() {
+        Flux.just("test-value-1", "test-value-2")
+            .transform(DeadlineUtils.deadline(Duration.ofSeconds(5)))
+            .as(StepVerifier::create)
+            .expectNext("test-value-1", "test-value-2")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void timeoutDeadlinePassed() {
+        AtomicBoolean subscribed = new AtomicBoolean();
+
+        Mono.just("test-value")
+            .doOnSubscribe(s -> subscribed.set(true))
+            .transform(DeadlineUtils.timeout(Optional.of(Duration.ofSeconds(5))))
+            .subscriberContext(DeadlineUtils.withDeadline(Instant.now().minusSeconds(1)))
+            .as(StepVerifier::create)
+            .expectError(DeadlineExceededException.class)
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(subscribed).isFalse();
+    }
+
+    @Test
+    public void timeoutDeadlineExceeded() {
+        Mono.never()
+            .transform(DeadlineUtils.timeout(Optional.of(Duration.ofSeconds(60)), "GET https://test-host/test-path"))
+            .subscriberContext(DeadlineUtils.withDeadline(Instant.now().plusMillis(100)))
+            .as(StepVerifier::create)
+            .consumeErrorWith(t -> assertThat(t)
+                .isInstanceOf(DeadlineExceededException.class)
+                .hasMessageStartingWith("GET https://test-host/test-path did not complete within the remaining deadline of "))
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void timeoutLessThanRemaining() {
+        Mono.never()
+            .transform(DeadlineUtils.timeout(Optional.of(Duration.ofMillis(100))))
+            .subscriberContext(DeadlineUtils.withDeadline(Instant.now().plusSeconds(60)))
+            .as(StepVerifier::create)
+            .expectError(TimeoutException.class)
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void timeoutManyDeadlinePassed() {
+        AtomicBoolean subscribed = new AtomicBoolean();
+
+        Flux.just("test-value")
+            .doOnSubscribe(s -> subscribed.set(true))
+            .transform(DeadlineUtils.timeoutMany(Optional.of(Duration.ofSeconds(5))))
+            .subscriberContext(DeadlineUtils.withDeadline(Instant.now().minusSeconds(1)))
+            .as(StepVerifier::create)
+            .expectError(DeadlineExceededException.class)
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(subscribed).isFalse();
+    }
+
+    @Test
+    public void timeoutManyExceeded() {
+        Flux.interval(Duration.ofMillis(10))
+            .transform(DeadlineUtils.timeoutMany(Optional.of(Duration.ofMillis(100))))
+            .as(StepVerifier::create)
+            .thenConsumeWhile(i -> true)
+            .expectError(TimeoutException.class)
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void timeoutManyNotExceeded() {
+        Flux.just("test-value-1", "test-value-2")
+            .transform(DeadlineUtils.timeoutMany(Optional.of(Duration.ofSeconds(5))))
+            .as(StepVerifier::create)
+            .expectNext("test-value-1", "test-value-2")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void timeoutNoDeadline() {
+        Mono.just("test-value")
+            .transform(DeadlineUtils.timeout(Optional.empty()))
+            .as(StepVerifier::create)
+            .expectNext("test-value")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void withDeadlineKeepsEarliest() {
+        Instant earlier = Instant.now().plusSeconds(10);
+
+        Mono.subscriberContext()
+            .map(context -> DeadlineUtils.remaining(context).orElseThrow(IllegalStateException::new))
+            .subscriberContext(DeadlineUtils.withDeadline(Instant.now().plusSeconds(60)))
+            .subscriberContext(DeadlineUtils.withDeadline(earlier))
+            .as(StepVerifier::create)
+            .consumeNextWith(remaining -> assertThat(remaining).isLessThanOrEqualTo(Duration.ofSeconds(10)))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.After;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class DownloadUtilsTest {
+
+    private static final byte[] CONTENT = "test-content".getBytes(StandardCharsets.UTF_8);
+
+    private final Path file;
+
+    private final List<Long> offsets = new ArrayList<>();
+
+    private final List<Long> progress = new ArrayList<>();
+
+    public DownloadUtilsTest() throws IOException {
+        this.file = Files.createTempFile("download-utils-test-", ".bin");
+        Files.delete(this.file);
+    }
+
+    @After
+    public void delete() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Test
+    public void write() throws IOException {
+        DownloadUtils.write(offset -> download(offset, false), this.file, 0, this.progress::add)
+            .as(StepVerifier::create)
+            .expectNext((long) CONTENT.length)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(Files.readAllBytes(this.file)).isEqualTo(CONTENT);
+        assertThat(this.offsets).containsExactly(0L);
+        assertThat(this.progress).containsExactly(4L, 8L, 12L);
+    }
+
+    @Test
+    public void writeExisting() throws IOException {
+        Files.write(this.file, Arrays.copyOfRange(CONTENT, 0, 4));
+
+        DownloadUtils.write(offset -> download(offset, false), this.file, 0, this.progress::add)
+            .as(StepVerifier::create)
+            .expectNext((long) CONTENT.length)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(Files.readAllBytes(this.file)).isEqualTo(CONTENT);
+        assertThat(this.offsets).containsExactly(4L);
+    }
+
+    @Test
+    public void writeResume() throws IOException {
+        DownloadUtils.write(offset -> download(offset, this.offsets.isEmpty()), this.file, 1, this.progress::add)
+            .as(StepVerifier::create)
+            .expectNext((long) CONTENT.length)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(Files.readAllBytes(this.file)).isEqualTo(CONTENT);
+        assertThat(this.offsets).containsExactly(0L, 4L);
+    }
+
+    @Test
+    public void writeRetriesExhausted() {
+        DownloadUtils.write(offset -> download(offset, true), this.file, 1, this.progress::add)
+            .as(StepVerifier::create)
+            .expectErrorMessage("test-failure")
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.offsets).containsExactly(0L, 4L);
+    }
+
+    private Flux<byte[]> download(long offset, boolean fail) {
+        this.offsets.add(offset);
+
+        Flux<byte[]> chunks = Flux.range((int) offset / 4, (CONTENT.length - (int) offset) / 4)
+            .map(i -> Arrays.copyOfRange(CONTENT, i * 4, i * 4 + 4));
+
+        return fail ? chunks.take(1).concatWith(Flux.error(new IllegalStateException("test-failure"))) : chunks;
+    }
+
+}
@@ -43,12 +43,64 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.concurrent.TimeoutException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.RETURNS_SMART_NULLS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public final class PaginationUtilsTest {
 
+    @Test
+    public void countClientV2Resources() {
+        Spaces spaces = mock(Spaces.class, RETURNS_SMART_NULLS);
+
+        requestListSpacesSingleResult(spaces, 42);
+
+        PaginationUtils
+            .countClientV2Resources(resultsPerPage -> spaces
+                .list(ListSpacesRequest.builder()
+                    .resultsPerPage(resultsPerPage)
+                    .build()))
+            .as(StepVerifier::create)
+            .expectNext(42)
+            .expectComplete()
+            .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void countClientV3Resources() {
+        Packages packages = mock(Packages.class, RETURNS_SMART_NULLS);
+
+        requestListPackagesSingleResult(packages, 42);
+
+        PaginationUtils
+            .countClientV3Resources(perPage -> packages
+                .list(ListPackagesRequest.builder()
+                    .perPage(perPage)
+                    .build()))
+            .as(StepVerifier::create)
+            .expectNext(42)
+            .expectComplete()
+            .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void requestClientV2Resource() {
+        Spaces spaces = mock(Spaces.class, RETURNS_SMART_NULLS);
+
+        requestListSpacesSingleResult(spaces, 42);
+
+        PaginationUtils
+            .requestClientV2Resource(resultsPerPage -> spaces
+                .list(ListSpacesRequest.builder()
+                    .resultsPerPage(resultsPerPage)
+                    .build()))
+            .as(StepVerifier::create)
+            .consumeNextWith(resource -> assertThat(resource.getEntity().getName()).isEqualTo("test-name"))
+            .expectComplete()
+            .verify(Duration.ofSeconds(1));
+    }
+
     @Test
     public void requestClientV2Resources() {
         Spaces spaces = mock(Spaces.class, RETURNS_SMART_NULLS);
@@ -100,6 +152,23 @@ public final class PaginationUtilsTest {
             .verify(Duration.ofSeconds(1));
     }
 
+    @Test
+    public void requestClientV3Resource() {
+        Packages packages = mock(Packages.class, RETURNS_SMART_NULLS);
+
+        requestListPackagesSingleResult(packages, 42);
+
+        PaginationUtils
+            .requestClientV3Resource(perPage -> packages
+                .list(ListPackagesRequest.builder()
+                    .perPage(perPage)
+                    .build()))
+            .as(StepVerifier::create)
+            .consumeNextWith(resource -> assertThat(resource.getId()).isEqualTo("test-id"))
+            .expectComplete()
+            .verify(Duration.ofSeconds(1));
+    }
+
     @Test
     public void requestClientV3Resources() {
         Packages packages = mock(Packages.class, RETURNS_SMART_NULLS);
@@ -190,6 +259,29 @@ public final class PaginationUtilsTest {
                     .build()));
     }
 
+    private static void requestListPackagesSingleResult(Packages packages, Integer totalResults) {
+        when(packages
+            .list(ListPackagesRequest.builder()
+                .perPage(1)
+                .build()))
+            .thenReturn(Mono
+                .just(ListPackagesResponse.builder()
+                    .resource(PackageResource.builder()
+                        .id("test-id")
+                        .createdAt("test-created-at")
+                        .updatedAt("test-updated-at")
+                        .type(PackageType.BITS)
+                        .data(BitsData.builder()
+                            .build())
+                        .state(PackageState.READY)
+                        .build())
+                    .pagination(Pagination.builder()
+                        .totalPages(totalResults)
+                        .totalResults(totalResults)
+                        .build())
+                    .build()));
+    }
+
     private static void requestListSpaces(Spaces spaces, Integer page, Integer totalPages) {
         when(spaces
             .list(ListSpacesRequest.builder()
@@ -218,6 +310,23 @@ public final class PaginationUtilsTest {
                     .build()));
     }
 
+    private static void requestListSpacesSingleResult(Spaces spaces, Integer totalResults) {
+        when(spaces
+            .list(ListSpacesRequest.builder()
+                .resultsPerPage(1)
+                .build()))
+            .thenReturn(Mono
+                .just(ListSpacesResponse.builder()
+                    .resource(SpaceResource.builder()
+                        .entity(SpaceEntity.builder()
+                            .name("test-name")
+                            .build())
+                        .build())
+                    .totalPages(totalResults)
+                    .totalResults(totalResults)
+                    .build()));
+    }
+
     private static void requestListUsers(Users users, Integer startIndex, Integer itemsPerPage, Integer totalResults) {
         when(users
             .list(ListUsersRequest.builder()
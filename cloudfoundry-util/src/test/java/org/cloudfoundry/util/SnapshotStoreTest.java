@@ -0,0 +1,101 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class SnapshotStoreTest {
+
+    private static final Instant NOW = Instant.parse("2018-01-01T00:00:00Z");
+
+    private final Path directory;
+
+    private final Path file;
+
+    public SnapshotStoreTest() throws IOException {
+        this.directory = Files.createTempDirectory("snapshot-store-test");
+        this.file = this.directory.resolve("snapshots.json");
+    }
+
+    @After
+    public void delete() throws IOException {
+        Files.deleteIfExists(this.file);
+        Files.delete(this.directory);
+    }
+
+    @Test
+    public void get() {
+        store(NOW).put("test-key", Collections.singletonMap("test-name", "test-value"));
+
+        assertThat(store(NOW.plusSeconds(59)).get("test-key")).hasValue(Collections.singletonMap("test-name", "test-value"));
+    }
+
+    @Test
+    public void getCorrupt() throws IOException {
+        Files.write(this.file, "test-corrupt".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(store(NOW).get("test-key")).isEmpty();
+    }
+
+    @Test
+    public void getExpiration() {
+        store(NOW).put("test-key", Collections.singletonMap("test-name", "test-value"), NOW.plusSeconds(10));
+
+        assertThat(store(NOW.plusSeconds(9)).get("test-key")).isPresent();
+        assertThat(store(NOW.plusSeconds(10)).get("test-key")).isEmpty();
+    }
+
+    @Test
+    public void getExpired() {
+        store(NOW).put("test-key", Collections.singletonMap("test-name", "test-value"));
+
+        assertThat(store(NOW.plusSeconds(60)).get("test-key")).isEmpty();
+    }
+
+    @Test
+    public void getMissing() {
+        assertThat(store(NOW).get("test-key")).isEmpty();
+    }
+
+    @Test
+    public void remove() {
+        SnapshotStore store = store(NOW);
+        store.put("test-key", Collections.singletonMap("test-name", "test-value"));
+        store.remove("test-key");
+
+        assertThat(store.get("test-key")).isEmpty();
+        assertThat(store(NOW).get("test-key")).isEmpty();
+    }
+
+    private SnapshotStore store(Instant now) {
+        return new SnapshotStore(Clock.fixed(now, ZoneOffset.UTC), this.file, Duration.ofMinutes(1));
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2013-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class TraceUtilsTest {
+
+    @Test
+    public void parseInvalid() {
+        assertThat(TraceContext.parse("invalid")).isEmpty();
+        assertThat(TraceContext.parse(null)).isEmpty();
+    }
+
+    @Test
+    public void parseValid() {
+        assertThat(TraceContext.parse("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01"))
+            .hasValueSatisfying(traceContext -> {
+                assertThat(traceContext.getTraceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+                assertThat(traceContext.getSpanId()).isEqualTo("b7ad6b7169203331");
+                assertThat(traceContext.isSampled()).isTrue();
+                assertThat(traceContext.getTraceparent()).isEqualTo("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+            });
+    }
+
+    @Test
+    public void traceNested() {
+        List<TraceContext> spans = new CopyOnWriteArrayList<>();
+
+        Mono
+            .just("outer")
+            .flatMapMany(outer -> Flux.range(0, 2)
+                .flatMap(i -> TraceUtils.trace("inner", traceContext -> Mono.just(traceContext.get()))))
+            .transform(TraceUtils.trace("outer"))
+            .subscriberContext(TraceUtils.withReporter((name, traceContext, signalType, elapsed) -> spans.add(traceContext)))
+            .subscriberContext(TraceUtils.withTraceparent("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01"))
+            .as(StepVerifier::create)
+            .expectNextCount(2)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(spans).hasSize(3);
+        assertThat(spans).allSatisfy(span -> assertThat(span.getTraceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c"));
+
+        TraceContext outer = spans.stream()
+            .filter(span -> span.getParentId().filter("b7ad6b7169203331"::equals).isPresent())
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+
+        assertThat(spans)
+            .filteredOn(span -> span != outer)
+            .allSatisfy(span -> assertThat(span.getParentId()).hasValue(outer.getSpanId()));
+    }
+
+    @Test
+    public void traceReportsSignal() {
+        List<SignalType> signals = new CopyOnWriteArrayList<>();
+
+        TraceUtils.trace("test", traceContext -> Mono.error(new IllegalStateException()))
+            .subscriberContext(TraceUtils.withReporter((name, traceContext, signalType, elapsed) -> signals.add(signalType)))
+            .as(StepVerifier::create)
+            .expectError(IllegalStateException.class)
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(signals).containsExactly(SignalType.ON_ERROR);
+    }
+
+}